@@ -0,0 +1,69 @@
+package nablarch.core.validation.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import nablarch.core.validation.ValidationManager;
+import nablarch.core.validation.benchmark.form.OrderForm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link nablarch.core.validation.ValidationTarget#sizeKey()}で要素数を指定する配列を持つフォームに対する
+ * {@link ValidationManager#validateAndConvert}のベンチマーク。
+ *
+ * @author Nablarch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayFormBenchmark {
+
+    /** パラメータがバリデーションエラーとならない場合は"valid"、エラーとなる場合は"invalid" */
+    @Param({"valid", "invalid"})
+    public String payload;
+
+    /** 明細数 */
+    @Param({"1", "10", "100"})
+    public int itemCount;
+
+    /** バリデーションマネージャ */
+    private ValidationManager manager;
+
+    /** リクエストパラメータ */
+    private Map<String, String[]> params;
+
+    /**
+     * ベンチマークの実行環境を構築する。
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        manager = BenchmarkEnvironment.setUp();
+        params = RequestParameters.order(itemCount, "valid".equals(payload));
+    }
+
+    /**
+     * 全てのプロパティをバリデーションする。
+     *
+     * @return バリデーション結果
+     */
+    @Benchmark
+    public Object validateAll() {
+        return BenchmarkResults.consume(
+                manager.validateAndConvert("order", OrderForm.class, params, null));
+    }
+}
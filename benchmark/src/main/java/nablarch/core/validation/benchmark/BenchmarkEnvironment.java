@@ -0,0 +1,184 @@
+package nablarch.core.validation.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import nablarch.core.cache.BasicStaticDataCache;
+import nablarch.core.repository.ObjectLoader;
+import nablarch.core.repository.SystemRepository;
+import nablarch.core.validation.Convertor;
+import nablarch.core.validation.FormValidationDefinition;
+import nablarch.core.validation.FormValidationDefinitionLoader;
+import nablarch.core.validation.ValidationManager;
+import nablarch.core.validation.Validator;
+import nablarch.core.validation.convertor.BigDecimalConvertor;
+import nablarch.core.validation.convertor.IntegerConvertor;
+import nablarch.core.validation.convertor.LongConvertor;
+import nablarch.core.validation.convertor.StringArrayConvertor;
+import nablarch.core.validation.convertor.StringConvertor;
+import nablarch.core.validation.validator.LengthValidator;
+import nablarch.core.validation.validator.NumberRangeValidator;
+import nablarch.core.validation.validator.RequiredValidator;
+import nablarch.core.validation.validator.unicode.RangedCharsetDef;
+import nablarch.core.validation.validator.unicode.SystemCharValidator;
+
+/**
+ * ベンチマークの実行環境を構築するクラス。
+ * <p/>
+ * {@link ValidationManager}を、アプリケーションでの一般的なコンポーネント設定と同等の構成で生成し、
+ * {@link SystemRepository}に登録する。
+ * {@link nablarch.core.validation.ValidationUtil}経由の呼び出しも計測対象とするため、
+ * コンポーネント名はアプリケーションと同じ"validationManager"を使用する。
+ *
+ * @author Nablarch
+ */
+public final class BenchmarkEnvironment {
+
+    /** 変換失敗時のメッセージID */
+    static final String MSG_CONVERSION_FAILED = "MSG00001";
+
+    /** 必須チェックのメッセージID */
+    static final String MSG_REQUIRED = "MSG00011";
+
+    /** 文字列長(最大)のメッセージID */
+    static final String MSG_MAX_LENGTH = "MSG00021";
+
+    /** 文字列長(範囲)のメッセージID */
+    static final String MSG_MAX_AND_MIN_LENGTH = "MSG00022";
+
+    /** 文字列長(固定)のメッセージID */
+    static final String MSG_FIX_LENGTH = "MSG00023";
+
+    /** 整数部桁数のメッセージID */
+    static final String MSG_INVALID_DIGITS_INTEGER = "MSG00031";
+
+    /** 小数部桁数のメッセージID */
+    static final String MSG_INVALID_DIGITS_FRACTION = "MSG00032";
+
+    /** 数値範囲(最大)のメッセージID */
+    static final String MSG_MAX_VALUE = "MSG00051";
+
+    /** 数値範囲(範囲)のメッセージID */
+    static final String MSG_MAX_AND_MIN_VALUE = "MSG00052";
+
+    /** 数値範囲(最小)のメッセージID */
+    static final String MSG_MIN_VALUE = "MSG00053";
+
+    /** システム許容文字のメッセージID */
+    static final String MSG_SYSTEM_CHAR = "MSG00061";
+
+    /** 配列サイズ不正のメッセージID */
+    static final String MSG_INVALID_SIZE_KEY = "MSG00071";
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private BenchmarkEnvironment() {
+    }
+
+    /**
+     * ベンチマーク用の{@link ValidationManager}を生成し、{@link SystemRepository}に登録する。
+     *
+     * @return 初期化済みの{@link ValidationManager}
+     */
+    public static ValidationManager setUp() {
+        final BenchmarkStringResourceHolder holder = createStringResourceHolder();
+        final ValidationManager manager = createValidationManager(holder);
+        SystemRepository.clear();
+        SystemRepository.load(new ObjectLoader() {
+            public Map<String, Object> load() {
+                Map<String, Object> objects = new HashMap<String, Object>();
+                objects.put("stringResourceHolder", holder);
+                objects.put("validationManager", manager);
+                return objects;
+            }
+        });
+        return manager;
+    }
+
+    /**
+     * ベンチマーク用の{@link ValidationManager}を生成する。
+     *
+     * @param holder メッセージの取得に使用する{@link BenchmarkStringResourceHolder}
+     * @return 初期化済みの{@link ValidationManager}
+     */
+    public static ValidationManager createValidationManager(BenchmarkStringResourceHolder holder) {
+        List<Convertor> convertors = new ArrayList<Convertor>();
+        StringConvertor stringConvertor = new StringConvertor();
+        stringConvertor.setConversionFailedMessageId(MSG_CONVERSION_FAILED);
+        convertors.add(stringConvertor);
+        convertors.add(new StringArrayConvertor());
+        IntegerConvertor integerConvertor = new IntegerConvertor();
+        integerConvertor.setInvalidDigitsIntegerMessageId(MSG_INVALID_DIGITS_INTEGER);
+        integerConvertor.setMultiInputMessageId(MSG_CONVERSION_FAILED);
+        convertors.add(integerConvertor);
+        LongConvertor longConvertor = new LongConvertor();
+        longConvertor.setInvalidDigitsIntegerMessageId(MSG_INVALID_DIGITS_INTEGER);
+        longConvertor.setMultiInputMessageId(MSG_CONVERSION_FAILED);
+        convertors.add(longConvertor);
+        BigDecimalConvertor bigDecimalConvertor = new BigDecimalConvertor();
+        bigDecimalConvertor.setInvalidDigitsIntegerMessageId(MSG_INVALID_DIGITS_INTEGER);
+        bigDecimalConvertor.setInvalidDigitsFractionMessageId(MSG_INVALID_DIGITS_FRACTION);
+        bigDecimalConvertor.setMultiInputMessageId(MSG_CONVERSION_FAILED);
+        convertors.add(bigDecimalConvertor);
+
+        List<Validator> validators = new ArrayList<Validator>();
+        RequiredValidator requiredValidator = new RequiredValidator();
+        requiredValidator.setMessageId(MSG_REQUIRED);
+        validators.add(requiredValidator);
+        LengthValidator lengthValidator = new LengthValidator();
+        lengthValidator.setMaxMessageId(MSG_MAX_LENGTH);
+        lengthValidator.setMaxAndMinMessageId(MSG_MAX_AND_MIN_LENGTH);
+        lengthValidator.setFixLengthMessageId(MSG_FIX_LENGTH);
+        validators.add(lengthValidator);
+        NumberRangeValidator numberRangeValidator = new NumberRangeValidator();
+        numberRangeValidator.setMaxMessageId(MSG_MAX_VALUE);
+        numberRangeValidator.setMaxAndMinMessageId(MSG_MAX_AND_MIN_VALUE);
+        numberRangeValidator.setMinMessageId(MSG_MIN_VALUE);
+        validators.add(numberRangeValidator);
+        RangedCharsetDef asciiCharsetDef = new RangedCharsetDef();
+        asciiCharsetDef.setStartCodePoint("U+0020");
+        asciiCharsetDef.setEndCodePoint("U+007E");
+        asciiCharsetDef.setMessageId(MSG_SYSTEM_CHAR);
+        SystemCharValidator systemCharValidator = new SystemCharValidator();
+        systemCharValidator.setDefaultCharsetDef(asciiCharsetDef);
+        validators.add(systemCharValidator);
+
+        BasicStaticDataCache<FormValidationDefinition> formDefinitionCache
+                = new BasicStaticDataCache<FormValidationDefinition>();
+        formDefinitionCache.setLoader(new FormValidationDefinitionLoader());
+        formDefinitionCache.initialize();
+
+        ValidationManager manager = new ValidationManager();
+        manager.setConvertors(convertors);
+        manager.setValidators(validators);
+        manager.setFormDefinitionCache(formDefinitionCache);
+        manager.setMessageResource(holder);
+        manager.setInvalidSizeKeyMessageId(MSG_INVALID_SIZE_KEY);
+        manager.initialize();
+        return manager;
+    }
+
+    /**
+     * ベンチマークで使用するメッセージを保持する{@link BenchmarkStringResourceHolder}を生成する。
+     *
+     * @return {@link BenchmarkStringResourceHolder}
+     */
+    public static BenchmarkStringResourceHolder createStringResourceHolder() {
+        return new BenchmarkStringResourceHolder()
+                .add(MSG_CONVERSION_FAILED, "{0}の値が不正です。")
+                .add(MSG_REQUIRED, "{0}は必須項目です。")
+                .add(MSG_MAX_LENGTH, "{0}は{1}文字以内で入力してください。")
+                .add(MSG_MAX_AND_MIN_LENGTH, "{0}は{2}文字以上{1}文字以内で入力してください。")
+                .add(MSG_FIX_LENGTH, "{0}は{1}文字で入力してください。")
+                .add(MSG_INVALID_DIGITS_INTEGER, "{0}は整数部{1}桁以内で入力してください。")
+                .add(MSG_INVALID_DIGITS_FRACTION, "{0}は小数部{2}桁以内で入力してください。")
+                .add(MSG_MAX_VALUE, "{0}は{2}以下で入力してください。")
+                .add(MSG_MAX_AND_MIN_VALUE, "{0}は{1}以上{2}以下で入力してください。")
+                .add(MSG_MIN_VALUE, "{0}は{1}以上で入力してください。")
+                .add(MSG_SYSTEM_CHAR, "{0}に使用できない文字が含まれています。")
+                .add(MSG_INVALID_SIZE_KEY, "{0}の件数が不正です。");
+    }
+}
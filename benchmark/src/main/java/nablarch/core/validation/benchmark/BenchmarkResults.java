@@ -0,0 +1,33 @@
+package nablarch.core.validation.benchmark;
+
+import nablarch.core.validation.ValidationContext;
+
+/**
+ * ベンチマークのバリデーション結果を扱うクラス。
+ *
+ * @author Nablarch
+ */
+public final class BenchmarkResults {
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private BenchmarkResults() {
+    }
+
+    /**
+     * アプリケーションと同様にバリデーション結果を取得する。
+     * <p/>
+     * バリデーションに成功した場合はフォームを生成し、失敗した場合はメッセージを取得する。
+     * フォームの生成もアプリケーションでの一般的な処理に含まれるため、計測対象とする。
+     *
+     * @param context バリデーション結果
+     * @return 生成したフォーム、またはメッセージのリスト
+     */
+    public static Object consume(ValidationContext<?> context) {
+        if (context.isValid()) {
+            return context.createObject();
+        }
+        return context.getMessages();
+    }
+}
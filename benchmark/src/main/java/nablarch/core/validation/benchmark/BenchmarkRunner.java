@@ -0,0 +1,42 @@
+package nablarch.core.validation.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * ベンチマークを実行するクラス。
+ * <p/>
+ * JMHのコマンドラインオプションをそのまま受け付け、常にGCプロファイラを有効にして実行する。
+ * これにより、スループット(ops/s)と合わせて1オペレーションあたりのメモリ割り当て量
+ * (gc.alloc.rate.norm)を確認できる。
+ *
+ * @author Nablarch
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * ベンチマークを実行する。
+     *
+     * @param args JMHのコマンドラインオプション
+     * @throws CommandLineOptionException コマンドラインオプションが不正な場合
+     * @throws RunnerException ベンチマークの実行に失敗した場合
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
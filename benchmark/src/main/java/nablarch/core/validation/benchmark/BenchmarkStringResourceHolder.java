@@ -0,0 +1,49 @@
+package nablarch.core.validation.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import nablarch.core.message.BasicStringResource;
+import nablarch.core.message.MessageNotFoundException;
+import nablarch.core.message.StringResource;
+import nablarch.core.message.StringResourceHolder;
+
+/**
+ * ベンチマーク用の{@link StringResourceHolder}実装クラス。
+ * <p/>
+ * メッセージをメモリ上に保持し、データベースやプロパティファイルへのアクセスを行わない。
+ * これにより、計測結果にメッセージの読み込みコストが混入しないようにする。
+ *
+ * @author Nablarch
+ */
+public class BenchmarkStringResourceHolder extends StringResourceHolder {
+
+    /** メッセージIDをキーとするメッセージ */
+    private final Map<String, StringResource> messages = new HashMap<String, StringResource>();
+
+    /**
+     * メッセージを追加する。
+     *
+     * @param messageId メッセージID
+     * @param message 日本語のメッセージ
+     * @return 本オブジェクト自体
+     */
+    public BenchmarkStringResourceHolder add(String messageId, String message) {
+        Map<String, String> formats = new HashMap<String, String>();
+        formats.put("ja", message);
+        messages.put(messageId, new BasicStringResource(messageId, formats));
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StringResource get(String messageId) {
+        StringResource message = messages.get(messageId);
+        if (message == null) {
+            throw new MessageNotFoundException("message was not found. message id = " + messageId);
+        }
+        return message;
+    }
+}
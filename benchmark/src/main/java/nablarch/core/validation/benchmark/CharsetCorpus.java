@@ -0,0 +1,188 @@
+package nablarch.core.validation.benchmark;
+
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.util.Random;
+
+/**
+ * 許容文字集合定義のベンチマークで使用する入力文字列(コーパス)を生成するクラス。
+ * <p/>
+ * コーパスの種類毎に使用する文字(字母)を定義し、字母から乱数で選択した文字を並べた文字列を生成する。
+ * 乱数のシードは固定のため、同じ種類と長さを指定した場合は常に同じ文字列を生成する。
+ *
+ * @author Nablarch
+ */
+public final class CharsetCorpus {
+
+    /** ASCIIの印字可能文字 */
+    public static final String ASCII = "ascii";
+
+    /** ひらがな及びカタカナ */
+    public static final String KANA = "kana";
+
+    /** JIS第1水準及び第2水準の漢字 */
+    public static final String KANJI = "kanji";
+
+    /** 半角カナ */
+    public static final String HALFWIDTH_KANA = "halfwidthKana";
+
+    /** サロゲートペアで表現される文字を多く含む文字列(CJK統合漢字拡張Bとひらがなを交互に並べる) */
+    public static final String SURROGATE = "surrogate";
+
+    /** ASCIIの印字可能文字の範囲(開始, 終了) */
+    static final int[] ASCII_RANGE = {0x0020, 0x007E};
+
+    /** ひらがなの範囲(開始, 終了) */
+    static final int[] HIRAGANA_RANGE = {0x3041, 0x3096};
+
+    /** カタカナの範囲(開始, 終了)。長音記号を含む */
+    static final int[] KATAKANA_RANGE = {0x30A1, 0x30FC};
+
+    /** 半角カナの範囲(開始, 終了) */
+    static final int[] HALFWIDTH_KANA_RANGE = {0xFF61, 0xFF9F};
+
+    /** CJK統合漢字の範囲(開始, 終了) */
+    static final int[] CJK_RANGE = {0x4E00, 0x9FFF};
+
+    /** CJK統合漢字拡張Bの範囲(開始, 終了) */
+    static final int[] CJK_EXTENSION_B_RANGE = {0x20000, 0x2A6DF};
+
+    /** 乱数のシード */
+    private static final long SEED = 20161017L;
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private CharsetCorpus() {
+    }
+
+    /**
+     * コーパスの種類に対応する字母を取得する。
+     * <p/>
+     * {@link #SURROGATE}の場合はひらがなとCJK統合漢字拡張Bの全ての文字を返す。
+     *
+     * @param kind コーパスの種類
+     * @return 字母のコードポイント
+     * @throws IllegalArgumentException 未知の種類が指定された場合
+     */
+    public static int[] alphabet(String kind) {
+        if (ASCII.equals(kind)) {
+            return range(ASCII_RANGE);
+        } else if (KANA.equals(kind)) {
+            return concat(range(HIRAGANA_RANGE), range(KATAKANA_RANGE));
+        } else if (KANJI.equals(kind)) {
+            return jisKanji();
+        } else if (HALFWIDTH_KANA.equals(kind)) {
+            return range(HALFWIDTH_KANA_RANGE);
+        } else if (SURROGATE.equals(kind)) {
+            return concat(range(HIRAGANA_RANGE), range(CJK_EXTENSION_B_RANGE));
+        }
+        throw new IllegalArgumentException("unknown corpus. kind = [" + kind + "]");
+    }
+
+    /**
+     * コーパスを生成する。
+     *
+     * @param kind コーパスの種類
+     * @param length 文字列長(UTF-16のコードユニット数)
+     * @return コーパス
+     * @throws IllegalArgumentException 未知の種類が指定された場合
+     */
+    public static String generate(String kind, int length) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder(length);
+        if (SURROGATE.equals(kind)) {
+            int[] hiragana = range(HIRAGANA_RANGE);
+            int[] extensionB = range(CJK_EXTENSION_B_RANGE);
+            boolean supplementary = true;
+            while (sb.length() < length) {
+                if (supplementary && length - sb.length() >= 2) {
+                    sb.appendCodePoint(pick(extensionB, random));
+                } else {
+                    sb.appendCodePoint(pick(hiragana, random));
+                }
+                supplementary = !supplementary;
+            }
+            return sb.toString();
+        }
+        int[] alphabet = alphabet(kind);
+        while (sb.length() < length) {
+            sb.appendCodePoint(pick(alphabet, random));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 字母を文字列に変換する。
+     *
+     * @param alphabet 字母のコードポイント
+     * @return 字母の全ての文字を並べた文字列
+     */
+    public static String toString(int[] alphabet) {
+        StringBuilder sb = new StringBuilder(alphabet.length);
+        for (int codePoint : alphabet) {
+            sb.appendCodePoint(codePoint);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * JIS第1水準及び第2水準の漢字を取得する。
+     * <p/>
+     * CJK統合漢字のうち、JIS X 0208の文字のみを符号化できるShift_JISで符号化可能な文字をJIS第1水準及び第2水準の漢字とみなす。
+     *
+     * @return JIS第1水準及び第2水準の漢字のコードポイント
+     */
+    static int[] jisKanji() {
+        CharsetEncoder encoder = Charset.forName("Shift_JIS").newEncoder();
+        int[] work = new int[CJK_RANGE[1] - CJK_RANGE[0] + 1];
+        int count = 0;
+        for (int codePoint = CJK_RANGE[0]; codePoint <= CJK_RANGE[1]; codePoint++) {
+            if (encoder.canEncode((char) codePoint)) {
+                work[count++] = codePoint;
+            }
+        }
+        int[] result = new int[count];
+        System.arraycopy(work, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * 範囲内の全てのコードポイントを取得する。
+     *
+     * @param range 範囲(開始, 終了)
+     * @return コードポイント
+     */
+    private static int[] range(int[] range) {
+        int[] result = new int[range[1] - range[0] + 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = range[0] + i;
+        }
+        return result;
+    }
+
+    /**
+     * 配列を連結する。
+     *
+     * @param first 前半の配列
+     * @param second 後半の配列
+     * @return 連結した配列
+     */
+    private static int[] concat(int[] first, int[] second) {
+        int[] result = new int[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    /**
+     * 字母から文字を選択する。
+     *
+     * @param alphabet 字母のコードポイント
+     * @param random 乱数
+     * @return 選択したコードポイント
+     */
+    private static int pick(int[] alphabet, Random random) {
+        return alphabet[random.nextInt(alphabet.length)];
+    }
+}
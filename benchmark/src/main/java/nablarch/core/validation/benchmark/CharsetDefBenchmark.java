@@ -0,0 +1,194 @@
+package nablarch.core.validation.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import nablarch.core.validation.ValidationContext;
+import nablarch.core.validation.validator.unicode.CachingCharsetDef;
+import nablarch.core.validation.validator.unicode.CharsetDef;
+import nablarch.core.validation.validator.unicode.CompositeCharsetDef;
+import nablarch.core.validation.validator.unicode.LiteralCharsetDef;
+import nablarch.core.validation.validator.unicode.RangedCharsetDef;
+import nablarch.core.validation.validator.unicode.SystemChar;
+import nablarch.core.validation.validator.unicode.SystemCharValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link SystemCharValidator}経由で許容文字集合定義({@link CharsetDef})の判定を行うベンチマーク。
+ * <p/>
+ * 以下の許容文字集合定義を計測する。いずれも入力文字列(コーパス)の全ての文字を許容するように構成する。
+ * <ul>
+ *     <li>literal: コーパスの字母を列挙した{@link LiteralCharsetDef}</li>
+ *     <li>ranged: コーパスの字母の最小値から最大値までを範囲とする{@link RangedCharsetDef}</li>
+ *     <li>composite: ASCII、半角カナ、ひらがな、カタカナ、JIS漢字、CJK統合漢字拡張Bを順に並べた{@link CompositeCharsetDef}</li>
+ *     <li>caching: compositeをラップした{@link CachingCharsetDef}</li>
+ * </ul>
+ * 許容文字集合定義は全スレッドで共有するため、マルチスレッドで計測することで
+ * {@link CachingCharsetDef#contains(int)}の同期によるスレッド間の競合を確認できる。
+ *
+ * @author Nablarch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharsetDefBenchmark {
+
+    /** 許容文字集合定義の種類 */
+    @Param({"literal", "ranged", "composite", "caching"})
+    public String charsetDef;
+
+    /** コーパスの種類 */
+    @Param({CharsetCorpus.ASCII, CharsetCorpus.KANA, CharsetCorpus.KANJI,
+            CharsetCorpus.HALFWIDTH_KANA, CharsetCorpus.SURROGATE})
+    public String corpus;
+
+    /** コーパスの文字列長(UTF-16のコードユニット数)。最大は1M文字 */
+    @Param({"10", "1000", "100000", "1048576"})
+    public int length;
+
+    /** バリデータ */
+    private SystemCharValidator validator;
+
+    /** アノテーション */
+    private SystemChar annotation;
+
+    /** バリデーションコンテキスト(エラーとならないため使用されない) */
+    private ValidationContext<Object> context;
+
+    /** コーパス */
+    private String value;
+
+    /**
+     * ベンチマークの実行環境を構築する。
+     *
+     * @throws IllegalStateException コーパスが許容文字集合定義に含まれない文字を含む場合
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        validator = new SystemCharValidator();
+        validator.setAllowSurrogatePair(true);
+        validator.setMessageId(BenchmarkEnvironment.MSG_SYSTEM_CHAR);
+        validator.setDefaultCharsetDef(createCharsetDef(charsetDef, corpus));
+        annotation = validator.createAnnotation(Collections.<String, Object>emptyMap());
+        context = new ValidationContext<Object>("", Object.class, null,
+                Collections.<String, Object>emptyMap(), null);
+        value = CharsetCorpus.generate(corpus, length);
+        if (!validate()) {
+            throw new IllegalStateException("corpus contains characters not allowed."
+                    + " charsetDef = [" + charsetDef + "], corpus = [" + corpus + "]");
+        }
+    }
+
+    /**
+     * シングルスレッドでバリデーションする。
+     *
+     * @return バリデーション結果
+     */
+    @Benchmark
+    @Threads(1)
+    public boolean validate() {
+        return validator.validateSingleValue(context, "value", "value", annotation, value);
+    }
+
+    /**
+     * 4スレッドで同時にバリデーションする。
+     *
+     * @return バリデーション結果
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean validateConcurrently() {
+        return validator.validateSingleValue(context, "value", "value", annotation, value);
+    }
+
+    /**
+     * 許容文字集合定義を生成する。
+     *
+     * @param type 許容文字集合定義の種類
+     * @param corpus コーパスの種類
+     * @return 許容文字集合定義
+     * @throws IllegalArgumentException 未知の種類が指定された場合
+     */
+    static CharsetDef createCharsetDef(String type, String corpus) {
+        if ("literal".equals(type)) {
+            return literal(CharsetCorpus.toString(CharsetCorpus.alphabet(corpus)));
+        } else if ("ranged".equals(type)) {
+            int[] alphabet = CharsetCorpus.alphabet(corpus);
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int codePoint : alphabet) {
+                min = Math.min(min, codePoint);
+                max = Math.max(max, codePoint);
+            }
+            return ranged(new int[] {min, max});
+        } else if ("composite".equals(type)) {
+            return composite();
+        } else if ("caching".equals(type)) {
+            CachingCharsetDef caching = new CachingCharsetDef();
+            caching.setCharsetDef(composite());
+            return caching;
+        }
+        throw new IllegalArgumentException("unknown charsetDef. type = [" + type + "]");
+    }
+
+    /**
+     * 全てのコーパスの文字を許容する{@link CompositeCharsetDef}を生成する。
+     *
+     * @return 許容文字集合定義
+     */
+    private static CharsetDef composite() {
+        List<CharsetDef> definitions = new ArrayList<CharsetDef>();
+        definitions.add(ranged(CharsetCorpus.ASCII_RANGE));
+        definitions.add(ranged(CharsetCorpus.HALFWIDTH_KANA_RANGE));
+        definitions.add(ranged(CharsetCorpus.HIRAGANA_RANGE));
+        definitions.add(ranged(CharsetCorpus.KATAKANA_RANGE));
+        definitions.add(literal(CharsetCorpus.toString(CharsetCorpus.jisKanji())));
+        definitions.add(ranged(CharsetCorpus.CJK_EXTENSION_B_RANGE));
+        CompositeCharsetDef composite = new CompositeCharsetDef();
+        composite.setCharsetDefList(definitions);
+        return composite;
+    }
+
+    /**
+     * {@link LiteralCharsetDef}を生成する。
+     *
+     * @param allowedCharacters 許容文字
+     * @return 許容文字集合定義
+     */
+    private static CharsetDef literal(String allowedCharacters) {
+        LiteralCharsetDef literal = new LiteralCharsetDef();
+        literal.setAllowedCharacters(allowedCharacters);
+        return literal;
+    }
+
+    /**
+     * {@link RangedCharsetDef}を生成する。
+     *
+     * @param range 範囲(開始, 終了)
+     * @return 許容文字集合定義
+     */
+    private static CharsetDef ranged(int[] range) {
+        RangedCharsetDef ranged = new RangedCharsetDef();
+        ranged.setStartCodePoint(String.format("U+%04X", range[0]));
+        ranged.setEndCodePoint(String.format("U+%04X", range[1]));
+        return ranged;
+    }
+}
@@ -0,0 +1,65 @@
+package nablarch.core.validation.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import nablarch.core.validation.ValidationManager;
+import nablarch.core.validation.benchmark.form.RegistrationForm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link nablarch.core.validation.ValidationTarget}でネストしたフォームに対する
+ * {@link ValidationManager#validateAndConvert}のベンチマーク。
+ *
+ * @author Nablarch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NestedFormBenchmark {
+
+    /** パラメータがバリデーションエラーとならない場合は"valid"、エラーとなる場合は"invalid" */
+    @Param({"valid", "invalid"})
+    public String payload;
+
+    /** バリデーションマネージャ */
+    private ValidationManager manager;
+
+    /** リクエストパラメータ */
+    private Map<String, String[]> params;
+
+    /**
+     * ベンチマークの実行環境を構築する。
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        manager = BenchmarkEnvironment.setUp();
+        params = RequestParameters.registration("valid".equals(payload));
+    }
+
+    /**
+     * 全てのプロパティをバリデーションする。
+     *
+     * @return バリデーション結果
+     */
+    @Benchmark
+    public Object validateAll() {
+        return BenchmarkResults.consume(
+                manager.validateAndConvert("registration", RegistrationForm.class, params, null));
+    }
+}
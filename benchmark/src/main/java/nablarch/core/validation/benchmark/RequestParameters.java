@@ -0,0 +1,128 @@
+package nablarch.core.validation.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ベンチマークで使用するリクエストパラメータを生成するクラス。
+ * <p/>
+ * HTTPリクエストから取得したパラメータと同じく、全ての値を{@code String[]}で保持する
+ * {@code Map<String, String[]>}を生成する。
+ * バリデーションエラーとなるパラメータは、各フォームで複数の項目がエラーとなるよう値を設定する。
+ *
+ * @author Nablarch
+ */
+public final class RequestParameters {
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private RequestParameters() {
+    }
+
+    /**
+     * {@link nablarch.core.validation.benchmark.form.UserForm}用のパラメータを設定する。
+     *
+     * @param params パラメータを設定するMap
+     * @param prefix パラメータ名のプレフィクス
+     * @param valid バリデーションエラーとならない値を設定する場合は{@code true}
+     */
+    public static void putUser(Map<String, String[]> params, String prefix, boolean valid) {
+        put(params, prefix, "userId", valid ? "U000000001" : "U0001");
+        put(params, prefix, "name", "山田 太郎");
+        put(params, prefix, "kanaName", "ヤマダ タロウ");
+        put(params, prefix, "mailAddress", valid ? "taro.yamada@example.com" : "");
+        put(params, prefix, "tel", "0312345678");
+        put(params, prefix, "age", valid ? "35" : "200");
+        put(params, prefix, "income", valid ? "5,500,000.00" : "5,500,000.005");
+        params.put(prefix + "roles", new String[] {"admin", "operator", "viewer"});
+    }
+
+    /**
+     * {@link nablarch.core.validation.benchmark.form.AddressForm}用のパラメータを設定する。
+     *
+     * @param params パラメータを設定するMap
+     * @param prefix パラメータ名のプレフィクス
+     * @param valid バリデーションエラーとならない値を設定する場合は{@code true}
+     */
+    public static void putAddress(Map<String, String[]> params, String prefix, boolean valid) {
+        put(params, prefix, "zipCode", valid ? "1000001" : "100-0001");
+        put(params, prefix, "prefecture", "東京都");
+        put(params, prefix, "city", valid ? "千代田区" : "");
+        put(params, prefix, "street", "千代田1-1");
+    }
+
+    /**
+     * {@link nablarch.core.validation.benchmark.form.ItemForm}用のパラメータを設定する。
+     *
+     * @param params パラメータを設定するMap
+     * @param prefix パラメータ名のプレフィクス
+     * @param index 明細のインデックス
+     * @param valid バリデーションエラーとならない値を設定する場合は{@code true}
+     */
+    public static void putItem(Map<String, String[]> params, String prefix, int index, boolean valid) {
+        put(params, prefix, "itemCode", String.format("I%07d", index));
+        put(params, prefix, "quantity", valid ? String.valueOf(index % 100 + 1) : "0");
+        put(params, prefix, "unitPrice", "1,980.50");
+    }
+
+    /**
+     * {@link nablarch.core.validation.benchmark.form.UserForm}用のパラメータを生成する。
+     *
+     * @param valid バリデーションエラーとならない値を設定する場合は{@code true}
+     * @return パラメータ
+     */
+    public static Map<String, String[]> user(boolean valid) {
+        Map<String, String[]> params = new HashMap<String, String[]>();
+        putUser(params, "user.", valid);
+        return params;
+    }
+
+    /**
+     * {@link nablarch.core.validation.benchmark.form.RegistrationForm}用のパラメータを生成する。
+     *
+     * @param valid バリデーションエラーとならない値を設定する場合は{@code true}
+     * @return パラメータ
+     */
+    public static Map<String, String[]> registration(boolean valid) {
+        Map<String, String[]> params = new HashMap<String, String[]>();
+        putUser(params, "registration.user.", valid);
+        putAddress(params, "registration.address.", valid);
+        put(params, "registration.", "remarks", "平日の午前中に連絡してください。");
+        return params;
+    }
+
+    /**
+     * {@link nablarch.core.validation.benchmark.form.OrderForm}用のパラメータを生成する。
+     * <p/>
+     * バリデーションエラーとなるパラメータを生成する場合、最後の明細のみをエラーとする。
+     * 明細は1つでもエラーがあれば全体がエラーとなるため、全ての明細をバリデーションした上で
+     * 配列の生成が行われない最も不利なケースとなる。
+     *
+     * @param itemCount 明細数
+     * @param valid バリデーションエラーとならない値を設定する場合は{@code true}
+     * @return パラメータ
+     */
+    public static Map<String, String[]> order(int itemCount, boolean valid) {
+        Map<String, String[]> params = new HashMap<String, String[]>();
+        put(params, "order.", "orderNo", "O00000000001");
+        putAddress(params, "order.shippingAddress.", true);
+        put(params, "order.", "itemsSize", String.valueOf(itemCount));
+        for (int i = 0; i < itemCount; i++) {
+            putItem(params, "order.items[" + i + "].", i, valid || i < itemCount - 1);
+        }
+        return params;
+    }
+
+    /**
+     * パラメータを設定する。
+     *
+     * @param params パラメータを設定するMap
+     * @param prefix パラメータ名のプレフィクス
+     * @param name パラメータ名
+     * @param value 値
+     */
+    private static void put(Map<String, String[]> params, String prefix, String name, String value) {
+        params.put(prefix + name, new String[] {value});
+    }
+}
@@ -0,0 +1,132 @@
+package nablarch.core.validation.benchmark.form;
+
+import java.util.Map;
+
+import nablarch.core.validation.PropertyName;
+import nablarch.core.validation.validator.Length;
+import nablarch.core.validation.validator.Required;
+import nablarch.core.validation.validator.unicode.SystemChar;
+
+/**
+ * ベンチマークで使用する住所フォーム。
+ * <p/>
+ * {@link OrderForm}からネストしたバリデーション対象として使用する。
+ *
+ * @author Nablarch
+ */
+public class AddressForm {
+
+    /** 郵便番号 */
+    private String zipCode;
+
+    /** 都道府県 */
+    private String prefecture;
+
+    /** 市区町村 */
+    private String city;
+
+    /** 番地 */
+    private String street;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public AddressForm() {
+    }
+
+    /**
+     * Mapを引数にとるコンストラクタ。
+     *
+     * @param params 項目名をキーとし、項目値を値とするMap
+     */
+    public AddressForm(Map<String, Object> params) {
+        zipCode = (String) params.get("zipCode");
+        prefecture = (String) params.get("prefecture");
+        city = (String) params.get("city");
+        street = (String) params.get("street");
+    }
+
+    /**
+     * 郵便番号を取得する。
+     *
+     * @return 郵便番号
+     */
+    public String getZipCode() {
+        return zipCode;
+    }
+
+    /**
+     * 郵便番号を設定する。
+     *
+     * @param zipCode 郵便番号
+     */
+    @PropertyName("郵便番号")
+    @Required
+    @Length(min = 7, max = 7)
+    @SystemChar
+    public void setZipCode(String zipCode) {
+        this.zipCode = zipCode;
+    }
+
+    /**
+     * 都道府県を取得する。
+     *
+     * @return 都道府県
+     */
+    public String getPrefecture() {
+        return prefecture;
+    }
+
+    /**
+     * 都道府県を設定する。
+     *
+     * @param prefecture 都道府県
+     */
+    @PropertyName("都道府県")
+    @Required
+    @Length(max = 4)
+    public void setPrefecture(String prefecture) {
+        this.prefecture = prefecture;
+    }
+
+    /**
+     * 市区町村を取得する。
+     *
+     * @return 市区町村
+     */
+    public String getCity() {
+        return city;
+    }
+
+    /**
+     * 市区町村を設定する。
+     *
+     * @param city 市区町村
+     */
+    @PropertyName("市区町村")
+    @Required
+    @Length(max = 50)
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    /**
+     * 番地を取得する。
+     *
+     * @return 番地
+     */
+    public String getStreet() {
+        return street;
+    }
+
+    /**
+     * 番地を設定する。
+     *
+     * @param street 番地
+     */
+    @PropertyName("番地")
+    @Length(max = 100)
+    public void setStreet(String street) {
+        this.street = street;
+    }
+}
@@ -0,0 +1,112 @@
+package nablarch.core.validation.benchmark.form;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import nablarch.core.validation.PropertyName;
+import nablarch.core.validation.convertor.Digits;
+import nablarch.core.validation.validator.Length;
+import nablarch.core.validation.validator.NumberRange;
+import nablarch.core.validation.validator.Required;
+import nablarch.core.validation.validator.unicode.SystemChar;
+
+/**
+ * ベンチマークで使用する明細フォーム。
+ * <p/>
+ * {@link OrderForm}から配列のバリデーション対象として使用する。
+ *
+ * @author Nablarch
+ */
+public class ItemForm {
+
+    /** 商品コード */
+    private String itemCode;
+
+    /** 数量 */
+    private Integer quantity;
+
+    /** 単価 */
+    private BigDecimal unitPrice;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public ItemForm() {
+    }
+
+    /**
+     * Mapを引数にとるコンストラクタ。
+     *
+     * @param params 項目名をキーとし、項目値を値とするMap
+     */
+    public ItemForm(Map<String, Object> params) {
+        itemCode = (String) params.get("itemCode");
+        quantity = (Integer) params.get("quantity");
+        unitPrice = (BigDecimal) params.get("unitPrice");
+    }
+
+    /**
+     * 商品コードを取得する。
+     *
+     * @return 商品コード
+     */
+    public String getItemCode() {
+        return itemCode;
+    }
+
+    /**
+     * 商品コードを設定する。
+     *
+     * @param itemCode 商品コード
+     */
+    @PropertyName("商品コード")
+    @Required
+    @Length(min = 8, max = 8)
+    @SystemChar
+    public void setItemCode(String itemCode) {
+        this.itemCode = itemCode;
+    }
+
+    /**
+     * 数量を取得する。
+     *
+     * @return 数量
+     */
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 数量を設定する。
+     *
+     * @param quantity 数量
+     */
+    @PropertyName("数量")
+    @Required
+    @Digits(integer = 5)
+    @NumberRange(min = 1, max = 99999)
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * 単価を取得する。
+     *
+     * @return 単価
+     */
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    /**
+     * 単価を設定する。
+     *
+     * @param unitPrice 単価
+     */
+    @PropertyName("単価")
+    @Required
+    @Digits(integer = 9, fraction = 2)
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+}
@@ -0,0 +1,132 @@
+package nablarch.core.validation.benchmark.form;
+
+import java.util.Map;
+
+import nablarch.core.validation.PropertyName;
+import nablarch.core.validation.ValidationTarget;
+import nablarch.core.validation.convertor.Digits;
+import nablarch.core.validation.validator.Length;
+import nablarch.core.validation.validator.Required;
+import nablarch.core.validation.validator.unicode.SystemChar;
+
+/**
+ * ベンチマークで使用する注文フォーム。
+ * <p/>
+ * ネストしたバリデーション対象({@link AddressForm})と、
+ * sizeKeyで要素数を指定する配列のバリデーション対象({@link ItemForm})を持つ。
+ *
+ * @author Nablarch
+ */
+public class OrderForm {
+
+    /** 注文番号 */
+    private String orderNo;
+
+    /** 配送先 */
+    private AddressForm shippingAddress;
+
+    /** 明細数 */
+    private Integer itemsSize;
+
+    /** 明細 */
+    private ItemForm[] items;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public OrderForm() {
+    }
+
+    /**
+     * Mapを引数にとるコンストラクタ。
+     *
+     * @param params 項目名をキーとし、項目値を値とするMap
+     */
+    public OrderForm(Map<String, Object> params) {
+        orderNo = (String) params.get("orderNo");
+        shippingAddress = (AddressForm) params.get("shippingAddress");
+        itemsSize = (Integer) params.get("itemsSize");
+        items = (ItemForm[]) params.get("items");
+    }
+
+    /**
+     * 注文番号を取得する。
+     *
+     * @return 注文番号
+     */
+    public String getOrderNo() {
+        return orderNo;
+    }
+
+    /**
+     * 注文番号を設定する。
+     *
+     * @param orderNo 注文番号
+     */
+    @PropertyName("注文番号")
+    @Required
+    @Length(min = 12, max = 12)
+    @SystemChar
+    public void setOrderNo(String orderNo) {
+        this.orderNo = orderNo;
+    }
+
+    /**
+     * 配送先を取得する。
+     *
+     * @return 配送先
+     */
+    public AddressForm getShippingAddress() {
+        return shippingAddress;
+    }
+
+    /**
+     * 配送先を設定する。
+     *
+     * @param shippingAddress 配送先
+     */
+    @ValidationTarget
+    public void setShippingAddress(AddressForm shippingAddress) {
+        this.shippingAddress = shippingAddress;
+    }
+
+    /**
+     * 明細数を取得する。
+     *
+     * @return 明細数
+     */
+    public Integer getItemsSize() {
+        return itemsSize;
+    }
+
+    /**
+     * 明細数を設定する。
+     *
+     * @param itemsSize 明細数
+     */
+    @PropertyName("明細数")
+    @Required
+    @Digits(integer = 3)
+    public void setItemsSize(Integer itemsSize) {
+        this.itemsSize = itemsSize;
+    }
+
+    /**
+     * 明細を取得する。
+     *
+     * @return 明細
+     */
+    public ItemForm[] getItems() {
+        return items;
+    }
+
+    /**
+     * 明細を設定する。
+     *
+     * @param items 明細
+     */
+    @ValidationTarget(sizeKey = "itemsSize")
+    public void setItems(ItemForm[] items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,101 @@
+package nablarch.core.validation.benchmark.form;
+
+import java.util.Map;
+
+import nablarch.core.validation.PropertyName;
+import nablarch.core.validation.ValidationTarget;
+import nablarch.core.validation.validator.Length;
+
+/**
+ * ベンチマークで使用する会員登録フォーム。
+ * <p/>
+ * ネストしたバリデーション対象({@link UserForm}、{@link AddressForm})を持つ。
+ *
+ * @author Nablarch
+ */
+public class RegistrationForm {
+
+    /** 会員情報 */
+    private UserForm user;
+
+    /** 住所 */
+    private AddressForm address;
+
+    /** 備考 */
+    private String remarks;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public RegistrationForm() {
+    }
+
+    /**
+     * Mapを引数にとるコンストラクタ。
+     *
+     * @param params 項目名をキーとし、項目値を値とするMap
+     */
+    public RegistrationForm(Map<String, Object> params) {
+        user = (UserForm) params.get("user");
+        address = (AddressForm) params.get("address");
+        remarks = (String) params.get("remarks");
+    }
+
+    /**
+     * 会員情報を取得する。
+     *
+     * @return 会員情報
+     */
+    public UserForm getUser() {
+        return user;
+    }
+
+    /**
+     * 会員情報を設定する。
+     *
+     * @param user 会員情報
+     */
+    @ValidationTarget
+    public void setUser(UserForm user) {
+        this.user = user;
+    }
+
+    /**
+     * 住所を取得する。
+     *
+     * @return 住所
+     */
+    public AddressForm getAddress() {
+        return address;
+    }
+
+    /**
+     * 住所を設定する。
+     *
+     * @param address 住所
+     */
+    @ValidationTarget
+    public void setAddress(AddressForm address) {
+        this.address = address;
+    }
+
+    /**
+     * 備考を取得する。
+     *
+     * @return 備考
+     */
+    public String getRemarks() {
+        return remarks;
+    }
+
+    /**
+     * 備考を設定する。
+     *
+     * @param remarks 備考
+     */
+    @PropertyName("備考")
+    @Length(max = 200)
+    public void setRemarks(String remarks) {
+        this.remarks = remarks;
+    }
+}
@@ -0,0 +1,247 @@
+package nablarch.core.validation.benchmark.form;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import nablarch.core.validation.PropertyName;
+import nablarch.core.validation.ValidateFor;
+import nablarch.core.validation.ValidationContext;
+import nablarch.core.validation.ValidationUtil;
+import nablarch.core.validation.convertor.Digits;
+import nablarch.core.validation.validator.Length;
+import nablarch.core.validation.validator.NumberRange;
+import nablarch.core.validation.validator.Required;
+import nablarch.core.validation.validator.unicode.SystemChar;
+
+/**
+ * ベンチマークで使用するフラットなフォーム。
+ * <p/>
+ * 文字列、整数、小数、文字列配列のプロパティを持ち、
+ * 一般的な登録画面の入力項目を想定している。
+ *
+ * @author Nablarch
+ */
+public class UserForm {
+
+    /** ユーザID */
+    private String userId;
+
+    /** 氏名 */
+    private String name;
+
+    /** 氏名(カナ) */
+    private String kanaName;
+
+    /** メールアドレス */
+    private String mailAddress;
+
+    /** 電話番号 */
+    private String tel;
+
+    /** 年齢 */
+    private Integer age;
+
+    /** 年収 */
+    private BigDecimal income;
+
+    /** 権限リスト */
+    private String[] roles;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public UserForm() {
+    }
+
+    /**
+     * Mapを引数にとるコンストラクタ。
+     *
+     * @param params 項目名をキーとし、項目値を値とするMap
+     */
+    public UserForm(Map<String, Object> params) {
+        userId = (String) params.get("userId");
+        name = (String) params.get("name");
+        kanaName = (String) params.get("kanaName");
+        mailAddress = (String) params.get("mailAddress");
+        tel = (String) params.get("tel");
+        age = (Integer) params.get("age");
+        income = (BigDecimal) params.get("income");
+        roles = (String[]) params.get("roles");
+    }
+
+    /**
+     * ユーザIDを取得する。
+     *
+     * @return ユーザID
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * ユーザIDを設定する。
+     *
+     * @param userId ユーザID
+     */
+    @PropertyName("ユーザID")
+    @Required
+    @Length(min = 10, max = 10)
+    @SystemChar
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * 氏名を取得する。
+     *
+     * @return 氏名
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 氏名を設定する。
+     *
+     * @param name 氏名
+     */
+    @PropertyName("氏名")
+    @Required
+    @Length(max = 50)
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 氏名(カナ)を取得する。
+     *
+     * @return 氏名(カナ)
+     */
+    public String getKanaName() {
+        return kanaName;
+    }
+
+    /**
+     * 氏名(カナ)を設定する。
+     *
+     * @param kanaName 氏名(カナ)
+     */
+    @PropertyName("氏名(カナ)")
+    @Length(max = 50)
+    public void setKanaName(String kanaName) {
+        this.kanaName = kanaName;
+    }
+
+    /**
+     * メールアドレスを取得する。
+     *
+     * @return メールアドレス
+     */
+    public String getMailAddress() {
+        return mailAddress;
+    }
+
+    /**
+     * メールアドレスを設定する。
+     *
+     * @param mailAddress メールアドレス
+     */
+    @PropertyName("メールアドレス")
+    @Required
+    @Length(max = 100)
+    public void setMailAddress(String mailAddress) {
+        this.mailAddress = mailAddress;
+    }
+
+    /**
+     * 電話番号を取得する。
+     *
+     * @return 電話番号
+     */
+    public String getTel() {
+        return tel;
+    }
+
+    /**
+     * 電話番号を設定する。
+     *
+     * @param tel 電話番号
+     */
+    @PropertyName("電話番号")
+    @Length(max = 11)
+    @SystemChar
+    public void setTel(String tel) {
+        this.tel = tel;
+    }
+
+    /**
+     * 年齢を取得する。
+     *
+     * @return 年齢
+     */
+    public Integer getAge() {
+        return age;
+    }
+
+    /**
+     * 年齢を設定する。
+     *
+     * @param age 年齢
+     */
+    @PropertyName("年齢")
+    @Required
+    @Digits(integer = 3)
+    @NumberRange(min = 0, max = 150)
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    /**
+     * 年収を取得する。
+     *
+     * @return 年収
+     */
+    public BigDecimal getIncome() {
+        return income;
+    }
+
+    /**
+     * 年収を設定する。
+     *
+     * @param income 年収
+     */
+    @PropertyName("年収")
+    @Digits(integer = 10, fraction = 2)
+    public void setIncome(BigDecimal income) {
+        this.income = income;
+    }
+
+    /**
+     * 権限リストを取得する。
+     *
+     * @return 権限リスト
+     */
+    public String[] getRoles() {
+        return roles;
+    }
+
+    /**
+     * 権限リストを設定する。
+     *
+     * @param roles 権限リスト
+     */
+    @PropertyName("権限リスト")
+    public void setRoles(String[] roles) {
+        this.roles = roles;
+    }
+
+    /**
+     * 登録時のバリデーションを行う。
+     *
+     * @param context バリデーションコンテキスト
+     */
+    @ValidateFor("register")
+    public static void validateForRegister(ValidationContext<UserForm> context) {
+        ValidationUtil.validateAll(context);
+    }
+}
@@ -0,0 +1,43 @@
+package nablarch.core.validation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * プロパティの値の変換を記録するイベント。
+ *
+ * @author TIS
+ */
+@Name("nablarch.validation.Conversion")
+@Label("Property Conversion")
+@Description("Conversion of a property value by a Convertor")
+@Category({"Nablarch", "Validation"})
+@StackTrace(false)
+public class ConversionEvent extends Event {
+
+    /** フォームのクラス。 */
+    @Label("Form Class")
+    Class<?> formClass;
+
+    /** プロパティ名。 */
+    @Label("Property Name")
+    String propertyName;
+
+    /** Convertorのクラス。 */
+    @Label("Convertor Class")
+    Class<?> convertorClass;
+
+    /** 変換できたかどうか。 */
+    @Label("Converted")
+    boolean converted;
+
+    /** 所要時間。 */
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
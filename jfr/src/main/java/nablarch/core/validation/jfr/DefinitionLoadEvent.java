@@ -0,0 +1,31 @@
+package nablarch.core.validation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * フォームに紐付けられたバリデーションの設定の取得を記録するイベント。
+ *
+ * @author TIS
+ */
+@Name("nablarch.validation.DefinitionLoad")
+@Label("Form Validation Definition Load")
+@Description("Lookup of the FormValidationDefinition of a form")
+@Category({"Nablarch", "Validation"})
+@StackTrace(false)
+public class DefinitionLoadEvent extends Event {
+
+    /** フォームのクラス。 */
+    @Label("Form Class")
+    Class<?> formClass;
+
+    /** 所要時間。 */
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
@@ -0,0 +1,31 @@
+package nablarch.core.validation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * バリデーション結果からのフォームの生成を記録するイベント。
+ *
+ * @author TIS
+ */
+@Name("nablarch.validation.FormCreation")
+@Label("Form Creation")
+@Description("Creation of a form from converted values")
+@Category({"Nablarch", "Validation"})
+@StackTrace(false)
+public class FormCreationEvent extends Event {
+
+    /** フォームのクラス。 */
+    @Label("Form Class")
+    Class<?> formClass;
+
+    /** 所要時間。 */
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
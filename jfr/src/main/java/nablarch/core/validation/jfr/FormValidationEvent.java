@@ -0,0 +1,41 @@
+package nablarch.core.validation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * フォームのバリデーションを記録するイベント。
+ * <p/>
+ * 子フォームとフォームの配列の要素についても記録する。
+ *
+ * @author TIS
+ */
+@Name("nablarch.validation.FormValidation")
+@Label("Form Validation")
+@Description("Validation and conversion of a form")
+@Category({"Nablarch", "Validation"})
+@StackTrace(false)
+public class FormValidationEvent extends Event {
+
+    /** フォームのクラス。 */
+    @Label("Form Class")
+    Class<?> formClass;
+
+    /** Mapに入ったキーのプレフィクス。 */
+    @Label("Prefix")
+    String prefix;
+
+    /** バリデーションエラーがなかったかどうか。 */
+    @Label("Valid")
+    boolean valid;
+
+    /** 所要時間。 */
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
@@ -0,0 +1,106 @@
+package nablarch.core.validation.jfr;
+
+import java.lang.annotation.Annotation;
+
+import nablarch.core.validation.Convertor;
+import nablarch.core.validation.ValidationListener;
+
+/**
+ * バリデーションの各処理をJDK Flight Recorder(JFR)のイベントとして記録する{@link ValidationListener}実装クラス。
+ * <p/>
+ * 以下のイベントを記録する。
+ * <ul>
+ *     <li>{@link FormValidationEvent}</li>
+ *     <li>{@link PropertyValidationEvent}</li>
+ *     <li>{@link ConversionEvent}</li>
+ *     <li>{@link ValidatorEvent}</li>
+ *     <li>{@link DefinitionLoadEvent}</li>
+ *     <li>{@link FormCreationEvent}</li>
+ * </ul>
+ * 所要時間は処理の終了後に通知されるため、イベントの開始時刻は処理の終了時刻となり、所要時間は{@code elapsed}フィールドに記録する。
+ * イベントが無効な場合は記録しない。
+ * <p/>
+ * 本クラスはスレッドセーフである。
+ *
+ * @author TIS
+ */
+public class JfrValidationListener implements ValidationListener {
+
+    @Override
+    public void definitionLoaded(Class<?> formClass, long elapsedNanos) {
+        DefinitionLoadEvent event = new DefinitionLoadEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.formClass = formClass;
+        event.elapsed = elapsedNanos;
+        event.commit();
+    }
+
+    @Override
+    public void converted(Class<?> formClass, String propertyName, Convertor convertor, boolean converted,
+            long elapsedNanos) {
+        ConversionEvent event = new ConversionEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.formClass = formClass;
+        event.propertyName = propertyName;
+        event.convertorClass = convertor.getClass();
+        event.converted = converted;
+        event.elapsed = elapsedNanos;
+        event.commit();
+    }
+
+    @Override
+    public void validated(Class<?> formClass, String propertyName, Annotation annotation, boolean valid,
+            long elapsedNanos) {
+        ValidatorEvent event = new ValidatorEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.formClass = formClass;
+        event.propertyName = propertyName;
+        event.annotationType = annotation.annotationType();
+        event.valid = valid;
+        event.elapsed = elapsedNanos;
+        event.commit();
+    }
+
+    @Override
+    public void propertyValidated(Class<?> formClass, String propertyName, boolean valid, long elapsedNanos) {
+        PropertyValidationEvent event = new PropertyValidationEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.formClass = formClass;
+        event.propertyName = propertyName;
+        event.valid = valid;
+        event.elapsed = elapsedNanos;
+        event.commit();
+    }
+
+    @Override
+    public void formValidated(Class<?> formClass, String prefix, boolean valid, long elapsedNanos) {
+        FormValidationEvent event = new FormValidationEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.formClass = formClass;
+        event.prefix = prefix;
+        event.valid = valid;
+        event.elapsed = elapsedNanos;
+        event.commit();
+    }
+
+    @Override
+    public void formCreated(Class<?> formClass, long elapsedNanos) {
+        FormCreationEvent event = new FormCreationEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.formClass = formClass;
+        event.elapsed = elapsedNanos;
+        event.commit();
+    }
+}
@@ -0,0 +1,39 @@
+package nablarch.core.validation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * プロパティのバリデーションと変換を記録するイベント。
+ *
+ * @author TIS
+ */
+@Name("nablarch.validation.PropertyValidation")
+@Label("Property Validation")
+@Description("Conversion and validation of a form property")
+@Category({"Nablarch", "Validation"})
+@StackTrace(false)
+public class PropertyValidationEvent extends Event {
+
+    /** フォームのクラス。 */
+    @Label("Form Class")
+    Class<?> formClass;
+
+    /** プロパティ名。 */
+    @Label("Property Name")
+    String propertyName;
+
+    /** バリデーションエラーがなかったかどうか。 */
+    @Label("Valid")
+    boolean valid;
+
+    /** 所要時間。 */
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
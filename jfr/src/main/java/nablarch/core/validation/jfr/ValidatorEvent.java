@@ -0,0 +1,43 @@
+package nablarch.core.validation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * バリデータの呼び出しを記録するイベント。
+ *
+ * @author TIS
+ */
+@Name("nablarch.validation.Validator")
+@Label("Validator Execution")
+@Description("Execution of a validator for a property")
+@Category({"Nablarch", "Validation"})
+@StackTrace(false)
+public class ValidatorEvent extends Event {
+
+    /** フォームのクラス。 */
+    @Label("Form Class")
+    Class<?> formClass;
+
+    /** プロパティ名。 */
+    @Label("Property Name")
+    String propertyName;
+
+    /** バリデータに対応するアノテーションの型。 */
+    @Label("Annotation Type")
+    Class<?> annotationType;
+
+    /** バリデーションエラーがなかったかどうか。 */
+    @Label("Valid")
+    boolean valid;
+
+    /** 所要時間。 */
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
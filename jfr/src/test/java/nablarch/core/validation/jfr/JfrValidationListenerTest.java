@@ -0,0 +1,122 @@
+package nablarch.core.validation.jfr;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import nablarch.core.validation.convertor.StringConvertor;
+import nablarch.core.validation.validator.Required;
+
+import org.junit.Test;
+
+/**
+ * {@link JfrValidationListener}のテスト。
+ */
+public class JfrValidationListenerTest {
+
+    /**
+     * 通知された処理がJFRのイベントとして記録されること。
+     */
+    @Test
+    public void testRecordEvents() throws Exception {
+        JfrValidationListener listener = new JfrValidationListener();
+        Required required = Form.class.getMethod("setName", String.class).getAnnotation(Required.class);
+
+        Path file = Files.createTempFile("validation", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(DefinitionLoadEvent.class);
+                recording.enable(ConversionEvent.class);
+                recording.enable(ValidatorEvent.class);
+                recording.enable(PropertyValidationEvent.class);
+                recording.enable(FormValidationEvent.class);
+                recording.enable(FormCreationEvent.class);
+                recording.start();
+
+                listener.definitionLoaded(Form.class, 10);
+                listener.converted(Form.class, "name", new StringConvertor(), true, 20);
+                listener.validated(Form.class, "name", required, false, 30);
+                listener.propertyValidated(Form.class, "name", false, 40);
+                listener.formValidated(Form.class, "form", false, 50);
+                listener.formCreated(Form.class, 60);
+
+                recording.stop();
+                recording.dump(file);
+            }
+
+            Map<String, RecordedEvent> events = new HashMap<String, RecordedEvent>();
+            List<RecordedEvent> recorded = RecordingFile.readAllEvents(file);
+            for (RecordedEvent event : recorded) {
+                if (event.getEventType().getName().startsWith("nablarch.validation.")) {
+                    events.put(event.getEventType().getName(), event);
+                }
+            }
+            assertThat(events.size(), is(6));
+
+            RecordedEvent definition = events.get("nablarch.validation.DefinitionLoad");
+            assertThat(definition.getClass("formClass").getName(), is(Form.class.getName()));
+            assertThat(definition.getDuration("elapsed"), is(Duration.ofNanos(10)));
+
+            RecordedEvent conversion = events.get("nablarch.validation.Conversion");
+            assertThat(conversion.getString("propertyName"), is("name"));
+            assertThat(conversion.getClass("convertorClass").getName(), is(StringConvertor.class.getName()));
+            assertThat(conversion.getBoolean("converted"), is(true));
+
+            RecordedEvent validator = events.get("nablarch.validation.Validator");
+            assertThat(validator.getClass("annotationType").getName(), is(Required.class.getName()));
+            assertThat(validator.getBoolean("valid"), is(false));
+            assertThat(validator.getDuration("elapsed"), is(Duration.ofNanos(30)));
+
+            RecordedEvent property = events.get("nablarch.validation.PropertyValidation");
+            assertThat(property.getString("propertyName"), is("name"));
+
+            RecordedEvent form = events.get("nablarch.validation.FormValidation");
+            assertThat(form.getString("prefix"), is("form"));
+            assertThat(form.getBoolean("valid"), is(false));
+
+            RecordedEvent creation = events.get("nablarch.validation.FormCreation");
+            assertThat(creation.getDuration("elapsed"), is(Duration.ofNanos(60)));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * イベントが無効な場合は記録されないこと。
+     */
+    @Test
+    public void testDisabledEvents() throws Exception {
+        JfrValidationListener listener = new JfrValidationListener();
+        Path file = Files.createTempFile("validation", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.disable(FormValidationEvent.class);
+                recording.start();
+                listener.formValidated(Form.class, "", true, 10);
+                recording.stop();
+                recording.dump(file);
+            }
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                assertThat(event.getEventType().getName().equals("nablarch.validation.FormValidation"), is(false));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    public static class Form {
+
+        @Required
+        public void setName(String name) {
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package nablarch.core.validation;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import nablarch.core.message.Message;
+
+/**
+ * 複数の入力値のバリデーションと変換を、{@link Executor}のスレッドで行うクラス。
+ * <p/>
+ * 入力値の読み込みと、{@link BulkValidationHandler}への結果の通知は呼び出し元のスレッドで入力値の順に行う。
+ * バリデーション中の入力値の数は、指定された上限を超えないように制御する。
+ * <p/>
+ * {@link Executor}のスレッドでは、呼び出し元のスレッドの{@link nablarch.core.ThreadContext}の値を引き継いでバリデーションを行う。
+ *
+ * @param <T> バリデーション結果で取得できる型
+ * @author TIS
+ */
+final class BulkValidation<T> {
+
+    /** バリデーションを行う{@link ValidationManager}。 */
+    private final ValidationManager manager;
+
+    /** Mapに入ったキーのプレフィクス。 */
+    private final String prefix;
+
+    /** バリデーション対象のフォームのクラス。 */
+    private final Class<T> targetClass;
+
+    /** バリデーション対象メソッド。 */
+    private final String validateFor;
+
+    /** 再利用可能な{@link ValidationContext}を使用するかどうか。 */
+    private final boolean reuseContext;
+
+    /** 使用していない再利用可能な{@link ValidationContext}。 */
+    private final Queue<ValidationContext<T>> contexts = new ConcurrentLinkedQueue<ValidationContext<T>>();
+
+    /** 処理を中断したかどうか。 */
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    /** 呼び出し元のスレッド。 */
+    private final Thread caller = Thread.currentThread();
+
+    /** 呼び出し元のスレッドの{@link nablarch.core.ThreadContext}の値。 */
+    private final ThreadContextSnapshot threadContext = new ThreadContextSnapshot();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param manager バリデーションを行う{@link ValidationManager}
+     * @param prefix Mapに入ったキーのプレフィクス
+     * @param targetClass バリデーション対象のフォームのクラス
+     * @param validateFor バリデーション対象メソッド
+     * @param reuseContext 再利用可能な{@link ValidationContext}を使用する場合は{@code true}
+     */
+    BulkValidation(ValidationManager manager, String prefix, Class<T> targetClass, String validateFor,
+            boolean reuseContext) {
+        this.manager = manager;
+        this.prefix = prefix;
+        this.targetClass = targetClass;
+        this.validateFor = validateFor;
+        this.reuseContext = reuseContext;
+    }
+
+    /**
+     * 全ての入力値のバリデーションと変換を行い、結果を入力値の順に通知する。
+     * <p/>
+     * バリデーション中に例外が発生した場合は、未処理の入力値のバリデーションを中断し、呼び出し元のスレッドで送出する。
+     * {@link BulkValidationHandler}が例外を送出した場合も同様に中断する。
+     *
+     * @param executor バリデーションを行う{@link Executor}。{@code null}の場合は呼び出し元のスレッドで行う
+     * @param maxInFlight バリデーション中の入力値の数の上限
+     * @param records 入力値
+     * @param handler 結果を受け取る{@link BulkValidationHandler}
+     */
+    void run(Executor executor, int maxInFlight, Iterator<? extends Map<String, ?>> records,
+            BulkValidationHandler<? super T> handler) {
+        ArrayDeque<Record> inFlight = new ArrayDeque<Record>();
+        boolean completed = false;
+        try {
+            long index = 0;
+            while (records.hasNext()) {
+                if (inFlight.size() >= maxInFlight) {
+                    inFlight.poll().publish(handler);
+                }
+                Record record = new Record(index++, records.next());
+                inFlight.add(record);
+                submit(executor, record);
+            }
+            while (!inFlight.isEmpty()) {
+                inFlight.poll().publish(handler);
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                cancelled.set(true);
+            }
+        }
+    }
+
+    /**
+     * 入力値のバリデーションを{@link Executor}に依頼する。
+     * <p/>
+     * {@link Executor}が実行を拒否した場合は、呼び出し元のスレッドでバリデーションする。
+     *
+     * @param executor バリデーションを行う{@link Executor}
+     * @param record 入力値
+     */
+    private void submit(Executor executor, Record record) {
+        if (executor == null) {
+            record.run();
+            return;
+        }
+        try {
+            executor.execute(record);
+        } catch (RejectedExecutionException e) {
+            record.run();
+        }
+    }
+
+    /**
+     * 入力値のバリデーションと変換を行う。
+     *
+     * @param params 入力値
+     * @param record 結果を格納する{@link Record}
+     */
+    private void validate(Map<String, ?> params, Record record) {
+        if (!reuseContext) {
+            record.setResult(manager.validateAndConvert(prefix, targetClass, params, validateFor));
+            return;
+        }
+        ValidationContext<T> context = contexts.poll();
+        if (context == null) {
+            context = manager.createReusableValidationContext(prefix, targetClass, validateFor);
+        }
+        record.setResult(manager.validateAndConvert(context, params));
+        contexts.offer(context);
+    }
+
+    /**
+     * 1件の入力値と、そのバリデーション結果を保持するクラス。
+     */
+    private final class Record implements Runnable {
+
+        /** 入力値の添字。 */
+        private final long index;
+
+        /** 入力値。バリデーション後は参照を破棄する。 */
+        private Map<String, ?> params;
+
+        /** 生成したフォーム。 */
+        private T form;
+
+        /** バリデーションエラーのメッセージ。 */
+        private List<Message> messages;
+
+        /** バリデーション中に発生した例外。 */
+        private Throwable failure;
+
+        /** バリデーションの終了を待機するラッチ。 */
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        /**
+         * コンストラクタ。
+         *
+         * @param index 入力値の添字
+         * @param params 入力値
+         */
+        Record(long index, Map<String, ?> params) {
+            this.index = index;
+            this.params = params;
+        }
+
+        /**
+         * 入力値のバリデーションと変換を行う。
+         */
+        public void run() {
+            try {
+                if (cancelled.get()) {
+                    return;
+                }
+                if (Thread.currentThread() == caller) {
+                    validate(params, this);
+                    return;
+                }
+                Object[] previous = threadContext.apply();
+                try {
+                    validate(params, this);
+                } finally {
+                    threadContext.restore(previous);
+                }
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                params = null;
+                finished.countDown();
+            }
+        }
+
+        /**
+         * バリデーション結果を設定する。
+         *
+         * @param context バリデーション結果の入ったValidationContext
+         */
+        void setResult(ValidationContext<T> context) {
+            if (context.isValid()) {
+                form = context.createObject();
+            } else {
+                messages = context.getMessages();
+            }
+        }
+
+        /**
+         * バリデーションの終了を待機し、結果を通知する。
+         *
+         * @param handler 結果を受け取る{@link BulkValidationHandler}
+         */
+        void publish(BulkValidationHandler<? super T> handler) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    finished.await();
+                    break;
+                } catch (InterruptedException e) {
+                    // 他のスレッドが処理中のため、終了するまで待機する。
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            if (failure != null) {
+                throw new RuntimeException(failure);
+            }
+            if (messages == null) {
+                handler.handleValid(index, form);
+            } else {
+                handler.handleInvalid(index, messages);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package nablarch.core.validation;
+
+import java.util.List;
+
+import nablarch.core.message.Message;
+import nablarch.core.util.annotation.Published;
+
+/**
+ * 複数の入力値をまとめてバリデーションした結果を受け取るインタフェース。
+ * <p/>
+ * 結果は入力値の順に、{@link ValidationManager#validateAndConvertAll}を呼び出したスレッドで通知される。
+ *
+ * @param <T> バリデーション結果で取得できる型
+ * @author TIS
+ * @see ValidationManager#validateAndConvertAll(String, Class, java.util.Iterator, String, BulkValidationHandler)
+ */
+@Published(tag = "architect")
+public interface BulkValidationHandler<T> {
+
+    /**
+     * バリデーションエラーがなかった入力値から生成したフォームを受け取る。
+     *
+     * @param index 入力値の添字(0始まり)
+     * @param form 入力値から生成したフォーム
+     */
+    void handleValid(long index, T form);
+
+    /**
+     * バリデーションエラーとなった入力値のメッセージを受け取る。
+     *
+     * @param index 入力値の添字(0始まり)
+     * @param messages バリデーションエラーのメッセージ
+     */
+    void handleInvalid(long index, List<Message> messages);
+}
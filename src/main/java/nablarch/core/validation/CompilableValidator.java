@@ -0,0 +1,35 @@
+package nablarch.core.validation;
+
+import java.lang.annotation.Annotation;
+
+import nablarch.core.util.annotation.Published;
+
+/**
+ * アノテーションを解析したチェック処理を事前に生成できる{@link Validator}が実装するインタフェース。
+ * <p/>
+ * {@link ValidationManager}は、フォームのバリデーションの実行計画を作成する際に{@link #compile(Annotation)}を呼び出し、
+ * 生成した{@link CompiledValidator}をリクエスト毎のバリデーションで使用する。
+ * アノテーションの属性の取得やメッセージIDの選択を事前に行うことで、リクエスト毎の処理を削減できる。
+ * <p/>
+ * 本インタフェースを実装しない{@link Validator}は、
+ * {@link Validator#validate(ValidationContext, String, Object, Annotation, Object)}を呼び出す
+ * {@link CompiledValidator}で従来通りに呼び出される。
+ *
+ * @author TIS
+ * @see ValidatorCompiler
+ */
+@Published(tag = "architect")
+public interface CompilableValidator extends Validator {
+
+    /**
+     * アノテーションから、バリデーションを行う{@link CompiledValidator}を生成する。
+     * <p/>
+     * 生成した{@link CompiledValidator}は、
+     * {@link Validator#validate(ValidationContext, String, Object, Annotation, Object)}に
+     * 同じアノテーションを指定した場合と同じ結果を返さなければならない。
+     *
+     * @param annotation アノテーション
+     * @return {@link CompiledValidator}
+     */
+    CompiledValidator compile(Annotation annotation);
+}
@@ -0,0 +1,29 @@
+package nablarch.core.validation;
+
+import nablarch.core.util.annotation.Published;
+
+/**
+ * 1つのバリデーションアノテーションに対するチェックを行うインタフェース。
+ * <p/>
+ * {@link CompilableValidator#compile(java.lang.annotation.Annotation)}で生成される。
+ * 実装クラスは不変であり、複数スレッドから同時に使用できなければならない。
+ *
+ * @author TIS
+ */
+@Published(tag = "architect")
+public interface CompiledValidator {
+
+    /**
+     * バリデーションを実行する。<br/>
+     * 対応するチェックの結果がNGであった場合、ValidationContextにエラーメッセージを追加し、falseを返す。
+     *
+     * @param <T> バリデーション結果で取得できる型
+     * @param context バリデーションコンテキスト
+     * @param propertyName プロパティ名
+     * @param propertyDisplayName プロパティの表示名オブジェクト
+     * @param value バリデーション対象の値
+     *
+     * @return バリデーションに通った場合true
+     */
+    <T> boolean validate(ValidationContext<T> context, String propertyName, Object propertyDisplayName, Object value);
+}
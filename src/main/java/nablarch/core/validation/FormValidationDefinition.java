@@ -33,6 +33,16 @@ public class FormValidationDefinition {
      */
     private final Map<String, PropertyValidationDefinition> propertyDefinitions;
 
+    /**
+     * プロパティの序数を添字とするプロパティ名の配列。
+     */
+    private final String[] propertyNames;
+
+    /**
+     * プロパティ名をキー、プロパティの序数を値に持つMap。
+     */
+    private final Map<String, Integer> propertyOrdinals;
+
     /**
      * コンストラクタ。
      * 
@@ -42,10 +52,39 @@ public class FormValidationDefinition {
         this.formClass = formClass;
         
         propertyDefinitions = getPropertyDefinitions(formClass);
+        propertyNames = propertyDefinitions.keySet().toArray(new String[propertyDefinitions.size()]);
+        propertyOrdinals = getPropertyOrdinals(propertyNames);
 
         validateForMethods = getValidateForMethods(formClass);
     }
 
+    /**
+     * 解決済みのプロパティ定義とValidateForアノテーションのついたメソッドを元にインスタンスを生成する。
+     * <p/>
+     * フォームのクラスを走査せずに設定を復元する場合に使用する。
+     *
+     * @param formClass バリデーション対象のフォーム
+     * @param propertyDefinitions プロパティ名をキー、プロパティ定義を値に持つMap
+     * @param validateForMethods validateForアノテーションの値をキー、validateForアノテーションのついたメソッドを値とするMap
+     */
+    FormValidationDefinition(Class<?> formClass, Map<String, PropertyValidationDefinition> propertyDefinitions,
+            Map<String, List<Method>> validateForMethods) {
+        this.formClass = formClass;
+        this.propertyDefinitions = Collections.unmodifiableMap(
+                new HashMap<String, PropertyValidationDefinition>(propertyDefinitions));
+        this.propertyNames = this.propertyDefinitions.keySet().toArray(new String[propertyDefinitions.size()]);
+        this.propertyOrdinals = getPropertyOrdinals(propertyNames);
+
+        Map<String, List<Method>> methods = new HashMap<String, List<Method>>();
+        for (Map.Entry<String, List<Method>> entry : validateForMethods.entrySet()) {
+            for (Method method : entry.getValue()) {
+                makeAccessible(method);
+            }
+            methods.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<Method>(entry.getValue())));
+        }
+        this.validateForMethods = Collections.unmodifiableMap(methods);
+    }
+
     /**
      * クラスからvalidateForアノテーションのついたメソッドを取得する。
      * @param formClass 取得元のクラス 
@@ -57,6 +96,9 @@ public class FormValidationDefinition {
         for (Method method : formClass.getMethods()) {
             addValidateForMethod(methods, method);
         }
+        for (Map.Entry<String, List<Method>> entry : methods.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
         return Collections.unmodifiableMap(methods);
     }
 
@@ -75,6 +117,19 @@ public class FormValidationDefinition {
         return Collections.unmodifiableMap(props);
     }
 
+    /**
+     * プロパティ名の配列からプロパティの序数のMapを作成する。
+     * @param propertyNames プロパティの序数を添字とするプロパティ名の配列
+     * @return プロパティ名をキー、プロパティの序数を値に持つMap
+     */
+    private static Map<String, Integer> getPropertyOrdinals(String[] propertyNames) {
+        Map<String, Integer> ordinals = new HashMap<String, Integer>();
+        for (int i = 0; i < propertyNames.length; i++) {
+            ordinals.put(propertyNames[i], i);
+        }
+        return ordinals;
+    }
+
     /**
      * PropertyValidationDefinition を作成する。
      * @param formClass 対象のクラス
@@ -120,6 +175,7 @@ public class FormValidationDefinition {
                         + "class name = " + formClass.getName()
                         + ", method name = " + method.getName());
             }
+            makeAccessible(method);
             for (String name : validateForAnnotation.value()) {
                 List<Method> methods = map.get(name);
                 if (methods == null) {
@@ -131,6 +187,19 @@ public class FormValidationDefinition {
         }
     }
 
+    /**
+     * 呼び出し毎のアクセスチェックを省略するため、メソッドをアクセス可能にする。<br/>
+     * アクセス可能にできない場合は、呼び出し毎にアクセスチェックを行う。
+     * @param method 対象のメソッド
+     */
+    private static void makeAccessible(Method method) {
+        try {
+            method.setAccessible(true);
+        } catch (SecurityException e) {
+            // 呼び出し毎にアクセスチェックを行う。
+        }
+    }
+
     /**
      * ValidateForアノテーションのついたメソッドをValidateForのvalueに指定したメソッド名を元に取得する。
      * 
@@ -146,6 +215,25 @@ public class FormValidationDefinition {
         return validateForMethods.get(methodName);
     }
 
+    /**
+     * ValidateForアノテーションのついたメソッドを全て取得する。<br/>
+     * 取得したMapは変更できない。
+     *
+     * @return ValidateForのvalueに指定したメソッド名をキー、ValidateForアノテーションのついたメソッドを値とするMap
+     */
+    public Map<String, List<Method>> getValidateForMethods() {
+        return validateForMethods;
+    }
+
+    /**
+     * バリデーション対象のフォームのクラスを取得する。
+     *
+     * @return バリデーション対象のフォームのクラス
+     */
+    public Class<?> getFormClass() {
+        return formClass;
+    }
+
     /**
      * プロパティ名にマッチしたPropertyValidationDefinitionを取得する。
      * 
@@ -171,4 +259,38 @@ public class FormValidationDefinition {
     public Map<String, PropertyValidationDefinition> getPropertyValidationDefinitions() {
         return propertyDefinitions;
     }
+
+    /**
+     * プロパティの数を取得する。
+     *
+     * @return プロパティの数
+     */
+    public int getPropertyCount() {
+        return propertyNames.length;
+    }
+
+    /**
+     * プロパティの序数を取得する。
+     * <p/>
+     * 序数は、0から{@link #getPropertyCount()} - 1までの値であり、
+     * {@link #getPropertyValidationDefinitions()}のプロパティの順序と一致する。
+     *
+     * @param propertyName プロパティ名
+     * @return プロパティの序数。プロパティが存在しない場合は-1
+     */
+    public int getPropertyOrdinal(String propertyName) {
+        Integer ordinal = propertyOrdinals.get(propertyName);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * 序数に対応するプロパティ名を取得する。
+     *
+     * @param ordinal プロパティの序数
+     * @return プロパティ名
+     * @throws ArrayIndexOutOfBoundsException 序数が範囲外の場合
+     */
+    public String getPropertyName(int ordinal) {
+        return propertyNames[ordinal];
+    }
 }
@@ -1,25 +1,180 @@
 package nablarch.core.validation;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
 
 import nablarch.core.cache.StaticDataLoader;
+import nablarch.core.log.Logger;
+import nablarch.core.log.LoggerManager;
+import nablarch.core.util.ClassTraversal;
+import nablarch.core.util.ClassTraversal.ClassHandler;
 
 
 /**
  * フォームに紐付けられたバリデーションの設定をロードするクラス。<br/>
- * オンデマンドロードのみに対応する。
- * 
+ * オンデマンドロードと、起動時の一括ロードに対応する。
+ * <p/>
+ * 一括ロードの対象は{@link #setFormClassNames(List)}で指定したクラス、
+ * {@link #setPackageNames(List)}で指定したパッケージ配下のフォームクラス、
+ * および{@link #setUseFormIndex(boolean)}を有効にした場合はフォームクラスのインデックスに記載されたクラスである。
+ * パッケージ配下のクラスのうち、アノテーションが設定されたセッタ、
+ * または{@link ValidateFor}アノテーションが設定されたメソッドを持つクラスをフォームクラスとみなす。
+ * <p/>
+ * 一括ロードは{@link #setParallelism(int)}で指定したスレッド数で並列に行い、
+ * フォーム毎のロード時間をDEBUGレベル、ロード全体の結果をINFOレベルでログに出力する。
+ * 一括ロードの対象を指定しなかった場合は、オンデマンドロードのみを行う。
+ * <p/>
+ * フォームクラスのインデックスは、{@link nablarch.core.validation.processor.FormIndexProcessor}が
+ * コンパイル時に{@link #FORM_INDEX_RESOURCE}に出力する。
+ * インデックスを使用すると、起動時にパッケージ配下のクラスを走査する必要がなくなる。
+ * <p/>
+ * {@link #setSnapshotFilePath(String)}を設定した場合は、一括ロードの結果をスナップショットファイルに出力し、
+ * 次回以降の起動時にはスナップショットファイルから設定を復元する。
+ * <p/>
+ * 一括ロードを行うには、本クラスを設定した{@link nablarch.core.cache.BasicStaticDataCache}の
+ * loadOnStartupプロパティに{@code true}を設定する。
+ * 本クラスを{@link ValidationManager#setFormDefinitionLoader(FormValidationDefinitionLoader)}に設定した場合は、
+ * 一括ロードしたフォームの実行計画を{@link ValidationManager}が起動時に作成する。
+ *
  * @author Koichi Asano
  *
  */
 public class FormValidationDefinitionLoader implements StaticDataLoader<FormValidationDefinition> {
 
+    /** フォームクラスのインデックスのリソース名。 */
+    public static final String FORM_INDEX_RESOURCE = "META-INF/nablarch/validation/form-index";
+
+    /** ロガー */
+    private static final Logger LOGGER = LoggerManager.get(FormValidationDefinitionLoader.class);
+
+    /** 一括ロードの対象とするフォームクラス名のリスト。 */
+    private List<String> formClassNames = Collections.emptyList();
+
+    /** 一括ロードの対象とするパッケージ名のリスト。 */
+    private List<String> packageNames = Collections.emptyList();
+
+    /** フォームクラスのインデックスを使用するかどうか。 */
+    private boolean useFormIndex = false;
+
+    /** スナップショットファイルのパス。 */
+    private String snapshotFilePath;
+
+    /** 一括ロードを行うスレッド数。 */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 一括ロードの対象とするフォームクラス名のリストを設定する。
+     *
+     * @param formClassNames 一括ロードの対象とするフォームクラス名(FQCN)のリスト
+     */
+    public void setFormClassNames(List<String> formClassNames) {
+        this.formClassNames = formClassNames;
+    }
+
+    /**
+     * 一括ロードの対象とするパッケージ名のリストを設定する。
+     * <p/>
+     * 指定したパッケージとそのサブパッケージ配下のクラスが対象となる。
+     *
+     * @param packageNames 一括ロードの対象とするパッケージ名のリスト
+     */
+    public void setPackageNames(List<String> packageNames) {
+        this.packageNames = packageNames;
+    }
+
+    /**
+     * フォームクラスのインデックスを使用するかどうかを設定する。
+     * <p/>
+     * {@code true}を設定した場合、クラスパス上の全ての{@link #FORM_INDEX_RESOURCE}に記載されたクラスを一括ロードの対象とする。
+     * デフォルトは{@code false}。
+     *
+     * @param useFormIndex フォームクラスのインデックスを使用する場合は{@code true}
+     */
+    public void setUseFormIndex(boolean useFormIndex) {
+        this.useFormIndex = useFormIndex;
+    }
+
+    /**
+     * スナップショットファイルのパスを設定する。
+     * <p/>
+     * 設定した場合、一括ロード時にスナップショットファイルからフォームに紐付けられたバリデーションの設定を復元する。
+     * スナップショットファイルを復元できた場合は、スナップショットの作成後に変更されたクラスと、
+     * パッケージ配下に追加されたクラスのみリフレクションを使用して再ロードする。
+     * パッケージ配下のクラスのうちフォームでなかったクラスもスナップショットに記録するため、再ロードの対象とならない。
+     * スナップショットファイルが存在しない場合や、再ロードしたクラスがある場合は、一括ロード後にスナップショットファイルを出力する。
+     * <p/>
+     * デプロイ時に作成したスナップショットファイルを全てのサーバで共有することで、各サーバの起動時間を短縮できる。
+     *
+     * @param snapshotFilePath スナップショットファイルのパス
+     */
+    public void setSnapshotFilePath(String snapshotFilePath) {
+        this.snapshotFilePath = snapshotFilePath;
+    }
+
+    /**
+     * 一括ロードを行うスレッド数を設定する。
+     * <p/>
+     * 設定しなかった場合、利用可能なプロセッサ数が使用される。
+     *
+     * @param parallelism 一括ロードを行うスレッド数
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0. parallelism = " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /** 一括ロードしたフォームの実行計画を作成する{@link ValidationManager}のリスト。 */
+    private final List<ValidationManager> validationManagers = new CopyOnWriteArrayList<ValidationManager>();
+
+    /** 最後に一括ロードしたFormValidationDefinitionのリスト。 */
+    private volatile List<FormValidationDefinition> preloadedDefinitions;
+
+    /**
+     * 一括ロードしたフォームの実行計画を作成する{@link ValidationManager}を追加する。
+     * <p/>
+     * 一括ロード済みの場合は、ただちに実行計画を作成させる。
+     * 以降の一括ロード時にも、ロードしたフォームの実行計画を作成させる。
+     *
+     * @param validationManager {@link ValidationManager}
+     */
+    void addValidationManager(ValidationManager validationManager) {
+        if (!validationManagers.contains(validationManager)) {
+            validationManagers.add(validationManager);
+        }
+        List<FormValidationDefinition> definitions = preloadedDefinitions;
+        if (definitions != null) {
+            validationManager.prepareFormValidationPlans(definitions);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     public Object getId(FormValidationDefinition value) {
-        // オンデマンドロードの対応のみなので、使用されない。
-        return value.getClass();
+        return value.getFormClass();
     }
 
     /**
@@ -27,7 +182,7 @@ public class FormValidationDefinitionLoader implements StaticDataLoader<FormVali
      */
     public Object generateIndexKey(String indexName,
             FormValidationDefinition value) {
-        // オンデマンドロードの対応のみなので、使用されない。
+        // インデックスには対応しないので、使用されない。
         return null;
     }
 
@@ -35,7 +190,7 @@ public class FormValidationDefinitionLoader implements StaticDataLoader<FormVali
      * {@inheritDoc}
      */
     public List<String> getIndexNames() {
-        // オンデマンドロードの対応のみなので、使用されない。
+        // インデックスには対応しないので、使用されない。
         return null;
     }
 
@@ -43,7 +198,7 @@ public class FormValidationDefinitionLoader implements StaticDataLoader<FormVali
      * {@inheritDoc}
      */
     public FormValidationDefinition getValue(Object id) {
-        
+
         return new FormValidationDefinition((Class<?>) id);
     }
 
@@ -52,15 +207,424 @@ public class FormValidationDefinitionLoader implements StaticDataLoader<FormVali
      */
     public List<FormValidationDefinition> getValues(String indexName,
             Object key) {
-        // オンデマンドロードの対応のみなので、使用されない。
+        // インデックスには対応しないので、使用されない。
         return null;
     }
 
     /**
      * {@inheritDoc}
+     * <p/>
+     * 一括ロードの対象が指定されていない場合は{@code null}を返す。
      */
     public List<FormValidationDefinition> loadAll() {
-        // オンデマンドロードの対応のみなので、使用されない。
-        return null;
+        if (formClassNames.isEmpty() && packageNames.isEmpty() && !useFormIndex && snapshotFilePath == null) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        FormValidationDefinitionSnapshot.Result snapshot = readSnapshot();
+        List<FormValidationDefinition> definitions = new ArrayList<FormValidationDefinition>();
+        Set<String> restoredClassNames = new LinkedHashSet<String>();
+        if (snapshot != null) {
+            definitions.addAll(snapshot.getDefinitions());
+            for (FormValidationDefinition definition : snapshot.getDefinitions()) {
+                restoredClassNames.add(definition.getFormClass().getName());
+            }
+        }
+
+        Set<String> explicitClassNames = new LinkedHashSet<String>(formClassNames);
+        if (useFormIndex) {
+            explicitClassNames.addAll(readFormIndex());
+        }
+        explicitClassNames.removeAll(restoredClassNames);
+        Set<String> packageClassNames = new LinkedHashSet<String>();
+        for (String packageName : packageNames) {
+            packageClassNames.addAll(findClassNames(packageName));
+        }
+        // スナップショットに記録されたフォームでないクラスのうち、パッケージ配下に現存するクラスは再ロードしない。
+        List<Class<?>> nonFormClasses = new ArrayList<Class<?>>();
+        Set<String> nonFormClassNames = new LinkedHashSet<String>();
+        if (snapshot != null) {
+            for (Class<?> nonFormClass : snapshot.getNonFormClasses()) {
+                if (packageClassNames.contains(nonFormClass.getName())) {
+                    nonFormClasses.add(nonFormClass);
+                    nonFormClassNames.add(nonFormClass.getName());
+                }
+            }
+        }
+        Set<String> scannedClassNames = new LinkedHashSet<String>(packageClassNames);
+        if (snapshot != null) {
+            scannedClassNames.addAll(snapshot.getStaleClassNames());
+        }
+        scannedClassNames.removeAll(explicitClassNames);
+        scannedClassNames.removeAll(restoredClassNames);
+        scannedClassNames.removeAll(nonFormClassNames);
+
+        List<Callable<LoadResult>> tasks = new ArrayList<Callable<LoadResult>>();
+        for (String className : explicitClassNames) {
+            tasks.add(new LoadTask(className, true));
+        }
+        for (String className : scannedClassNames) {
+            tasks.add(new LoadTask(className, false));
+        }
+
+        List<LoadResult> results = execute(tasks);
+
+        for (LoadResult result : results) {
+            if (result.nonFormClass != null) {
+                nonFormClasses.add(result.nonFormClass);
+            }
+            if (result.definition == null) {
+                continue;
+            }
+            definitions.add(result.definition);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.logDebug("form validation definition was loaded. "
+                        + "class name = [" + result.className + "], "
+                        + "load time = [" + toMillis(result.elapsedNanos) + "ms]");
+            }
+        }
+        if (snapshotFilePath != null && (snapshot == null || !tasks.isEmpty()
+                || !snapshot.getMissingClassNames().isEmpty()
+                || nonFormClasses.size() != snapshot.getNonFormClasses().size())) {
+            writeSnapshot(definitions, nonFormClasses);
+        }
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.logInfo("form validation definitions were preloaded. "
+                    + "form count = [" + definitions.size() + "], "
+                    + "restored from snapshot count = [" + restoredClassNames.size() + "], "
+                    + "scanned class count = [" + tasks.size() + "], "
+                    + "parallelism = [" + parallelism + "], "
+                    + "elapsed time = [" + toMillis(System.nanoTime() - start) + "ms]");
+        }
+        preloadedDefinitions = Collections.unmodifiableList(definitions);
+        for (ValidationManager validationManager : validationManagers) {
+            validationManager.prepareFormValidationPlans(preloadedDefinitions);
+        }
+        return definitions;
+    }
+
+    /**
+     * スナップショットを読み込む。
+     *
+     * @return 読み込み結果。スナップショットを使用しない場合や、スナップショットが存在しないか不正な場合は{@code null}
+     */
+    private FormValidationDefinitionSnapshot.Result readSnapshot() {
+        if (snapshotFilePath == null) {
+            return null;
+        }
+        File file = new File(snapshotFilePath);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            FormValidationDefinitionSnapshot.Result result = FormValidationDefinitionSnapshot.read(file, getClassLoader());
+            if (result == null) {
+                LOGGER.logWarn("snapshot file format was invalid. snapshot file = [" + file.getAbsolutePath() + "]");
+                return null;
+            }
+            if (LOGGER.isDebugEnabled()) {
+                for (String className : result.getStaleClassNames()) {
+                    LOGGER.logDebug("form class was changed after the snapshot was created. class name = [" + className + "]");
+                }
+                for (String className : result.getMissingClassNames()) {
+                    LOGGER.logDebug("form class in the snapshot was not found. class name = [" + className + "]");
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            LOGGER.logWarn("snapshot file reading failed. snapshot file = [" + file.getAbsolutePath() + "]", e);
+            return null;
+        }
+    }
+
+    /**
+     * スナップショットを出力する。
+     * <p/>
+     * 出力に失敗した場合は、警告ログを出力して処理を継続する。
+     *
+     * @param definitions フォームに紐付けられたバリデーションの設定のリスト
+     * @param nonFormClasses パッケージ配下から検出したクラスのうち、フォームでなかったクラスのリスト
+     */
+    private void writeSnapshot(List<FormValidationDefinition> definitions, List<Class<?>> nonFormClasses) {
+        File file = new File(snapshotFilePath);
+        try {
+            FormValidationDefinitionSnapshot.write(file, definitions, nonFormClasses);
+        } catch (IOException e) {
+            LOGGER.logWarn("snapshot file writing failed. snapshot file = [" + file.getAbsolutePath() + "]", e);
+        }
+    }
+
+    /**
+     * ロード処理を並列に実行する。
+     *
+     * @param tasks ロード処理のリスト
+     * @return ロード結果のリスト(ロード処理のリストと同じ順序)
+     */
+    private List<LoadResult> execute(List<Callable<LoadResult>> tasks) {
+        if (tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(parallelism, tasks.size()), new LoaderThreadFactory());
+        try {
+            List<LoadResult> results = new ArrayList<LoadResult>(tasks.size());
+            for (Future<LoadResult> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("form validation definition loading was interrupted.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * クラスパス上の全てのフォームクラスのインデックスからクラス名を取得する。
+     *
+     * @return インデックスに記載されたクラス名
+     */
+    private static Set<String> readFormIndex() {
+        Set<String> classNames = new LinkedHashSet<String>();
+        try {
+            Enumeration<URL> resources = getClassLoader().getResources(FORM_INDEX_RESOURCE);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), "UTF-8"));
+                try {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (line.length() != 0 && !line.startsWith("#")) {
+                            classNames.add(line);
+                        }
+                    }
+                } finally {
+                    reader.close();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("form index reading failed. resource = " + FORM_INDEX_RESOURCE, e);
+        }
+        return classNames;
+    }
+
+    /**
+     * パッケージ配下のクラス名を取得する。
+     *
+     * @param packageName パッケージ名
+     * @return パッケージ配下のクラス名
+     */
+    private static Set<String> findClassNames(final String packageName) {
+        final Set<String> classNames = new LinkedHashSet<String>();
+        ClassHandler handler = new ClassHandler() {
+            public void process(String classPackageName, String shortClassName) {
+                if (classPackageName != null
+                        && (classPackageName.equals(packageName) || classPackageName.startsWith(packageName + '.'))) {
+                    classNames.add(classPackageName + '.' + shortClassName);
+                }
+            }
+        };
+        String path = packageName.replace('.', '/');
+        try {
+            Enumeration<URL> resources = getClassLoader().getResources(path);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    File packageDir = new File(URLDecoder.decode(url.getPath(), "UTF-8"));
+                    File rootDir = packageDir;
+                    for (int i = 0; i < packageName.split("\\.").length; i++) {
+                        rootDir = rootDir.getParentFile();
+                    }
+                    ClassTraversal.forEach(rootDir, packageName, handler);
+                } else if ("jar".equals(url.getProtocol())) {
+                    JarURLConnection connection = (JarURLConnection) url.openConnection();
+                    connection.setUseCaches(false);
+                    JarFile jarFile = connection.getJarFile();
+                    try {
+                        ClassTraversal.forEach(jarFile, handler);
+                    } finally {
+                        jarFile.close();
+                    }
+                }
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("package scanning failed. package name = " + packageName, e);
+        }
+        return classNames;
+    }
+
+    /**
+     * クラスのロードに使用するクラスローダを取得する。
+     *
+     * @return クラスローダ
+     */
+    private static ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : FormValidationDefinitionLoader.class.getClassLoader();
+    }
+
+    /**
+     * フォームに紐付けられたバリデーションの設定が、フォームとしての設定を持つか判定する。
+     *
+     * @param definition フォームに紐付けられたバリデーションの設定
+     * @return アノテーションが設定されたセッタ、
+     *          または{@link ValidateFor}アノテーションが設定されたメソッドを持つ場合は{@code true}
+     */
+    private static boolean isForm(FormValidationDefinition definition) {
+        if (!definition.getValidateForMethods().isEmpty()) {
+            return true;
+        }
+        for (PropertyValidationDefinition property : definition.getPropertyValidationDefinitions().values()) {
+            if (property.getSetter().getAnnotations().length != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * ナノ秒をミリ秒の文字列に変換する。
+     *
+     * @param nanos ナノ秒
+     * @return ミリ秒の文字列
+     */
+    private static String toMillis(long nanos) {
+        return String.valueOf(nanos / 1000L / 1000.0);
+    }
+
+    /**
+     * 1つのフォームのロード結果を保持するクラス。
+     */
+    private static final class LoadResult {
+
+        /** クラス名。 */
+        private final String className;
+
+        /** ロードした設定。フォームでない場合は{@code null}。 */
+        private final FormValidationDefinition definition;
+
+        /** パッケージ配下から検出したクラスがフォームでなかった場合はそのクラス、それ以外の場合は{@code null}。 */
+        private final Class<?> nonFormClass;
+
+        /** ロードにかかった時間(ナノ秒)。 */
+        private final long elapsedNanos;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param className クラス名
+         * @param definition ロードした設定
+         * @param nonFormClass フォームでなかったクラス
+         * @param elapsedNanos ロードにかかった時間(ナノ秒)
+         */
+        LoadResult(String className, FormValidationDefinition definition, Class<?> nonFormClass, long elapsedNanos) {
+            this.className = className;
+            this.definition = definition;
+            this.nonFormClass = nonFormClass;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+
+    /**
+     * 1つのフォームをロードする処理。
+     */
+    private static final class LoadTask implements Callable<LoadResult> {
+
+        /** クラス名。 */
+        private final String className;
+
+        /** 明示的に指定されたクラスかどうか。 */
+        private final boolean explicit;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param className クラス名
+         * @param explicit 明示的に指定されたクラスかどうか
+         */
+        LoadTask(String className, boolean explicit) {
+            this.className = className;
+            this.explicit = explicit;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p/>
+         * パッケージ配下から検出したクラスのうち、インタフェースやフォームとしての設定を持たないクラスは除外する。
+         * パッケージ配下から検出したクラスのロードに失敗した場合は、警告ログを出力して除外する。
+         * 明示的に指定されたクラスのロードに失敗した場合は、例外を送出する。
+         */
+        public LoadResult call() {
+            long start = System.nanoTime();
+            if (explicit) {
+                return load(start);
+            }
+            try {
+                return load(start);
+            } catch (RuntimeException e) {
+                LOGGER.logWarn("form validation definition loading failed. class name = [" + className + "]", e);
+            } catch (LinkageError e) {
+                LOGGER.logWarn("form validation definition loading failed. class name = [" + className + "]", e);
+            }
+            return new LoadResult(className, null, null, System.nanoTime() - start);
+        }
+
+        /**
+         * フォームに紐付けられたバリデーションの設定をロードする。
+         *
+         * @param start ロードの開始時刻(ナノ秒)
+         * @return ロード結果。パッケージ配下から検出したクラスがフォームでない場合は、設定が{@code null}となる
+         * @throws IllegalArgumentException クラスが存在しない場合
+         */
+        private LoadResult load(long start) throws IllegalArgumentException {
+            Class<?> formClass;
+            try {
+                formClass = Class.forName(className, false, getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalArgumentException("form class was not found. class name = " + className, e);
+            }
+            if (!explicit && (formClass.isInterface() || formClass.isAnnotation() || formClass.isEnum())) {
+                return new LoadResult(className, null, formClass, System.nanoTime() - start);
+            }
+            FormValidationDefinition definition = new FormValidationDefinition(formClass);
+            if (!explicit && !isForm(definition)) {
+                return new LoadResult(className, null, formClass, System.nanoTime() - start);
+            }
+            return new LoadResult(className, definition, null, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 一括ロードを行うスレッドを生成するクラス。
+     * <p/>
+     * ロードが完了しなかった場合もJVMの終了を妨げないよう、デーモンスレッドを生成する。
+     */
+    private static final class LoaderThreadFactory implements ThreadFactory {
+
+        /** スレッド番号。 */
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        /**
+         * {@inheritDoc}
+         */
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "form-validation-definition-loader-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 }
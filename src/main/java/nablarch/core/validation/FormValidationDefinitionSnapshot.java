@@ -0,0 +1,482 @@
+package nablarch.core.validation;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * フォームに紐付けられたバリデーションの設定のスナップショットを読み書きするクラス。
+ * <p/>
+ * スナップショットには、フォーム毎に以下を出力する。
+ * <ul>
+ * <li>フォームのクラス名と、フォームとそのスーパークラスのクラスファイルから算出したハッシュ値</li>
+ * <li>プロパティ毎の、セッタとオーバライドしたセッタの宣言クラス、引数の型</li>
+ * <li>ValidateForアノテーションのついたメソッドの宣言クラスとメソッド名</li>
+ * </ul>
+ * また、パッケージ配下から検出したクラスのうちフォームでなかったクラスについて、クラス名とハッシュ値を出力する。
+ * これにより、スナップショットの作成後にパッケージ配下に追加されたクラスのみを判別できる。
+ * スナップショットからの復元では、記録したセッタとメソッドを直接取得するため、
+ * フォームのクラスの全メソッドの走査やオーバライドしたメソッドの検索が不要となる。
+ * アノテーションはセッタから取得するため、アノテーションの属性値が変わった場合もクラスファイルのハッシュ値で検出できる。
+ * <p/>
+ * スナップショットファイルは数キロバイト程度のため、読み込み時はファイル全体をヒープ上のバッファに読み込む。
+ * メモリマップドファイルは解放されるまでファイルを置き換えられない環境があるため使用しない。
+ *
+ * @author TIS
+ */
+final class FormValidationDefinitionSnapshot {
+
+    /** スナップショットファイルの識別子。 */
+    private static final int MAGIC = 0x4E465653;
+
+    /** スナップショットファイルの形式のバージョン。 */
+    private static final int VERSION = 2;
+
+    /** ハッシュ値を算出できなかったことを表す値。 */
+    static final long UNKNOWN_HASH = -1L;
+
+    /** 文字エンコーディング。 */
+    private static final String ENCODING = "UTF-8";
+
+    /** プリミティブ型の名前をキーとするプリミティブ型のMap。 */
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<String, Class<?>>();
+
+    static {
+        Class<?>[] primitives = {boolean.class, char.class, byte.class, short.class,
+                int.class, long.class, float.class, double.class};
+        for (Class<?> primitive : primitives) {
+            PRIMITIVE_TYPES.put(primitive.getName(), primitive);
+        }
+    }
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private FormValidationDefinitionSnapshot() {
+    }
+
+    /**
+     * スナップショットを出力する。
+     * <p/>
+     * 一時ファイルに出力した後に置き換えるため、出力中のスナップショットが読み込まれることはない。
+     *
+     * @param file 出力先のファイル
+     * @param definitions フォームに紐付けられたバリデーションの設定のリスト
+     * @param nonFormClasses パッケージ配下から検出したクラスのうち、フォームでなかったクラスのリスト
+     * @throws IOException 出力に失敗した場合
+     */
+    static void write(File file, List<FormValidationDefinition> definitions, List<Class<?>> nonFormClasses)
+            throws IOException {
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.exists() && !dir.mkdirs()) {
+            throw new IOException("directory creation failed. directory = " + dir);
+        }
+        File temp = File.createTempFile(file.getName(), ".tmp", dir);
+        boolean completed = false;
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            try {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(definitions.size());
+                for (FormValidationDefinition definition : definitions) {
+                    writeDefinition(out, definition);
+                }
+                out.writeInt(nonFormClasses.size());
+                for (Class<?> nonFormClass : nonFormClasses) {
+                    writeString(out, nonFormClass.getName());
+                    out.writeLong(hash(nonFormClass));
+                }
+            } finally {
+                out.close();
+            }
+            if (!temp.renameTo(file)) {
+                // 置き換え先が存在する場合にリネームできない環境のため、削除してからリネームする。
+                if (!file.delete() || !temp.renameTo(file)) {
+                    throw new IOException("snapshot file replacement failed. file = " + file);
+                }
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                temp.delete();
+            }
+        }
+    }
+
+    /**
+     * フォームに紐付けられたバリデーションの設定を出力する。
+     *
+     * @param out 出力先
+     * @param definition フォームに紐付けられたバリデーションの設定
+     * @throws IOException 出力に失敗した場合
+     */
+    private static void writeDefinition(DataOutputStream out, FormValidationDefinition definition) throws IOException {
+        Class<?> formClass = definition.getFormClass();
+        writeString(out, formClass.getName());
+        out.writeLong(hash(formClass));
+
+        Map<String, PropertyValidationDefinition> properties = definition.getPropertyValidationDefinitions();
+        out.writeInt(properties.size());
+        for (PropertyValidationDefinition property : properties.values()) {
+            List<PropertyValidationDefinition> chain = new ArrayList<PropertyValidationDefinition>();
+            for (PropertyValidationDefinition p = property; p != null; p = p.getOverrideMethodDefinition()) {
+                chain.add(p);
+            }
+            out.writeInt(chain.size());
+            for (PropertyValidationDefinition p : chain) {
+                writeString(out, p.getFormClass().getName());
+                writeString(out, p.getSetter().getDeclaringClass().getName());
+                writeString(out, p.getSetter().getName());
+                writeString(out, p.getSetter().getParameterTypes()[0].getName());
+            }
+        }
+
+        Map<String, List<Method>> validateForMethods = definition.getValidateForMethods();
+        out.writeInt(validateForMethods.size());
+        for (Map.Entry<String, List<Method>> entry : validateForMethods.entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (Method method : entry.getValue()) {
+                writeString(out, method.getDeclaringClass().getName());
+                writeString(out, method.getName());
+            }
+        }
+    }
+
+    /**
+     * 文字列を出力する。
+     *
+     * @param out 出力先
+     * @param value 文字列
+     * @throws IOException 出力に失敗した場合
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(ENCODING);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * スナップショットを読み込む。
+     *
+     * @param file スナップショットファイル
+     * @param classLoader フォームのクラスのロードに使用するクラスローダ
+     * @return 読み込み結果。スナップショットファイルの形式が不正な場合は{@code null}
+     * @throws IOException 読み込みに失敗した場合
+     */
+    static Result read(File file, ClassLoader classLoader) throws IOException {
+        ByteBuffer buffer = readFile(file);
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            Result result = new Result();
+            int count = readLength(buffer);
+            for (int i = 0; i < count; i++) {
+                readDefinition(buffer, classLoader, result);
+            }
+            int nonFormCount = readLength(buffer);
+            for (int i = 0; i < nonFormCount; i++) {
+                readNonFormClass(buffer, classLoader, result);
+            }
+            return result;
+        } catch (BufferUnderflowException e) {
+            return null;
+        }
+    }
+
+    /**
+     * スナップショットファイルの全体をバッファに読み込む。
+     *
+     * @param file スナップショットファイル
+     * @return 読み込んだバッファ
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private static ByteBuffer readFile(File file) throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            FileChannel channel = in.getChannel();
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("snapshot file is too large. file = " + file);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer;
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * フォームに紐付けられたバリデーションの設定を読み込む。
+     * <p/>
+     * フォームのクラスが存在しない場合は読み飛ばす。
+     * ハッシュ値が一致しない場合や、記録したメソッドが存在しない場合は、読み込み結果に再ロードが必要なクラスとして追加する。
+     *
+     * @param buffer 読み込み元
+     * @param classLoader フォームのクラスのロードに使用するクラスローダ
+     * @param result 読み込み結果
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private static void readDefinition(ByteBuffer buffer, ClassLoader classLoader, Result result) throws IOException {
+        String className = readString(buffer);
+        long hash = buffer.getLong();
+
+        // ハッシュ値が一致しない場合も、次のフォームを読み込むために全ての要素を読み進める。
+        int propertyCount = readLength(buffer);
+        String[][][] properties = new String[propertyCount][][];
+        for (int i = 0; i < propertyCount; i++) {
+            int levelCount = readLength(buffer);
+            properties[i] = new String[levelCount][];
+            for (int j = 0; j < levelCount; j++) {
+                properties[i][j] = new String[] {
+                        readString(buffer), readString(buffer), readString(buffer), readString(buffer)};
+            }
+        }
+        int validateForCount = readLength(buffer);
+        Map<String, String[][]> validateFors = new LinkedHashMap<String, String[][]>();
+        for (int i = 0; i < validateForCount; i++) {
+            String name = readString(buffer);
+            int methodCount = readLength(buffer);
+            String[][] methods = new String[methodCount][];
+            for (int j = 0; j < methodCount; j++) {
+                methods[j] = new String[] {readString(buffer), readString(buffer)};
+            }
+            validateFors.put(name, methods);
+        }
+
+        Class<?> formClass;
+        try {
+            formClass = Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            result.missingClassNames.add(className);
+            return;
+        } catch (LinkageError e) {
+            result.staleClassNames.add(className);
+            return;
+        }
+        if (hash == UNKNOWN_HASH || hash != hash(formClass)) {
+            result.staleClassNames.add(className);
+            return;
+        }
+
+        try {
+            Map<String, PropertyValidationDefinition> propertyDefinitions
+                    = new HashMap<String, PropertyValidationDefinition>();
+            for (String[][] levels : properties) {
+                PropertyValidationDefinition definition = null;
+                for (int j = levels.length - 1; j >= 0; j--) {
+                    String[] level = levels[j];
+                    Class<?> levelFormClass = Class.forName(level[0], false, classLoader);
+                    Class<?> declaringClass = Class.forName(level[1], false, classLoader);
+                    Method setter = declaringClass.getMethod(level[2], resolveType(level[3], classLoader));
+                    definition = new PropertyValidationDefinition(levelFormClass, setter, definition);
+                }
+                if (definition != null) {
+                    propertyDefinitions.put(definition.getName(), definition);
+                }
+            }
+            Map<String, List<Method>> validateForMethods = new HashMap<String, List<Method>>();
+            for (Map.Entry<String, String[][]> entry : validateFors.entrySet()) {
+                List<Method> methods = new ArrayList<Method>();
+                for (String[] method : entry.getValue()) {
+                    Class<?> declaringClass = Class.forName(method[0], false, classLoader);
+                    methods.add(declaringClass.getMethod(method[1], ValidationContext.class));
+                }
+                validateForMethods.put(entry.getKey(), methods);
+            }
+            result.definitions.add(new FormValidationDefinition(formClass, propertyDefinitions, validateForMethods));
+        } catch (ClassNotFoundException e) {
+            result.staleClassNames.add(className);
+        } catch (NoSuchMethodException e) {
+            result.staleClassNames.add(className);
+        } catch (LinkageError e) {
+            result.staleClassNames.add(className);
+        }
+    }
+
+    /**
+     * フォームでなかったクラスを読み込む。
+     * <p/>
+     * クラスが存在しない場合やハッシュ値が一致しない場合は読み飛ばす。
+     * 読み飛ばしたクラスがパッケージ配下に存在する場合は、新たに検出したクラスとして再ロードされる。
+     *
+     * @param buffer 読み込み元
+     * @param classLoader クラスのロードに使用するクラスローダ
+     * @param result 読み込み結果
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private static void readNonFormClass(ByteBuffer buffer, ClassLoader classLoader, Result result) throws IOException {
+        String className = readString(buffer);
+        long hash = buffer.getLong();
+        Class<?> nonFormClass;
+        try {
+            nonFormClass = Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            return;
+        } catch (LinkageError e) {
+            return;
+        }
+        if (hash != UNKNOWN_HASH && hash == hash(nonFormClass)) {
+            result.nonFormClasses.add(nonFormClass);
+        }
+    }
+
+    /**
+     * 文字列を読み込む。
+     *
+     * @param buffer 読み込み元
+     * @return 文字列
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private static String readString(ByteBuffer buffer) throws IOException {
+        byte[] bytes = new byte[readLength(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, ENCODING);
+    }
+
+    /**
+     * 文字列のバイト数や要素数を読み込む。
+     * <p/>
+     * 各要素は1バイト以上で出力しているため、残りのバイト数を超える値は形式が不正なものとして扱う。
+     * 破損したファイルの値で巨大な配列を確保しないよう、配列を確保する前に本メソッドで検証する。
+     *
+     * @param buffer 読み込み元
+     * @return バイト数または要素数
+     * @throws BufferUnderflowException 値が0未満、または残りのバイト数を超える場合
+     */
+    private static int readLength(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    /**
+     * 型の名前から型を解決する。
+     *
+     * @param name {@link Class#getName()}で取得した型の名前
+     * @param classLoader クラスローダ
+     * @return 型
+     * @throws ClassNotFoundException 型が存在しない場合
+     */
+    private static Class<?> resolveType(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        Class<?> primitive = PRIMITIVE_TYPES.get(name);
+        if (primitive != null) {
+            return primitive;
+        }
+        return Class.forName(name, false, classLoader);
+    }
+
+    /**
+     * フォームとそのスーパークラスのクラスファイルからハッシュ値を算出する。
+     * <p/>
+     * Java SEのクラスはハッシュ値の算出対象としない。
+     *
+     * @param formClass フォームのクラス
+     * @return ハッシュ値。クラスファイルを読み込めない場合は{@link #UNKNOWN_HASH}
+     */
+    static long hash(Class<?> formClass) {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        for (Class<?> c = formClass; c != null && !c.getName().startsWith("java."); c = c.getSuperclass()) {
+            ClassLoader classLoader = c.getClassLoader();
+            if (classLoader == null) {
+                return UNKNOWN_HASH;
+            }
+            InputStream in = classLoader.getResourceAsStream(c.getName().replace('.', '/') + ".class");
+            if (in == null) {
+                return UNKNOWN_HASH;
+            }
+            try {
+                try {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        crc.update(buffer, 0, read);
+                    }
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                return UNKNOWN_HASH;
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * スナップショットの読み込み結果。
+     */
+    static final class Result {
+
+        /** 復元したフォームに紐付けられたバリデーションの設定。 */
+        private final List<FormValidationDefinition> definitions = new ArrayList<FormValidationDefinition>();
+
+        /** クラスが変更されたため、再ロードが必要なクラス名。 */
+        private final List<String> staleClassNames = new ArrayList<String>();
+
+        /** 存在しなくなったクラス名。 */
+        private final List<String> missingClassNames = new ArrayList<String>();
+
+        /** スナップショットの作成後に変更されていない、フォームでなかったクラス。 */
+        private final List<Class<?>> nonFormClasses = new ArrayList<Class<?>>();
+
+        /**
+         * 復元したフォームに紐付けられたバリデーションの設定を取得する。
+         *
+         * @return 復元したフォームに紐付けられたバリデーションの設定
+         */
+        List<FormValidationDefinition> getDefinitions() {
+            return definitions;
+        }
+
+        /**
+         * クラスが変更されたため、再ロードが必要なクラス名を取得する。
+         *
+         * @return 再ロードが必要なクラス名
+         */
+        List<String> getStaleClassNames() {
+            return staleClassNames;
+        }
+
+        /**
+         * 存在しなくなったクラス名を取得する。
+         *
+         * @return 存在しなくなったクラス名
+         */
+        List<String> getMissingClassNames() {
+            return missingClassNames;
+        }
+
+        /**
+         * スナップショットの作成後に変更されていない、フォームでなかったクラスを取得する。
+         *
+         * @return フォームでなかったクラス
+         */
+        List<Class<?>> getNonFormClasses() {
+            return nonFormClasses;
+        }
+    }
+}
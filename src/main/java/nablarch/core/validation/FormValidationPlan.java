@@ -0,0 +1,146 @@
+package nablarch.core.validation;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * フォームに対するバリデーションと変換の実行計画を保持するクラス。
+ * <p/>
+ * {@link FormValidationDefinition}の各プロパティに対応する{@link PropertyValidationPlan}を、
+ * {@link FormValidationDefinition#getPropertyValidationDefinitions()}と同じ順序で保持する。
+ * 実行計画は{@link ValidationManager}がフォームの初回のバリデーション時に作成し、以降のバリデーションで再利用する。
+ * <p/>
+ * また、バリデーション時に指定されたプレフィクス毎に、パラメータのキーを保持する{@link PropertyKeyTable}をキャッシュする。
+ * キャッシュはバリデーション時に追加し、保持するプレフィクスの数は64個までとする。
+ * 上限に達した後に指定されたプレフィクスの{@link PropertyKeyTable}は、キャッシュせずに都度作成する。
+ * <p/>
+ * 本クラスはスレッドセーフであり、複数スレッドから同時に使用できる。
+ *
+ * @author TIS
+ */
+public class FormValidationPlan {
+
+    /** 保持するプレフィクス毎のパラメータのキーの数の上限。 */
+    private static final int MAX_CACHED_KEY_TABLES = 64;
+
+    /** フォームに紐付けられたバリデーションの設定。 */
+    private final FormValidationDefinition definition;
+
+    /** プロパティの実行計画のリスト。 */
+    private final List<PropertyValidationPlan> propertyPlans;
+
+    /** プロパティ名をキーとするプロパティの実行計画のMap。 */
+    private final Map<String, PropertyValidationPlan> propertyPlanMap;
+
+    /** ValidateForのvalueに指定したメソッド名をキーとする、ValidateForアノテーションのついたメソッドのMap。 */
+    private final Map<String, Method[]> validateForMethods;
+
+    /** プレフィクスをキーとする、パラメータのキーのMap。 */
+    private final ConcurrentMap<String, PropertyKeyTable> keyTables = new ConcurrentHashMap<String, PropertyKeyTable>();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param definition    フォームに紐付けられたバリデーションの設定
+     * @param propertyPlans プロパティの実行計画の配列
+     */
+    public FormValidationPlan(FormValidationDefinition definition, PropertyValidationPlan[] propertyPlans) {
+        this.definition = definition;
+        this.propertyPlans = Collections.unmodifiableList(Arrays.asList(propertyPlans.clone()));
+        Map<String, PropertyValidationPlan> map = new HashMap<String, PropertyValidationPlan>();
+        for (PropertyValidationPlan plan : propertyPlans) {
+            map.put(plan.getName(), plan);
+        }
+        this.propertyPlanMap = Collections.unmodifiableMap(map);
+
+        Map<String, Method[]> methods = new HashMap<String, Method[]>();
+        for (Map.Entry<String, List<Method>> entry : definition.getValidateForMethods().entrySet()) {
+            List<Method> list = entry.getValue();
+            methods.put(entry.getKey(), list.toArray(new Method[list.size()]));
+        }
+        this.validateForMethods = methods;
+    }
+
+    /**
+     * フォームに紐付けられたバリデーションの設定を取得する。
+     *
+     * @return フォームに紐付けられたバリデーションの設定
+     */
+    public FormValidationDefinition getFormValidationDefinition() {
+        return definition;
+    }
+
+    /**
+     * ValidateForアノテーションのついたメソッドをValidateForのvalueに指定したメソッド名を元に取得する。
+     * <p/>
+     * 返却する配列は本クラスが保持しているものであるため、変更してはならない。
+     *
+     * @param methodName ValidateForのvalueに指定したメソッド名
+     * @return ValidateForアノテーションのついたメソッドの配列
+     */
+    Method[] getValidateForMethods(String methodName) {
+        Method[] methods = validateForMethods.get(methodName);
+        if (methods == null) {
+            throw new IllegalArgumentException("Couldn't find method. "
+                    + "class name = " + definition.getFormClass().getName()
+                    + ", method name = " + methodName);
+        }
+        return methods;
+    }
+
+    /**
+     * プレフィクスに対応するパラメータのキーを取得する。
+     * <p/>
+     * 作成したパラメータのキーは、プレフィクスの数が上限に達するまで保持する。
+     *
+     * @param prefix Mapに入ったキーのプレフィクス。プレフィクスを使用しない場合は{@code null}または空文字
+     * @return パラメータのキー
+     */
+    PropertyKeyTable getPropertyKeyTable(String prefix) {
+        String path = prefix == null ? "" : prefix;
+        PropertyKeyTable keyTable = keyTables.get(path);
+        if (keyTable != null) {
+            return keyTable;
+        }
+        keyTable = new PropertyKeyTable(definition, path);
+        if (keyTables.size() < MAX_CACHED_KEY_TABLES) {
+            PropertyKeyTable current = keyTables.putIfAbsent(path, keyTable);
+            if (current != null) {
+                return current;
+            }
+        }
+        return keyTable;
+    }
+
+    /**
+     * プロパティの実行計画を全て取得する。<br/>
+     * 取得したリストは変更できない。
+     *
+     * @return プロパティの実行計画のリスト
+     */
+    public List<PropertyValidationPlan> getPropertyValidationPlans() {
+        return propertyPlans;
+    }
+
+    /**
+     * プロパティ名にマッチしたプロパティの実行計画を取得する。
+     *
+     * @param propertyName プロパティ名
+     * @return プロパティ名にマッチしたプロパティの実行計画
+     */
+    public PropertyValidationPlan getPropertyValidationPlan(String propertyName) {
+        PropertyValidationPlan plan = propertyPlanMap.get(propertyName);
+        if (plan == null) {
+            throw new IllegalArgumentException("Couldn't find property. "
+                    + "class name = " + definition.getFormClass().getName()
+                    + ", property name = " + propertyName);
+        }
+        return plan;
+    }
+}
@@ -0,0 +1,91 @@
+package nablarch.core.validation;
+
+import java.util.Locale;
+
+import nablarch.core.message.MessageUtil;
+import nablarch.core.message.StringResource;
+
+/**
+ * 初回の文言取得時にメッセージIDに対応する{@link StringResource}を取得する{@link StringResource}実装クラス。
+ * <p/>
+ * メッセージIDの取得では{@link StringResource}を取得しないため、
+ * メッセージIDのみを使用する場合はメッセージの取得処理が行われない。
+ * <p/>
+ * 取得した{@link StringResource}は保持し、以降の文言取得で再利用する。
+ * 複数スレッドから同時に文言を取得した場合は、{@link StringResource}が複数回取得される可能性がある。
+ *
+ * @author TIS
+ */
+final class LazyStringResource implements StringResource {
+
+    /** メッセージID。 */
+    private final String id;
+
+    /** 取得した{@link StringResource}。取得前は{@code null}。 */
+    private volatile StringResource resource;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param id メッセージID
+     */
+    LazyStringResource(String id) {
+        this.id = id;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * {@link StringResource}は取得しない。
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * {@link StringResource}を取得していない場合は取得する。
+     *
+     * @throws nablarch.core.message.MessageNotFoundException メッセージIDに対応するメッセージが存在しない場合
+     */
+    public String getValue(Locale locale) {
+        return resolve().getValue(locale);
+    }
+
+    /**
+     * {@link StringResource}を取得済みか否かを判定する。
+     *
+     * @return 取得済みの場合は{@code true}
+     */
+    boolean isResolved() {
+        return resource != null;
+    }
+
+    /**
+     * {@link StringResource}を取得する。
+     * <p/>
+     * 取得済みの場合は保持している{@link StringResource}を返す。
+     *
+     * @return メッセージIDに対応する{@link StringResource}
+     */
+    StringResource resolve() {
+        StringResource current = resource;
+        if (current == null) {
+            current = MessageUtil.getStringResource(id);
+            resource = current;
+        }
+        return current;
+    }
+
+    /**
+     * 取得済みの{@link StringResource}を設定する。
+     * <p/>
+     * 同じメッセージIDの{@link StringResource}をまとめて取得した場合に使用する。
+     *
+     * @param resource メッセージIDに対応する{@link StringResource}
+     */
+    void setResolved(StringResource resource) {
+        this.resource = resource;
+    }
+}
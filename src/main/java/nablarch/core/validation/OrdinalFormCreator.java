@@ -0,0 +1,37 @@
+package nablarch.core.validation;
+
+import java.util.BitSet;
+
+import nablarch.core.util.annotation.Published;
+
+/**
+ * プロパティの序数を添字とする配列から、フォームを生成するインタフェース。
+ * <p/>
+ * {@link ValidationContext}は、フォームに紐付けられたバリデーションの設定が設定されており、
+ * 全ての変換後の値がフォームのプロパティのものである場合、本インタフェースのメソッドでフォームを生成する。
+ * 変換後の値を保持する配列からそのままフォームを生成するため、プロパティ名をキーとするMapを作成する必要がない。
+ * <p/>
+ * フォームのプロパティ以外の変換後の値がある場合は{@link #create(Class, java.util.Map, FormValidationDefinition)}で生成する。
+ * このとき渡されるMapは{@link ValidationContext}が再利用するため、変更したり、生成したフォームに保持させたりしてはならない。
+ *
+ * @author TIS
+ * @see FormValidationDefinition#getPropertyOrdinal(String)
+ */
+@Published(tag = "architect")
+public interface OrdinalFormCreator extends FormCreator {
+
+    /**
+     * フォームを作成する。
+     * <p/>
+     * 配列とBitSetは{@link ValidationContext}が保持しているものであるため、変更したり、保持したりしてはならない。
+     *
+     * @param <T> 作成するフォームの型
+     * @param targetClass フォームのクラス
+     * @param formValidationDefinition FormValidationDefinition
+     * @param propertyValues プロパティの序数を添字とする、フォームのプロパティにセットする値の配列
+     * @param assignedOrdinals 値が設定されたプロパティの序数
+     * @return 生成し、プロパティがセットされたフォーム
+     */
+    <T> T create(Class<T> targetClass, FormValidationDefinition formValidationDefinition,
+            Object[] propertyValues, BitSet assignedOrdinals);
+}
@@ -0,0 +1,187 @@
+package nablarch.core.validation;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import nablarch.core.ThreadContext;
+
+/**
+ * フォームの配列の要素のバリデーションを、複数スレッドで実行するクラス。
+ * <p/>
+ * 要素を一定数毎のまとまりに分割し、呼び出し元のスレッドと{@link Executor}のスレッドで分担してバリデーションする。
+ * 呼び出し元のスレッドも未処理のまとまりがなくなるまでバリデーションを行うため、
+ * {@link Executor}のスレッドが全て使用中の場合や、入れ子になったフォームの配列を同じ{@link Executor}で
+ * バリデーションする場合もデッドロックしない。
+ * <p/>
+ * {@link Executor}のスレッドでは、呼び出し元のスレッドの{@link ThreadContext}の値を引き継いでバリデーションを行う。
+ *
+ * @author TIS
+ */
+final class ParallelFormArrayValidation {
+
+    /** 1つのスレッドがまとめてバリデーションする要素の数。 */
+    static final int CHUNK_SIZE = 32;
+
+    /**
+     * 要素のバリデーションを行うインタフェース。
+     */
+    interface ElementValidation {
+
+        /**
+         * 要素のバリデーションを行う。
+         *
+         * @param index 要素の添字
+         * @return 要素のバリデーション結果の入ったValidationContext
+         */
+        ValidationContext<?> validate(int index);
+    }
+
+    /** 隠蔽コンストラクタ。 */
+    private ParallelFormArrayValidation() {
+    }
+
+    /**
+     * 全ての要素のバリデーションを行う。
+     * <p/>
+     * 全ての要素のバリデーションが終了するまで、呼び出し元のスレッドは待機する。
+     * バリデーション中に例外が発生した場合は、全ての要素のバリデーションが終了した後に、呼び出し元のスレッドで送出する。
+     *
+     * @param executor バリデーションを実行する{@link Executor}
+     * @param results 要素のバリデーション結果を格納する配列。要素の数と同じ長さであること
+     * @param validation 要素のバリデーション
+     */
+    static void run(Executor executor, ValidationContext<?>[] results, ElementValidation validation) {
+        int chunks = (results.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        Runner runner = new Runner(results, validation, chunks, Thread.currentThread());
+        for (int i = 1; i < chunks; i++) {
+            try {
+                executor.execute(runner);
+            } catch (RejectedExecutionException e) {
+                // 呼び出し元のスレッドで処理する。
+                break;
+            }
+        }
+        runner.run();
+        runner.await();
+    }
+
+    /**
+     * 未処理の要素のまとまりがなくなるまで、要素のバリデーションを行うクラス。
+     */
+    private static final class Runner implements Runnable {
+
+        /** 要素のバリデーション結果を格納する配列。 */
+        private final ValidationContext<?>[] results;
+
+        /** 要素のバリデーション。 */
+        private final ElementValidation validation;
+
+        /** 要素のまとまりの数。 */
+        private final int chunks;
+
+        /** 呼び出し元のスレッド。 */
+        private final Thread caller;
+
+        /** 呼び出し元のスレッドの{@link ThreadContext}の値。 */
+        private final ThreadContextSnapshot threadContext = new ThreadContextSnapshot();
+
+        /** 次に処理する要素のまとまり。 */
+        private final AtomicInteger nextChunk = new AtomicInteger();
+
+        /** 処理が終了した要素のまとまりを数えるラッチ。 */
+        private final CountDownLatch finished;
+
+        /** 最初に発生した例外。 */
+        private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+        /**
+         * コンストラクタ。
+         *
+         * @param results 要素のバリデーション結果を格納する配列
+         * @param validation 要素のバリデーション
+         * @param chunks 要素のまとまりの数
+         * @param caller 呼び出し元のスレッド
+         */
+        Runner(ValidationContext<?>[] results, ElementValidation validation, int chunks, Thread caller) {
+            this.results = results;
+            this.validation = validation;
+            this.chunks = chunks;
+            this.caller = caller;
+            this.finished = new CountDownLatch(chunks);
+        }
+
+        /**
+         * 未処理の要素のまとまりがなくなるまで、要素のバリデーションを行う。
+         */
+        public void run() {
+            if (nextChunk.get() >= chunks) {
+                return;
+            }
+            if (Thread.currentThread() == caller) {
+                runChunks();
+                return;
+            }
+            Object[] previous = threadContext.apply();
+            try {
+                runChunks();
+            } finally {
+                threadContext.restore(previous);
+            }
+        }
+
+        /**
+         * 未処理の要素のまとまりを取得し、バリデーションを行う。
+         */
+        private void runChunks() {
+            int chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                try {
+                    if (failure.get() == null) {
+                        int end = Math.min(results.length, (chunk + 1) * CHUNK_SIZE);
+                        for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                            results[i] = validation.validate(i);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    finished.countDown();
+                }
+            }
+        }
+
+        /**
+         * 全ての要素のまとまりの処理が終了するまで待機する。
+         * <p/>
+         * 処理中に例外が発生した場合は送出する。
+         */
+        void await() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    finished.await();
+                    break;
+                } catch (InterruptedException e) {
+                    // 他のスレッドが処理中の要素があるため、終了するまで待機する。
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable e = failure.get();
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            if (e != null) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
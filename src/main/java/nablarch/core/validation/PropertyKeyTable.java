@@ -0,0 +1,176 @@
+package nablarch.core.validation;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * フォームのプロパティに対応するパラメータのキーを保持するクラス。
+ * <p/>
+ * プレフィクスを付与したパラメータのキーを、{@link FormValidationDefinition#getPropertyOrdinal(String)}の序数毎に保持する。
+ * また、子フォームと、フォームの配列の要素のキーを保持する{@link PropertyKeyTable}を保持する。
+ * これにより、同じ構造の入力値をバリデーションする際に、パラメータのキーを都度連結せずに再利用できる。
+ * <p/>
+ * フォームの配列の要素は、添字が{@link #MAX_CACHED_ELEMENTS}未満のもののみを保持する。
+ * 要素を保持する配列は容量を超えた場合のみ倍の長さに拡張し、要素は配列の位置毎に格納するため、
+ * 要素数に比例した回数のコピーで全ての要素を保持できる。
+ * <p/>
+ * 本クラスはスレッドセーフである。
+ *
+ * @author TIS
+ */
+final class PropertyKeyTable {
+
+    /** 保持するフォームの配列の要素の数の上限。 */
+    static final int MAX_CACHED_ELEMENTS = 1024;
+
+    /** フォームの配列の要素を保持する配列の初期の長さ。 */
+    private static final int INITIAL_ELEMENT_CAPACITY = 16;
+
+    /** フォームに紐付けられたバリデーションの設定。 */
+    private final FormValidationDefinition definition;
+
+    /** フォームのパス。プレフィクスの末尾の"."を除いた値。 */
+    private final String path;
+
+    /** パラメータのキーのプレフィクス。 */
+    private final String prefix;
+
+    /** プロパティの序数を添字とするパラメータのキー。 */
+    private final String[] keys;
+
+    /**
+     * プロパティの序数を添字とする、子フォームの{@link PropertyKeyTable}、
+     * またはフォームの配列の要素の{@link PropertyKeyTable}を保持する{@link AtomicReferenceArray}。
+     */
+    private final AtomicReferenceArray<Object> children;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param definition フォームに紐付けられたバリデーションの設定
+     * @param path フォームのパス。プレフィクスを使用しない場合は空文字
+     */
+    PropertyKeyTable(FormValidationDefinition definition, String path) {
+        this.definition = definition;
+        this.path = path;
+        this.prefix = path.length() == 0 ? "" : path + '.';
+        int count = definition.getPropertyCount();
+        keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = prefix + definition.getPropertyName(i);
+        }
+        children = new AtomicReferenceArray<Object>(count);
+    }
+
+    /**
+     * フォームに紐付けられたバリデーションの設定を取得する。
+     *
+     * @return フォームに紐付けられたバリデーションの設定
+     */
+    FormValidationDefinition getFormValidationDefinition() {
+        return definition;
+    }
+
+    /**
+     * フォームのパスを取得する。
+     *
+     * @return フォームのパス
+     */
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * パラメータのキーのプレフィクスを取得する。
+     *
+     * @return パラメータのキーのプレフィクス
+     */
+    String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * プロパティに対応するパラメータのキーを取得する。
+     *
+     * @param ordinal プロパティの序数
+     * @return パラメータのキー
+     */
+    String getKey(int ordinal) {
+        return keys[ordinal];
+    }
+
+    /**
+     * 子フォームの{@link PropertyKeyTable}を取得する。
+     *
+     * @param ordinal 子フォームのプロパティの序数
+     * @param childDefinition 子フォームに紐付けられたバリデーションの設定
+     * @return 子フォームの{@link PropertyKeyTable}
+     */
+    PropertyKeyTable getChild(int ordinal, FormValidationDefinition childDefinition) {
+        Object current = children.get(ordinal);
+        if (current instanceof PropertyKeyTable
+                && ((PropertyKeyTable) current).definition == childDefinition) {
+            return (PropertyKeyTable) current;
+        }
+        PropertyKeyTable child = new PropertyKeyTable(childDefinition, keys[ordinal]);
+        children.set(ordinal, child);
+        return child;
+    }
+
+    /**
+     * フォームの配列の要素の{@link PropertyKeyTable}を取得する。
+     *
+     * @param ordinal フォームの配列のプロパティの序数
+     * @param index 要素の添字
+     * @param elementDefinition 要素のフォームに紐付けられたバリデーションの設定
+     * @return 要素の{@link PropertyKeyTable}
+     */
+    PropertyKeyTable getElement(int ordinal, int index, FormValidationDefinition elementDefinition) {
+        if (index >= MAX_CACHED_ELEMENTS) {
+            return new PropertyKeyTable(elementDefinition, keys[ordinal] + '[' + index + ']');
+        }
+        AtomicReferenceArray<PropertyKeyTable> elements = getElements(ordinal, index);
+        PropertyKeyTable current = elements.get(index);
+        if (current != null && current.definition == elementDefinition) {
+            return current;
+        }
+        PropertyKeyTable element = new PropertyKeyTable(elementDefinition, keys[ordinal] + '[' + index + ']');
+        if (elements.compareAndSet(index, current, element)) {
+            return element;
+        }
+        // 他のスレッドが格納した要素を使用する
+        PropertyKeyTable stored = elements.get(index);
+        return stored != null && stored.definition == elementDefinition ? stored : element;
+    }
+
+    /**
+     * フォームの配列の要素の{@link PropertyKeyTable}を保持する配列を取得する。
+     * <p/>
+     * 配列が存在しない場合や、添字が配列の長さ以上の場合は、配列を作成または拡張する。
+     * 拡張中に他のスレッドが拡張前の配列に格納した要素は失われることがあるが、次回の取得時に作成し直される。
+     *
+     * @param ordinal フォームの配列のプロパティの序数
+     * @param index 要素の添字
+     * @return 要素の{@link PropertyKeyTable}を保持する配列
+     */
+    @SuppressWarnings("unchecked")
+    private AtomicReferenceArray<PropertyKeyTable> getElements(int ordinal, int index) {
+        while (true) {
+            Object current = children.get(ordinal);
+            AtomicReferenceArray<PropertyKeyTable> elements = current instanceof AtomicReferenceArray
+                    ? (AtomicReferenceArray<PropertyKeyTable>) current : null;
+            int length = elements == null ? 0 : elements.length();
+            if (index < length) {
+                return elements;
+            }
+            int newLength = Math.min(Math.max(Math.max(index + 1, length * 2), INITIAL_ELEMENT_CAPACITY),
+                    MAX_CACHED_ELEMENTS);
+            AtomicReferenceArray<PropertyKeyTable> grown = new AtomicReferenceArray<PropertyKeyTable>(newLength);
+            for (int i = 0; i < length; i++) {
+                grown.set(i, elements.get(i));
+            }
+            if (children.compareAndSet(ordinal, current, grown)) {
+                return grown;
+            }
+        }
+    }
+}
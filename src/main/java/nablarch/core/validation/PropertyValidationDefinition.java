@@ -49,6 +49,21 @@ public class PropertyValidationDefinition {
      */
     private List<Annotation> validatorAnnotations;
 
+    /**
+     * プロパティのセッタメソッド。
+     */
+    private Method setter;
+
+    /**
+     * フォームのクラス。
+     */
+    private Class<?> formClass;
+
+    /**
+     * オーバライドしたメソッドの定義。
+     */
+    private PropertyValidationDefinition overrideMethodDefinition;
+
     /**
      * コンストラクタ。
      * @param formClass フォームのクラス
@@ -56,6 +71,9 @@ public class PropertyValidationDefinition {
      * @param overrideMethodDefinition オーバライドしたメソッドの定義
      */
     public PropertyValidationDefinition(Class<?> formClass, Method setter, PropertyValidationDefinition overrideMethodDefinition) {
+        this.setter = setter;
+        this.formClass = formClass;
+        this.overrideMethodDefinition = overrideMethodDefinition;
         name = ObjectUtil.getPropertyNameFromSetter(setter);
         type = setter.getParameterTypes()[0];
 
@@ -151,4 +169,28 @@ public class PropertyValidationDefinition {
     public List<Annotation> getValidatorAnnotations() {
         return validatorAnnotations;
     }
+
+    /**
+     * プロパティのセッタメソッドを取得する。
+     * @return プロパティのセッタメソッド
+     */
+    public Method getSetter() {
+        return setter;
+    }
+
+    /**
+     * フォームのクラスを取得する。
+     * @return フォームのクラス
+     */
+    Class<?> getFormClass() {
+        return formClass;
+    }
+
+    /**
+     * オーバライドしたメソッドの定義を取得する。
+     * @return オーバライドしたメソッドの定義。存在しない場合は{@code null}
+     */
+    PropertyValidationDefinition getOverrideMethodDefinition() {
+        return overrideMethodDefinition;
+    }
 }
@@ -0,0 +1,287 @@
+package nablarch.core.validation;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * プロパティに対するバリデーションと変換の実行計画を保持するクラス。
+ * <p/>
+ * {@link PropertyValidationDefinition}を元に、使用する{@link Convertor}、{@link Validator}、
+ * コンバータに渡すフォーマットアノテーション、表示名の解決方法を事前に解決して保持する。
+ * バリデータは、バリデーションアノテーション毎に{@link CompiledValidator}を生成して保持する。
+ * リクエスト毎にコンバータやバリデータを検索する必要がないため、バリデーション処理を高速に実行できる。
+ * <p/>
+ * 本クラスは不変であり、複数スレッドから同時に使用できる。
+ *
+ * @author TIS
+ * @see FormValidationPlan
+ */
+public class PropertyValidationPlan {
+
+    /**
+     * プロパティの種類。
+     */
+    public enum Kind {
+        /** コンバータとバリデータで処理するプロパティ */
+        PROPERTY,
+        /** {@link ValidationTarget}が設定されたフォームのプロパティ */
+        FORM,
+        /** {@link ValidationTarget}が設定されたフォームの配列のプロパティ */
+        FORM_ARRAY
+    }
+
+    /**
+     * プロパティの表示名の解決方法。
+     */
+    public enum DisplayNameType {
+        /** 固定の文字列を表示名とする */
+        FIXED,
+        /** メッセージを表示名とする */
+        MESSAGE,
+        /** メッセージを表示名とし、メッセージが存在しない場合はプロパティ名を表示名とする */
+        MESSAGE_OR_PROPERTY_NAME,
+        /** {@link ValidationManager#createPropertyDisplayNameObject}で表示名を作成する */
+        CUSTOM
+    }
+
+    /** プロパティの定義。 */
+    private final PropertyValidationDefinition definition;
+
+    /** プロパティの種類。 */
+    private final Kind kind;
+
+    /** バリデーション対象のフォームのクラス。 */
+    private final Class<?> formType;
+
+    /** ValidationTargetアノテーション。 */
+    private final ValidationTarget validationTarget;
+
+    /** コンバータ。 */
+    private final Convertor convertor;
+
+    /** コンバータに渡すフォーマットアノテーション。 */
+    private final Annotation formatAnnotation;
+
+    /** バリデータのリスト。 */
+    private final List<Validator> validators;
+
+    /** バリデーションアノテーションのリスト。 */
+    private final List<Annotation> validatorAnnotations;
+
+    /** バリデーションアノテーション毎に生成した{@link CompiledValidator}のリスト。 */
+    private final List<CompiledValidator> compiledValidators;
+
+    /** 表示名の解決方法。 */
+    private final DisplayNameType displayNameType;
+
+    /** 表示名、または表示名のメッセージID。 */
+    private final String displayName;
+
+    /**
+     * コンストラクタ。
+     * <p/>
+     * プロパティの種類は、プロパティの定義に設定された{@link ValidationTarget}の有無とプロパティの型から決定する。
+     *
+     * @param definition       プロパティの定義
+     * @param convertor        コンバータ({@link ValidationTarget}が設定されている場合や、サポートされない型の場合は{@code null})
+     * @param formatAnnotation コンバータに渡すフォーマットアノテーション
+     * @param validators       バリデータの配列(要素はプロパティの定義のバリデーションアノテーションに対応し、サポートされない場合は{@code null})
+     * @param displayNameType  表示名の解決方法
+     * @param displayName      表示名、または表示名のメッセージID
+     */
+    public PropertyValidationPlan(PropertyValidationDefinition definition, Convertor convertor,
+            Annotation formatAnnotation, Validator[] validators, DisplayNameType displayNameType, String displayName) {
+        this.definition = definition;
+        Annotation convertorFormatAnnotation = definition.getConvertorFormatAnnotation();
+        if (convertorFormatAnnotation instanceof ValidationTarget) {
+            validationTarget = (ValidationTarget) convertorFormatAnnotation;
+            Class<?> type = definition.getType();
+            if (type.isArray()) {
+                kind = Kind.FORM_ARRAY;
+                formType = type.getComponentType();
+            } else {
+                kind = Kind.FORM;
+                formType = type;
+            }
+        } else {
+            validationTarget = null;
+            kind = Kind.PROPERTY;
+            formType = null;
+        }
+        this.convertor = convertor;
+        this.formatAnnotation = formatAnnotation;
+        this.validators = toList(validators);
+        this.validatorAnnotations = toList(definition);
+        this.compiledValidators = compile(this.validators, this.validatorAnnotations);
+        this.displayNameType = displayNameType;
+        this.displayName = displayName;
+    }
+
+    /**
+     * バリデータの配列を変更不可能なリストに変換する。
+     *
+     * @param validators バリデータの配列
+     * @return 変更不可能なリスト
+     */
+    private static List<Validator> toList(Validator[] validators) {
+        return Collections.unmodifiableList(Arrays.asList(validators.clone()));
+    }
+
+    /**
+     * プロパティの定義からバリデーションアノテーションの変更不可能なリストを作成する。
+     *
+     * @param definition プロパティの定義
+     * @return 変更不可能なリスト
+     */
+    private static List<Annotation> toList(PropertyValidationDefinition definition) {
+        List<Annotation> annotations = definition.getValidatorAnnotations();
+        return Collections.unmodifiableList(Arrays.asList(annotations.toArray(new Annotation[annotations.size()])));
+    }
+
+    /**
+     * バリデーションアノテーション毎に{@link CompiledValidator}を生成し、変更不可能なリストに変換する。
+     *
+     * @param validators バリデータのリスト
+     * @param annotations バリデーションアノテーションのリスト
+     * @return 変更不可能なリスト(サポートされないバリデーションアノテーションに対応する要素は{@code null})
+     */
+    private static List<CompiledValidator> compile(List<Validator> validators, List<Annotation> annotations) {
+        CompiledValidator[] compiled = new CompiledValidator[validators.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            Validator validator = validators.get(i);
+            if (validator != null) {
+                compiled[i] = ValidatorCompiler.compile(validator, annotations.get(i));
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(compiled));
+    }
+
+    /**
+     * プロパティの定義を取得する。
+     *
+     * @return プロパティの定義
+     */
+    public PropertyValidationDefinition getPropertyValidationDefinition() {
+        return definition;
+    }
+
+    /**
+     * プロパティ名を取得する。
+     *
+     * @return プロパティ名
+     */
+    public String getName() {
+        return definition.getName();
+    }
+
+    /**
+     * プロパティの種類を取得する。
+     *
+     * @return プロパティの種類
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * バリデーション対象のフォームのクラスを取得する。
+     * <p/>
+     * プロパティの種類が{@link Kind#FORM_ARRAY}の場合は、配列の要素のクラスを返す。
+     *
+     * @return バリデーション対象のフォームのクラス。{@link ValidationTarget}が設定されていない場合は{@code null}
+     */
+    public Class<?> getFormType() {
+        return formType;
+    }
+
+    /**
+     * ValidationTargetアノテーションを取得する。
+     *
+     * @return ValidationTargetアノテーション。設定されていない場合は{@code null}
+     */
+    public ValidationTarget getValidationTarget() {
+        return validationTarget;
+    }
+
+    /**
+     * コンバータを取得する。
+     *
+     * @return コンバータ。プロパティの型がサポートされていない場合は{@code null}
+     */
+    public Convertor getConvertor() {
+        return convertor;
+    }
+
+    /**
+     * コンバータに渡すフォーマットアノテーションを取得する。
+     *
+     * @return コンバータに渡すフォーマットアノテーション
+     */
+    public Annotation getFormatAnnotation() {
+        return formatAnnotation;
+    }
+
+    /**
+     * バリデータのリストを取得する。
+     * <p/>
+     * 各要素は{@link #getValidatorAnnotations()}の同じ位置の要素に対応する。
+     * サポートされないバリデーションアノテーションに対応する要素は{@code null}となる。
+     *
+     * @return バリデータのリスト
+     */
+    public List<Validator> getValidators() {
+        return validators;
+    }
+
+    /**
+     * バリデーションアノテーションのリストを取得する。
+     *
+     * @return バリデーションアノテーションのリスト
+     */
+    public List<Annotation> getValidatorAnnotations() {
+        return validatorAnnotations;
+    }
+
+    /**
+     * バリデーションアノテーション毎に生成した{@link CompiledValidator}のリストを取得する。
+     * <p/>
+     * 各要素は{@link #getValidatorAnnotations()}の同じ位置の要素に対応する。
+     * サポートされないバリデーションアノテーションに対応する要素は{@code null}となる。
+     *
+     * @return {@link CompiledValidator}のリスト
+     */
+    public List<CompiledValidator> getCompiledValidators() {
+        return compiledValidators;
+    }
+
+    /**
+     * 表示名の解決方法を取得する。
+     *
+     * @return 表示名の解決方法
+     */
+    public DisplayNameType getDisplayNameType() {
+        return displayNameType;
+    }
+
+    /**
+     * 表示名を取得する。
+     * <p/>
+     * 表示名の解決方法がメッセージを使用するものである場合は、メッセージIDを返す。
+     *
+     * @return 表示名、または表示名のメッセージID
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * サポートされていない型やバリデーションアノテーションを持つかどうかを判定する。
+     *
+     * @return サポートされていない型やバリデーションアノテーションを持つ場合は{@code true}
+     */
+    public boolean hasUnsupportedDefinition() {
+        return (kind == Kind.PROPERTY && convertor == null) || validators.contains(null);
+    }
+}
@@ -0,0 +1,78 @@
+package nablarch.core.validation;
+
+import nablarch.core.ThreadContext;
+
+/**
+ * 別スレッドでバリデーションを行うために、{@link ThreadContext}の値を保持するクラス。
+ * <p/>
+ * 生成したスレッドの{@link ThreadContext}の値を保持し、別のスレッドに設定する。
+ *
+ * @author TIS
+ */
+final class ThreadContextSnapshot {
+
+    /** 引き継ぐ{@link ThreadContext}のキー。 */
+    private static final String[] KEYS = {
+            ThreadContext.LANG_KEY,
+            ThreadContext.TIME_ZONE_KEY,
+            ThreadContext.USER_ID_KEY,
+            ThreadContext.REQUEST_ID_KEY,
+            ThreadContext.INTERNAL_REQUEST_ID_KEY,
+            ThreadContext.EXECUTION_ID_KEY,
+            ThreadContext.CONCURRENT_NUMBER_KEY
+    };
+
+    /** 生成したスレッドの{@link ThreadContext}の値。 */
+    private final Object[] values;
+
+    /**
+     * 現在のスレッドの{@link ThreadContext}の値を保持する。
+     */
+    ThreadContextSnapshot() {
+        values = capture();
+    }
+
+    /**
+     * 保持している値を、現在のスレッドの{@link ThreadContext}に設定する。
+     *
+     * @return 設定前の現在のスレッドの{@link ThreadContext}の値。{@link #restore(Object[])}に渡すこと
+     */
+    Object[] apply() {
+        Object[] previous = capture();
+        set(values);
+        return previous;
+    }
+
+    /**
+     * {@link #apply()}で設定する前の値を、現在のスレッドの{@link ThreadContext}に戻す。
+     *
+     * @param previous {@link #apply()}の戻り値
+     */
+    void restore(Object[] previous) {
+        set(previous);
+    }
+
+    /**
+     * 現在のスレッドの{@link ThreadContext}の値を取得する。
+     *
+     * @return {@link ThreadContext}の値
+     */
+    private static Object[] capture() {
+        Object[] captured = new Object[KEYS.length];
+        for (int i = 0; i < KEYS.length; i++) {
+            captured[i] = ThreadContext.getObject(KEYS[i]);
+        }
+        return captured;
+    }
+
+    /**
+     * 現在のスレッドの{@link ThreadContext}に値を設定する。
+     *
+     * @param target 設定する値
+     */
+    private static void set(Object[] target) {
+        for (int i = 0; i < KEYS.length; i++) {
+            ThreadContext.setObject(KEYS[i], target[i]);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package nablarch.core.validation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -19,6 +21,11 @@ import nablarch.core.util.annotation.Published;
 
 /**
  * バリデーション実行中の情報を保持するクラス。
+ * <p/>
+ * {@link #setFormValidationDefinition(FormValidationDefinition)}でフォームの設定が設定された場合、
+ * フォームのプロパティの変換後の値とバリデーション状態は、
+ * {@link FormValidationDefinition#getPropertyOrdinal(String)}の序数を添字とする配列と{@link BitSet}で保持する。
+ * フォームのプロパティ以外の値は、プロパティ名をキーとするコレクションで保持する。
  *
  * @param <T> バリデーション結果で取得できる型
  * @see Message
@@ -44,9 +51,41 @@ public class ValidationContext<T> {
     private Map<String, ?> params;
 
     /**
-     * 変換後オブジェクトのマップ。
+     * 変換後オブジェクトのマップ。<br/>
+     * フォームの設定が設定されている場合は、フォームのプロパティ以外の値のみを保持する。
      */
     private Map<String, Object> convertedValues;
+
+    /**
+     * {@link FormCreator}に渡す変換後オブジェクトのMap。<br/>
+     * フォームの設定が設定されており、{@link OrdinalFormCreator}を使用する場合に、コンテキスト毎に1度だけ作成して再利用する。
+     */
+    private Map<String, Object> formCreatorValues;
+
+    /**
+     * {@link #formCreatorValues}の内容が変換後オブジェクトと一致していないかどうか。
+     */
+    private boolean formCreatorValuesStale = true;
+
+    /**
+     * プロパティの序数を添字とする変換後オブジェクトの配列。
+     */
+    private Object[] convertedValueArray;
+
+    /**
+     * 変換後オブジェクトが設定されたプロパティの序数。
+     */
+    private BitSet convertedOrdinals;
+
+    /**
+     * バリデーション結果がvalidでないプロパティの序数。
+     */
+    private BitSet invalidOrdinals;
+
+    /**
+     * バリデーション実行済みのプロパティの序数。
+     */
+    private BitSet processedOrdinals;
     /**
      * バリデーションの対象クラス。
      */
@@ -63,15 +102,82 @@ public class ValidationContext<T> {
     private FormCreator formCreator;
 
     /**
-     * バリデーション結果がvalidでないプロパティの名前
+     * バリデーション対象のフォームに紐付けられたバリデーションの設定。
+     */
+    private FormValidationDefinition formValidationDefinition;
+
+    /**
+     * バリデーション結果がvalidでないプロパティの名前。<br/>
+     * フォームの設定が設定されている場合は、フォームのプロパティ以外の名前のみを保持する。
      */
     private Set<String> invalidPropertyNames;
 
     /**
-     * バリデーション実行済みのプロパティ名のセット。
+     * バリデーション実行済みのプロパティ名のセット。<br/>
+     * フォームの設定が設定されている場合は、フォームのプロパティ以外の名前のみを保持する。
      */
     private Set<String> processedProperties;
 
+    /**
+     * バリデーション結果メッセージのメッセージの取得を遅延するかどうか。
+     */
+    private boolean lazyMessageResolution;
+
+    /**
+     * フォームのプロパティに対応するパラメータのキー。
+     */
+    private PropertyKeyTable propertyKeyTable;
+
+    /**
+     * 直前に序数を取得したプロパティ名。
+     */
+    private String lastPropertyName;
+
+    /**
+     * 直前に取得したプロパティの序数。
+     */
+    private int lastPropertyOrdinal;
+
+    /**
+     * バリデーションを打ち切るメッセージの件数。0の場合は打ち切らない。
+     */
+    private int maxMessageCount;
+
+    /**
+     * フォームの配列のバリデーションを、最初にバリデーションエラーとなった要素で打ち切るかどうか。
+     */
+    private boolean formArrayFailFast;
+
+    /**
+     * {@link #getMessages()}でメッセージのリストを公開したかどうか。
+     */
+    private boolean messagesExposed;
+
+    /**
+     * 再利用可能なコンテキストかどうか。
+     */
+    private boolean reusable;
+
+    /**
+     * プレフィクスをキーとする、子フォームのコンテキストのMap。
+     */
+    private Map<String, ValidationContext<?>> childContexts;
+
+    /**
+     * 処理の所要時間と結果を通知する{@link ValidationListener}。通知しない場合は{@code null}。
+     */
+    private ValidationListener validationListener;
+
+    /**
+     * 親のフォームのコンテキスト。子フォームのコンテキストでない場合は{@code null}。
+     */
+    private ValidationContext<?> parentContext;
+
+    /**
+     * パラメータのキーの接尾辞の判定結果。判定していない場合は{@code null}。
+     */
+    private ParameterKeyScan parameterKeyScan;
+
     /**
      * {@code ValidationContext}オブジェクトを生成する。
      *
@@ -90,10 +196,7 @@ public class ValidationContext<T> {
         this.params = params;
         this.validateFor = validateFor;
 
-        processedProperties = new HashSet<String>();
         messages = new ArrayList<Message>();
-        convertedValues = new HashMap<String, Object>();
-        invalidPropertyNames = new HashSet<String>();
     }
 
     /**
@@ -135,17 +238,20 @@ public class ValidationContext<T> {
                 while (endIndex != -1) {
                     endIndex = propertyName.indexOf('.', endIndex);
                     if (endIndex != -1) {
-                        invalidPropertyNames.add(propertyName.substring(0, endIndex));
+                        addInvalidPropertyName(propertyName.substring(0, endIndex));
                         endIndex++;
                     }
                 }
-                invalidPropertyNames.add(propertyName);
+                addInvalidPropertyName(propertyName);
             }
         }
     }
     
     /**
      * バリデーション結果を追加する。
+     * <p/>
+     * メッセージの取得を遅延する設定の場合は、メッセージIDのみを保持し、
+     * メッセージはバリデーション結果メッセージの文言を取得する際に取得する。
      * 
      * @param propertyName プロパティ名
      * @param messageId バリデーション結果メッセージのメッセージID
@@ -157,12 +263,49 @@ public class ValidationContext<T> {
         if (StringUtil.isNullOrEmpty(propertyName)) {
             throw new IllegalArgumentException("property name was not specified");
         }
-        StringResource message = getMessage(messageId);
-        ValidationResultMessage resultMessage = new ValidationResultMessage(prefix + propertyName, message, params);
+        StringResource message = lazyMessageResolution ? new LazyStringResource(messageId) : getMessage(messageId);
+        ValidationResultMessage resultMessage = new ValidationResultMessage(getParameterKey(propertyName), message, params);
         messages.add(resultMessage);
         
         // validでないプロパティの名前を追加する。
-        invalidPropertyNames.add(propertyName);
+        addInvalidPropertyName(propertyName);
+    }
+
+    /**
+     * バリデーション結果がvalidでないプロパティの名前を追加する。
+     *
+     * @param propertyName プロパティ名
+     */
+    private void addInvalidPropertyName(String propertyName) {
+        int ordinal = getPropertyOrdinal(propertyName);
+        if (ordinal >= 0) {
+            invalidOrdinals.set(ordinal);
+        } else {
+            if (invalidPropertyNames == null) {
+                invalidPropertyNames = new HashSet<String>();
+            }
+            invalidPropertyNames.add(propertyName);
+        }
+    }
+
+    /**
+     * プロパティの序数を取得する。
+     *
+     * @param propertyName プロパティ名
+     * @return プロパティの序数。フォームの設定が設定されていない場合や、フォームのプロパティでない場合は-1
+     */
+    private int getPropertyOrdinal(String propertyName) {
+        if (convertedValueArray == null) {
+            return -1;
+        }
+        // 同じプロパティに対する操作は連続するため、直前の結果を再利用する。
+        if (propertyName == lastPropertyName) {
+            return lastPropertyOrdinal;
+        }
+        int ordinal = formValidationDefinition.getPropertyOrdinal(propertyName);
+        lastPropertyName = propertyName;
+        lastPropertyOrdinal = ordinal;
+        return ordinal;
     }
 
     /**
@@ -187,7 +330,14 @@ public class ValidationContext<T> {
         if (!isValid()) {
             throw new IllegalStateException("Validation context is not valid.");
         }
-        return formCreator.create(targetClass, convertedValues, null);
+        ValidationListener listener = validationListener;
+        if (listener == null) {
+            return createForm();
+        }
+        long start = System.nanoTime();
+        T form = createForm();
+        listener.formCreated(targetClass, System.nanoTime() - start);
+        return form;
     }
 
     /**
@@ -201,7 +351,24 @@ public class ValidationContext<T> {
      */
     @Published(tag = "architect")
     public T createDirtyObject() {
-        return formCreator.create(targetClass, convertedValues, null);
+        return createForm();
+    }
+
+    /**
+     * {@link FormCreator}でフォームオブジェクトを生成する。
+     * <p/>
+     * {@link FormCreator}が{@link OrdinalFormCreator}を実装しており、全ての変換後の値がフォームのプロパティのものである場合は、
+     * プロパティの序数を添字とする配列からフォームオブジェクトを生成する。
+     *
+     * @return フォームオブジェクト
+     */
+    private T createForm() {
+        if (formCreator instanceof OrdinalFormCreator && convertedValueArray != null
+                && (convertedValues == null || convertedValues.isEmpty())) {
+            return ((OrdinalFormCreator) formCreator).create(targetClass, formValidationDefinition,
+                    convertedValueArray, convertedOrdinals);
+        }
+        return formCreator.create(targetClass, getConvertedValues(), formValidationDefinition);
     }
 
     /**
@@ -213,7 +380,93 @@ public class ValidationContext<T> {
     @Published(tag = "architect")
     public Object getParameters(String propertyName) {
         
-        return params.get(prefix + propertyName);
+        return params.get(getParameterKey(propertyName));
+    }
+
+    /**
+     * 指定された接尾辞で終わるキーのパラメータが存在するかを判定する。
+     * <p/>
+     * パラメータのキーを全て走査するため、判定結果はパラメータのMapが変わるまで保持する。
+     * 親のフォームのコンテキストと同じパラメータのMapを使用している場合は、親のコンテキストの判定結果を使用する。
+     * <p/>
+     * サブクラスでは、{@link #getParameters(String)}がパラメータのMap以外から値を取得する可能性があるため、常に{@code true}を返す。
+     *
+     * @param suffix キーの接尾辞
+     * @return 接尾辞で終わるキーのパラメータが存在する可能性がある場合は{@code true}
+     */
+    public boolean hasParameterKeyEndingWith(String suffix) {
+        if (getClass() != ValidationContext.class) {
+            return true;
+        }
+        if (parentContext != null && parentContext.params == params) {
+            return parentContext.hasParameterKeyEndingWith(suffix);
+        }
+        ParameterKeyScan scan = parameterKeyScan;
+        if (scan != null && scan.params == params && scan.suffix.equals(suffix)) {
+            return scan.found;
+        }
+        boolean found = false;
+        for (String key : params.keySet()) {
+            if (key.endsWith(suffix)) {
+                found = true;
+                break;
+            }
+        }
+        parameterKeyScan = new ParameterKeyScan(params, suffix, found);
+        return found;
+    }
+
+    /**
+     * 親のフォームのコンテキストを設定する。
+     *
+     * @param parentContext 親のフォームのコンテキスト
+     */
+    void setParentContext(ValidationContext<?> parentContext) {
+        this.parentContext = parentContext;
+    }
+
+    /**
+     * プロパティ名にプレフィクスを付与したパラメータのキーを取得する。
+     * <p/>
+     * フォームのプロパティのキーは、{@link PropertyKeyTable}が保持している場合はそれを使用する。
+     *
+     * @param propertyName プロパティ名
+     * @return パラメータのキー
+     */
+    String getParameterKey(String propertyName) {
+        if (propertyKeyTable != null) {
+            int ordinal = getPropertyOrdinal(propertyName);
+            if (ordinal >= 0) {
+                return propertyKeyTable.getKey(ordinal);
+            }
+        }
+        return prefix + propertyName;
+    }
+
+    /**
+     * フォームのプロパティに対応するパラメータのキーを取得する。
+     *
+     * @return フォームのプロパティに対応するパラメータのキー。設定されていない場合は{@code null}
+     */
+    PropertyKeyTable getPropertyKeyTable() {
+        return propertyKeyTable;
+    }
+
+    /**
+     * フォームのプロパティに対応するパラメータのキーを設定する。
+     * <p/>
+     * バリデーション対象のフォームの設定、またはプレフィクスが一致しない場合は設定しない。
+     *
+     * @param propertyKeyTable フォームのプロパティに対応するパラメータのキー
+     */
+    void setPropertyKeyTable(PropertyKeyTable propertyKeyTable) {
+        if (propertyKeyTable != null
+                && (propertyKeyTable.getFormValidationDefinition() != formValidationDefinition
+                        || !propertyKeyTable.getPrefix().equals(prefix))) {
+            this.propertyKeyTable = null;
+            return;
+        }
+        this.propertyKeyTable = propertyKeyTable;
     }
 
     /**
@@ -223,7 +476,17 @@ public class ValidationContext<T> {
      * @param value 変換したプロパティの値
      */
     public void putConvertedValue(String propertyName, Object value) {
-        convertedValues.put(propertyName, value);
+        formCreatorValuesStale = true;
+        int ordinal = getPropertyOrdinal(propertyName);
+        if (ordinal >= 0) {
+            convertedValueArray[ordinal] = value;
+            convertedOrdinals.set(ordinal);
+        } else {
+            if (convertedValues == null) {
+                convertedValues = new HashMap<String, Object>();
+            }
+            convertedValues.put(propertyName, value);
+        }
     }
 
     /**
@@ -237,7 +500,60 @@ public class ValidationContext<T> {
      */
     @Published
     public Object getConvertedValue(String propertyName) {
-        return convertedValues.get(propertyName);
+        int ordinal = getPropertyOrdinal(propertyName);
+        if (ordinal >= 0) {
+            return convertedValueArray[ordinal];
+        }
+        return convertedValues == null ? null : convertedValues.get(propertyName);
+    }
+
+    /**
+     * {@link FormCreator}に渡す変換後オブジェクトのMapを取得する。
+     * <p/>
+     * フォームの設定が設定されている場合は、変換後オブジェクトの数に合わせたMapを作成する。
+     * {@link OrdinalFormCreator}を使用する場合は、コンテキストで保持するMapを再利用し、
+     * 変換後オブジェクトが変更された場合のみ内容を作り直す。
+     * それ以外の{@link FormCreator}は渡されたMapを保持する可能性があるため、都度作成する。
+     *
+     * @return プロパティ名をキー、変換後オブジェクトを値に持つMap
+     */
+    private Map<String, Object> getConvertedValues() {
+        if (convertedValueArray == null) {
+            if (convertedValues == null) {
+                convertedValues = new HashMap<String, Object>();
+            }
+            return convertedValues;
+        }
+        if (!(formCreator instanceof OrdinalFormCreator)) {
+            int size = convertedOrdinals.cardinality() + (convertedValues == null ? 0 : convertedValues.size());
+            return fillConvertedValues(new HashMap<String, Object>(size * 4 / 3 + 1));
+        }
+        if (formCreatorValues == null) {
+            formCreatorValues = new HashMap<String, Object>();
+        } else if (!formCreatorValuesStale) {
+            return formCreatorValues;
+        } else {
+            formCreatorValues.clear();
+        }
+        fillConvertedValues(formCreatorValues);
+        formCreatorValuesStale = false;
+        return formCreatorValues;
+    }
+
+    /**
+     * 変換後オブジェクトをMapに格納する。
+     *
+     * @param values 格納先のMap
+     * @return 格納先のMap
+     */
+    private Map<String, Object> fillConvertedValues(Map<String, Object> values) {
+        for (int i = convertedOrdinals.nextSetBit(0); i >= 0; i = convertedOrdinals.nextSetBit(i + 1)) {
+            values.put(formValidationDefinition.getPropertyName(i), convertedValueArray[i]);
+        }
+        if (convertedValues != null) {
+            values.putAll(convertedValues);
+        }
+        return values;
     }
 
     /**
@@ -249,6 +565,94 @@ public class ValidationContext<T> {
         return targetClass;
     }
 
+    /**
+     * バリデーション対象のフォームに紐付けられたバリデーションの設定を取得する。
+     *
+     * @return バリデーション対象のフォームに紐付けられたバリデーションの設定。設定されていない場合は{@code null}
+     */
+    public FormValidationDefinition getFormValidationDefinition() {
+        return formValidationDefinition;
+    }
+
+    /**
+     * バリデーション対象のフォームに紐付けられたバリデーションの設定を設定する。
+     * <p/>
+     * 設定した値は、フォームオブジェクトの生成時に{@link FormCreator}に渡される。
+     * また、フォームのプロパティの変換後の値とバリデーション状態を、プロパティの序数を添字として保持するようになる。
+     * 既に保持している値とバリデーション状態は引き継がれる。
+     *
+     * @param formValidationDefinition バリデーション対象のフォームに紐付けられたバリデーションの設定
+     */
+    public void setFormValidationDefinition(FormValidationDefinition formValidationDefinition) {
+        if (this.formValidationDefinition == formValidationDefinition) {
+            return;
+        }
+        Map<String, Object> values = null;
+        List<String> processed = null;
+        List<String> invalid = null;
+        boolean hasState = (convertedValueArray != null
+                && (!convertedOrdinals.isEmpty() || !processedOrdinals.isEmpty() || !invalidOrdinals.isEmpty()))
+                || convertedValues != null || processedProperties != null || invalidPropertyNames != null;
+        if (hasState) {
+            values = getConvertedValues();
+            processed = getPropertyNames(processedOrdinals, processedProperties);
+            invalid = getPropertyNames(invalidOrdinals, invalidPropertyNames);
+        }
+
+        this.formValidationDefinition = formValidationDefinition;
+        propertyKeyTable = null;
+        lastPropertyName = null;
+        convertedValues = null;
+        formCreatorValues = null;
+        formCreatorValuesStale = true;
+        processedProperties = null;
+        invalidPropertyNames = null;
+        if (formValidationDefinition == null) {
+            convertedValueArray = null;
+            convertedOrdinals = null;
+            processedOrdinals = null;
+            invalidOrdinals = null;
+        } else {
+            int count = formValidationDefinition.getPropertyCount();
+            convertedValueArray = new Object[count];
+            convertedOrdinals = new BitSet(count);
+            processedOrdinals = new BitSet(count);
+            invalidOrdinals = new BitSet(count);
+        }
+
+        if (hasState) {
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                putConvertedValue(entry.getKey(), entry.getValue());
+            }
+            for (String propertyName : processed) {
+                setPropertyProcessed(propertyName);
+            }
+            for (String propertyName : invalid) {
+                addInvalidPropertyName(propertyName);
+            }
+        }
+    }
+
+    /**
+     * 序数とプロパティ名のセットで保持したプロパティ名のリストを取得する。
+     *
+     * @param ordinals プロパティの序数。保持していない場合は{@code null}
+     * @param names プロパティ名のセット。保持していない場合は{@code null}
+     * @return プロパティ名のリスト
+     */
+    private List<String> getPropertyNames(BitSet ordinals, Set<String> names) {
+        List<String> propertyNames = new ArrayList<String>();
+        if (ordinals != null) {
+            for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+                propertyNames.add(formValidationDefinition.getPropertyName(i));
+            }
+        }
+        if (names != null) {
+            propertyNames.addAll(names);
+        }
+        return propertyNames;
+    }
+
     /**
      * バリデーション結果メッセージのリストを取得する。
      * 
@@ -256,9 +660,19 @@ public class ValidationContext<T> {
      */
     @Published
     public List<Message> getMessages() {
+        messagesExposed = true;
         return Collections.unmodifiableList(messages);
     }
 
+    /**
+     * バリデーション結果メッセージの件数を取得する。
+     *
+     * @return バリデーション結果メッセージの件数
+     */
+    int getMessageCount() {
+        return messages.size();
+    }
+
     /**
      * バリデーションエラーがないかどうかを取得する。
      * 
@@ -269,6 +683,66 @@ public class ValidationContext<T> {
         return messages.isEmpty();
     }
 
+    /**
+     * バリデーションを打ち切るメッセージの件数を取得する。
+     *
+     * @return バリデーションを打ち切るメッセージの件数。打ち切らない場合は0
+     */
+    public int getMaxMessageCount() {
+        return maxMessageCount;
+    }
+
+    /**
+     * バリデーションを打ち切るメッセージの件数を設定する。
+     * <p/>
+     * メッセージの件数が指定した件数に達した時点で、以降のプロパティのバリデーションを行わない。
+     * 1を指定した場合は、最初にバリデーションエラーとなったプロパティでバリデーションを打ち切る。
+     * 子フォームのバリデーションでは複数のメッセージが追加されるため、メッセージの件数は指定した件数を超える場合がある。
+     * <p/>
+     * デフォルトは0で、全てのプロパティのバリデーションを行う。
+     *
+     * @param maxMessageCount バリデーションを打ち切るメッセージの件数。打ち切らない場合は0
+     * @throws IllegalArgumentException 負の値が指定された場合
+     */
+    @Published(tag = "architect")
+    public void setMaxMessageCount(int maxMessageCount) {
+        if (maxMessageCount < 0) {
+            throw new IllegalArgumentException("maxMessageCount must not be negative. maxMessageCount = "
+                    + maxMessageCount);
+        }
+        this.maxMessageCount = maxMessageCount;
+    }
+
+    /**
+     * フォームの配列のバリデーションを、最初にバリデーションエラーとなった要素で打ち切るかどうかを取得する。
+     *
+     * @return 打ち切る場合は{@code true}
+     */
+    public boolean isFormArrayFailFast() {
+        return formArrayFailFast;
+    }
+
+    /**
+     * フォームの配列のバリデーションを、最初にバリデーションエラーとなった要素で打ち切るかどうかを設定する。
+     * <p/>
+     * デフォルトは{@code false}で、配列の全ての要素のバリデーションを行う。
+     *
+     * @param formArrayFailFast 打ち切る場合は{@code true}
+     */
+    @Published(tag = "architect")
+    public void setFormArrayFailFast(boolean formArrayFailFast) {
+        this.formArrayFailFast = formArrayFailFast;
+    }
+
+    /**
+     * メッセージの件数が、バリデーションを打ち切る件数に達したかどうかを判定する。
+     *
+     * @return バリデーションを打ち切る件数に達した場合は{@code true}
+     */
+    public boolean isMessageLimitReached() {
+        return maxMessageCount > 0 && messages.size() >= maxMessageCount;
+    }
+
     /**
      * バリデーションエラーがある場合に、
      * バリデーション結果メッセージを保持した{@link ApplicationException}を送出する。
@@ -294,7 +768,11 @@ public class ValidationContext<T> {
      */
     @Published
     public boolean isInvalid(String propertyName) {
-        return invalidPropertyNames.contains(propertyName);
+        int ordinal = getPropertyOrdinal(propertyName);
+        if (ordinal >= 0) {
+            return invalidOrdinals.get(ordinal);
+        }
+        return invalidPropertyNames != null && invalidPropertyNames.contains(propertyName);
     }
 
     /**
@@ -302,7 +780,15 @@ public class ValidationContext<T> {
      * @param propertyName 追加するプロパティ名
      */
     public void setPropertyProcessed(String propertyName) {
-        processedProperties.add(propertyName);
+        int ordinal = getPropertyOrdinal(propertyName);
+        if (ordinal >= 0) {
+            processedOrdinals.set(ordinal);
+        } else {
+            if (processedProperties == null) {
+                processedProperties = new HashSet<String>();
+            }
+            processedProperties.add(propertyName);
+        }
     }
 
     /**
@@ -311,7 +797,11 @@ public class ValidationContext<T> {
      * @return 指定したプロパティがバリデーション済みである場合{@code true}
      */
     public boolean isProcessed(String propertyName) {
-        return processedProperties.contains(propertyName);
+        int ordinal = getPropertyOrdinal(propertyName);
+        if (ordinal >= 0) {
+            return processedOrdinals.get(ordinal);
+        }
+        return processedProperties != null && processedProperties.contains(propertyName);
     }
 
     /**
@@ -330,6 +820,123 @@ public class ValidationContext<T> {
         return params;
     }
 
+    /**
+     * コンテキストを初期状態に戻し、新しいパラメータのMapを設定する。
+     * <p/>
+     * バリデーション結果と変換後の値を破棄し、コンテキストを別の入力値のバリデーションに再利用できるようにする。
+     * 保持しているコレクションは再利用するが、{@link #getMessages()}で取得済みのメッセージのリストは変更しない。
+     * プレフィクス、バリデーション対象のクラス、バリデーション対象メソッドは変更しない。
+     * <p/>
+     * 本メソッドはスレッドセーフではない。コンテキストを複数スレッドで共有してはならない。
+     *
+     * @param params パラメータのMap
+     */
+    @Published(tag = "architect")
+    public void reset(Map<String, ?> params) {
+        this.params = params;
+        // 同じMapの内容が変更されている可能性があるため、判定結果は破棄する。
+        parameterKeyScan = null;
+        if (convertedValueArray != null) {
+            Arrays.fill(convertedValueArray, null);
+            convertedOrdinals.clear();
+            processedOrdinals.clear();
+            invalidOrdinals.clear();
+        }
+        if (processedProperties != null) {
+            processedProperties.clear();
+        }
+        if (convertedValueArray == null) {
+            // フォームの設定がない場合はFormCreatorにそのまま渡しているため、生成したフォームが保持している可能性がある。
+            convertedValues = null;
+        } else if (convertedValues != null) {
+            convertedValues.clear();
+        }
+        if (formCreatorValues != null) {
+            formCreatorValues.clear();
+            formCreatorValuesStale = true;
+        }
+        if (invalidPropertyNames != null) {
+            invalidPropertyNames.clear();
+        }
+        if (messagesExposed) {
+            // 取得済みのリストの内容が変わらないよう、新しいリストを使用する。
+            messages = new ArrayList<Message>();
+            messagesExposed = false;
+        } else {
+            messages.clear();
+        }
+    }
+
+    /**
+     * バリデーション結果メッセージのメッセージの取得を遅延するかどうかを設定する。
+     *
+     * @param lazyMessageResolution メッセージの取得を遅延する場合は{@code true}
+     */
+    void setLazyMessageResolution(boolean lazyMessageResolution) {
+        this.lazyMessageResolution = lazyMessageResolution;
+    }
+
+    /**
+     * 再利用可能なコンテキストかどうかを取得する。
+     *
+     * @return 再利用可能なコンテキストの場合は{@code true}
+     */
+    boolean isReusable() {
+        return reusable;
+    }
+
+    /**
+     * 再利用可能なコンテキストかどうかを設定する。
+     * <p/>
+     * 再利用可能なコンテキストは、子フォームのコンテキストも再利用する。
+     *
+     * @param reusable 再利用可能なコンテキストの場合は{@code true}
+     */
+    void setReusable(boolean reusable) {
+        this.reusable = reusable;
+    }
+
+    /**
+     * 処理の所要時間と結果を通知する{@link ValidationListener}を取得する。
+     *
+     * @return {@link ValidationListener}。通知しない場合は{@code null}
+     */
+    ValidationListener getValidationListener() {
+        return validationListener;
+    }
+
+    /**
+     * 処理の所要時間と結果を通知する{@link ValidationListener}を設定する。
+     *
+     * @param validationListener {@link ValidationListener}。通知しない場合は{@code null}
+     */
+    void setValidationListener(ValidationListener validationListener) {
+        this.validationListener = validationListener;
+    }
+
+    /**
+     * 子フォームのコンテキストを取得する。
+     *
+     * @param childPrefix 子フォームのプレフィクス
+     * @return 子フォームのコンテキスト。存在しない場合は{@code null}
+     */
+    ValidationContext<?> getChildContext(String childPrefix) {
+        return childContexts == null ? null : childContexts.get(childPrefix);
+    }
+
+    /**
+     * 子フォームのコンテキストを追加する。
+     *
+     * @param childPrefix 子フォームのプレフィクス
+     * @param childContext 子フォームのコンテキスト
+     */
+    void putChildContext(String childPrefix, ValidationContext<?> childContext) {
+        if (childContexts == null) {
+            childContexts = new HashMap<String, ValidationContext<?>>();
+        }
+        childContexts.put(childPrefix, childContext);
+    }
+
     /**
      * バリデーション対象メソッドを取得する。 
      * @return バリデーション対象メソッド
@@ -338,4 +945,34 @@ public class ValidationContext<T> {
         return validateFor;
     }
 
+
+    /**
+     * パラメータのキーの接尾辞の判定結果を保持するクラス。
+     * <p/>
+     * 配列の要素を並列にバリデーションする場合に、親のコンテキストの判定結果を複数スレッドから参照するため、不変とする。
+     */
+    private static final class ParameterKeyScan {
+
+        /** 判定したパラメータのMap */
+        private final Map<String, ?> params;
+
+        /** キーの接尾辞 */
+        private final String suffix;
+
+        /** 接尾辞で終わるキーが存在する場合は{@code true} */
+        private final boolean found;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param params 判定したパラメータのMap
+         * @param suffix キーの接尾辞
+         * @param found 接尾辞で終わるキーが存在する場合は{@code true}
+         */
+        ParameterKeyScan(Map<String, ?> params, String suffix, boolean found) {
+            this.params = params;
+            this.suffix = suffix;
+            this.found = found;
+        }
+    }
 }
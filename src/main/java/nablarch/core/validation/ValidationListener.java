@@ -0,0 +1,86 @@
+package nablarch.core.validation;
+
+import java.lang.annotation.Annotation;
+
+import nablarch.core.util.annotation.Published;
+
+/**
+ * バリデーションの各処理の所要時間と結果の通知を受け取るインタフェース。
+ * <p/>
+ * {@link ValidationManager#setValidationListener(ValidationListener)}で設定する。
+ * 通知はバリデーションを行ったスレッドで行われる。
+ * フォームの配列や複数の入力値を並列にバリデーションする場合は複数のスレッドから同時に通知されるため、
+ * 実装クラスはスレッドセーフでなければならない。
+ * <p/>
+ * 所要時間はナノ秒単位で、{@link System#nanoTime()}により計測する。
+ *
+ * @author TIS
+ * @see nablarch.core.validation.metrics.ValidationMetricsCollector
+ */
+@Published(tag = "architect")
+public interface ValidationListener {
+
+    /**
+     * フォームに紐付けられたバリデーションの設定を取得したことを通知する。
+     *
+     * @param formClass フォームのクラス
+     * @param elapsedNanos 所要時間
+     */
+    void definitionLoaded(Class<?> formClass, long elapsedNanos);
+
+    /**
+     * プロパティの値を変換したことを通知する。
+     *
+     * @param formClass フォームのクラス
+     * @param propertyName プロパティ名
+     * @param convertor 使用した{@link Convertor}
+     * @param converted 変換できた場合は{@code true}
+     * @param elapsedNanos 所要時間
+     */
+    void converted(Class<?> formClass, String propertyName, Convertor convertor, boolean converted,
+            long elapsedNanos);
+
+    /**
+     * バリデータを呼び出したことを通知する。
+     *
+     * @param formClass フォームのクラス
+     * @param propertyName プロパティ名
+     * @param annotation バリデータに対応するアノテーション
+     * @param valid バリデーションエラーがなかった場合は{@code true}
+     * @param elapsedNanos 所要時間
+     */
+    void validated(Class<?> formClass, String propertyName, Annotation annotation, boolean valid,
+            long elapsedNanos);
+
+    /**
+     * プロパティのバリデーションと変換を行ったことを通知する。
+     * <p/>
+     * 所要時間には、プロパティの値の変換と全てのバリデータの呼び出しが含まれる。
+     *
+     * @param formClass フォームのクラス
+     * @param propertyName プロパティ名
+     * @param valid バリデーションエラーがなかった場合は{@code true}
+     * @param elapsedNanos 所要時間
+     */
+    void propertyValidated(Class<?> formClass, String propertyName, boolean valid, long elapsedNanos);
+
+    /**
+     * フォームのバリデーションと変換を行ったことを通知する。
+     * <p/>
+     * 子フォームとフォームの配列の要素についても通知する。
+     *
+     * @param formClass フォームのクラス
+     * @param prefix Mapに入ったキーのプレフィクス
+     * @param valid バリデーションエラーがなかった場合は{@code true}
+     * @param elapsedNanos 所要時間
+     */
+    void formValidated(Class<?> formClass, String prefix, boolean valid, long elapsedNanos);
+
+    /**
+     * フォームを生成したことを通知する。
+     *
+     * @param formClass フォームのクラス
+     * @param elapsedNanos 所要時間
+     */
+    void formCreated(Class<?> formClass, long elapsedNanos);
+}
@@ -8,9 +8,14 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 import nablarch.core.cache.StaticDataCache;
 import nablarch.core.log.Logger;
@@ -21,6 +26,7 @@ import nablarch.core.repository.IgnoreProperty;
 import nablarch.core.repository.initialization.Initializable;
 import nablarch.core.util.StringUtil;
 import nablarch.core.util.annotation.Published;
+import nablarch.core.validation.PropertyValidationPlan.DisplayNameType;
 import nablarch.core.validation.creator.MapConstructorFormCreator;
 import nablarch.core.validation.domain.DomainValidationHelper;
 
@@ -40,9 +46,18 @@ public class ValidationManager implements Initializable {
     /** フォーム配列サイズキー文字列の最大長のデフォルト値(999まで指定可能) */
     private static final int DEFAULT_SIZE_KEY_MAX_LENGTH = 3;
 
+    /** フォームの配列の要素のバリデーションを並列に実行する要素数の閾値のデフォルト値。 */
+    private static final int DEFAULT_PARALLEL_FORM_ARRAY_THRESHOLD = 100;
+
+    /** 複数の入力値をまとめてバリデーションする際の、バリデーション中の入力値の数の上限のデフォルト値。 */
+    private static final int DEFAULT_MAX_BULK_VALIDATION_IN_FLIGHT = 256;
+
     /** FormValidationDefinitionを保持するStaticDataCache。 */
     private StaticDataCache<FormValidationDefinition> formDefinitionCache;
 
+    /** 一括ロードしたFormValidationDefinitionの実行計画を起動時に作成するためのローダ。 */
+    private FormValidationDefinitionLoader formDefinitionLoader;
+
     /** フォームの生成クラス。 */
     private FormCreator formCreator = new MapConstructorFormCreator();
 
@@ -67,6 +82,52 @@ public class ValidationManager implements Initializable {
     /** ValidationTargetアノテーションのsizeKeyに不正な長さを指定した際のエラーメッセージID。 */
     private String invalidSizeKeyMessageId;
 
+    /** 実行計画の作成時に、サポートされていないプロパティの型やバリデーションアノテーションを例外とするかどうか。 */
+    private boolean failOnUnsupportedDefinition = false;
+
+    /** バリデーション結果メッセージのメッセージの取得を遅延するかどうか。 */
+    private boolean lazyMessageResolution = false;
+
+    /** バリデーションを打ち切るメッセージの件数。0の場合は打ち切らない。 */
+    private int maxMessageCount = 0;
+
+    /** フォームの配列のバリデーションを、最初にバリデーションエラーとなった要素で打ち切るかどうか。 */
+    private boolean formArrayFailFast = false;
+
+    /** フォームの配列の要素のバリデーションを並列に実行する{@link Executor}。 */
+    private Executor formArrayExecutor;
+
+    /** フォームの配列の要素のバリデーションを並列に実行する要素数の閾値。 */
+    private int parallelFormArrayThreshold = DEFAULT_PARALLEL_FORM_ARRAY_THRESHOLD;
+
+    /** 複数の入力値をまとめてバリデーションする{@link Executor}。 */
+    private Executor bulkValidationExecutor;
+
+    /** 複数の入力値をまとめてバリデーションする際の、バリデーション中の入力値の数の上限。 */
+    private int maxBulkValidationInFlight = DEFAULT_MAX_BULK_VALIDATION_IN_FLIGHT;
+
+    /** 処理の所要時間と結果を通知する{@link ValidationListener}。 */
+    private ValidationListener validationListener;
+
+    /** {@link ValidationListener}に通知するバリデーションの割合(N件に1件)。 */
+    private int validationListenerSamplingRate = 1;
+
+    /** {@link ValidationListener}に通知するバリデーションを選択するためのカウンタ。 */
+    private final AtomicLong validationListenerCounter = new AtomicLong();
+
+    /** フォームのクラスをキーとするバリデーションの実行計画のMap。 */
+    private final ConcurrentMap<Class<?>, FormValidationPlan> formValidationPlans
+            = new ConcurrentHashMap<Class<?>, FormValidationPlan>();
+
+    /** {@link #createPropertyDisplayNameObject}がサブクラスでオーバライドされているかどうか。 */
+    private boolean customPropertyDisplayName = false;
+
+    /** {@link #validateAndConvertProperty(ValidationContext, FormValidationDefinition, PropertyValidationDefinition)}がサブクラスでオーバライドされているかどうか。 */
+    private boolean customPropertyValidation = false;
+
+    /** {@link #validateAndConvert(String, Class, Map, String)}がサブクラスでオーバライドされているかどうか。 */
+    private boolean customValidateAndConvert = false;
+
     /**
      * FormValidationDefinitionをキャッシュするStaticDataCacheをセットする。
      *
@@ -77,6 +138,21 @@ public class ValidationManager implements Initializable {
         this.formDefinitionCache = formDefinitionCache;
     }
 
+    /**
+     * 一括ロードしたFormValidationDefinitionの実行計画を起動時に作成するためのローダをセットする。
+     * <p/>
+     * {@link #setFormDefinitionCache(StaticDataCache)}で設定したStaticDataCacheのローダを設定する。
+     * 設定した場合は、ローダが一括ロードした全てのフォームの実行計画を、初期化時(またはローダの一括ロード時)に作成する。
+     * {@link #setFailOnUnsupportedDefinition(boolean)}に{@code true}を設定した場合は、
+     * サポートされていない定義を持つフォームがあると起動時に例外を送出する。
+     * {@code false}の場合は、サポートされていない定義を持つフォームを警告ログに出力する。
+     *
+     * @param formDefinitionLoader FormValidationDefinitionのローダ
+     */
+    public void setFormDefinitionLoader(FormValidationDefinitionLoader formDefinitionLoader) {
+        this.formDefinitionLoader = formDefinitionLoader;
+    }
+
     /**
      * フォームの生成クラスをセットする。<br/>
      * セットしなかった場合、MapConstructorFormCreatorが使用される。
@@ -124,6 +200,7 @@ public class ValidationManager implements Initializable {
     public void setUseFormPropertyNameAsMessageId(
             boolean useFormPropertyNameAsMessageId) {
         this.useFormPropertyNameAsMessageId = useFormPropertyNameAsMessageId;
+        formValidationPlans.clear();
     }
 
     
@@ -145,6 +222,192 @@ public class ValidationManager implements Initializable {
         this.invalidSizeKeyMessageId = invalidSizeKeyLengthMessageId;
     }
 
+    /**
+     * 実行計画の作成時に、サポートされていないプロパティの型やバリデーションアノテーションを例外とするかどうかを設定する。
+     * <p/>
+     * デフォルトは{@code false}で、サポートされていないプロパティをバリデーションした時点で例外を送出する。
+     * {@code true}を設定した場合は、フォームの実行計画の作成時(フォームの初回のバリデーション時)に例外を送出する。
+     * {@link #setFormDefinitionLoader(FormValidationDefinitionLoader)}を設定した場合、
+     * 一括ロードされたフォームの実行計画は起動時に作成される。
+     *
+     * @param failOnUnsupportedDefinition 実行計画の作成時に例外とする場合は{@code true}
+     */
+    public void setFailOnUnsupportedDefinition(boolean failOnUnsupportedDefinition) {
+        this.failOnUnsupportedDefinition = failOnUnsupportedDefinition;
+    }
+
+    /**
+     * バリデーション結果メッセージのメッセージの取得を遅延するかどうかを設定する。
+     * <p/>
+     * デフォルトは{@code false}で、バリデーションエラーが発生した時点でメッセージを取得する。
+     * {@code true}を設定した場合は、バリデーション結果メッセージにはメッセージIDのみを保持し、
+     * 文言を取得する際にメッセージを取得する。
+     * メッセージIDのみを使用する場合や、エラー件数のみを使用する場合にメッセージの取得を省略できる。
+     * <p/>
+     * {@code true}を設定した場合、メッセージIDに対応するメッセージが存在しないことによる例外は、
+     * バリデーション時ではなく文言の取得時に送出される。
+     * 多数のメッセージの文言を続けて取得する場合は、
+     * {@link ValidationResultMessageUtil#resolveMessages(List)}でまとめてメッセージを取得できる。
+     *
+     * @param lazyMessageResolution メッセージの取得を遅延する場合は{@code true}
+     */
+    public void setLazyMessageResolution(boolean lazyMessageResolution) {
+        this.lazyMessageResolution = lazyMessageResolution;
+    }
+
+    /**
+     * バリデーションを打ち切るメッセージの件数を設定する。
+     * <p/>
+     * 設定した値は、本クラスが生成する{@link ValidationContext}に設定される。
+     * 呼び出し毎に変更する場合は、{@link ValidationContext#setMaxMessageCount(int)}を使用すること。
+     * <p/>
+     * デフォルトは0で、全てのプロパティのバリデーションを行う。
+     *
+     * @param maxMessageCount バリデーションを打ち切るメッセージの件数。打ち切らない場合は0
+     * @throws IllegalArgumentException 負の値が指定された場合
+     * @see ValidationContext#setMaxMessageCount(int)
+     */
+    public void setMaxMessageCount(int maxMessageCount) {
+        if (maxMessageCount < 0) {
+            throw new IllegalArgumentException("maxMessageCount must not be negative. maxMessageCount = "
+                    + maxMessageCount);
+        }
+        this.maxMessageCount = maxMessageCount;
+    }
+
+    /**
+     * フォームの配列のバリデーションを、最初にバリデーションエラーとなった要素で打ち切るかどうかを設定する。
+     * <p/>
+     * 設定した値は、本クラスが生成する{@link ValidationContext}に設定される。
+     * 呼び出し毎に変更する場合は、{@link ValidationContext#setFormArrayFailFast(boolean)}を使用すること。
+     * <p/>
+     * デフォルトは{@code false}で、配列の全ての要素のバリデーションを行う。
+     *
+     * @param formArrayFailFast 打ち切る場合は{@code true}
+     */
+    public void setFormArrayFailFast(boolean formArrayFailFast) {
+        this.formArrayFailFast = formArrayFailFast;
+    }
+
+    /**
+     * フォームの配列の要素のバリデーションを並列に実行する{@link Executor}を設定する。
+     * <p/>
+     * 設定した場合、要素数が{@link #setParallelFormArrayThreshold(int)}の閾値を超えるフォームの配列は、
+     * 呼び出し元のスレッドと{@link Executor}のスレッドで要素を分担してバリデーションする。
+     * メッセージの順序と、1つでもバリデーションエラーの要素があれば配列全体をエラーとする動作は、並列に実行しない場合と同じである。
+     * <p/>
+     * {@link Executor}のスレッドには、呼び出し元のスレッドの{@link nablarch.core.ThreadContext}の値が引き継がれる。
+     * 並列に実行する場合、フォームの配列の要素のバリデーションで使用するコンバータ、バリデータ、
+     * ValidateForアノテーションのついたメソッドはスレッドセーフでなければならない。
+     * <p/>
+     * デフォルトは{@code null}で、並列に実行しない。
+     *
+     * @param formArrayExecutor フォームの配列の要素のバリデーションを並列に実行する{@link Executor}
+     */
+    public void setFormArrayExecutor(Executor formArrayExecutor) {
+        this.formArrayExecutor = formArrayExecutor;
+    }
+
+    /**
+     * フォームの配列の要素のバリデーションを並列に実行する要素数の閾値を設定する。
+     * <p/>
+     * 要素数が閾値を超える場合に並列に実行する。デフォルトは100。
+     *
+     * @param parallelFormArrayThreshold フォームの配列の要素のバリデーションを並列に実行する要素数の閾値
+     * @throws IllegalArgumentException 負の値が指定された場合
+     */
+    public void setParallelFormArrayThreshold(int parallelFormArrayThreshold) {
+        if (parallelFormArrayThreshold < 0) {
+            throw new IllegalArgumentException("parallelFormArrayThreshold must not be negative."
+                    + " parallelFormArrayThreshold = " + parallelFormArrayThreshold);
+        }
+        this.parallelFormArrayThreshold = parallelFormArrayThreshold;
+    }
+
+    /**
+     * 複数の入力値をまとめてバリデーションする{@link Executor}を設定する。
+     * <p/>
+     * {@link #validateAndConvertAll(String, Class, Iterator, String, BulkValidationHandler)}で使用する。
+     * 設定した場合、入力値毎のバリデーションを{@link Executor}のスレッドで行う。
+     * {@link Executor}のスレッドには、呼び出し元のスレッドの{@link nablarch.core.ThreadContext}の値が引き継がれる。
+     * 使用するコンバータ、バリデータ、ValidateForアノテーションのついたメソッド、{@link FormCreator}はスレッドセーフでなければならない。
+     * <p/>
+     * デフォルトは{@code null}で、呼び出し元のスレッドでバリデーションする。
+     *
+     * @param bulkValidationExecutor 複数の入力値をまとめてバリデーションする{@link Executor}
+     */
+    public void setBulkValidationExecutor(Executor bulkValidationExecutor) {
+        this.bulkValidationExecutor = bulkValidationExecutor;
+    }
+
+    /**
+     * 複数の入力値をまとめてバリデーションする際の、バリデーション中の入力値の数の上限を設定する。
+     * <p/>
+     * 上限に達した場合、最も前の入力値のバリデーションが終了し、結果を通知するまで次の入力値を読み込まない。
+     * これにより、メモリ上に保持する入力値とバリデーション結果の数を制限する。デフォルトは256。
+     *
+     * @param maxBulkValidationInFlight バリデーション中の入力値の数の上限
+     * @throws IllegalArgumentException 1未満の値が指定された場合
+     */
+    public void setMaxBulkValidationInFlight(int maxBulkValidationInFlight) {
+        if (maxBulkValidationInFlight < 1) {
+            throw new IllegalArgumentException("maxBulkValidationInFlight must be greater than 0."
+                    + " maxBulkValidationInFlight = " + maxBulkValidationInFlight);
+        }
+        this.maxBulkValidationInFlight = maxBulkValidationInFlight;
+    }
+
+    /**
+     * 処理の所要時間と結果を通知する{@link ValidationListener}を設定する。
+     * <p/>
+     * 設定した場合、フォームに紐付けられたバリデーションの設定の取得、プロパティの値の変換、
+     * バリデータの呼び出し、フォームの生成の所要時間と結果を通知する。
+     * <p/>
+     * デフォルトは{@code null}で、通知しない。
+     *
+     * @param validationListener 処理の所要時間と結果を通知する{@link ValidationListener}
+     * @see nablarch.core.validation.metrics.ValidationMetricsCollector
+     */
+    public void setValidationListener(ValidationListener validationListener) {
+        this.validationListener = validationListener;
+    }
+
+    /**
+     * {@link ValidationListener}に通知するバリデーションの割合を設定する。
+     * <p/>
+     * Nを設定した場合、{@link #validateAndConvert(String, Class, Map, String)}などの呼び出しN回につき1回分を通知する。
+     * 通知しない呼び出しでは所要時間を計測しない。
+     * 子フォームとフォームの配列の要素は、親のフォームと同じ呼び出しとして扱う。
+     * <p/>
+     * デフォルトは1で、全ての呼び出しを通知する。
+     *
+     * @param validationListenerSamplingRate 通知するバリデーションの割合(N回に1回)
+     * @throws IllegalArgumentException 1未満の値が指定された場合
+     */
+    public void setValidationListenerSamplingRate(int validationListenerSamplingRate) {
+        if (validationListenerSamplingRate < 1) {
+            throw new IllegalArgumentException("validationListenerSamplingRate must be greater than 0."
+                    + " validationListenerSamplingRate = " + validationListenerSamplingRate);
+        }
+        this.validationListenerSamplingRate = validationListenerSamplingRate;
+    }
+
+    /**
+     * 呼び出しを{@link ValidationListener}に通知するかどうかを判定し、通知する場合は{@link ValidationListener}を返す。
+     *
+     * @return 通知する場合は{@link ValidationListener}、通知しない場合は{@code null}
+     */
+    private ValidationListener sampleValidationListener() {
+        ValidationListener listener = validationListener;
+        if (listener == null || validationListenerSamplingRate == 1) {
+            return listener;
+        }
+        if (validationListenerCounter.getAndIncrement() % validationListenerSamplingRate != 0) {
+            return null;
+        }
+        return listener;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -184,6 +447,57 @@ public class ValidationManager implements Initializable {
             postMap.put(annotationClass, validator);
         }
         this.validatorMap = Collections.unmodifiableMap(postMap);
+
+        customPropertyDisplayName = isOverridden("createPropertyDisplayNameObject",
+                ValidationContext.class, PropertyValidationDefinition.class);
+        customPropertyValidation = isOverridden("validateAndConvertProperty",
+                ValidationContext.class, FormValidationDefinition.class, PropertyValidationDefinition.class);
+        customValidateAndConvert = isOverridden("validateAndConvert",
+                String.class, Class.class, Map.class, String.class);
+        formValidationPlans.clear();
+        if (formDefinitionLoader != null) {
+            formDefinitionLoader.addValidationManager(this);
+        }
+    }
+
+    /**
+     * 一括ロードされたFormValidationDefinitionの実行計画を作成する。
+     * <p/>
+     * {@link FormValidationDefinitionLoader}から、初期化後の一括ロード時に呼び出される。
+     * サポートされていない定義を持つフォームは、警告ログに出力する。
+     *
+     * @param definitions 一括ロードされたFormValidationDefinitionのリスト
+     */
+    void prepareFormValidationPlans(List<FormValidationDefinition> definitions) {
+        for (FormValidationDefinition definition : definitions) {
+            FormValidationPlan plan = getFormValidationPlan(definition);
+            for (PropertyValidationPlan propertyPlan : plan.getPropertyValidationPlans()) {
+                if (propertyPlan.hasUnsupportedDefinition()) {
+                    LOGGER.logWarn("form has an unsupported property type or validation annotation. "
+                            + "form class = [" + definition.getFormClass().getName() + "], "
+                            + "property name = [" + propertyPlan.getName() + "]");
+                }
+            }
+        }
+    }
+
+    /**
+     * 指定されたメソッドがサブクラスでオーバライドされているかどうかを判定する。
+     *
+     * @param methodName     メソッド名
+     * @param parameterTypes パラメータの型
+     * @return オーバライドされている場合は{@code true}
+     */
+    private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+        for (Class<?> clazz = getClass(); clazz != ValidationManager.class; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod(methodName, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // スーパークラスを検索する。
+            }
+        }
+        return false;
     }
 
     /**
@@ -200,36 +514,308 @@ public class ValidationManager implements Initializable {
     public <T> ValidationContext<T> validateAndConvert(String prefix, Class<T> targetClass,
             Map<String, ?> params, String validateFor) {
 
-        String innerPrefix;
-        if (StringUtil.isNullOrEmpty(prefix)) {
-            innerPrefix = "";
-        } else {
-            innerPrefix = prefix + ".";
+        String innerPrefix = toInnerPrefix(prefix);
+
+        if (validatorMap == null) {
+            throw new IllegalStateException("ValidationManager was not initialized.");
         }
 
+        ValidationListener listener = sampleValidationListener();
+        FormValidationDefinition formValidationDefinition = getFormValidationDefinition(targetClass, listener);
+        ValidationContext<T> context = createValidationContext(targetClass, params, innerPrefix, validateFor);
+        context.setValidationListener(listener);
+        context.setFormValidationDefinition(formValidationDefinition);
+        context.setPropertyKeyTable(getFormValidationPlan(formValidationDefinition).getPropertyKeyTable(prefix));
+
+        validateAndConvertForm(context, formValidationDefinition);
+
+        return context;
+    }
+
+    /**
+     * 複数の入力値のバリデーションと値の変換を行う。
+     * <p/>
+     * 入力値毎に{@link #validateAndConvert(String, Class, Map, String)}と同じバリデーションと値の変換を行い、
+     * 結果を入力値の順に{@link BulkValidationHandler}に通知する。
+     * バリデーションエラーがなかった入力値はフォームを生成して{@link BulkValidationHandler#handleValid(long, Object)}に、
+     * バリデーションエラーとなった入力値はメッセージを{@link BulkValidationHandler#handleInvalid(long, List)}に通知する。
+     * <p/>
+     * {@link #setBulkValidationExecutor(Executor)}で{@link Executor}を設定した場合は、入力値毎のバリデーションを並列に行う。
+     * この場合も、入力値の読み込みと結果の通知は呼び出し元のスレッドで行う。
+     * バリデーション中の入力値の数は{@link #setMaxBulkValidationInFlight(int)}の上限を超えない。
+     * <p/>
+     * バリデーション中に例外が発生した場合や{@link BulkValidationHandler}が例外を送出した場合は、
+     * 未処理の入力値のバリデーションを中断し、例外を送出する。
+     *
+     * @param <T>         バリデーション結果で取得できる型
+     * @param prefix      Mapに入ったキーのプレフィクス
+     * @param targetClass バリデーション対象のフォームのクラス
+     * @param records     バリデーション対象のデータ
+     * @param validateFor バリデーション対象メソッド
+     * @param handler     結果を受け取る{@link BulkValidationHandler}
+     */
+    @Published(tag = "architect")
+    public <T> void validateAndConvertAll(String prefix, Class<T> targetClass,
+            Iterator<? extends Map<String, ?>> records, String validateFor, BulkValidationHandler<? super T> handler) {
         if (validatorMap == null) {
             throw new IllegalStateException("ValidationManager was not initialized.");
         }
+        new BulkValidation<T>(this, prefix, targetClass, validateFor, !customValidateAndConvert)
+                .run(bulkValidationExecutor, maxBulkValidationInFlight, records, handler);
+    }
 
+    /**
+     * 再利用可能な{@link ValidationContext}を生成する。
+     * <p/>
+     * 生成したコンテキストは{@link #validateAndConvert(ValidationContext, Map)}に繰り返し渡すことで、
+     * バッチ処理などで大量の入力値をバリデーションする際に、入力値毎のコンテキストの生成を省略できる。
+     * 子フォームのコンテキストも再利用される。
+     * <p/>
+     * 生成したコンテキストはスレッドセーフではない。スレッド毎に生成すること。
+     *
+     * @param <T>         バリデーション結果で取得できる型
+     * @param prefix      Mapに入ったキーのプレフィクス
+     * @param targetClass バリデーション対象のフォームのクラス
+     * @param validateFor バリデーション対象メソッド
+     * @return 再利用可能な{@link ValidationContext}
+     */
+    @Published(tag = "architect")
+    public <T> ValidationContext<T> createReusableValidationContext(String prefix, Class<T> targetClass,
+            String validateFor) {
+        if (validatorMap == null) {
+            throw new IllegalStateException("ValidationManager was not initialized.");
+        }
         FormValidationDefinition formValidationDefinition = formDefinitionCache.getValue(targetClass);
-        ValidationContext<T> context = createValidationContext(targetClass, params, innerPrefix, validateFor);
+        return createReusableValidationContext(prefix, targetClass, validateFor,
+                getFormValidationPlan(formValidationDefinition).getPropertyKeyTable(prefix));
+    }
+
+    /**
+     * パラメータのキーを指定して、再利用可能な{@link ValidationContext}を生成する。
+     *
+     * @param <T>         バリデーション結果で取得できる型
+     * @param prefix      Mapに入ったキーのプレフィクス
+     * @param targetClass バリデーション対象のフォームのクラス
+     * @param validateFor バリデーション対象メソッド
+     * @param keyTable    フォームのプロパティに対応するパラメータのキー
+     * @return 再利用可能な{@link ValidationContext}
+     */
+    private <T> ValidationContext<T> createReusableValidationContext(String prefix, Class<T> targetClass,
+            String validateFor, PropertyKeyTable keyTable) {
+        ValidationContext<T> context = createValidationContext(
+                targetClass, Collections.<String, Object>emptyMap(), toInnerPrefix(prefix), validateFor);
+        context.setFormValidationDefinition(keyTable.getFormValidationDefinition());
+        context.setPropertyKeyTable(keyTable);
+        context.setReusable(true);
+        return context;
+    }
 
+    /**
+     * 再利用可能な{@link ValidationContext}を使用して、バリデーションと値の変換を行う。
+     * <p/>
+     * コンテキストを{@link ValidationContext#reset(Map)}で初期化した後に、
+     * {@link #validateAndConvert(String, Class, Map, String)}と同じバリデーションと値の変換を行う。
+     * 前回のバリデーション結果は破棄されるため、必要な値は本メソッドを再度呼び出す前に取得しておくこと。
+     * ただし、前回取得したメッセージのリストや生成したフォームは変更されない。
+     *
+     * @param <T>     バリデーション結果で取得できる型
+     * @param context {@link #createReusableValidationContext(String, Class, String)}で生成したコンテキスト
+     * @param params  バリデーション対象のデータ
+     * @return バリデーション結果の入ったValidationContext(引数のコンテキスト)
+     */
+    @Published(tag = "architect")
+    public <T> ValidationContext<T> validateAndConvert(ValidationContext<T> context, Map<String, ?> params) {
+        if (validatorMap == null) {
+            throw new IllegalStateException("ValidationManager was not initialized.");
+        }
+        context.setValidationListener(sampleValidationListener());
+        return validateAndConvertReusable(context, params);
+    }
+
+    /**
+     * 再利用可能な{@link ValidationContext}を初期化し、バリデーションと値の変換を行う。
+     * <p/>
+     * コンテキストに設定された{@link ValidationListener}をそのまま使用する。
+     *
+     * @param <T>     バリデーション結果で取得できる型
+     * @param context 再利用可能な{@link ValidationContext}
+     * @param params  バリデーション対象のデータ
+     * @return バリデーション結果の入ったValidationContext(引数のコンテキスト)
+     */
+    private <T> ValidationContext<T> validateAndConvertReusable(ValidationContext<T> context, Map<String, ?> params) {
+        context.reset(params);
+        FormValidationDefinition formValidationDefinition = context.getFormValidationDefinition();
+        if (formValidationDefinition == null) {
+            formValidationDefinition = getFormValidationDefinition(
+                    context.getTargetClass(), context.getValidationListener());
+            context.setFormValidationDefinition(formValidationDefinition);
+        }
+        validateAndConvertForm(context, formValidationDefinition);
+        return context;
+    }
+
+    /**
+     * プレフィクスをMapに入ったキーのプレフィクスに変換する。
+     *
+     * @param prefix プレフィクス
+     * @return Mapに入ったキーのプレフィクス
+     */
+    private static String toInnerPrefix(String prefix) {
+        if (StringUtil.isNullOrEmpty(prefix)) {
+            return "";
+        }
+        return prefix + ".";
+    }
+
+    /**
+     * フォームのバリデーションと変換を行う。
+     * <p/>
+     * バリデーション対象メソッドが指定されている場合はValidateForアノテーションのついたメソッドを呼び出し、
+     * 指定されていない場合は全てのプロパティのバリデーションと変換を行う。
+     *
+     * @param <T>                      バリデーション結果で取得できる型
+     * @param context                  ValidationContext
+     * @param formValidationDefinition FormValidationDefinition
+     */
+    private <T> void validateAndConvertForm(ValidationContext<T> context,
+            FormValidationDefinition formValidationDefinition) {
+        ValidationListener listener = context.getValidationListener();
+        long start = listener == null ? 0L : System.nanoTime();
+        String validateFor = context.getValidateFor();
         if (validateFor != null) {
-            List<Method> validateForMethods = formValidationDefinition.getValidateForMethods(validateFor);
+            Method[] validateForMethods = getFormValidationPlan(formValidationDefinition).getValidateForMethods(validateFor);
             for (Method m : validateForMethods) {
                 try {
-                    m.invoke(formValidationDefinition, context);
+                    m.invoke(null, context);
                 } catch (Exception e) {
                     throw new RuntimeException("ValidateFor method invocation failed. "
-                            + "targetClass = " + targetClass.getName()
+                            + "targetClass = " + context.getTargetClass().getName()
                             + ", method = " + m.getName(), e);
                 }
             }
         } else {
             validateAndConvertAllProperty(context, formValidationDefinition);
         }
+        if (listener != null) {
+            listener.formValidated(context.getTargetClass(), context.getPrefix(), context.isValid(),
+                    System.nanoTime() - start);
+        }
+    }
 
-        return context;
+    /**
+     * フォームに紐付けられたバリデーションの設定を取得する。
+     *
+     * @param formClass フォームのクラス
+     * @param listener  所要時間を通知する{@link ValidationListener}。通知しない場合は{@code null}
+     * @return フォームに紐付けられたバリデーションの設定
+     */
+    private FormValidationDefinition getFormValidationDefinition(Class<?> formClass, ValidationListener listener) {
+        if (listener == null) {
+            return formDefinitionCache.getValue(formClass);
+        }
+        long start = System.nanoTime();
+        FormValidationDefinition definition = formDefinitionCache.getValue(formClass);
+        listener.definitionLoaded(formClass, System.nanoTime() - start);
+        return definition;
+    }
+
+    /**
+     * 子フォームのバリデーションと変換を行う。
+     * <p/>
+     * 親のコンテキストが再利用可能な場合は、子フォームのコンテキストも再利用する。
+     * 子フォームのパラメータのキーは、親のコンテキストのパラメータのキーが保持しているものを使用する。
+     *
+     * @param context      親のValidationContext
+     * @param propertyName 子フォームのプロパティ名
+     * @param index        フォームの配列の要素の添字。配列でない場合は-1
+     * @param formType     子フォームのクラス
+     * @return 子フォームのバリデーション結果の入ったValidationContext
+     */
+    private ValidationContext<?> validateAndConvertChild(ValidationContext<?> context, String propertyName,
+            int index, Class<?> formType) {
+        PropertyKeyTable childKeyTable = getChildKeyTable(context, propertyName, index, formType);
+        String childPrefix;
+        if (childKeyTable != null) {
+            childPrefix = childKeyTable.getPath();
+        } else if (index < 0) {
+            childPrefix = context.getPrefix() + propertyName;
+        } else {
+            childPrefix = context.getPrefix() + propertyName + "[" + index + "]";
+        }
+
+        if (!context.isReusable()) {
+            if (customValidateAndConvert || childKeyTable == null) {
+                return validateAndConvert(childPrefix, formType, context.getParams(), context.getValidateFor());
+            }
+            FormValidationDefinition childDefinition = childKeyTable.getFormValidationDefinition();
+            ValidationContext<?> childContext = createValidationContext(
+                    formType, context.getParams(), childKeyTable.getPrefix(), context.getValidateFor());
+            childContext.setValidationListener(context.getValidationListener());
+            childContext.setParentContext(context);
+            childContext.setFormValidationDefinition(childDefinition);
+            childContext.setPropertyKeyTable(childKeyTable);
+            validateAndConvertForm(childContext, childDefinition);
+            return childContext;
+        }
+        ValidationContext<?> childContext = getReusableChildContext(context, childPrefix, formType, childKeyTable);
+        return validateAndConvertReusable(childContext, context.getParams());
+    }
+
+    /**
+     * 再利用可能な子フォームのコンテキストを取得する。
+     * <p/>
+     * 子フォームのコンテキストが存在しない場合は作成し、親のコンテキストに保持する。
+     *
+     * @param context       親のValidationContext
+     * @param childPrefix   子フォームのプレフィクス
+     * @param formType      子フォームのクラス
+     * @param childKeyTable 子フォームのパラメータのキー。存在しない場合は{@code null}
+     * @return 再利用可能な子フォームのコンテキスト
+     */
+    private ValidationContext<?> getReusableChildContext(ValidationContext<?> context, String childPrefix,
+            Class<?> formType, PropertyKeyTable childKeyTable) {
+        ValidationContext<?> childContext = context.getChildContext(childPrefix);
+        if (childContext == null) {
+            if (childKeyTable == null) {
+                childContext = createReusableValidationContext(childPrefix, formType, context.getValidateFor());
+            } else {
+                childContext = createReusableValidationContext(
+                        childPrefix, formType, context.getValidateFor(), childKeyTable);
+            }
+            childContext.setParentContext(context);
+            context.putChildContext(childPrefix, childContext);
+        }
+        // 呼び出し毎に設定された打ち切り条件を引き継ぐ。
+        childContext.setMaxMessageCount(context.getMaxMessageCount());
+        childContext.setFormArrayFailFast(context.isFormArrayFailFast());
+        childContext.setValidationListener(context.getValidationListener());
+        return childContext;
+    }
+
+    /**
+     * 子フォームのパラメータのキーを取得する。
+     *
+     * @param context      親のValidationContext
+     * @param propertyName 子フォームのプロパティ名
+     * @param index        フォームの配列の要素の添字。配列でない場合は-1
+     * @param formType     子フォームのクラス
+     * @return 子フォームのパラメータのキー。親のコンテキストがパラメータのキーを保持していない場合は{@code null}
+     */
+    private PropertyKeyTable getChildKeyTable(ValidationContext<?> context, String propertyName,
+            int index, Class<?> formType) {
+        PropertyKeyTable keyTable = context.getPropertyKeyTable();
+        if (keyTable == null) {
+            return null;
+        }
+        int ordinal = keyTable.getFormValidationDefinition().getPropertyOrdinal(propertyName);
+        if (ordinal < 0) {
+            return null;
+        }
+        FormValidationDefinition childDefinition = formDefinitionCache.getValue(formType);
+        if (index < 0) {
+            return keyTable.getChild(ordinal, childDefinition);
+        }
+        return keyTable.getElement(ordinal, index, childDefinition);
     }
 
     /**
@@ -245,7 +831,11 @@ public class ValidationManager implements Initializable {
     @Published(tag = "architect")
     public <T> ValidationContext<T> createValidationContext(Class<T> targetClass,
             Map<String, ?> params, String innerPrefix, String validateFor) {
-        return new ValidationContext<T>(innerPrefix, targetClass, formCreator, params, validateFor);
+        ValidationContext<T> context = new ValidationContext<T>(innerPrefix, targetClass, formCreator, params, validateFor);
+        context.setLazyMessageResolution(lazyMessageResolution);
+        context.setMaxMessageCount(maxMessageCount);
+        context.setFormArrayFailFast(formArrayFailFast);
+        return context;
     }
 
     /**
@@ -257,9 +847,133 @@ public class ValidationManager implements Initializable {
      */
     protected <T> void validateAndConvertAllProperty(ValidationContext<T> context,
             FormValidationDefinition formValidationDefinition) {
-        for (Map.Entry<String, PropertyValidationDefinition> entry : formValidationDefinition.getPropertyValidationDefinitions().entrySet()) {
-            validateAndConvertProperty(context, formValidationDefinition, entry.getValue());
+        FormValidationPlan formPlan = getFormValidationPlan(formValidationDefinition);
+        for (PropertyValidationPlan propertyPlan : formPlan.getPropertyValidationPlans()) {
+            if (context.isMessageLimitReached()) {
+                return;
+            }
+            validateAndConvertProperty(context, formValidationDefinition, propertyPlan);
+        }
+    }
+
+    /**
+     * フォームに対するバリデーションと変換の実行計画を取得する。
+     * <p/>
+     * 実行計画が作成されていない場合や、実行計画の作成後に{@link FormValidationDefinition}が
+     * 再読み込みされた場合は、実行計画を作成する。
+     *
+     * @param formValidationDefinition FormValidationDefinition
+     * @return フォームに対するバリデーションと変換の実行計画
+     */
+    protected FormValidationPlan getFormValidationPlan(FormValidationDefinition formValidationDefinition) {
+        Class<?> formClass = formValidationDefinition.getFormClass();
+        FormValidationPlan plan = formValidationPlans.get(formClass);
+        if (plan == null || plan.getFormValidationDefinition() != formValidationDefinition) {
+            plan = createFormValidationPlan(formValidationDefinition);
+            formValidationPlans.put(formClass, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * フォームに対するバリデーションと変換の実行計画を作成する。
+     *
+     * @param formValidationDefinition FormValidationDefinition
+     * @return フォームに対するバリデーションと変換の実行計画
+     */
+    protected FormValidationPlan createFormValidationPlan(FormValidationDefinition formValidationDefinition) {
+        Map<String, PropertyValidationDefinition> propertyDefs = formValidationDefinition.getPropertyValidationDefinitions();
+        PropertyValidationPlan[] propertyPlans = new PropertyValidationPlan[propertyDefs.size()];
+        int i = 0;
+        for (PropertyValidationDefinition propertyDef : propertyDefs.values()) {
+            propertyPlans[i++] = createPropertyValidationPlan(formValidationDefinition, propertyDef);
+        }
+        return new FormValidationPlan(formValidationDefinition, propertyPlans);
+    }
+
+    /**
+     * プロパティに対するバリデーションと変換の実行計画を作成する。
+     *
+     * @param formDef     FormValidationDefinition
+     * @param propertyDef PropertyValidationDefinition
+     * @return プロパティに対するバリデーションと変換の実行計画
+     */
+    protected PropertyValidationPlan createPropertyValidationPlan(FormValidationDefinition formDef,
+            PropertyValidationDefinition propertyDef) {
+
+        List<Annotation> annotations = propertyDef.getValidatorAnnotations();
+        Validator[] validators = new Validator[annotations.size()];
+        for (int i = 0; i < validators.length; i++) {
+            validators[i] = validatorMap.get(annotations.get(i).annotationType());
+            if (validators[i] == null && failOnUnsupportedDefinition) {
+                throw createUnsupportedValidationException(annotations.get(i), formDef.getFormClass(), propertyDef.getName());
+            }
+        }
+
+        Convertor convertor = null;
+        Annotation format = null;
+        Annotation convertorFormatAnnotation = propertyDef.getConvertorFormatAnnotation();
+        if (!(convertorFormatAnnotation instanceof ValidationTarget)) {
+            convertor = convertorMap.get(propertyDef.getType());
+            if (convertor != null) {
+                format = getFormatAnnotation(convertorFormatAnnotation);
+            } else if (failOnUnsupportedDefinition) {
+                throw createUnsupportedTypeException(propertyDef.getType(), formDef.getFormClass(), propertyDef.getName());
+            }
         }
+
+        // 表示名の解決方法は createPropertyDisplayNameObject と同じ優先順位で決定する。
+        DisplayNameType displayNameType;
+        String displayName;
+        if (customPropertyDisplayName) {
+            displayNameType = DisplayNameType.CUSTOM;
+            displayName = propertyDef.getName();
+        } else if (useFormPropertyNameAsMessageId) {
+            displayNameType = DisplayNameType.MESSAGE;
+            displayName = propertyDef.getNameWithClass();
+        } else if (!StringUtil.isNullOrEmpty(propertyDef.getDefaultDisplayName())) {
+            displayNameType = DisplayNameType.FIXED;
+            displayName = propertyDef.getDefaultDisplayName();
+        } else if (!StringUtil.isNullOrEmpty(propertyDef.getMessageId())) {
+            displayNameType = DisplayNameType.MESSAGE_OR_PROPERTY_NAME;
+            displayName = propertyDef.getMessageId();
+        } else {
+            displayNameType = DisplayNameType.FIXED;
+            displayName = propertyDef.getName();
+        }
+        return new PropertyValidationPlan(propertyDef, convertor, format, validators, displayNameType, displayName);
+    }
+
+    /**
+     * サポートされていないプロパティの型を表す例外を生成する。
+     *
+     * @param type         プロパティの型
+     * @param targetClass  バリデーション対象のフォームのクラス
+     * @param propertyName プロパティ名
+     * @return 例外
+     */
+    private static UnsupportedOperationException createUnsupportedTypeException(Class<?> type,
+            Class<?> targetClass, String propertyName) {
+        return new UnsupportedOperationException("Property type was not supported. "
+                + " type = " + type
+                + ", targetClass = " + targetClass.getName()
+                + ", propertyName = " + propertyName);
+    }
+
+    /**
+     * サポートされていないバリデーションアノテーションを表す例外を生成する。
+     *
+     * @param annotation   バリデーションアノテーション
+     * @param targetClass  バリデーション対象のフォームのクラス
+     * @param propertyName プロパティ名
+     * @return 例外
+     */
+    private static UnsupportedOperationException createUnsupportedValidationException(Annotation annotation,
+            Class<?> targetClass, String propertyName) {
+        return new UnsupportedOperationException("Validation annotation was not supported. "
+                + "Validation annotation = " + annotation.annotationType().getName()
+                + ", targetClass = " + targetClass.getName()
+                + ", propertyName = " + propertyName);
     }
 
     /**
@@ -272,7 +986,39 @@ public class ValidationManager implements Initializable {
      */
     protected <T> void validateAndConvertProperty(ValidationContext<T> context,
             FormValidationDefinition formDef, PropertyValidationDefinition propertyDef) {
-        String propertyName = propertyDef.getName();
+        PropertyValidationPlan plan = getFormValidationPlan(formDef).getPropertyValidationPlan(propertyDef.getName());
+        validateAndConvertProperty(context, plan);
+    }
+
+    /**
+     * 実行計画に従い、プロパティに対するバリデーションと変換を行う。
+     * <p/>
+     * {@link #validateAndConvertProperty(ValidationContext, FormValidationDefinition, PropertyValidationDefinition)}
+     * がサブクラスでオーバライドされている場合は、そちらに処理を委譲する。
+     *
+     * @param <T>     バリデーション結果で取得できる型
+     * @param context ValidationContext
+     * @param formDef FormValidationDefinition
+     * @param plan    プロパティに対するバリデーションと変換の実行計画
+     */
+    private <T> void validateAndConvertProperty(ValidationContext<T> context,
+            FormValidationDefinition formDef, PropertyValidationPlan plan) {
+        if (customPropertyValidation) {
+            validateAndConvertProperty(context, formDef, plan.getPropertyValidationDefinition());
+        } else {
+            validateAndConvertProperty(context, plan);
+        }
+    }
+
+    /**
+     * 実行計画に従い、プロパティに対するバリデーションと変換を行う。
+     *
+     * @param <T>     バリデーション結果で取得できる型
+     * @param context ValidationContext
+     * @param plan    プロパティに対するバリデーションと変換の実行計画
+     */
+    protected <T> void validateAndConvertProperty(ValidationContext<T> context, PropertyValidationPlan plan) {
+        String propertyName = plan.getName();
 
         if (context.isProcessed(propertyName)) {
             return;
@@ -280,126 +1026,210 @@ public class ValidationManager implements Initializable {
 
         context.setPropertyProcessed(propertyName);
 
-        Object values = context.getParameters(propertyName);
-
-        Annotation convertorFormatAnnotation = propertyDef.getConvertorFormatAnnotation();
+        ValidationListener listener = context.getValidationListener();
+        if (listener == null) {
+            convertAndValidateProperty(context, plan, null);
+            return;
+        }
+        long start = System.nanoTime();
+        convertAndValidateProperty(context, plan, listener);
+        listener.propertyValidated(context.getTargetClass(), propertyName, !context.isInvalid(propertyName),
+                System.nanoTime() - start);
+    }
 
+    /**
+     * 実行計画に従い、プロパティの値の変換とバリデーションを行う。
+     *
+     * @param <T>      バリデーション結果で取得できる型
+     * @param context  ValidationContext
+     * @param plan     プロパティに対するバリデーションと変換の実行計画
+     * @param listener 所要時間と結果を通知する{@link ValidationListener}。通知しない場合は{@code null}
+     */
+    private <T> void convertAndValidateProperty(ValidationContext<T> context, PropertyValidationPlan plan,
+            ValidationListener listener) {
+        String propertyName = plan.getName();
         Object converted;
-        Object propertyDisplayName = null;
-
-        if (convertorFormatAnnotation instanceof ValidationTarget) {
-
-            ValidationTarget validationSpec = (ValidationTarget) convertorFormatAnnotation;
-
-            if (propertyDef.getType().isArray()) {
-                Class<?> type = propertyDef.getType().getComponentType();
-                
-                int len = validationSpec.size();
-
-                if (len == 0) {
-                    String sizeKey = validationSpec.sizeKey();
-                    Object formArraySizeValue = (Object) context
-                            .getParameters(sizeKey);
-                    if (formArraySizeValue instanceof String) {
-                        String lenStr = (String) formArraySizeValue;
-                        len = validateSizeValue(context, sizeKey, lenStr);
-                        
-                    } else if (formArraySizeValue instanceof String[]) {
-                        String lenStr = ((String[]) formArraySizeValue)[0];
-                        len = validateSizeValue(context, sizeKey, lenStr);
-                    } else {
-                        // String でも String[] でもサイズキーが取得できなければ、例外送出。
-                        String valueType = formArraySizeValue != null ? formArraySizeValue.getClass().getName() : null;
-                        throw new IllegalArgumentException("sizeKey value type was invalid."
-                                + " property = " + context.getPrefix() + sizeKey
-                                + ", value = " + formArraySizeValue
-                                + ", value type = " + valueType);
-                    }
-
-                }
-
-                ValidationContext<?>[] contextArray = new ValidationContext<?>[len];
-                propertyDisplayName = context.getPrefix() + propertyDef.getName();
-                boolean failed = false;
-                
-                // 初めに全ての配列をバリデーション
-                for (int i = 0; i < len; i++) {
-                    String childPrefix = context.getPrefix() + propertyDef.getName() + "[" + i + "]";
-                    contextArray[i] = validateAndConvert(childPrefix, type, context.getParams(), context.getValidateFor());
-                    if (!contextArray[i].isValid()) {
-                        failed = true;
-                    }
-                }
-                
-                if (failed) {
-                    // 1つでも失敗していたら、エラー扱いとする。
-                    for (int i = 0; i < len; i++) {
-                        context.addMessages(contextArray[i].getMessages());
-                    }
-                    converted = null;
-                } else {
-                    // 成功した場合、配列オブジェクト生成
-                    Object array = Array.newInstance(type, len);
-                    for (int i = 0; i < len; i++) {
-                        Array.set(array, i, contextArray[i].createObject());
-                    }
-                    converted = array;
-                }
-                
+        Object propertyDisplayName;
+
+        switch (plan.getKind()) {
+        case FORM_ARRAY:
+            propertyDisplayName = context.getParameterKey(propertyName);
+            converted = validateAndConvertFormArray(context, plan);
+            break;
+        case FORM:
+            // 再帰的な変換を実施
+            propertyDisplayName = context.getParameterKey(propertyName);
+            ValidationContext<?> childContext = validateAndConvertChild(context, propertyName, -1, plan.getFormType());
+            if (childContext.isValid()) {
+                converted = childContext.createObject();
             } else {
-                // 再帰的な変換を実施
-                String childPrefix = context.getPrefix() + propertyDef.getName();
-    
-                propertyDisplayName = childPrefix;
-                Object converted1;
-                ValidationContext<?> childContext = validateAndConvert(childPrefix, propertyDef.getType(), context.getParams(), context.getValidateFor());
-                if (childContext.isValid()) {
-                    converted1 = childContext.createObject();
-                } else {
-                    converted1 = null;
-                    context.addMessages(childContext.getMessages());
-                }
-                
-                converted = converted1;
+                converted = null;
+                context.addMessages(childContext.getMessages());
             }
-        } else {
-            propertyDisplayName = createPropertyDisplayNameObject(context, propertyDef);
+            break;
+        default:
+            propertyDisplayName = createPropertyDisplayNameObject(context, plan);
             // 値の変換を実施
-            Convertor convertor = convertorMap.get(propertyDef.getType());
-    
+            Convertor convertor = plan.getConvertor();
             if (convertor == null) {
-                throw new UnsupportedOperationException("Property type was not supported. "
-                        + " type = " + propertyDef.getType()
-                        + ", targetClass = " + context.getTargetClass().getName()
-                        + ", propertyName = " + propertyName);
+                throw createUnsupportedTypeException(plan.getPropertyValidationDefinition().getType(),
+                        context.getTargetClass(), propertyName);
             }
-    
-            Annotation format = getFormatAnnotation(convertorFormatAnnotation);
-            if (!convertor.isConvertible(context, propertyName, propertyDisplayName, values, format)) {
+
+            Object values = context.getParameters(propertyName);
+            Annotation format = plan.getFormatAnnotation();
+            if (listener == null) {
+                if (!convertor.isConvertible(context, propertyName, propertyDisplayName, values, format)) {
+                    return;
+                }
+                converted = convertor.convert(context, propertyName, values, format);
+                break;
+            }
+            long start = System.nanoTime();
+            boolean convertible = convertor.isConvertible(context, propertyName, propertyDisplayName, values, format);
+            converted = convertible ? convertor.convert(context, propertyName, values, format) : null;
+            listener.converted(context.getTargetClass(), propertyName, convertor, convertible,
+                    System.nanoTime() - start);
+            if (!convertible) {
                 return;
             }
-    
-            converted = convertor.convert(context, propertyName, values, format);
+            break;
         }
         context.putConvertedValue(propertyName, converted);
 
         // バリデーションを実施
-        for (Annotation annotation : propertyDef.getValidatorAnnotations()) {
-            Validator validator = validatorMap.get(annotation.annotationType());
+        List<CompiledValidator> validators = plan.getCompiledValidators();
+        List<Annotation> annotations = plan.getValidatorAnnotations();
+        for (int i = 0, size = validators.size(); i < size; i++) {
+            CompiledValidator validator = validators.get(i);
             if (validator == null) {
-                throw new UnsupportedOperationException("Validation annotation was not supported. "
-                        + "Validation annotation = " + annotation.annotationType().getName()
-                        + ", targetClass = " + context.getTargetClass().getName()
-                        + ", propertyName = " + propertyName);
+                throw createUnsupportedValidationException(annotations.get(i), context.getTargetClass(), propertyName);
             }
             Object convertedValue = context.getConvertedValue(propertyName);
 
-            if (!validator.validate(context, propertyName, propertyDisplayName, annotation, convertedValue)) {
+            if (listener == null) {
+                if (!validator.validate(context, propertyName, propertyDisplayName, convertedValue)) {
+                    return;
+                }
+                continue;
+            }
+            long start = System.nanoTime();
+            boolean valid = validator.validate(context, propertyName, propertyDisplayName, convertedValue);
+            listener.validated(context.getTargetClass(), propertyName, annotations.get(i), valid,
+                    System.nanoTime() - start);
+            if (!valid) {
                 return;
             }
         }
     }
-    
+
+    /**
+     * {@link ValidationTarget}が設定されたフォームの配列のプロパティに対するバリデーションと変換を行う。
+     *
+     * @param <T>     バリデーション結果で取得できる型
+     * @param context ValidationContext
+     * @param plan    プロパティに対するバリデーションと変換の実行計画
+     * @return 変換後の配列。バリデーションエラーが発生した場合は{@code null}
+     */
+    private <T> Object validateAndConvertFormArray(ValidationContext<T> context, PropertyValidationPlan plan) {
+        Class<?> type = plan.getFormType();
+        ValidationTarget validationSpec = plan.getValidationTarget();
+
+        int len = validationSpec.size();
+
+        if (len == 0) {
+            String sizeKey = validationSpec.sizeKey();
+            Object formArraySizeValue = (Object) context
+                    .getParameters(sizeKey);
+            if (formArraySizeValue instanceof String) {
+                String lenStr = (String) formArraySizeValue;
+                len = validateSizeValue(context, sizeKey, lenStr);
+
+            } else if (formArraySizeValue instanceof String[]) {
+                String lenStr = ((String[]) formArraySizeValue)[0];
+                len = validateSizeValue(context, sizeKey, lenStr);
+            } else {
+                // String でも String[] でもサイズキーが取得できなければ、例外送出。
+                String valueType = formArraySizeValue != null ? formArraySizeValue.getClass().getName() : null;
+                throw new IllegalArgumentException("sizeKey value type was invalid."
+                        + " property = " + context.getPrefix() + sizeKey
+                        + ", value = " + formArraySizeValue
+                        + ", value type = " + valueType);
+            }
+
+        }
+
+        ValidationContext<?>[] contextArray = new ValidationContext<?>[len];
+        boolean failed = false;
+        int validated = 0;
+        int messageCount = context.getMessageCount();
+
+        boolean parallel = formArrayExecutor != null && len > parallelFormArrayThreshold;
+        if (parallel) {
+            validateAndConvertFormArrayInParallel(context, plan.getName(), type, contextArray);
+        }
+
+        // 初めに全ての配列をバリデーション
+        // 並列に実行した場合も、打ち切り条件は要素の順に判定する。
+        for (int i = 0; i < len; i++) {
+            if (!parallel) {
+                contextArray[i] = validateAndConvertChild(context, plan.getName(), i, type);
+            }
+            validated++;
+            if (!contextArray[i].isValid()) {
+                failed = true;
+                messageCount += contextArray[i].getMessageCount();
+                if (context.isFormArrayFailFast()
+                        || (context.getMaxMessageCount() > 0 && messageCount >= context.getMaxMessageCount())) {
+                    // 打ち切り条件を満たした場合は、以降の要素をバリデーションしない。
+                    break;
+                }
+            }
+        }
+
+        if (failed) {
+            // 1つでも失敗していたら、エラー扱いとする。
+            for (int i = 0; i < validated; i++) {
+                context.addMessages(contextArray[i].getMessages());
+            }
+            return null;
+        }
+        // 成功した場合、配列オブジェクト生成
+        Object array = Array.newInstance(type, len);
+        for (int i = 0; i < len; i++) {
+            Array.set(array, i, contextArray[i].createObject());
+        }
+        return array;
+    }
+
+    /**
+     * フォームの配列の要素のバリデーションと変換を並列に行う。
+     *
+     * @param context      親のValidationContext
+     * @param propertyName フォームの配列のプロパティ名
+     * @param formType     要素のフォームのクラス
+     * @param contextArray 要素のバリデーション結果を格納する配列
+     */
+    private void validateAndConvertFormArrayInParallel(final ValidationContext<?> context,
+            final String propertyName, final Class<?> formType, ValidationContext<?>[] contextArray) {
+        if (context.isReusable()) {
+            // 子フォームのコンテキストの作成は呼び出し元のスレッドで行う。
+            for (int i = 0; i < contextArray.length; i++) {
+                PropertyKeyTable childKeyTable = getChildKeyTable(context, propertyName, i, formType);
+                String childPrefix = childKeyTable != null
+                        ? childKeyTable.getPath()
+                        : context.getPrefix() + propertyName + "[" + i + "]";
+                getReusableChildContext(context, childPrefix, formType, childKeyTable);
+            }
+        }
+        ParallelFormArrayValidation.run(formArrayExecutor, contextArray,
+                new ParallelFormArrayValidation.ElementValidation() {
+                    public ValidationContext<?> validate(int index) {
+                        return validateAndConvertChild(context, propertyName, index, formType);
+                    }
+                });
+    }
+
     /** ドメイン定義によるバリデーションをサポートするヘルパークラス */
     private DomainValidationHelper domainValidationHelper;
 
@@ -409,6 +1239,7 @@ public class ValidationManager implements Initializable {
      */
     public void setDomainValidationHelper(DomainValidationHelper domainValidationHelper) {
         this.domainValidationHelper = domainValidationHelper;
+        formValidationPlans.clear();
     }
 
     /**
@@ -451,8 +1282,8 @@ public class ValidationManager implements Initializable {
         }
         DirectCallableValidator directCallable = (DirectCallableValidator) validator;
         FormValidationDefinition formValidationDefinition = formDefinitionCache.getValue(context.getTargetClass());
-        PropertyValidationDefinition propertyDef = formValidationDefinition.getPropertyValidationDefinition(propertyName);
-        Object propertyDispName = createPropertyDisplayNameObject(context, propertyDef);
+        PropertyValidationPlan plan = getFormValidationPlan(formValidationDefinition).getPropertyValidationPlan(propertyName);
+        Object propertyDispName = createPropertyDisplayNameObject(context, plan);
         Object convertedValue = context.getConvertedValue(propertyName);
         if (!directCallable.validate(context, propertyName, propertyDispName, params, convertedValue)) {
             return;
@@ -498,6 +1329,34 @@ public class ValidationManager implements Initializable {
         context.addResultMessage(propertyName, invalidSizeKeyMessageId);
     }
 
+    /**
+     * 実行計画に従い、プロパティの表示名を表すオブジェクトを作成する。
+     *
+     * @param <T>     バリデーション結果で取得できる型
+     * @param context ValidationContext
+     * @param plan    プロパティに対するバリデーションと変換の実行計画
+     * @return プロパティの表示名を表すオブジェクト
+     */
+    private <T> Object createPropertyDisplayNameObject(ValidationContext<T> context, PropertyValidationPlan plan) {
+        switch (plan.getDisplayNameType()) {
+        case FIXED:
+            return plan.getDisplayName();
+        case MESSAGE:
+            return context.getMessage(plan.getDisplayName());
+        case MESSAGE_OR_PROPERTY_NAME:
+            try {
+                return context.getMessage(plan.getDisplayName());
+            } catch (MessageNotFoundException e) {
+                LOGGER.logWarn("message was not found."
+                        + " message id = " + plan.getDisplayName()
+                        , e);
+            }
+            return plan.getName();
+        default:
+            return createPropertyDisplayNameObject(context, plan.getPropertyValidationDefinition());
+        }
+    }
+
     /**
      * プロパティの表示名を表すオブジェクトを作成する。
      *
@@ -547,10 +1406,12 @@ public class ValidationManager implements Initializable {
     public <T> void validate(ValidationContext<T> context, String[] propertyNames) {
         FormValidationDefinition formValidationDefinition = formDefinitionCache.getValue(
                 context.getTargetClass());
+        FormValidationPlan formPlan = getFormValidationPlan(formValidationDefinition);
         for (String propertyName : propertyNames) {
-            PropertyValidationDefinition propertyDef = formValidationDefinition.getPropertyValidationDefinition(
-                    propertyName);
-            validateAndConvertProperty(context, formValidationDefinition, propertyDef);
+            if (context.isMessageLimitReached()) {
+                return;
+            }
+            validateAndConvertProperty(context, formValidationDefinition, formPlan.getPropertyValidationPlan(propertyName));
         }
     }
 
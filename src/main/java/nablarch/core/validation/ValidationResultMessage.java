@@ -20,6 +20,11 @@ public class ValidationResultMessage extends Message {
      * バリデーション対象のプロパティ名。
      */
     private String propertyName;
+
+    /**
+     * バリデーション結果のメッセージ。
+     */
+    private final StringResource stringResource;
     
     /**
      * {@code ValidationResultMessage}オブジェクトを構築する。
@@ -34,6 +39,7 @@ public class ValidationResultMessage extends Message {
             Object[] parameters) {
         super(MessageLevel.ERROR, message, parameters);
         this.propertyName = propertyName;
+        this.stringResource = message;
     }
 
     /**
@@ -45,6 +51,15 @@ public class ValidationResultMessage extends Message {
         return propertyName;
     }
 
+    /**
+     * バリデーション結果のメッセージを取得する。
+     *
+     * @return バリデーション結果のメッセージ
+     */
+    StringResource getStringResource() {
+        return stringResource;
+    }
+
     /**
      * このオブジェクトと等価であるかを返す。
      * <p/>
@@ -1,6 +1,13 @@
 package nablarch.core.validation;
 
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import nablarch.core.message.Message;
+import nablarch.core.message.MessageUtil;
+import nablarch.core.message.StringResource;
 import nablarch.core.util.annotation.Published;
 
 /**
@@ -35,4 +42,39 @@ public final class ValidationResultMessageUtil {
         System.arraycopy(params, 0, propertyAdded, 1, params.length);
         context.addResultMessage(propertyName, messageId, propertyAdded);
     }
+
+    /**
+     * メッセージの取得を遅延したバリデーション結果メッセージの、メッセージをまとめて取得する。
+     * <p/>
+     * 同じメッセージIDのメッセージは1度だけ取得する。
+     * 多数のバリデーション結果メッセージを続けて出力する前に呼び出すことで、メッセージの取得回数を削減できる。
+     * メッセージの取得を遅延していないメッセージ、取得済みのメッセージは対象外とする。
+     *
+     * @param messages バリデーション結果メッセージを含むメッセージのリスト
+     * @throws nablarch.core.message.MessageNotFoundException メッセージIDに対応するメッセージが存在しない場合
+     * @see ValidationManager#setLazyMessageResolution(boolean)
+     */
+    @Published(tag = "architect")
+    public static void resolveMessages(List<? extends Message> messages) {
+        Map<String, StringResource> resolved = new HashMap<String, StringResource>();
+        for (Message message : messages) {
+            if (!(message instanceof ValidationResultMessage)) {
+                continue;
+            }
+            StringResource stringResource = ((ValidationResultMessage) message).getStringResource();
+            if (!(stringResource instanceof LazyStringResource)) {
+                continue;
+            }
+            LazyStringResource lazy = (LazyStringResource) stringResource;
+            if (lazy.isResolved()) {
+                continue;
+            }
+            StringResource resource = resolved.get(lazy.getId());
+            if (resource == null) {
+                resource = MessageUtil.getStringResource(lazy.getId());
+                resolved.put(lazy.getId(), resource);
+            }
+            lazy.setResolved(resource);
+        }
+    }
 }
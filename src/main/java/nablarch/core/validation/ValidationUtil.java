@@ -2,6 +2,7 @@ package nablarch.core.validation;
 
 import java.lang.annotation.Annotation;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
 
 import nablarch.core.message.Message;
@@ -192,6 +193,43 @@ public final class ValidationUtil {
         return validateAndConvertRequest(prefix, targetClass, request.getParamMap(), validateFor);
     }
 
+    /**
+     * 複数のリクエストのバリデーションと変換を行う。
+     * <p/>
+     * バリデーション結果は、リクエストの順に{@link BulkValidationHandler}に通知される。
+     *
+     * @param <T> バリデーション結果で取得できる型
+     * @param targetClass バリデーション対象のフォームクラス
+     * @param records バリデーション対象のデータ
+     * @param validateFor targetClassのバリデーション対象メソッドに付与した{@link ValidateFor}の値
+     * @param handler 結果を受け取る{@link BulkValidationHandler}
+     * @see ValidationManager#validateAndConvertAll(String, Class, Iterator, String, BulkValidationHandler)
+     */
+    @Published
+    public static <T> void validateAndConvertRequests(Class<T> targetClass,
+            Iterator<? extends Map<String, ?>> records, String validateFor, BulkValidationHandler<? super T> handler) {
+        validateAndConvertRequests("", targetClass, records, validateFor, handler);
+    }
+
+    /**
+     * 複数のリクエストのバリデーションと変換を行う。
+     * <p/>
+     * バリデーション結果は、リクエストの順に{@link BulkValidationHandler}に通知される。
+     *
+     * @param <T> バリデーション結果で取得できる型
+     * @param prefix リクエストパラメータ名のプレフィクス
+     * @param targetClass バリデーション対象のフォームクラス
+     * @param records バリデーション対象のデータ
+     * @param validateFor targetClassのバリデーション対象メソッドに付与した{@link ValidateFor}の値
+     * @param handler 結果を受け取る{@link BulkValidationHandler}
+     * @see ValidationManager#validateAndConvertAll(String, Class, Iterator, String, BulkValidationHandler)
+     */
+    @Published
+    public static <T> void validateAndConvertRequests(String prefix, Class<T> targetClass,
+            Iterator<? extends Map<String, ?>> records, String validateFor, BulkValidationHandler<? super T> handler) {
+        getManager().validateAndConvertAll(prefix, targetClass, records, validateFor, handler);
+    }
+
     /**
      * 特定のプロパティに対するバリデーションエラーメッセージを作成する。
      * 
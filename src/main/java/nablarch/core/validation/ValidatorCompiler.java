@@ -0,0 +1,83 @@
+package nablarch.core.validation;
+
+import java.lang.annotation.Annotation;
+
+import nablarch.core.util.annotation.Published;
+
+/**
+ * {@link Validator}とアノテーションから{@link CompiledValidator}を生成するクラス。
+ *
+ * @author TIS
+ */
+@Published(tag = "architect")
+public final class ValidatorCompiler {
+
+    /** 隠蔽コンストラクタ。 */
+    private ValidatorCompiler() {
+    }
+
+    /**
+     * {@link CompiledValidator}を生成する。
+     * <p/>
+     * バリデータが{@link CompilableValidator}を実装している場合は{@link CompilableValidator#compile(Annotation)}で生成する。
+     * 実装していない場合や、{@link CompilableValidator#compile(Annotation)}が{@code null}を返した場合は、
+     * {@link #adapt(Validator, Annotation)}で生成する。
+     *
+     * @param validator バリデータ
+     * @param annotation アノテーション
+     * @return {@link CompiledValidator}
+     */
+    public static CompiledValidator compile(Validator validator, Annotation annotation) {
+        if (validator instanceof CompilableValidator) {
+            CompiledValidator compiled = ((CompilableValidator) validator).compile(annotation);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+        return adapt(validator, annotation);
+    }
+
+    /**
+     * {@link Validator#validate(ValidationContext, String, Object, Annotation, Object)}を呼び出す
+     * {@link CompiledValidator}を生成する。
+     *
+     * @param validator バリデータ
+     * @param annotation アノテーション
+     * @return {@link CompiledValidator}
+     */
+    public static CompiledValidator adapt(Validator validator, Annotation annotation) {
+        return new Adapter(validator, annotation);
+    }
+
+    /**
+     * {@link Validator}とアノテーションを保持し、
+     * {@link Validator#validate(ValidationContext, String, Object, Annotation, Object)}を呼び出す{@link CompiledValidator}。
+     */
+    private static final class Adapter implements CompiledValidator {
+
+        /** バリデータ */
+        private final Validator validator;
+
+        /** アノテーション */
+        private final Annotation annotation;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param validator バリデータ
+         * @param annotation アノテーション
+         */
+        private Adapter(Validator validator, Annotation annotation) {
+            this.validator = validator;
+            this.annotation = annotation;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public <T> boolean validate(ValidationContext<T> context, String propertyName,
+                Object propertyDisplayName, Object value) {
+            return validator.validate(context, propertyName, propertyDisplayName, annotation, value);
+        }
+    }
+}
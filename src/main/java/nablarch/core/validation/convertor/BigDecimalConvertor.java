@@ -75,6 +75,14 @@ import nablarch.core.util.annotation.Published;
 @Published(tag = "architect")
 public class BigDecimalConvertor extends NumberConvertorSupport {
 
+    /** {@link #createPattern(Digits, DecimalFormatSymbols)}がサブクラスでオーバライドされているか否か */
+    private final boolean customPattern = isOverridden(BigDecimalConvertor.class,
+            "createPattern", Digits.class, DecimalFormatSymbols.class);
+
+    /** {@link #convertToPropertyType(String)}がサブクラスでオーバライドされているか否か */
+    private final boolean customPropertyType = isOverridden(BigDecimalConvertor.class,
+            "convertToPropertyType", String.class);
+
     /**
      * {@inheritDoc}
      */
@@ -89,7 +97,35 @@ public class BigDecimalConvertor extends NumberConvertorSupport {
     protected Number convertToPropertyType(String numberString) {
         return new BigDecimal(numberString);
     }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * {@link #convertToPropertyType(String)}がオーバライドされていない場合は{@link NumberParser}で変換する。
+     */
+    @Override
+    Number parse(String str, int begin, int end, DecimalFormatSymbols symbols) {
+        if (customPropertyType) {
+            return null;
+        }
+        return NumberParser.parseBigDecimal(str, begin, end,
+                symbols.getGroupingSeparator(), symbols.getDecimalSeparator());
+    }
     
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * {@link #createPattern(Digits, DecimalFormatSymbols)}がオーバライドされていない場合は、
+     * 同じ書式を受け付ける{@link DigitsScanner}を作成する。
+     */
+    @Override
+    DigitsScanner createScanner(Digits digits, DecimalFormatSymbols symbols) {
+        if (customPattern) {
+            return null;
+        }
+        return DigitsScanner.create(digits.integer(), digits.fraction(), digits.commaSeparated(), symbols, true);
+    }
+
     @Override
     protected Pattern createPattern(Digits digits, DecimalFormatSymbols symbols) {
         
@@ -2,6 +2,8 @@ package nablarch.core.validation.convertor;
 
 import java.lang.reflect.Array;
 import java.text.DecimalFormatSymbols;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import nablarch.core.util.FormatSpec;
 import nablarch.core.validation.ValidationContext;
@@ -13,6 +15,32 @@ import nablarch.fw.ExecutionContext;
  */
 public final class ConversionUtil {
 
+    /** フォーマット仕様のキーの接尾辞 */
+    private static final String FORMAT_SPEC_SUFFIX = "_" + ExecutionContext.FW_PREFIX + "formatSpec";
+
+    /** パターンのセパレータのキーの接尾辞 */
+    private static final String FORMAT_SPEC_SEPARATOR_SUFFIX = FORMAT_SPEC_SUFFIX + "_separator";
+
+    /**
+     * キャッシュするエントリ数の上限。
+     * フォーマット仕様はリクエストパラメータで指定されるため、上限を超えた場合はキャッシュしない。
+     */
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    /** プロパティ名をキーとする、フォーマット仕様とパターンのセパレータのパラメータ名 */
+    private static final ConcurrentMap<String, String[]> FORMAT_SPEC_KEYS = new ConcurrentHashMap<String, String[]>();
+
+    /** フォーマット文字列をキーとする、パターンのセパレータが指定されていない解析済みのフォーマット仕様 */
+    private static final ConcurrentMap<String, FormatSpec> FORMAT_SPECS = new ConcurrentHashMap<String, FormatSpec>();
+
+    /**
+     * パターンのセパレータ、NUL文字、フォーマット文字列を連結した文字列をキーとする、
+     * パターンのセパレータが指定された解析済みのフォーマット仕様。
+     * セパレータが指定されていない場合と異なるキーが衝突しないよう、別のMapで保持する。
+     */
+    private static final ConcurrentMap<String, FormatSpec> SEPARATED_FORMAT_SPECS
+            = new ConcurrentHashMap<String, FormatSpec>();
+
     /** 隠蔽コンストラクタ */
     private ConversionUtil() {
     }
@@ -35,12 +63,63 @@ public final class ConversionUtil {
      * @return プロパティに対するフォーマット仕様。存在しない場合はnull
      */
     public static <T> FormatSpec getFormatSpec(ValidationContext<T> context, String propertyName) {
-        Object format = getSingleParameter(context, propertyName + "_" + ExecutionContext.FW_PREFIX + "formatSpec");
+        if (!context.hasParameterKeyEndingWith(FORMAT_SPEC_SUFFIX)) {
+            // リクエストにフォーマット仕様が1つも含まれない場合は、プロパティ毎の検索を行わない。
+            return null;
+        }
+        String[] keys = getFormatSpecKeys(propertyName);
+        Object format = getSingleParameter(context, keys[0]);
         if (format == null) {
             return null;
         }
-        Object separator = getSingleParameter(context, propertyName + "_" + ExecutionContext.FW_PREFIX + "formatSpec_separator");
-        return FormatSpec.valueOf(format.toString(), separator != null ? separator.toString() : null);
+        Object separator = getSingleParameter(context, keys[1]);
+        return getFormatSpec(format.toString(), separator != null ? separator.toString() : null);
+    }
+
+    /**
+     * プロパティに対するフォーマット仕様とパターンのセパレータのパラメータ名を取得する。
+     *
+     * @param propertyName プロパティ名
+     * @return フォーマット仕様のパラメータ名とパターンのセパレータのパラメータ名
+     */
+    private static String[] getFormatSpecKeys(String propertyName) {
+        String[] keys = FORMAT_SPEC_KEYS.get(propertyName);
+        if (keys == null) {
+            keys = new String[] {propertyName + FORMAT_SPEC_SUFFIX, propertyName + FORMAT_SPEC_SEPARATOR_SUFFIX};
+            if (FORMAT_SPEC_KEYS.size() < MAX_CACHE_SIZE) {
+                FORMAT_SPEC_KEYS.putIfAbsent(propertyName, keys);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * フォーマット文字列を解析したフォーマット仕様を取得する。
+     * <p/>
+     * {@link FormatSpec}は不変のため、解析結果をフォーマット文字列とパターンのセパレータ毎にキャッシュする。
+     *
+     * @param format "データタイプ{パターン}"形式のフォーマット文字列
+     * @param patternSeparator パターンのセパレータ
+     * @return フォーマット仕様
+     */
+    private static FormatSpec getFormatSpec(String format, String patternSeparator) {
+        ConcurrentMap<String, FormatSpec> cache;
+        String key;
+        if (patternSeparator == null) {
+            cache = FORMAT_SPECS;
+            key = format;
+        } else {
+            cache = SEPARATED_FORMAT_SPECS;
+            key = patternSeparator + '\u0000' + format;
+        }
+        FormatSpec formatSpec = cache.get(key);
+        if (formatSpec == null) {
+            formatSpec = FormatSpec.valueOf(format, patternSeparator);
+            if (cache.size() < MAX_CACHE_SIZE) {
+                cache.putIfAbsent(key, formatSpec);
+            }
+        }
+        return formatSpec;
     }
 
     /**
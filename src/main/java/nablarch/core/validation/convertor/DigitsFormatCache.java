@@ -0,0 +1,274 @@
+package nablarch.core.validation.convertor;
+
+import java.text.DecimalFormatSymbols;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+/**
+ * {@link NumberConvertorSupport}が変換可否チェックに使用する書式を保持するキャッシュ。
+ * <p/>
+ * {@link Digits}の整数部の桁数、小数部の桁数、区切り文字を許容するか否かと、
+ * {@link DecimalFormatSymbols}の区切り文字、小数点の組み合わせをキーとして、
+ * {@link DigitsScanner}または正規表現パターンを保持する。
+ * <p/>
+ * エントリは固定長の配列に格納する。キーのハッシュ値から決まる位置から{@link #MAX_PROBE}個の位置を順に探索し、
+ * 空いている位置にロックを取得せずに格納する。全ての位置が使用されている場合は、先頭の位置のエントリを置き換える。
+ * このため、保持するエントリの数は配列の長さを超えない。
+ * <p/>
+ * キャッシュから取得できた回数は変換の都度記録するため、スレッド間で同じ値を更新しないよう、
+ * スレッドIDで分散した要素に同期せずに加算する。このため、複数スレッドから同時に取得した場合は回数が少なくなることがある。
+ * 取得できなかった回数は書式の作成時のみ記録するため、正確な回数を記録する。
+ * <p/>
+ * 本クラスはスレッドセーフである。
+ *
+ * @author TIS
+ */
+final class DigitsFormatCache {
+
+    /** 1つのキーに対して探索する位置の数 */
+    static final int MAX_PROBE = 4;
+
+    /** キャッシュから取得できた回数を分散して記録する要素の数(2の累乗) */
+    private static final int HIT_COUNT_STRIPES = 16;
+
+    /** キャッシュから取得できた回数を記録する要素の間隔。異なるキャッシュラインに配置するため64バイト空ける。 */
+    private static final int HIT_COUNT_PADDING = 8;
+
+    /** エントリを格納する配列 */
+    private final AtomicReferenceArray<Entry> table;
+
+    /** 配列の位置を求めるマスク */
+    private final int mask;
+
+    /** キャッシュから取得できた回数。スレッドIDで分散した要素に記録する。 */
+    private final long[] hitCounts = new long[HIT_COUNT_STRIPES * HIT_COUNT_PADDING];
+
+    /** キャッシュから取得できなかった回数 */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param maxSize 保持するエントリの上限(2の累乗に切り上げる)
+     * @throws IllegalArgumentException 上限が1未満の場合
+     */
+    DigitsFormatCache(int maxSize) throws IllegalArgumentException {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be greater than 0. maxSize = [" + maxSize + "]");
+        }
+        int capacity = Integer.highestOneBit(maxSize);
+        if (capacity < maxSize) {
+            capacity <<= 1;
+        }
+        table = new AtomicReferenceArray<Entry>(capacity);
+        mask = capacity - 1;
+    }
+
+    /**
+     * キーに対応するエントリを取得する。
+     *
+     * @param digits 数値フォーマット指定のアノテーション
+     * @param symbols 小数点に使用する文字や1000の区切り文字を提供する{@link DecimalFormatSymbols}
+     * @return エントリ。存在しない場合は{@code null}
+     */
+    Entry get(Digits digits, DecimalFormatSymbols symbols) {
+        int integer = digits.integer();
+        int fraction = digits.fraction();
+        boolean commaSeparated = digits.commaSeparated();
+        char groupingSeparator = symbols.getGroupingSeparator();
+        char decimalSeparator = symbols.getDecimalSeparator();
+        int index = hash(integer, fraction, commaSeparated, groupingSeparator, decimalSeparator);
+        for (int i = 0; i < MAX_PROBE; i++) {
+            Entry entry = table.get((index + i) & mask);
+            if (entry == null) {
+                break;
+            }
+            if (entry.matches(integer, fraction, commaSeparated, groupingSeparator, decimalSeparator)) {
+                recordHit();
+                return entry;
+            }
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * キャッシュから取得できたことを記録する。
+     */
+    private void recordHit() {
+        int stripe = (int) Thread.currentThread().getId() & (HIT_COUNT_STRIPES - 1);
+        hitCounts[stripe * HIT_COUNT_PADDING]++;
+    }
+
+    /**
+     * エントリを格納する。
+     * <p/>
+     * 他のスレッドが同じキーのエントリを格納済みの場合は、そのエントリを返す。
+     *
+     * @param entry エントリ
+     * @return キャッシュに格納されているエントリ
+     */
+    Entry put(Entry entry) {
+        int index = hash(entry.integer, entry.fraction, entry.commaSeparated,
+                entry.groupingSeparator, entry.decimalSeparator);
+        for (int i = 0; i < MAX_PROBE; i++) {
+            int position = (index + i) & mask;
+            if (table.compareAndSet(position, null, entry)) {
+                return entry;
+            }
+            Entry current = table.get(position);
+            if (current != null && current.matches(entry.integer, entry.fraction, entry.commaSeparated,
+                    entry.groupingSeparator, entry.decimalSeparator)) {
+                return current;
+            }
+        }
+        // 探索する位置が全て使用されている場合は置き換える
+        table.set(index & mask, entry);
+        return entry;
+    }
+
+    /**
+     * キャッシュから取得できた回数を返す。
+     * <p/>
+     * 複数スレッドから同時に取得した場合、実際の回数より少なくなることがある。
+     *
+     * @return キャッシュから取得できた回数
+     */
+    long getHitCount() {
+        long count = 0;
+        for (int i = 0; i < hitCounts.length; i += HIT_COUNT_PADDING) {
+            count += hitCounts[i];
+        }
+        return count;
+    }
+
+    /**
+     * キャッシュから取得できなかった回数を返す。
+     *
+     * @return キャッシュから取得できなかった回数
+     */
+    long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * 保持しているエントリの数を返す。
+     *
+     * @return 保持しているエントリの数
+     */
+    int size() {
+        int size = 0;
+        for (int i = 0; i < table.length(); i++) {
+            if (table.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * キーのハッシュ値から配列の位置を求める。
+     *
+     * @param integer 整数部の桁数
+     * @param fraction 小数部の桁数
+     * @param commaSeparated 区切り文字を許容するか否か
+     * @param groupingSeparator 区切り文字
+     * @param decimalSeparator 小数点
+     * @return 配列の位置
+     */
+    private int hash(int integer, int fraction, boolean commaSeparated,
+            char groupingSeparator, char decimalSeparator) {
+        int h = integer;
+        h = h * 31 + fraction;
+        h = h * 31 + (commaSeparated ? 1 : 0);
+        h = h * 31 + groupingSeparator;
+        h = h * 31 + decimalSeparator;
+        h ^= h >>> 16;
+        return h & mask;
+    }
+
+    /**
+     * キャッシュのエントリ。
+     * <p/>
+     * {@link DigitsScanner}を使用できる場合は{@link DigitsScanner}を、
+     * 使用できない場合は正規表現パターンを保持する。
+     */
+    static final class Entry {
+
+        /** 整数部の桁数 */
+        private final int integer;
+
+        /** 小数部の桁数 */
+        private final int fraction;
+
+        /** 区切り文字を許容するか否か */
+        private final boolean commaSeparated;
+
+        /** 区切り文字 */
+        private final char groupingSeparator;
+
+        /** 小数点 */
+        private final char decimalSeparator;
+
+        /** 書式をチェックする{@link DigitsScanner} */
+        private final DigitsScanner scanner;
+
+        /** 書式をあらわす正規表現パターン */
+        private final Pattern pattern;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param digits 数値フォーマット指定のアノテーション
+         * @param symbols 小数点に使用する文字や1000の区切り文字を提供する{@link DecimalFormatSymbols}
+         * @param scanner 書式をチェックする{@link DigitsScanner}
+         * @param pattern 書式をあらわす正規表現パターン({@code scanner}が{@code null}の場合に使用する)
+         */
+        Entry(Digits digits, DecimalFormatSymbols symbols, DigitsScanner scanner, Pattern pattern) {
+            this.integer = digits.integer();
+            this.fraction = digits.fraction();
+            this.commaSeparated = digits.commaSeparated();
+            this.groupingSeparator = symbols.getGroupingSeparator();
+            this.decimalSeparator = symbols.getDecimalSeparator();
+            this.scanner = scanner;
+            this.pattern = pattern;
+        }
+
+        /**
+         * キーが一致するかを判定する。
+         *
+         * @param integer 整数部の桁数
+         * @param fraction 小数部の桁数
+         * @param commaSeparated 区切り文字を許容するか否か
+         * @param groupingSeparator 区切り文字
+         * @param decimalSeparator 小数点
+         * @return 一致する場合は{@code true}
+         */
+        private boolean matches(int integer, int fraction, boolean commaSeparated,
+                char groupingSeparator, char decimalSeparator) {
+            return this.integer == integer && this.fraction == fraction
+                    && this.commaSeparated == commaSeparated
+                    && this.groupingSeparator == groupingSeparator
+                    && this.decimalSeparator == decimalSeparator;
+        }
+
+        /**
+         * 書式をチェックする{@link DigitsScanner}を返す。
+         *
+         * @return {@link DigitsScanner}。正規表現パターンでチェックする場合は{@code null}
+         */
+        DigitsScanner getScanner() {
+            return scanner;
+        }
+
+        /**
+         * 書式をあらわす正規表現パターンを返す。
+         *
+         * @return 正規表現パターン。{@link DigitsScanner}でチェックする場合は{@code null}
+         */
+        Pattern getPattern() {
+            return pattern;
+        }
+    }
+}
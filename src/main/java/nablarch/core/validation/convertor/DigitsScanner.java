@@ -0,0 +1,204 @@
+package nablarch.core.validation.convertor;
+
+import java.text.DecimalFormatSymbols;
+
+/**
+ * {@link Digits}の設定に従って、数値の書式をチェックするクラス。
+ * <p/>
+ * {@link IntegerConvertor#createPattern}及び{@link BigDecimalConvertor#createPattern}が作成する正規表現と
+ * 同じ文字列を受け付けるが、正規表現を使用せずに文字列を1回走査するだけでチェックを行う。
+ * <p/>
+ * 正規表現は、整数部を先頭から3桁毎(先頭は桁数を3で割った余りの桁数)の区画に分け、
+ * 各区画は0桁以上区画の桁数以下の数字を受け付け、先頭以外の区画の直前には区切り文字を1つ置くことができる。
+ * 本クラスでは、区切り文字で分割した数字の並びを先頭から順に必要最小限の区画に割り当て、
+ * 全ての数字の並びを割り当てられるかどうかで判定する。
+ * <p/>
+ * 本クラスはスレッドセーフである。
+ *
+ * @author TIS
+ */
+final class DigitsScanner {
+
+    /** 区画の最大桁数 */
+    private static final int GROUP_SIZE = 3;
+
+    /** 正規表現の文字クラス内でエスケープが必要となる文字 */
+    private static final String REGEX_META_CHARACTERS = "\\^$|?*+()[]{}";
+
+    /** プラス記号を許容するか否か */
+    private final boolean plusSignAllowed;
+
+    /** 先頭の区画の桁数 */
+    private final int leadingGroupSize;
+
+    /** 区画の数 */
+    private final int groupCount;
+
+    /** 区切り文字を許容するか否か(区画が1つの場合は許容しない) */
+    private final boolean commaSeparated;
+
+    /** 区切り文字 */
+    private final char groupingSeparator;
+
+    /** 小数部の桁数 */
+    private final int fraction;
+
+    /** 小数点 */
+    private final char decimalSeparator;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param integer 整数部の桁数
+     * @param fraction 小数部の桁数
+     * @param commaSeparated 区切り文字を許容するか否か
+     * @param symbols 小数点や区切り文字を提供する{@link DecimalFormatSymbols}
+     * @param plusSignAllowed プラス記号を許容するか否か
+     */
+    private DigitsScanner(int integer, int fraction, boolean commaSeparated,
+            DecimalFormatSymbols symbols, boolean plusSignAllowed) {
+        this.plusSignAllowed = plusSignAllowed;
+        int remainder = integer % GROUP_SIZE;
+        this.leadingGroupSize = remainder != 0 ? remainder : GROUP_SIZE;
+        this.groupCount = integer / GROUP_SIZE + (remainder != 0 ? 1 : 0);
+        // 区画が1つの場合、正規表現に区切り文字は含まれない
+        this.commaSeparated = commaSeparated && groupCount > 1;
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.fraction = fraction;
+        this.decimalSeparator = symbols.getDecimalSeparator();
+    }
+
+    /**
+     * {@link DigitsScanner}を生成する。
+     * <p/>
+     * 桁数が負の値の場合、区切り文字や小数点が数字、符号、正規表現のメタ文字であるか、
+     * 区切り文字と小数点が同じ文字である場合は、正規表現と同じ判定を保証できないため{@code null}を返す。
+     *
+     * @param integer 整数部の桁数
+     * @param fraction 小数部の桁数(小数部を許容しない場合は0)
+     * @param commaSeparated 区切り文字を許容するか否か
+     * @param symbols 小数点や区切り文字を提供する{@link DecimalFormatSymbols}
+     * @param plusSignAllowed プラス記号を許容するか否か
+     * @return 生成した{@link DigitsScanner}。正規表現と同じ判定を保証できない場合は{@code null}
+     */
+    static DigitsScanner create(int integer, int fraction, boolean commaSeparated,
+            DecimalFormatSymbols symbols, boolean plusSignAllowed) {
+        if (integer < 0 || fraction < 0) {
+            return null;
+        }
+        char grouping = symbols.getGroupingSeparator();
+        char decimal = symbols.getDecimalSeparator();
+        boolean groupingUsed = commaSeparated && integer > GROUP_SIZE; // 区画が2つ以上
+        boolean decimalUsed = fraction != 0;
+        if (groupingUsed && !isPlainSymbol(grouping)) {
+            return null;
+        }
+        if (decimalUsed && !isPlainSymbol(decimal)) {
+            return null;
+        }
+        if (groupingUsed && decimalUsed && grouping == decimal) {
+            return null;
+        }
+        return new DigitsScanner(integer, fraction, commaSeparated, symbols, plusSignAllowed);
+    }
+
+    /**
+     * 記号が数字、符号、正規表現のメタ文字(エスケープされるドットを除く)のいずれでもないかを判定する。
+     *
+     * @param symbol 記号
+     * @return いずれでもない場合は{@code true}
+     */
+    private static boolean isPlainSymbol(char symbol) {
+        return !isDigit(symbol) && symbol != '+' && symbol != '-'
+                && REGEX_META_CHARACTERS.indexOf(symbol) == -1;
+    }
+
+    /**
+     * 文字列が変換可能な数値の書式であるかを判定する。
+     * <p/>
+     * 正規表現にマッチし、かつ空文字列または数字を1文字以上含む場合に変換可能と判定する。
+     *
+     * @param str 判定対象の文字列
+     * @return 変換可能な場合は{@code true}
+     */
+    boolean isConvertible(String str) {
+        int length = str.length();
+        if (length == 0) {
+            return true;
+        }
+        int pos = 0;
+        char first = str.charAt(0);
+        if (first == '-' || (plusSignAllowed && first == '+')) {
+            pos++;
+        }
+
+        boolean hasDigit = false;
+        int nextGroup = 0;
+        int segmentDigits = 0;
+        for (; pos < length; pos++) {
+            char c = str.charAt(pos);
+            if (isDigit(c)) {
+                segmentDigits++;
+                hasDigit = true;
+            } else if (commaSeparated && c == groupingSeparator) {
+                // 区切り文字の前の数字を区画に割り当て、区切り文字の後に区画が残っていること
+                nextGroup = assign(nextGroup, segmentDigits);
+                if (nextGroup < 0 || nextGroup >= groupCount) {
+                    return false;
+                }
+                segmentDigits = 0;
+            } else if (fraction != 0 && c == decimalSeparator) {
+                break;
+            } else {
+                return false;
+            }
+        }
+        if (segmentDigits > 0 && assign(nextGroup, segmentDigits) < 0) {
+            return false;
+        }
+
+        if (pos < length) {
+            // 小数点の後は1桁以上、小数部の桁数以下の数字のみ
+            int fractionDigits = length - pos - 1;
+            if (fractionDigits < 1 || fractionDigits > fraction) {
+                return false;
+            }
+            for (pos++; pos < length; pos++) {
+                if (!isDigit(str.charAt(pos))) {
+                    return false;
+                }
+            }
+            hasDigit = true;
+        }
+        return hasDigit;
+    }
+
+    /**
+     * 数字の並びを、指定された区画から順に必要最小限(最低1つ)の区画に割り当てる。
+     *
+     * @param group 割り当てを開始する区画
+     * @param digits 数字の桁数
+     * @return 割り当てなかった最初の区画。割り当てられない場合は-1
+     */
+    private int assign(int group, int digits) {
+        if (group >= groupCount) {
+            return -1;
+        }
+        int capacity = 0;
+        do {
+            capacity += group == 0 ? leadingGroupSize : GROUP_SIZE;
+            group++;
+        } while (capacity < digits && group < groupCount);
+        return capacity < digits ? -1 : group;
+    }
+
+    /**
+     * 文字が半角数字であるかを判定する。
+     *
+     * @param c 文字
+     * @return 半角数字の場合は{@code true}
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,149 @@
+package nablarch.core.validation.convertor;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Currency;
+import java.util.Locale;
+
+/**
+ * 値を変更できない{@link DecimalFormatSymbols}。
+ * <p/>
+ * 言語毎に1つのインスタンスを生成し、複数のスレッドで共有するために使用する。
+ * 値を変更するメソッドを呼び出した場合は{@link UnsupportedOperationException}を送出する。
+ * {@link #clone()}は、同じ言語の値を変更可能な{@link DecimalFormatSymbols}を返す。
+ *
+ * @author TIS
+ */
+final class ImmutableDecimalFormatSymbols extends DecimalFormatSymbols {
+
+    /** シリアルバージョンUID */
+    private static final long serialVersionUID = 1L;
+
+    /** 言語 */
+    private final Locale locale;
+
+    /** 値の変更を禁止している場合は{@code true}。スーパークラスのコンストラクタ内での変更は許可する。 */
+    private final boolean frozen;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param locale 言語
+     */
+    ImmutableDecimalFormatSymbols(Locale locale) {
+        super(locale);
+        this.locale = locale;
+        this.frozen = true;
+    }
+
+    /**
+     * 値の変更が禁止されている場合は例外を送出する。
+     *
+     * @throws UnsupportedOperationException 値の変更が禁止されている場合
+     */
+    private void checkMutable() throws UnsupportedOperationException {
+        if (frozen) {
+            throw new UnsupportedOperationException("shared DecimalFormatSymbols must not be modified."
+                    + " use clone() to get a modifiable copy. locale = [" + locale + "]");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * 同じ言語の値を変更可能な{@link DecimalFormatSymbols}を返す。
+     */
+    @Override
+    public Object clone() {
+        return new DecimalFormatSymbols(locale);
+    }
+
+    @Override
+    public void setZeroDigit(char zeroDigit) {
+        checkMutable();
+        super.setZeroDigit(zeroDigit);
+    }
+
+    @Override
+    public void setGroupingSeparator(char groupingSeparator) {
+        checkMutable();
+        super.setGroupingSeparator(groupingSeparator);
+    }
+
+    @Override
+    public void setDecimalSeparator(char decimalSeparator) {
+        checkMutable();
+        super.setDecimalSeparator(decimalSeparator);
+    }
+
+    @Override
+    public void setPerMill(char perMill) {
+        checkMutable();
+        super.setPerMill(perMill);
+    }
+
+    @Override
+    public void setPercent(char percent) {
+        checkMutable();
+        super.setPercent(percent);
+    }
+
+    @Override
+    public void setDigit(char digit) {
+        checkMutable();
+        super.setDigit(digit);
+    }
+
+    @Override
+    public void setPatternSeparator(char patternSeparator) {
+        checkMutable();
+        super.setPatternSeparator(patternSeparator);
+    }
+
+    @Override
+    public void setInfinity(String infinity) {
+        checkMutable();
+        super.setInfinity(infinity);
+    }
+
+    @Override
+    public void setNaN(String naN) {
+        checkMutable();
+        super.setNaN(naN);
+    }
+
+    @Override
+    public void setMinusSign(char minusSign) {
+        checkMutable();
+        super.setMinusSign(minusSign);
+    }
+
+    @Override
+    public void setCurrencySymbol(String currency) {
+        checkMutable();
+        super.setCurrencySymbol(currency);
+    }
+
+    @Override
+    public void setInternationalCurrencySymbol(String currencyCode) {
+        checkMutable();
+        super.setInternationalCurrencySymbol(currencyCode);
+    }
+
+    @Override
+    public void setCurrency(Currency currency) {
+        checkMutable();
+        super.setCurrency(currency);
+    }
+
+    @Override
+    public void setMonetaryDecimalSeparator(char sep) {
+        checkMutable();
+        super.setMonetaryDecimalSeparator(sep);
+    }
+
+    @Override
+    public void setExponentSeparator(String exp) {
+        checkMutable();
+        super.setExponentSeparator(exp);
+    }
+}
@@ -73,6 +73,14 @@ import nablarch.core.util.annotation.Published;
 @Published(tag = "architect")
 public class IntegerConvertor extends NumberConvertorSupport {
 
+    /** {@link #createPattern(Digits, DecimalFormatSymbols)}がサブクラスでオーバライドされているか否か */
+    private final boolean customPattern = isOverridden(IntegerConvertor.class,
+            "createPattern", Digits.class, DecimalFormatSymbols.class);
+
+    /** {@link #convertToPropertyType(String)}がサブクラスでオーバライドされているか否か */
+    private final boolean customPropertyType = isOverridden(IntegerConvertor.class,
+            "convertToPropertyType", String.class);
+
     /**
      * {@inheritDoc}
      */
@@ -87,7 +95,41 @@ public class IntegerConvertor extends NumberConvertorSupport {
     protected Number convertToPropertyType(String numberString) {
         return Integer.valueOf(numberString);
     }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * {@link #convertToPropertyType(String)}がオーバライドされておらず、
+     * {@link Integer}の範囲の値の場合は{@link NumberParser}で変換する。
+     */
+    @Override
+    Number parse(String str, int begin, int end, DecimalFormatSymbols symbols) {
+        if (customPropertyType) {
+            return null;
+        }
+        long value = NumberParser.parseLong(str, begin, end,
+                symbols.getGroupingSeparator(), symbols.getDecimalSeparator());
+        if (value == NumberParser.NOT_PARSED || value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            return null;
+        }
+        return Integer.valueOf((int) value);
+    }
     
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * {@link #createPattern(Digits, DecimalFormatSymbols)}がオーバライドされていない場合は、
+     * 同じ書式を受け付ける{@link DigitsScanner}を作成する。
+     */
+    @Override
+    DigitsScanner createScanner(Digits digits, DecimalFormatSymbols symbols) {
+        if (customPattern) {
+            return null;
+        }
+        checkDigit(digits);
+        return DigitsScanner.create(digits.integer(), 0, digits.commaSeparated(), symbols, false);
+    }
+
     @Override
     protected Pattern createPattern(Digits digits, DecimalFormatSymbols symbols) {
 
@@ -1,5 +1,7 @@
 package nablarch.core.validation.convertor;
 
+import java.text.DecimalFormatSymbols;
+
 import nablarch.core.util.annotation.Published;
 
 
@@ -36,6 +38,10 @@ import nablarch.core.util.annotation.Published;
 @Published(tag = "architect")
 public class LongConvertor extends IntegerConvertor {
 
+    /** {@link #convertToPropertyType(String)}がサブクラスでオーバライドされているか否か */
+    private final boolean customPropertyType = isOverridden(LongConvertor.class,
+            "convertToPropertyType", String.class);
+
     /**
      * {@inheritDoc}
      */
@@ -51,6 +57,21 @@ public class LongConvertor extends IntegerConvertor {
         return Long.valueOf(numberString);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * {@link #convertToPropertyType(String)}がオーバライドされていない場合は{@link NumberParser}で変換する。
+     */
+    @Override
+    Number parse(String str, int begin, int end, DecimalFormatSymbols symbols) {
+        if (customPropertyType) {
+            return null;
+        }
+        long value = NumberParser.parseLong(str, begin, end,
+                symbols.getGroupingSeparator(), symbols.getDecimalSeparator());
+        return value == NumberParser.NOT_PARSED ? null : Long.valueOf(value);
+    }
+
     @Override
     protected void checkDigit(Digits digit) throws IllegalArgumentException {
         if (digit.fraction() > 0) {
@@ -4,8 +4,8 @@ import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import nablarch.core.util.FormatSpec;
@@ -106,10 +106,82 @@ public abstract class NumberConvertorSupport implements Convertor {
         this.allowNullValue = allowNullValue;
     }
 
+    /** デフォルトの{@link DecimalFormatSymbols}(日本語) */
+    private static final DecimalFormatSymbols DEFAULT_SYMBOLS = new ImmutableDecimalFormatSymbols(Locale.JAPANESE);
+
+    /**
+     * 言語毎に保持する{@link DecimalFormatSymbols}の上限。
+     * 言語はリクエストパラメータで指定されるため、上限を超えた場合は保持しない。
+     */
+    private static final int MAX_CACHED_LOCALES = 64;
+
+    /** フォーマット仕様で指定された言語をキーとする{@link DecimalFormatSymbols} */
+    private static final ConcurrentMap<String, DecimalFormatSymbols> SYMBOLS
+            = new ConcurrentHashMap<String, DecimalFormatSymbols>();
+
+    /**
+     * {@link #getDecimalFormatSymbols(ValidationContext, String)}または{@link #getDefaultDecimalFormatSymbols()}が
+     * サブクラスでオーバライドされているか否か
+     */
+    private final boolean customSymbols = isOverridden(NumberConvertorSupport.class,
+            "getDecimalFormatSymbols", ValidationContext.class, String.class)
+            || isOverridden(NumberConvertorSupport.class, "getDefaultDecimalFormatSymbols");
+
+    /**
+     * {@link #convertToString(Object)}、{@link #trim(String)}または{@link #convertToNumber(String, DecimalFormatSymbols)}が
+     * サブクラスでオーバライドされているか否か
+     */
+    private final boolean customConversion = isOverridden(NumberConvertorSupport.class, "convertToString", Object.class)
+            || isOverridden(NumberConvertorSupport.class, "trim", String.class)
+            || isOverridden(NumberConvertorSupport.class, "convertToNumber", String.class, DecimalFormatSymbols.class);
+
+    /** {@link #convertToNumber(String, DecimalFormatSymbols)}がサブクラスでオーバライドされているか否か */
+    private final boolean customNumberConversion = isOverridden(NumberConvertorSupport.class,
+            "convertToNumber", String.class, DecimalFormatSymbols.class);
+
+    /** 変換可否チェックに使用する書式のキャッシュの上限のデフォルト値 */
+    private static final int DEFAULT_MAX_FORMAT_CACHE_SIZE = 256;
+
+    /** 変換可否チェックに使用する書式のキャッシュ */
+    private DigitsFormatCache formatCache = new DigitsFormatCache(DEFAULT_MAX_FORMAT_CACHE_SIZE);
+
+    /**
+     * 変換可否チェックに使用する書式のキャッシュの上限を設定する。
+     * <p/>
+     * 書式は、{@link Digits}の整数部の桁数、小数部の桁数、区切り文字を許容するか否かと、
+     * 区切り文字、小数点の組み合わせ毎に保持する。
+     * 上限は2の累乗に切り上げる。設定を省略した場合は256となる。
+     * <p/>
+     * 本設定を変更すると、それまでに保持していた書式とキャッシュの統計情報は破棄される。
+     *
+     * @param maxFormatCacheSize 書式のキャッシュの上限
+     * @throws IllegalArgumentException 1未満の値が指定された場合
+     */
+    public void setMaxFormatCacheSize(int maxFormatCacheSize) throws IllegalArgumentException {
+        this.formatCache = new DigitsFormatCache(maxFormatCacheSize);
+    }
+
+    /**
+     * 変換可否チェックに使用する書式をキャッシュから取得できた回数を返す。
+     * <p/>
+     * 変換処理の性能を優先して同期せずに記録するため、複数スレッドで変換した場合は概算値となる。
+     *
+     * @return キャッシュから取得できた回数
+     */
+    @Published(tag = "architect")
+    public long getFormatCacheHitCount() {
+        return formatCache.getHitCount();
+    }
+
     /**
-     * 変換可否チェックのパターン。
+     * 変換可否チェックに使用する書式をキャッシュから取得できず、作成した回数を返す。
+     *
+     * @return キャッシュから取得できなかった回数
      */
-    private static Map<String, Pattern> patterns = new ConcurrentHashMap<String, Pattern>();
+    @Published(tag = "architect")
+    public long getFormatCacheMissCount() {
+        return formatCache.getMissCount();
+    }
 
     /**
      * {@inheritDoc}
@@ -138,7 +210,7 @@ public abstract class NumberConvertorSupport implements Convertor {
                             + "property = " + propertyName);
         }
         Digits digits = (Digits) format;
-        DecimalFormatSymbols symbols = getDecimalFormatSymbols(context, propertyName);
+        DecimalFormatSymbols symbols = resolveDecimalFormatSymbols(context, propertyName);
 
         // チェック対象の値がパターンに合致しているか
         if (!isPatternMatched(digits, symbols, value)) {
@@ -201,10 +273,14 @@ public abstract class NumberConvertorSupport implements Convertor {
      * @return パターンに合致する場合 true
      */
     private boolean isPatternMatched(Digits digits, DecimalFormatSymbols symbols, Object value) {
-        Pattern pattern = getPattern(digits, symbols);
         String str = convertToString(value);
+        DigitsFormatCache.Entry format = getFormat(digits, symbols);
+        DigitsScanner scanner = format.getScanner();
+        if (scanner != null) {
+            return scanner.isConvertible(str);
+        }
 
-        if (!pattern.matcher(str).matches()) {
+        if (!format.getPattern().matcher(str).matches()) {
             // パターンに合致しない
             return false;
         }
@@ -236,20 +312,76 @@ public abstract class NumberConvertorSupport implements Convertor {
     @Override
     public <T> Object convert(ValidationContext<T> context, String propertyName, Object value, Annotation format) {
 
+        if (!customConversion) {
+            String raw = getRawString(value);
+            if (raw != null) {
+                // convertToStringと同じ規則でトリムした範囲を、文字列を生成せずに変換する
+                int begin = 0;
+                int end = raw.length();
+                while (begin < end && raw.charAt(begin) <= ' ') {
+                    begin++;
+                }
+                while (begin < end && raw.charAt(end - 1) <= ' ') {
+                    end--;
+                }
+                if (begin == end) {
+                    return null;
+                }
+                Number number = parse(raw, begin, end, resolveDecimalFormatSymbols(context, propertyName));
+                if (number != null) {
+                    return number;
+                }
+            }
+        }
+
         String str = convertToString(value);
         if (StringUtil.isNullOrEmpty(str)) {
             return null;
         }
 
-        DecimalFormatSymbols symbols = getDecimalFormatSymbols(context, propertyName);
+        DecimalFormatSymbols symbols = resolveDecimalFormatSymbols(context, propertyName);
         try {
-            return convertToPropertyType(convertToNumber(str, symbols));
+            // オーバライドしたメソッドには、共有する値を変更できないDecimalFormatSymbolsを渡さない
+            return convertToPropertyType(convertToNumber(str, customNumberConversion ? toModifiable(symbols) : symbols));
         } catch (NumberFormatException ignore) {
             // 万が一、Numberへの変換に失敗した場合にも実行時例外が送出されないように修正。
             return null;
         }
     }
 
+    /**
+     * 値が文字列または要素数が1の文字列配列の場合に、トリム前の文字列を返す。
+     *
+     * @param value 値
+     * @return トリム前の文字列。文字列でない場合は{@code null}
+     */
+    private static String getRawString(Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        } else if (value instanceof String[]) {
+            String[] strings = (String[]) value;
+            return strings.length == 1 ? strings[0] : null;
+        }
+        return null;
+    }
+
+    /**
+     * 文字列の指定された範囲を、中間の文字列を生成せずにプロパティの型のオブジェクトへ変換する。
+     * <p/>
+     * {@link #convertToNumber(String, DecimalFormatSymbols)}と{@link #convertToPropertyType(String)}で
+     * 変換した場合と同じ値を返すこと。{@code null}を返した場合は、それらのメソッドを使用して変換する。
+     * デフォルト実装では{@code null}を返す。
+     *
+     * @param str 変換対象の文字列
+     * @param begin トリム後の開始位置
+     * @param end トリム後の終了位置(この位置の文字は含まない)
+     * @param symbols 数字に使用されている小数点や1000の区切り文字を提供する{@link java.text.DecimalFormatSymbols}
+     * @return プロパティの型のオブジェクト。文字列を使用して変換する場合は{@code null}
+     */
+    Number parse(String str, int begin, int end, DecimalFormatSymbols symbols) {
+        return null;
+    }
+
     /**
      * トリムおよびフォーマットを行った文字列を、プロパティの型のオブジェクトへ変換する。
      *
@@ -297,28 +429,72 @@ public abstract class NumberConvertorSupport implements Convertor {
     }
 
     /**
-     * チェックに使用する正規表現パターンを取得する。
+     * チェックに使用する書式を取得する。
+     * <p/>
+     * キャッシュに存在しない場合は、{@link #createScanner(Digits, DecimalFormatSymbols)}で作成した{@link DigitsScanner}、
+     * 作成できない場合は{@link #createPattern(Digits, DecimalFormatSymbols)}で作成した正規表現パターンをキャッシュに格納する。
      *
      * @param digits Digits
      * @param symbols 小数点に使用する文字や1000の区切り文字を提供する{@link java.text.DecimalFormatSymbols}
-     * @return パターンを取得する。
+     * @return 書式
      */
-    private Pattern getPattern(Digits digits, DecimalFormatSymbols symbols) {
+    private DigitsFormatCache.Entry getFormat(Digits digits, DecimalFormatSymbols symbols) {
+        DigitsFormatCache cache = formatCache;
+        DigitsFormatCache.Entry format = cache.get(digits, symbols);
+        if (format != null) {
+            return format;
+        }
+        DigitsScanner scanner = createScanner(digits, symbols);
+        // サブクラスで実装するメソッドには、共有する値を変更できないDecimalFormatSymbolsを渡さない
+        Pattern pattern = scanner == null ? createPattern(digits, toModifiable(symbols)) : null;
+        return cache.put(new DigitsFormatCache.Entry(digits, symbols, scanner, pattern));
+    }
 
-        String key = digits + symbols.toString();
-        if (patterns.containsKey(key)) {
-            return patterns.get(key);
+    /**
+     * 値を変更できない{@link DecimalFormatSymbols}の場合は、値を変更できる複製を返す。
+     *
+     * @param symbols {@link DecimalFormatSymbols}
+     * @return 値を変更できる{@link DecimalFormatSymbols}
+     */
+    private static DecimalFormatSymbols toModifiable(DecimalFormatSymbols symbols) {
+        if (symbols instanceof ImmutableDecimalFormatSymbols) {
+            return (DecimalFormatSymbols) symbols.clone();
         }
+        return symbols;
+    }
+
+    /**
+     * Digitsに対応する{@link DigitsScanner}を作成する。
+     * <p/>
+     * デフォルト実装では{@code null}を返し、{@link #createPattern(Digits, DecimalFormatSymbols)}で作成した
+     * 正規表現パターンでチェックする。
+     *
+     * @param digits 数値フォーマット指定のアノテーション
+     * @param symbols 小数点に使用する文字や1000の区切り文字を提供する{@link java.text.DecimalFormatSymbols}
+     * @return {@link DigitsScanner}。正規表現パターンでチェックする場合は{@code null}
+     */
+    DigitsScanner createScanner(Digits digits, DecimalFormatSymbols symbols) {
+        return null;
+    }
 
-        synchronized (patterns) {
-            // 事前にcontainsを見ているため、究極的なタイミングでないと到達しない。
-            // よって分岐網羅できない。
-            if (!patterns.containsKey(key)) {
-                patterns.put(key, createPattern(digits, symbols));
+    /**
+     * 指定されたメソッドが指定されたクラスのサブクラスでオーバライドされているかどうかを判定する。
+     *
+     * @param baseClass      判定の基準とするクラス
+     * @param methodName     メソッド名
+     * @param parameterTypes パラメータの型
+     * @return オーバライドされている場合は{@code true}
+     */
+    boolean isOverridden(Class<?> baseClass, String methodName, Class<?>... parameterTypes) {
+        for (Class<?> clazz = getClass(); clazz != baseClass; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod(methodName, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // スーパークラスを検索する。
             }
         }
-
-        return patterns.get(key);
+        return false;
     }
 
     /**
@@ -331,6 +507,39 @@ public abstract class NumberConvertorSupport implements Convertor {
     @Published(tag = "architect")
     protected abstract Pattern createPattern(Digits digits, DecimalFormatSymbols symbols);
 
+    /**
+     * 変換可否チェックと変換に使用する{@link java.text.DecimalFormatSymbols}を取得する。
+     * <p/>
+     * {@link #getDecimalFormatSymbols(ValidationContext, String)}と{@link #getDefaultDecimalFormatSymbols()}が
+     * オーバライドされていない場合は、都度生成せずに言語毎に共有する値を変更できない{@link java.text.DecimalFormatSymbols}を返す。
+     *
+     * @param <T> バリデーション結果で取得できる型
+     * @param context ValidationContext
+     * @param propertyName プロパティ名
+     * @return プロパティに対する{@link java.text.DecimalFormatSymbols}
+     */
+    private <T> DecimalFormatSymbols resolveDecimalFormatSymbols(ValidationContext<T> context, String propertyName) {
+        if (customSymbols) {
+            return getDecimalFormatSymbols(context, propertyName);
+        }
+        FormatSpec formatSpec = ConversionUtil.getFormatSpec(context, propertyName);
+        if (formatSpec == null || !"decimal".equals(formatSpec.getDataType())) {
+            return DEFAULT_SYMBOLS;
+        }
+        String language = formatSpec.getAdditionalInfoOfPattern();
+        if (!StringUtil.hasValue(language)) {
+            return DEFAULT_SYMBOLS;
+        }
+        DecimalFormatSymbols symbols = SYMBOLS.get(language);
+        if (symbols == null) {
+            symbols = new ImmutableDecimalFormatSymbols(new Locale(language));
+            if (SYMBOLS.size() < MAX_CACHED_LOCALES) {
+                SYMBOLS.putIfAbsent(language, symbols);
+            }
+        }
+        return symbols;
+    }
+
     /**
      * プロパティに対する{@link java.text.DecimalFormatSymbols}を取得する。
      * <p/>
@@ -0,0 +1,135 @@
+package nablarch.core.validation.convertor;
+
+import java.math.BigDecimal;
+
+/**
+ * 文字列を1回走査するだけで数値に変換するクラス。
+ * <p/>
+ * {@link ConversionUtil#convertToNumber(String, java.text.DecimalFormatSymbols)}で区切り文字を除去し、
+ * 小数点をピリオドに置き換えた文字列を{@link Long#valueOf(String)}や{@link BigDecimal#BigDecimal(String)}で
+ * 変換した場合と同じ値を、中間の文字列を生成せずに返す。
+ * <p/>
+ * 符号、半角数字、区切り文字、小数点以外の文字を含む場合や、有効桁数が{@link #MAX_DIGITS}を超える場合など、
+ * 本クラスで変換しない文字列の場合は変換できなかったことを示す値を返す。
+ * 呼び出し元は、従来の文字列を使用した変換を行うこと。
+ *
+ * @author TIS
+ */
+final class NumberParser {
+
+    /** 変換できなかったことを示す値 */
+    static final long NOT_PARSED = Long.MIN_VALUE;
+
+    /** 本クラスで変換する有効桁数の上限(longで桁あふれしない桁数) */
+    static final int MAX_DIGITS = 18;
+
+    /** 隠蔽コンストラクタ。 */
+    private NumberParser() {
+    }
+
+    /**
+     * 文字列の指定された範囲を整数に変換する。
+     *
+     * @param str 変換対象の文字列
+     * @param begin 変換対象の開始位置
+     * @param end 変換対象の終了位置(この位置の文字は含まない)
+     * @param groupingSeparator 区切り文字
+     * @param decimalSeparator 小数点
+     * @return 変換した値。変換できない場合は{@link #NOT_PARSED}
+     */
+    static long parseLong(String str, int begin, int end, char groupingSeparator, char decimalSeparator) {
+        boolean negative = false;
+        boolean signAllowed = true;
+        boolean hasDigit = false;
+        int digits = 0;
+        long value = 0;
+        for (int i = begin; i < end; i++) {
+            char c = str.charAt(i);
+            if (c == groupingSeparator) {
+                // 区切り文字は、小数点への置き換えより先に除去される
+                continue;
+            }
+            if (c == decimalSeparator) {
+                // 小数点を含む文字列は整数に変換できない
+                return NOT_PARSED;
+            }
+            if (c >= '0' && c <= '9') {
+                if (value != 0 || c != '0') {
+                    if (++digits > MAX_DIGITS) {
+                        return NOT_PARSED;
+                    }
+                    value = value * 10 + (c - '0');
+                }
+                hasDigit = true;
+                signAllowed = false;
+            } else if (signAllowed && (c == '-' || c == '+')) {
+                negative = c == '-';
+                signAllowed = false;
+            } else {
+                return NOT_PARSED;
+            }
+        }
+        if (!hasDigit) {
+            return NOT_PARSED;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 文字列の指定された範囲を{@link BigDecimal}に変換する。
+     * <p/>
+     * 変換した値のスケールは、小数点以降の数字の桁数となる。
+     *
+     * @param str 変換対象の文字列
+     * @param begin 変換対象の開始位置
+     * @param end 変換対象の終了位置(この位置の文字は含まない)
+     * @param groupingSeparator 区切り文字
+     * @param decimalSeparator 小数点
+     * @return 変換した値。変換できない場合は{@code null}
+     */
+    static BigDecimal parseBigDecimal(String str, int begin, int end, char groupingSeparator, char decimalSeparator) {
+        boolean negative = false;
+        boolean signAllowed = true;
+        boolean hasDigit = false;
+        boolean hasPoint = false;
+        int digits = 0;
+        int scale = 0;
+        long unscaledValue = 0;
+        for (int i = begin; i < end; i++) {
+            char c = str.charAt(i);
+            if (c == groupingSeparator) {
+                // 区切り文字は、小数点への置き換えより先に除去される
+                continue;
+            }
+            if (c == decimalSeparator || c == '.') {
+                // 小数点に置き換える前のピリオドも小数点として扱われる
+                if (hasPoint) {
+                    return null;
+                }
+                hasPoint = true;
+                signAllowed = false;
+            } else if (c >= '0' && c <= '9') {
+                if (unscaledValue != 0 || c != '0') {
+                    if (++digits > MAX_DIGITS) {
+                        return null;
+                    }
+                    unscaledValue = unscaledValue * 10 + (c - '0');
+                }
+                if (hasPoint) {
+                    scale++;
+                }
+                hasDigit = true;
+                signAllowed = false;
+            } else if (signAllowed && (c == '-' || c == '+')) {
+                negative = c == '-';
+                signAllowed = false;
+            } else {
+                return null;
+            }
+        }
+        if (!hasDigit) {
+            return null;
+        }
+        return BigDecimal.valueOf(negative ? -unscaledValue : unscaledValue, scale);
+    }
+}
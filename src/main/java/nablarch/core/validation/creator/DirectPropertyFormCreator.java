@@ -0,0 +1,459 @@
+package nablarch.core.validation.creator;
+
+import java.beans.ConstructorProperties;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import nablarch.core.util.ObjectUtil;
+import nablarch.core.validation.FormValidationDefinition;
+import nablarch.core.validation.OrdinalFormCreator;
+
+
+/**
+ * 変換後の値をフォームのコンストラクタ、セッタ、フィールドに直接設定してフォームを生成するクラス。
+ * <p/>
+ * {@link MapConstructorFormCreator}と異なり、フォームにMapを引数に取るコンストラクタを実装する必要がなく、
+ * フォーム側でMapから値を取り出してコピーする処理も不要となる。
+ * <p/>
+ * フォームは以下の優先順位で生成する。
+ * <ol>
+ * <li>{@link ConstructorProperties}が設定されたpublicなコンストラクタが存在する場合は、
+ * {@link ConstructorProperties}に指定されたプロパティ名の順に値を引数に渡して生成する。
+ * 複数存在する場合は、引数の数が最も多いコンストラクタを使用する。</li>
+ * <li>上記以外の場合は、publicなデフォルトコンストラクタで生成し、以下の順に値を設定する。
+ * <ol>
+ * <li>プロパティのセッタ</li>
+ * <li>セッタが存在しないプロパティと同名の、staticでもfinalでもないフィールド</li>
+ * </ol>
+ * </li>
+ * </ol>
+ * 値のMapに存在しないプロパティは設定しない。
+ * また、値が{@code null}の場合、プリミティブ型のセッタやフィールドには設定せず、
+ * プリミティブ型のコンストラクタ引数にはその型のデフォルト値を渡す。
+ * <p/>
+ * コンストラクタ、セッタ、フィールドはフォームのクラス毎に初回の生成時に解決してキャッシュし、
+ * 以降の生成ではキャッシュしたものを解決済みの順序で使用する。
+ * <p/>
+ * {@link OrdinalFormCreator}を実装しており、{@link nablarch.core.validation.ValidationContext}からは
+ * プロパティの序数を添字とする配列でフォームを生成する。この場合は値のMapを作成しない。
+ *
+ * @author TIS
+ */
+public class DirectPropertyFormCreator implements OrdinalFormCreator {
+
+    /** フォームのクラスをキーとする、フォームの生成方法のキャッシュ。 */
+    private final ConcurrentMap<Class<?>, FormBinding> bindings
+            = new ConcurrentHashMap<Class<?>, FormBinding>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T create(Class<T> targetClass,
+            Map<String, Object> propertyValues, FormValidationDefinition formValidationDefinition) {
+
+        try {
+            return (T) getBinding(targetClass).create(propertyValues);
+        } catch (Exception e) {
+            throw createCreationException(targetClass, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T create(Class<T> targetClass, FormValidationDefinition formValidationDefinition,
+            Object[] propertyValues, BitSet assignedOrdinals) {
+
+        try {
+            return (T) getBinding(targetClass).create(formValidationDefinition, propertyValues, assignedOrdinals);
+        } catch (Exception e) {
+            throw createCreationException(targetClass, e);
+        }
+    }
+
+    /**
+     * フォームの生成に失敗したことを表す例外を生成する。
+     *
+     * @param targetClass フォームのクラス
+     * @param cause 原因となった例外
+     * @return 例外
+     */
+    private static IllegalArgumentException createCreationException(Class<?> targetClass, Exception cause) {
+        return new IllegalArgumentException("Entity creation failed. "
+                + "form class name = [" + targetClass.getName() + "] .", cause);
+    }
+
+    /**
+     * フォームの生成方法を取得する。
+     * <p/>
+     * キャッシュに存在しない場合は、フォームの生成方法を解決してキャッシュに格納する。
+     *
+     * @param targetClass フォームのクラス
+     * @return フォームの生成方法
+     * @throws NoSuchMethodException 使用できるpublicなコンストラクタが存在しない場合
+     */
+    private FormBinding getBinding(Class<?> targetClass) throws NoSuchMethodException {
+        FormBinding binding = bindings.get(targetClass);
+        if (binding == null) {
+            binding = createBinding(targetClass);
+            bindings.putIfAbsent(targetClass, binding);
+        }
+        return binding;
+    }
+
+    /**
+     * フォームの生成方法を解決する。
+     *
+     * @param targetClass フォームのクラス
+     * @return フォームの生成方法
+     * @throws NoSuchMethodException 使用できるpublicなコンストラクタが存在しない場合
+     */
+    private static FormBinding createBinding(Class<?> targetClass) throws NoSuchMethodException {
+
+        Constructor<?> propertiesConstructor = null;
+        String[] constructorProperties = null;
+        for (Constructor<?> constructor : targetClass.getConstructors()) {
+            ConstructorProperties annotation = constructor.getAnnotation(ConstructorProperties.class);
+            if (annotation == null || annotation.value().length != constructor.getParameterTypes().length) {
+                continue;
+            }
+            if (constructorProperties == null || constructorProperties.length < annotation.value().length) {
+                propertiesConstructor = constructor;
+                constructorProperties = annotation.value();
+            }
+        }
+        if (propertiesConstructor != null) {
+            makeAccessible(propertiesConstructor);
+            return new FormBinding(propertiesConstructor, constructorProperties,
+                    new String[0], new Method[0], new String[0], new Field[0]);
+        }
+
+        Constructor<?> defaultConstructor = targetClass.getConstructor();
+        makeAccessible(defaultConstructor);
+
+        List<String> setterNames = new ArrayList<String>();
+        List<Method> setters = new ArrayList<Method>();
+        for (Method setter : ObjectUtil.getSetterMethods(targetClass)) {
+            setterNames.add(ObjectUtil.getPropertyNameFromSetter(setter));
+            setters.add(setter);
+        }
+        for (Method setter : setters) {
+            makeAccessible(setter);
+        }
+
+        Set<String> boundNames = new HashSet<String>(setterNames);
+        List<String> fieldNames = new ArrayList<String>();
+        List<Field> fields = new ArrayList<Field>();
+        for (Class<?> clazz = targetClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic()
+                        || boundNames.contains(field.getName())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                } catch (SecurityException e) {
+                    // アクセスできないフィールドには設定しない。
+                    continue;
+                }
+                boundNames.add(field.getName());
+                fieldNames.add(field.getName());
+                fields.add(field);
+            }
+        }
+
+        return new FormBinding(defaultConstructor, null,
+                setterNames.toArray(new String[setterNames.size()]), setters.toArray(new Method[setters.size()]),
+                fieldNames.toArray(new String[fieldNames.size()]), fields.toArray(new Field[fields.size()]));
+    }
+
+    /**
+     * 呼び出し毎のアクセスチェックを省略するため、アクセス可能にする。
+     * <p/>
+     * アクセス可能にできない場合は、呼び出し毎にアクセスチェックを行う。
+     *
+     * @param accessible アクセス可能にする対象
+     */
+    private static void makeAccessible(AccessibleObject accessible) {
+        try {
+            accessible.setAccessible(true);
+        } catch (SecurityException e) {
+            // 呼び出し毎にアクセスチェックを行う。
+        }
+    }
+
+    /**
+     * プリミティブ型のデフォルト値を取得する。
+     *
+     * @param type 型
+     * @return プリミティブ型の場合はその型のデフォルト値、それ以外の場合は{@code null}
+     */
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        }
+        if (type == char.class) {
+            return Character.valueOf((char) 0);
+        }
+        if (type == byte.class) {
+            return Byte.valueOf((byte) 0);
+        }
+        if (type == short.class) {
+            return Short.valueOf((short) 0);
+        }
+        if (type == int.class) {
+            return Integer.valueOf(0);
+        }
+        if (type == long.class) {
+            return Long.valueOf(0L);
+        }
+        if (type == float.class) {
+            return Float.valueOf(0F);
+        }
+        return Double.valueOf(0D);
+    }
+
+    /**
+     * 解決済みのフォームの生成方法を保持するクラス。
+     */
+    private static final class FormBinding {
+
+        /** フォームを生成するコンストラクタ。 */
+        private final Constructor<?> constructor;
+
+        /** コンストラクタの引数に対応するプロパティ名。デフォルトコンストラクタを使用する場合は{@code null}。 */
+        private final String[] constructorProperties;
+
+        /** コンストラクタの引数の型。 */
+        private final Class<?>[] parameterTypes;
+
+        /** セッタに対応するプロパティ名。 */
+        private final String[] setterNames;
+
+        /** セッタ。 */
+        private final Method[] setters;
+
+        /** セッタの引数がプリミティブ型かどうか。 */
+        private final boolean[] primitiveSetters;
+
+        /** フィールドに対応するプロパティ名。 */
+        private final String[] fieldNames;
+
+        /** フィールド。 */
+        private final Field[] fields;
+
+        /** フィールドがプリミティブ型かどうか。 */
+        private final boolean[] primitiveFields;
+
+        /** 直前に使用した、プロパティの序数との対応。 */
+        private volatile OrdinalMapping ordinalMapping;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param constructor フォームを生成するコンストラクタ
+         * @param constructorProperties コンストラクタの引数に対応するプロパティ名
+         * @param setterNames セッタに対応するプロパティ名
+         * @param setters セッタ
+         * @param fieldNames フィールドに対応するプロパティ名
+         * @param fields フィールド
+         */
+        FormBinding(Constructor<?> constructor, String[] constructorProperties,
+                String[] setterNames, Method[] setters, String[] fieldNames, Field[] fields) {
+            this.constructor = constructor;
+            this.constructorProperties = constructorProperties;
+            this.parameterTypes = constructor.getParameterTypes();
+            this.setterNames = setterNames;
+            this.setters = setters;
+            this.fieldNames = fieldNames;
+            this.fields = fields;
+            primitiveSetters = new boolean[setters.length];
+            for (int i = 0; i < setters.length; i++) {
+                primitiveSetters[i] = setters[i].getParameterTypes()[0].isPrimitive();
+            }
+            primitiveFields = new boolean[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                primitiveFields[i] = fields[i].getType().isPrimitive();
+            }
+        }
+
+        /**
+         * フォームを生成する。
+         *
+         * @param propertyValues フォームのプロパティにセットする値のマップ
+         * @return 生成し、プロパティがセットされたフォーム
+         * @throws Exception フォームの生成、またはプロパティの設定に失敗した場合
+         */
+        Object create(Map<String, Object> propertyValues) throws Exception {
+            if (constructorProperties != null) {
+                Object[] args = new Object[constructorProperties.length];
+                for (int i = 0; i < args.length; i++) {
+                    Object value = propertyValues.get(constructorProperties[i]);
+                    args[i] = value != null ? value : defaultValue(parameterTypes[i]);
+                }
+                return constructor.newInstance(args);
+            }
+
+            Object form = constructor.newInstance();
+            for (int i = 0; i < setters.length; i++) {
+                String name = setterNames[i];
+                if (!propertyValues.containsKey(name)) {
+                    continue;
+                }
+                Object value = propertyValues.get(name);
+                if (value == null && primitiveSetters[i]) {
+                    continue;
+                }
+                setters[i].invoke(form, value);
+            }
+            for (int i = 0; i < fields.length; i++) {
+                String name = fieldNames[i];
+                if (!propertyValues.containsKey(name)) {
+                    continue;
+                }
+                Object value = propertyValues.get(name);
+                if (value == null && primitiveFields[i]) {
+                    continue;
+                }
+                fields[i].set(form, value);
+            }
+            return form;
+        }
+
+        /**
+         * プロパティの序数を添字とする配列から、フォームを生成する。
+         *
+         * @param definition フォームに紐付けられたバリデーションの設定
+         * @param propertyValues プロパティの序数を添字とする、フォームのプロパティにセットする値の配列
+         * @param assignedOrdinals 値が設定されたプロパティの序数
+         * @return 生成し、プロパティがセットされたフォーム
+         * @throws Exception フォームの生成、またはプロパティの設定に失敗した場合
+         */
+        Object create(FormValidationDefinition definition, Object[] propertyValues, BitSet assignedOrdinals)
+                throws Exception {
+            OrdinalMapping mapping = getOrdinalMapping(definition);
+            if (constructorProperties != null) {
+                Object[] args = new Object[constructorProperties.length];
+                for (int i = 0; i < args.length; i++) {
+                    int ordinal = mapping.constructorOrdinals[i];
+                    Object value = ordinal >= 0 && assignedOrdinals.get(ordinal) ? propertyValues[ordinal] : null;
+                    args[i] = value != null ? value : defaultValue(parameterTypes[i]);
+                }
+                return constructor.newInstance(args);
+            }
+
+            Object form = constructor.newInstance();
+            for (int i = 0; i < setters.length; i++) {
+                int ordinal = mapping.setterOrdinals[i];
+                if (ordinal < 0 || !assignedOrdinals.get(ordinal)) {
+                    continue;
+                }
+                Object value = propertyValues[ordinal];
+                if (value == null && primitiveSetters[i]) {
+                    continue;
+                }
+                setters[i].invoke(form, value);
+            }
+            for (int i = 0; i < fields.length; i++) {
+                int ordinal = mapping.fieldOrdinals[i];
+                if (ordinal < 0 || !assignedOrdinals.get(ordinal)) {
+                    continue;
+                }
+                Object value = propertyValues[ordinal];
+                if (value == null && primitiveFields[i]) {
+                    continue;
+                }
+                fields[i].set(form, value);
+            }
+            return form;
+        }
+
+        /**
+         * プロパティの序数との対応を取得する。
+         * <p/>
+         * 直前に使用したものと異なる設定の場合は、対応を作成する。
+         *
+         * @param definition フォームに紐付けられたバリデーションの設定
+         * @return プロパティの序数との対応
+         */
+        private OrdinalMapping getOrdinalMapping(FormValidationDefinition definition) {
+            OrdinalMapping mapping = ordinalMapping;
+            if (mapping == null || mapping.definition != definition) {
+                mapping = new OrdinalMapping(definition,
+                        toOrdinals(definition, constructorProperties), toOrdinals(definition, setterNames),
+                        toOrdinals(definition, fieldNames));
+                ordinalMapping = mapping;
+            }
+            return mapping;
+        }
+
+        /**
+         * プロパティ名をプロパティの序数に変換する。
+         *
+         * @param definition フォームに紐付けられたバリデーションの設定
+         * @param names プロパティ名({@code null}の場合は空の配列を返す)
+         * @return プロパティの序数。プロパティが存在しない場合は-1
+         */
+        private static int[] toOrdinals(FormValidationDefinition definition, String[] names) {
+            if (names == null) {
+                return new int[0];
+            }
+            int[] ordinals = new int[names.length];
+            for (int i = 0; i < names.length; i++) {
+                ordinals[i] = definition.getPropertyOrdinal(names[i]);
+            }
+            return ordinals;
+        }
+    }
+
+    /**
+     * フォームのコンストラクタの引数、セッタ、フィールドと、プロパティの序数との対応を保持するクラス。
+     */
+    private static final class OrdinalMapping {
+
+        /** 対応の作成に使用した設定。 */
+        private final FormValidationDefinition definition;
+
+        /** コンストラクタの引数に対応するプロパティの序数。 */
+        private final int[] constructorOrdinals;
+
+        /** セッタに対応するプロパティの序数。 */
+        private final int[] setterOrdinals;
+
+        /** フィールドに対応するプロパティの序数。 */
+        private final int[] fieldOrdinals;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param definition 対応の作成に使用した設定
+         * @param constructorOrdinals コンストラクタの引数に対応するプロパティの序数
+         * @param setterOrdinals セッタに対応するプロパティの序数
+         * @param fieldOrdinals フィールドに対応するプロパティの序数
+         */
+        OrdinalMapping(FormValidationDefinition definition,
+                int[] constructorOrdinals, int[] setterOrdinals, int[] fieldOrdinals) {
+            this.definition = definition;
+            this.constructorOrdinals = constructorOrdinals;
+            this.setterOrdinals = setterOrdinals;
+            this.fieldOrdinals = fieldOrdinals;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package nablarch.core.validation.creator;
 
 import java.lang.reflect.Constructor;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import nablarch.core.validation.FormCreator;
 import nablarch.core.validation.FormValidationDefinition;
@@ -10,24 +12,57 @@ import nablarch.core.validation.FormValidationDefinition;
 /**
  * Mapを引数に取るコンストラクタを使用してフォームを生成するクラス。<br/>
  * このストラテジを選択することで、リフクレクションを用いる場合と比較して高速なフォームの生成が行える。
- * 
+ * <p/>
+ * コンストラクタはフォームのクラス毎に初回の生成時に解決してキャッシュし、以降の生成ではキャッシュしたコンストラクタを使用する。
+ *
  * @author Koichi Asano
  *
  */
 public class MapConstructorFormCreator implements FormCreator {
 
+    /** フォームのクラスをキーとする、Mapを引数に取るコンストラクタのキャッシュ。 */
+    private final ConcurrentMap<Class<?>, Constructor<?>> constructors
+            = new ConcurrentHashMap<Class<?>, Constructor<?>>();
+
     /**
      * {@inheritDoc}
      */
     public <T> T create(Class<T> targetClass,
             Map<String, Object> propertyValues, FormValidationDefinition formValidationDefinition) {
-        
+
         try {
-            Constructor<T> constructor = targetClass.getConstructor(Map.class);
+            Constructor<T> constructor = getConstructor(targetClass);
             return constructor.newInstance(propertyValues);
         } catch (Exception e) {
-            throw new IllegalArgumentException("Entity creation failed. " 
+            throw new IllegalArgumentException("Entity creation failed. "
                     + "form class name = [" + targetClass.getName() + "] .", e);
         }
     }
+
+    /**
+     * Mapを引数に取るコンストラクタを取得する。
+     * <p/>
+     * キャッシュに存在しない場合は、コンストラクタを解決してキャッシュに格納する。
+     *
+     * @param <T> 作成するフォームの型
+     * @param targetClass フォームのクラス
+     * @return Mapを引数に取るコンストラクタ
+     * @throws NoSuchMethodException Mapを引数に取るpublicなコンストラクタが存在しない場合
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Constructor<T> getConstructor(Class<T> targetClass) throws NoSuchMethodException {
+        Constructor<?> constructor = constructors.get(targetClass);
+        if (constructor == null) {
+            Constructor<T> resolved = targetClass.getConstructor(Map.class);
+            try {
+                // 生成毎のアクセスチェックを省略するため、アクセス可能にしておく。
+                resolved.setAccessible(true);
+            } catch (SecurityException e) {
+                // アクセス可能にできない場合は、生成毎にアクセスチェックを行う。
+            }
+            constructors.putIfAbsent(targetClass, resolved);
+            return resolved;
+        }
+        return (Constructor<T>) constructor;
+    }
 }
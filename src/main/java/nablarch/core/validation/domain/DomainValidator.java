@@ -7,9 +7,12 @@ import java.util.List;
 import java.util.Map;
 
 import nablarch.core.repository.initialization.Initializable;
+import nablarch.core.validation.CompilableValidator;
+import nablarch.core.validation.CompiledValidator;
 import nablarch.core.validation.Validation;
 import nablarch.core.validation.ValidationContext;
 import nablarch.core.validation.Validator;
+import nablarch.core.validation.ValidatorCompiler;
 
 /**
  * ドメイン定義にしたがってバリデーションを行うバリデータ。
@@ -17,7 +20,7 @@ import nablarch.core.validation.Validator;
  * @author kawasima
  * @author Kiyohito Itoh
  */
-public class DomainValidator implements Validator, Initializable {
+public class DomainValidator implements CompilableValidator, Initializable {
 
     /** ドメイン定義によるバリデーションをサポートするヘルパークラス */
     private DomainValidationHelper domainValidationHelper;
@@ -64,10 +67,7 @@ public class DomainValidator implements Validator, Initializable {
         for (Annotation anno : getDomainValidationHelper().getValidatorAnnotations(annotation)) {
             final Validator validator = validatorMap.get(anno.annotationType());
             if (validator == null) {
-                throw new UnsupportedOperationException("Validation annotation was not supported. "
-                        + "Validation annotation = " + anno.annotationType().getName()
-                        + ", targetClass = " + context.getTargetClass().getName()
-                        + ", propertyName = " + propertyName);
+                throw createUnsupportedValidationException(anno, context, propertyName);
             }
             if (!validator.validate(context, propertyName, propertyDisplayName, anno, value)) {
                 return false;
@@ -76,6 +76,89 @@ public class DomainValidator implements Validator, Initializable {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * ドメイン定義のバリデーションアノテーション毎に{@link CompiledValidator}を生成し、
+     * それらを順に呼び出す{@link CompiledValidator}を生成する。
+     * {@link #validate}をオーバライドしたサブクラスの場合は、
+     * {@link ValidatorCompiler#adapt(Validator, Annotation)}で生成する。
+     */
+    @Override
+    public CompiledValidator compile(Annotation annotation) {
+        if (getClass() != DomainValidator.class) {
+            return ValidatorCompiler.adapt(this, annotation);
+        }
+        if (validatorMap == null) {
+            throw new IllegalStateException("DomainValidator was not initialized.");
+        }
+
+        final List<Annotation> annotations = getDomainValidationHelper().getValidatorAnnotations(annotation);
+        final Annotation[] validatorAnnotations = annotations.toArray(new Annotation[annotations.size()]);
+        final CompiledValidator[] compiledValidators = new CompiledValidator[validatorAnnotations.length];
+        for (int i = 0; i < validatorAnnotations.length; i++) {
+            final Validator validator = validatorMap.get(validatorAnnotations[i].annotationType());
+            if (validator != null) {
+                compiledValidators[i] = ValidatorCompiler.compile(validator, validatorAnnotations[i]);
+            }
+        }
+        return new CompiledDomain(compiledValidators, validatorAnnotations);
+    }
+
+    /**
+     * サポートされていないバリデーションアノテーションを表す例外を生成する。
+     *
+     * @param annotation バリデーションアノテーション
+     * @param context ValidationContext
+     * @param propertyName プロパティ名
+     * @return 例外
+     */
+    private static UnsupportedOperationException createUnsupportedValidationException(final Annotation annotation,
+            final ValidationContext<?> context, final String propertyName) {
+        return new UnsupportedOperationException("Validation annotation was not supported. "
+                + "Validation annotation = " + annotation.annotationType().getName()
+                + ", targetClass = " + context.getTargetClass().getName()
+                + ", propertyName = " + propertyName);
+    }
+
+    /**
+     * ドメイン定義のバリデーションを順に行う{@link CompiledValidator}。
+     */
+    private static final class CompiledDomain implements CompiledValidator {
+
+        /** バリデーションアノテーション毎の{@link CompiledValidator}(サポートされない場合は{@code null}) */
+        private final CompiledValidator[] compiledValidators;
+
+        /** バリデーションアノテーション */
+        private final Annotation[] validatorAnnotations;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param compiledValidators バリデーションアノテーション毎の{@link CompiledValidator}
+         * @param validatorAnnotations バリデーションアノテーション
+         */
+        private CompiledDomain(final CompiledValidator[] compiledValidators, final Annotation[] validatorAnnotations) {
+            this.compiledValidators = compiledValidators;
+            this.validatorAnnotations = validatorAnnotations;
+        }
+
+        @Override
+        public <T> boolean validate(final ValidationContext<T> context, final String propertyName,
+                final Object propertyDisplayName, final Object value) {
+            for (int i = 0; i < compiledValidators.length; i++) {
+                final CompiledValidator validator = compiledValidators[i];
+                if (validator == null) {
+                    throw createUnsupportedValidationException(validatorAnnotations[i], context, propertyName);
+                }
+                if (!validator.validate(context, propertyName, propertyDisplayName, value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     /**
      * ドメインを表すアノテーションのクラスを取得する。
      * <p/>
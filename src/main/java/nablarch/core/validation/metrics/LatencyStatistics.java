@@ -0,0 +1,185 @@
+package nablarch.core.validation.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import nablarch.core.util.annotation.Published;
+
+/**
+ * 処理の所要時間の分布を集計するクラス。
+ * <p/>
+ * 所要時間(ナノ秒)を2の累乗毎の区間に分けて件数を集計する。
+ * 区間{@code i}には、{@code 2^(i-1)}以上{@code 2^i}未満の所要時間が含まれる(区間0は0以下)。
+ * <p/>
+ * 本クラスはスレッドセーフである。
+ *
+ * @author TIS
+ */
+@Published(tag = "architect")
+public class LatencyStatistics {
+
+    /** 区間の数。 */
+    public static final int BUCKET_COUNT = 64;
+
+    /** 区間毎の件数。 */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /** 件数。 */
+    private final AtomicLong count = new AtomicLong();
+
+    /** 失敗した件数。 */
+    private final AtomicLong failureCount = new AtomicLong();
+
+    /** 所要時間の合計。 */
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    /** 所要時間の最大値。 */
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * 所要時間を記録する。
+     *
+     * @param elapsedNanos 所要時間(ナノ秒)
+     * @param success 処理が成功した場合は{@code true}
+     */
+    public void record(long elapsedNanos, boolean success) {
+        buckets.incrementAndGet(getBucket(elapsedNanos));
+        count.incrementAndGet();
+        if (!success) {
+            failureCount.incrementAndGet();
+        }
+        totalNanos.addAndGet(elapsedNanos);
+        long max = maxNanos.get();
+        while (elapsedNanos > max && !maxNanos.compareAndSet(max, elapsedNanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * 件数を取得する。
+     *
+     * @return 件数
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * 失敗した件数を取得する。
+     *
+     * @return 失敗した件数
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * 所要時間の合計を取得する。
+     *
+     * @return 所要時間の合計(ナノ秒)
+     */
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    /**
+     * 所要時間の最大値を取得する。
+     *
+     * @return 所要時間の最大値(ナノ秒)
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * 所要時間の平均値を取得する。
+     *
+     * @return 所要時間の平均値(ナノ秒)。記録がない場合は0
+     */
+    public long getMeanNanos() {
+        long n = count.get();
+        return n == 0 ? 0 : totalNanos.get() / n;
+    }
+
+    /**
+     * 区間毎の件数を取得する。
+     *
+     * @return 区間毎の件数。添字が区間に対応する
+     */
+    public long[] getBucketCounts() {
+        long[] result = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            result[i] = buckets.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * 所要時間のパーセンタイル値の近似値を取得する。
+     * <p/>
+     * パーセンタイル値が含まれる区間の上限値を返す。ただし、最大値を超える場合は最大値を返す。
+     *
+     * @param percentile パーセンタイル(0より大きく100以下)
+     * @return パーセンタイル値の近似値(ナノ秒)。記録がない場合は0
+     * @throws IllegalArgumentException パーセンタイルが範囲外の場合
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be greater than 0 and less than or equal to 100."
+                    + " percentile = " + percentile);
+        }
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long cumulative = 0;
+        int bucket = 0;
+        for (; bucket < BUCKET_COUNT - 1; bucket++) {
+            cumulative += counts[bucket];
+            if (cumulative >= rank) {
+                break;
+            }
+        }
+        return Math.min(getBucketUpperBound(bucket), maxNanos.get());
+    }
+
+    /**
+     * 所要時間が含まれる区間を取得する。
+     *
+     * @param elapsedNanos 所要時間(ナノ秒)
+     * @return 区間
+     */
+    static int getBucket(long elapsedNanos) {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return Math.min(BUCKET_COUNT - Long.numberOfLeadingZeros(elapsedNanos), BUCKET_COUNT - 1);
+    }
+
+    /**
+     * 区間に含まれる所要時間の上限値を取得する。
+     *
+     * @param bucket 区間
+     * @return 区間に含まれる所要時間の上限値(ナノ秒)
+     */
+    static long getBucketUpperBound(int bucket) {
+        if (bucket >= BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        return (1L << bucket) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "count = " + getCount()
+                + ", failureCount = " + getFailureCount()
+                + ", meanNanos = " + getMeanNanos()
+                + ", p99Nanos = " + (getCount() == 0 ? 0 : getPercentileNanos(99))
+                + ", maxNanos = " + getMaxNanos();
+    }
+}
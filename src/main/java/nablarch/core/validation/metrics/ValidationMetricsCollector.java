@@ -0,0 +1,233 @@
+package nablarch.core.validation.metrics;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import nablarch.core.log.Logger;
+import nablarch.core.log.LoggerManager;
+import nablarch.core.util.annotation.Published;
+import nablarch.core.validation.Convertor;
+import nablarch.core.validation.ValidationListener;
+
+/**
+ * バリデーションの所要時間を集計する{@link ValidationListener}実装クラス。
+ * <p/>
+ * 以下の単位で所要時間の分布({@link LatencyStatistics})を集計する。
+ * <ul>
+ *     <li>フォームのクラス毎のバリデーション</li>
+ *     <li>フォームのプロパティ毎のバリデーション</li>
+ *     <li>{@link Convertor}のクラス毎の値の変換</li>
+ *     <li>アノテーションの型毎のバリデータの呼び出し</li>
+ *     <li>フォームに紐付けられたバリデーションの設定の取得</li>
+ *     <li>フォームのクラス毎のフォームの生成</li>
+ * </ul>
+ * また、所要時間が{@link #setSlowThresholdMillis(long)}で設定した閾値以上のフォームのバリデーションをWARNレベルでログ出力する。
+ * <p/>
+ * 本クラスはスレッドセーフである。
+ *
+ * @author TIS
+ */
+@Published(tag = "architect")
+public class ValidationMetricsCollector implements ValidationListener {
+
+    /** ロガー。 */
+    private static final Logger LOGGER = LoggerManager.get(ValidationMetricsCollector.class);
+
+    /** フォームのクラス毎のバリデーションの所要時間。 */
+    private final ConcurrentMap<Class<?>, LatencyStatistics> formStatistics
+            = new ConcurrentHashMap<Class<?>, LatencyStatistics>();
+
+    /** フォームのクラス毎の、プロパティ毎のバリデーションの所要時間。 */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, LatencyStatistics>> propertyStatistics
+            = new ConcurrentHashMap<Class<?>, ConcurrentMap<String, LatencyStatistics>>();
+
+    /** {@link Convertor}のクラス毎の値の変換の所要時間。 */
+    private final ConcurrentMap<Class<?>, LatencyStatistics> convertorStatistics
+            = new ConcurrentHashMap<Class<?>, LatencyStatistics>();
+
+    /** アノテーションの型毎のバリデータの呼び出しの所要時間。 */
+    private final ConcurrentMap<Class<?>, LatencyStatistics> validatorStatistics
+            = new ConcurrentHashMap<Class<?>, LatencyStatistics>();
+
+    /** フォームのクラス毎のフォームの生成の所要時間。 */
+    private final ConcurrentMap<Class<?>, LatencyStatistics> formCreationStatistics
+            = new ConcurrentHashMap<Class<?>, LatencyStatistics>();
+
+    /** バリデーションの設定の取得の所要時間。 */
+    private volatile LatencyStatistics definitionLoadStatistics = new LatencyStatistics();
+
+    /** ログ出力するフォームのバリデーションの所要時間の閾値(ナノ秒)。 */
+    private long slowThresholdNanos = Long.MAX_VALUE;
+
+    /**
+     * ログ出力するフォームのバリデーションの所要時間の閾値を設定する。
+     * <p/>
+     * 設定しない場合はログ出力しない。
+     *
+     * @param slowThresholdMillis ログ出力する所要時間の閾値(ミリ秒)
+     * @throws IllegalArgumentException 負の値が指定された場合
+     */
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        if (slowThresholdMillis < 0) {
+            throw new IllegalArgumentException("slowThresholdMillis must not be negative."
+                    + " slowThresholdMillis = " + slowThresholdMillis);
+        }
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void definitionLoaded(Class<?> formClass, long elapsedNanos) {
+        definitionLoadStatistics.record(elapsedNanos, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void converted(Class<?> formClass, String propertyName, Convertor convertor, boolean converted,
+            long elapsedNanos) {
+        getStatistics(convertorStatistics, convertor.getClass()).record(elapsedNanos, converted);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void validated(Class<?> formClass, String propertyName, Annotation annotation, boolean valid,
+            long elapsedNanos) {
+        getStatistics(validatorStatistics, annotation.annotationType()).record(elapsedNanos, valid);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void propertyValidated(Class<?> formClass, String propertyName, boolean valid, long elapsedNanos) {
+        ConcurrentMap<String, LatencyStatistics> properties = propertyStatistics.get(formClass);
+        if (properties == null) {
+            properties = new ConcurrentHashMap<String, LatencyStatistics>();
+            ConcurrentMap<String, LatencyStatistics> existing = propertyStatistics.putIfAbsent(formClass, properties);
+            if (existing != null) {
+                properties = existing;
+            }
+        }
+        getStatistics(properties, propertyName).record(elapsedNanos, valid);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * 所要時間が閾値以上の場合はログ出力する。
+     */
+    public void formValidated(Class<?> formClass, String prefix, boolean valid, long elapsedNanos) {
+        getStatistics(formStatistics, formClass).record(elapsedNanos, valid);
+        if (elapsedNanos >= slowThresholdNanos && LOGGER.isWarnEnabled()) {
+            LOGGER.logWarn("slow validation was detected."
+                    + " form = [" + formClass.getName() + "]"
+                    + ", prefix = [" + prefix + "]"
+                    + ", valid = [" + valid + "]"
+                    + ", elapsed = [" + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms]");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void formCreated(Class<?> formClass, long elapsedNanos) {
+        getStatistics(formCreationStatistics, formClass).record(elapsedNanos, true);
+    }
+
+    /**
+     * フォームのクラス毎のバリデーションの所要時間を取得する。
+     *
+     * @return フォームのクラスをキーとする所要時間
+     */
+    public Map<Class<?>, LatencyStatistics> getFormStatistics() {
+        return Collections.unmodifiableMap(formStatistics);
+    }
+
+    /**
+     * フォームのプロパティ毎のバリデーションの所要時間を取得する。
+     *
+     * @param formClass フォームのクラス
+     * @return プロパティ名をキーとする所要時間
+     */
+    public Map<String, LatencyStatistics> getPropertyStatistics(Class<?> formClass) {
+        Map<String, LatencyStatistics> properties = propertyStatistics.get(formClass);
+        if (properties == null) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(properties);
+    }
+
+    /**
+     * {@link Convertor}のクラス毎の値の変換の所要時間を取得する。
+     *
+     * @return {@link Convertor}のクラスをキーとする所要時間
+     */
+    public Map<Class<?>, LatencyStatistics> getConvertorStatistics() {
+        return Collections.unmodifiableMap(convertorStatistics);
+    }
+
+    /**
+     * アノテーションの型毎のバリデータの呼び出しの所要時間を取得する。
+     *
+     * @return アノテーションの型をキーとする所要時間
+     */
+    public Map<Class<?>, LatencyStatistics> getValidatorStatistics() {
+        return Collections.unmodifiableMap(validatorStatistics);
+    }
+
+    /**
+     * フォームのクラス毎のフォームの生成の所要時間を取得する。
+     *
+     * @return フォームのクラスをキーとする所要時間
+     */
+    public Map<Class<?>, LatencyStatistics> getFormCreationStatistics() {
+        return Collections.unmodifiableMap(formCreationStatistics);
+    }
+
+    /**
+     * フォームに紐付けられたバリデーションの設定の取得の所要時間を取得する。
+     *
+     * @return バリデーションの設定の取得の所要時間
+     */
+    public LatencyStatistics getDefinitionLoadStatistics() {
+        return definitionLoadStatistics;
+    }
+
+    /**
+     * 集計した所要時間を破棄する。
+     */
+    public void clear() {
+        formStatistics.clear();
+        propertyStatistics.clear();
+        convertorStatistics.clear();
+        validatorStatistics.clear();
+        formCreationStatistics.clear();
+        definitionLoadStatistics = new LatencyStatistics();
+    }
+
+    /**
+     * キーに対応する所要時間を取得する。存在しない場合は作成する。
+     *
+     * @param <K> キーの型
+     * @param statistics キーと所要時間のMap
+     * @param key キー
+     * @return キーに対応する所要時間
+     */
+    private static <K> LatencyStatistics getStatistics(ConcurrentMap<K, LatencyStatistics> statistics, K key) {
+        LatencyStatistics result = statistics.get(key);
+        if (result == null) {
+            result = new LatencyStatistics();
+            LatencyStatistics existing = statistics.putIfAbsent(key, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * バリデーションの所要時間を集計する機能を提供する。
+ */
+package nablarch.core.validation.metrics;
@@ -0,0 +1,270 @@
+package nablarch.core.validation.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import nablarch.core.validation.ConversionFormat;
+import nablarch.core.validation.FormValidationDefinitionLoader;
+import nablarch.core.validation.PropertyName;
+import nablarch.core.validation.ValidateFor;
+import nablarch.core.validation.Validation;
+import nablarch.core.validation.ValidationTarget;
+
+/**
+ * コンパイル時にフォームクラスを検出し、フォームクラスのインデックスを出力するアノテーションプロセッサ。
+ * <p/>
+ * 以下のいずれかを持つ具象クラスをフォームクラスとみなす。
+ * <ul>
+ * <li>{@link ValidateFor}が設定されたメソッド</li>
+ * <li>{@link ValidationTarget}、{@link PropertyName}、
+ * または{@link Validation}か{@link ConversionFormat}が設定されたアノテーションが設定されたセッタ</li>
+ * <li>上記を持つスーパークラス</li>
+ * </ul>
+ * 検出したフォームクラスのバイナリ名を、クラス出力先の{@link FormValidationDefinitionLoader#FORM_INDEX_RESOURCE}に
+ * 1行1クラスで出力する。出力したインデックスは{@link FormValidationDefinitionLoader}が一括ロードの対象として使用する。
+ * <p/>
+ * 本プロセッサは自動的には登録されない。
+ * 使用する場合は、javacの-processorオプションなどで本クラスを指定すること。
+ *
+ * @author TIS
+ */
+public class FormIndexProcessor extends AbstractProcessor {
+
+    /** 検出したフォームクラスのバイナリ名。 */
+    private final Set<String> formClassNames = new TreeSet<String>();
+
+    /** 前回のコンパイルで出力したインデックスを読み込んだかどうか。 */
+    private boolean existingIndexLoaded;
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * フォームクラスは任意のアノテーションから検出するため、全てのアノテーションを対象とする。
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        formClassNames.clear();
+        existingIndexLoaded = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * アノテーションを要求しないため、常に{@code false}を返す。
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!existingIndexLoaded) {
+            loadExistingIndex();
+            existingIndexLoaded = true;
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element);
+        }
+        return false;
+    }
+
+    /**
+     * 要素とそのメンバのクラスからフォームクラスを収集する。
+     * <p/>
+     * 今回コンパイルされたクラスは、前回のインデックスに含まれていてもフォームクラスかどうかを判定し直す。
+     *
+     * @param element 要素
+     */
+    private void collect(Element element) {
+        if (!element.getKind().isClass()) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        formClassNames.remove(binaryName);
+        if (type.getKind() == ElementKind.CLASS
+                && !type.getModifiers().contains(Modifier.ABSTRACT)
+                && isForm(type)) {
+            formClassNames.add(binaryName);
+        }
+        for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collect(member);
+        }
+    }
+
+    /**
+     * クラス、またはそのスーパークラスがフォームとしての設定を持つか判定する。
+     *
+     * @param type クラス
+     * @return フォームとしての設定を持つ場合は{@code true}
+     */
+    private boolean isForm(TypeElement type) {
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                if (method.getAnnotation(ValidateFor.class) != null) {
+                    return true;
+                }
+                if (isSetter(method) && hasFormAnnotation(method)) {
+                    return true;
+                }
+            }
+            current = getSuperclass(current);
+        }
+        return false;
+    }
+
+    /**
+     * メソッドがセッタか判定する。
+     *
+     * @param method メソッド
+     * @return publicで引数が1つの、setで始まるメソッドの場合は{@code true}
+     */
+    private static boolean isSetter(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        return name.length() > 3
+                && name.startsWith("set")
+                && method.getParameters().size() == 1
+                && method.getModifiers().contains(Modifier.PUBLIC)
+                && !method.getModifiers().contains(Modifier.STATIC);
+    }
+
+    /**
+     * セッタにフォームのプロパティとしてのアノテーションが設定されているか判定する。
+     *
+     * @param setter セッタ
+     * @return {@link ValidationTarget}、{@link PropertyName}、
+     *          または{@link Validation}か{@link ConversionFormat}が設定されたアノテーションが設定されている場合は{@code true}
+     */
+    private static boolean hasFormAnnotation(ExecutableElement setter) {
+        if (setter.getAnnotation(ValidationTarget.class) != null
+                || setter.getAnnotation(PropertyName.class) != null) {
+            return true;
+        }
+        for (AnnotationMirror mirror : setter.getAnnotationMirrors()) {
+            Element annotationType = mirror.getAnnotationType().asElement();
+            if (annotationType.getAnnotation(Validation.class) != null
+                    || annotationType.getAnnotation(ConversionFormat.class) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * スーパークラスを取得する。
+     *
+     * @param type クラス
+     * @return スーパークラス。存在しない場合は{@code null}
+     */
+    private static TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    /**
+     * 前回のコンパイルで出力したインデックスを読み込む。
+     * <p/>
+     * 差分コンパイルの場合に、今回コンパイルされなかったフォームクラスをインデックスに残すために使用する。
+     * 存在しなくなったクラスは読み込まない。
+     * 今回コンパイルされたクラスは、{@link #collect(Element)}でフォームクラスかどうかを判定し直す。
+     */
+    private void loadExistingIndex() {
+        Elements elements = processingEnv.getElementUtils();
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(
+                    StandardLocation.CLASS_OUTPUT, "", FormValidationDefinitionLoader.FORM_INDEX_RESOURCE);
+            Reader reader = new InputStreamReader(resource.openInputStream(), "UTF-8");
+            try {
+                BufferedReader lines = new BufferedReader(reader);
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    line = line.trim();
+                    if (line.length() == 0 || line.startsWith("#")) {
+                        continue;
+                    }
+                    if (elements.getTypeElement(line.replace('$', '.')) != null) {
+                        formClassNames.add(line);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            // 前回のインデックスが存在しない場合は何もしない。
+        } catch (IllegalArgumentException e) {
+            // 前回のインデックスが存在しない場合は何もしない。
+        }
+    }
+
+    /**
+     * インデックスを出力する。
+     */
+    private void writeIndex() {
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject resource = filer.createResource(
+                    StandardLocation.CLASS_OUTPUT, "", FormValidationDefinitionLoader.FORM_INDEX_RESOURCE);
+            Writer writer = new OutputStreamWriter(resource.openOutputStream(), "UTF-8");
+            try {
+                for (String className : formClassNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "form index output failed. resource = " + FormValidationDefinitionLoader.FORM_INDEX_RESOURCE
+                            + ", cause = " + e);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * コンパイル時にフォームクラスのインデックスを作成するアノテーションプロセッサを提供する。
+ */
+package nablarch.core.validation.processor;
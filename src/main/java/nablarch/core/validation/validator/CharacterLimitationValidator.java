@@ -40,6 +40,15 @@ public abstract class CharacterLimitationValidator<A extends Annotation> extends
         this.messageId = messageId;
     }
 
+    /**
+     * 有効文字以外が入力された場合のデフォルトのエラーメッセージのメッセージIDを取得する。
+     *
+     * @return 有効文字以外が入力された場合のデフォルトのエラーメッセージのメッセージID
+     */
+    protected String getMessageId() {
+        return messageId;
+    }
+
     @Override 
     public <T> boolean validateSingleValue(ValidationContext<T> context,
             String propertyName, Object propertyDisplayObject,
@@ -7,7 +7,6 @@ import java.util.Map;
 import nablarch.core.util.StringUtil;
 import nablarch.core.validation.DirectCallableValidator;
 import nablarch.core.validation.ValidationContext;
-import nablarch.core.validation.ValidationResultMessageUtil;
 
 /**
  * 小数部を含む数値の範囲バリデーションを行う。
@@ -46,6 +45,14 @@ public class DecimalRangeValidator implements DirectCallableValidator {
      */
     private String maxAndMinMessageId;
 
+    /** アノテーション毎の範囲チェック */
+    private final RangeChecker.Cache<DecimalRange> checkers = new RangeChecker.Cache<DecimalRange>() {
+        @Override
+        RangeChecker create(final DecimalRange annotation) {
+            return compile(annotation);
+        }
+    };
+
     @Override
     public Class<? extends Annotation> getAnnotationClass() {
         return DecimalRange.class;
@@ -90,21 +97,27 @@ public class DecimalRangeValidator implements DirectCallableValidator {
             return true;
         }
 
-        final DecimalRange decimalRange = (DecimalRange) annotation;
+        final RangeChecker checker = checkers.get((DecimalRange) annotation);
+        return checker.check(context, propertyName, propertyDisplayName, toNumber(value));
+    }
+
+    /**
+     * {@link DecimalRange}アノテーションから範囲チェックを生成する。
+     * <p/>
+     * 最小値と最大値の解析と、範囲外の場合に使用するメッセージIDの選択は、生成時に行う。
+     *
+     * @param decimalRange {@link DecimalRange}
+     * @return 範囲チェック
+     * @throws IllegalArgumentException 最小値または最大値が数値として不正な場合
+     */
+    private RangeChecker compile(final DecimalRange decimalRange) throws IllegalArgumentException {
         final Range range;
         try {
             range = new Range(decimalRange.min(), decimalRange.max());
         } catch (final NumberFormatException e) {
             throw new IllegalArgumentException("invalid decimal range.", e);
         }
-
-        if (!range.includes(toBigDecimal(value))) {
-            ValidationResultMessageUtil.addResultMessage(
-                    context, propertyName, getMessageId(decimalRange), propertyDisplayName, range.getMinString(),
-                    range.getMaxString());
-            return false;
-        }
-        return true;
+        return new RangeChecker(range, getMessageId(decimalRange), range.getMinString(), range.getMaxString());
     }
 
     /**
@@ -128,19 +141,17 @@ public class DecimalRangeValidator implements DirectCallableValidator {
     }
 
     /**
-     * バリデーション対象の値を{@link BigDecimal}に変換する。
+     * バリデーション対象の値を{@link Number}として返す。
      * <p>
-     * 変換出来ない場合は、{@link IllegalArgumentException}を送出する。
+     * {@link Number}でない場合は、{@link IllegalArgumentException}を送出する。
+     * {@link BigDecimal}への変換は、{@link Range#includes(Number)}が必要な場合のみ行う。
      *
-     * @param value 変換対象の値
-     * @return 変換後の値
+     * @param value 対象の値
+     * @return {@link Number}にキャストした値
      */
-    private BigDecimal toBigDecimal(final Object value) {
-        if (value instanceof BigDecimal) {
-            return BigDecimal.class.cast(value);
-        }
+    private Number toNumber(final Object value) {
         if (value instanceof Number) {
-            return new BigDecimal(value.toString());
+            return (Number) value;
         }
         throw new IllegalArgumentException("unsupported data type."
                 + " supported type:[Number],"
@@ -155,6 +166,7 @@ public class DecimalRangeValidator implements DirectCallableValidator {
      */
     public void setMinMessageId(final String minMessageId) {
         this.minMessageId = minMessageId;
+        checkers.clear();
     }
 
     /**
@@ -164,6 +176,7 @@ public class DecimalRangeValidator implements DirectCallableValidator {
      */
     public void setMaxMessageId(final String maxMessageId) {
         this.maxMessageId = maxMessageId;
+        checkers.clear();
     }
 
     /**
@@ -173,5 +186,6 @@ public class DecimalRangeValidator implements DirectCallableValidator {
      */
     public void setMaxAndMinMessageId(final String maxAndMinMessageId) {
         this.maxAndMinMessageId = maxAndMinMessageId;
+        checkers.clear();
     }
 }
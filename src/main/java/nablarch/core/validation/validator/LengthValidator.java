@@ -4,7 +4,10 @@ import java.lang.annotation.Annotation;
 import java.util.Map;
 
 import nablarch.core.util.StringUtil;
+import nablarch.core.validation.CompilableValidator;
+import nablarch.core.validation.CompiledValidator;
 import nablarch.core.validation.ValidationContext;
+import nablarch.core.validation.ValidatorCompiler;
 import nablarch.core.validation.ValidationResultMessageUtil;
 
 
@@ -16,7 +19,7 @@ import nablarch.core.validation.ValidationResultMessageUtil;
  * @author Koichi Asano
  *
  */
-public class LengthValidator extends StringValidatorSupport<Length> {
+public class LengthValidator extends StringValidatorSupport<Length> implements CompilableValidator {
 
     /**
      * 最大文字列長を越えるエラーが発生した際に、最小文字列が指定されていなかった場合のデフォルトのエラーメッセージのメッセージID。
@@ -105,19 +108,93 @@ public class LengthValidator extends StringValidatorSupport<Length> {
      */
     private <T> void addMessage(ValidationContext<T> context,
             String propertyName, Object propertyDisplayName, Length length) {
-        String messageId;
+        ValidationResultMessageUtil.addResultMessage(context, propertyName, selectMessageId(length),
+                propertyDisplayName, length.min(), length.max());
+    }
+
+    /**
+     * エラーメッセージのメッセージIDを選択する。
+     *
+     * @param length Lengthアノテーション
+     * @return メッセージID
+     */
+    private String selectMessageId(Length length) {
         if (length.messageId().length() > 0) {
-            messageId = length.messageId();
+            return length.messageId();
+        }
+        if (length.min() == length.max()) {
+            return fixLengthMessageId;
+        } else if (length.min() > 0) {
+            return maxAndMinMessageId;
         } else {
-            if (length.min() == length.max()) {
-                messageId = fixLengthMessageId;
-            } else if (length.min() > 0) {
-                messageId = maxAndMinMessageId;
-            } else {
-                messageId = maxMessageId;
+            return maxMessageId;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * アノテーションの最小文字列長、最大文字列長を保持した{@link CompiledValidator}を生成する。
+     * エラー時に使用するメッセージIDは、設定の変更に追従するためエラーの都度本クラスの設定から選択する。
+     * {@link #validateSingleValue}等をオーバライドしたサブクラスの場合は、
+     * {@link ValidatorCompiler#adapt(nablarch.core.validation.Validator, Annotation)}で生成する。
+     */
+    public CompiledValidator compile(Annotation annotation) {
+        if (getClass() != LengthValidator.class) {
+            return ValidatorCompiler.adapt(this, annotation);
+        }
+        Length length = (Length) annotation;
+        return new CompiledLength(length);
+    }
+
+    /**
+     * 文字列長をチェックする{@link CompiledValidator}。
+     */
+    private final class CompiledLength extends CompiledStringValidator {
+
+        /** 最小文字列長 */
+        private final int min;
+
+        /** 最大文字列長 */
+        private final int max;
+
+        /** Lengthアノテーション */
+        private final Length annotation;
+
+        /** メッセージのオプション(最小文字列長) */
+        private final Integer minOption;
+
+        /** メッセージのオプション(最大文字列長) */
+        private final Integer maxOption;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param length Lengthアノテーション
+         */
+        private CompiledLength(Length length) {
+            this.min = length.min();
+            this.max = length.max();
+            this.annotation = length;
+            this.minOption = min;
+            this.maxOption = max;
+        }
+
+        @Override
+        protected <T> boolean validateSingleValue(ValidationContext<T> context, String propertyName,
+                Object propertyDisplayObject, String value) {
+            // 空文字列及びnullは、必須入力(Required)で防ぐ前提であるため、無条件で許可する
+            if (StringUtil.isNullOrEmpty(value) || (min <= 0 && max <= 0)) {
+                return true;
             }
+            int length = value.codePointCount(0, value.length());
+            if ((min > 0 && length < min) || (max > 0 && length > max)) {
+                ValidationResultMessageUtil.addResultMessage(context, propertyName, selectMessageId(annotation),
+                        propertyDisplayObject, minOption, maxOption);
+                return false;
+            }
+            return true;
         }
-        ValidationResultMessageUtil.addResultMessage(context, propertyName, messageId, propertyDisplayName, length.min(), length.max());
     }
 
     @Override
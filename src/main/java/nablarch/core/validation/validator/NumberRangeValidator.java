@@ -6,7 +6,6 @@ import java.util.Map;
 import nablarch.core.util.StringUtil;
 import nablarch.core.validation.DirectCallableValidator;
 import nablarch.core.validation.ValidationContext;
-import nablarch.core.validation.ValidationResultMessageUtil;
 
 
 /**
@@ -73,6 +72,14 @@ public class NumberRangeValidator implements DirectCallableValidator {
      */
     private String minMessageId;
 
+    /** アノテーション毎の範囲チェック */
+    private final RangeChecker.Cache<NumberRange> checkers = new RangeChecker.Cache<NumberRange>() {
+        @Override
+        RangeChecker create(final NumberRange annotation) {
+            return compile(annotation);
+        }
+    };
+
     /**
      * バリデーションの条件に最大値のみが指定されていた場合のデフォルトのエラーメッセージのメッセージID。<br/>
      * 例 : "{0}は{2}以下で入力してください。"
@@ -81,6 +88,7 @@ public class NumberRangeValidator implements DirectCallableValidator {
      */
     public void setMaxMessageId(final String maxMessageId) {
         this.maxMessageId = maxMessageId;
+        checkers.clear();
     }
     
     /**
@@ -90,6 +98,7 @@ public class NumberRangeValidator implements DirectCallableValidator {
      */
     public void setMaxAndMinMessageId(final String maxAndMinMessageId) {
         this.maxAndMinMessageId = maxAndMinMessageId;
+        checkers.clear();
     }
     /**
      * バリデーションの条件に最小値のみが指定されていた場合のデフォルトのエラーメッセージのメッセージIDを設定する。<br/>
@@ -98,6 +107,7 @@ public class NumberRangeValidator implements DirectCallableValidator {
      */
     public void setMinMessageId(final String minMessageId) {
         this.minMessageId = minMessageId;
+        checkers.clear();
     }
 
     /**
@@ -120,43 +130,35 @@ public class NumberRangeValidator implements DirectCallableValidator {
         }
 
         final Number num = (Number) value;
-        
-        final NumberRange numberRange = (NumberRange) annotation;
-        final Range range = new Range(
-                numberRange.min() != Long.MIN_VALUE ? numberRange.min() : null,
-                numberRange.max() != Long.MAX_VALUE ? numberRange.max() : null);
-
-        if (!range.includes(num)) {
-            addMessage(context, propertyName, propertyDisplayName, numberRange);
-            return false;
-        }
-        return true;
+        return checkers.get((NumberRange) annotation).check(context, propertyName, propertyDisplayName, num);
     }
 
     /**
-     * エラーメッセージを設定する。
-     * 
-     * @param <T> バリデーション結果で取得できる型
-     * @param context ValidationContext
-     * @param propertyName プロパティ名
-     * @param propertyDisplayName プロパティの表示名オブジェクト
+     * {@link NumberRange}アノテーションから範囲チェックを生成する。
+     * <p/>
+     * 範囲外の場合に使用するメッセージIDは、生成時に選択する。
+     *
      * @param range NumberRangeアノテーション
+     * @return 範囲チェック
      */
-    private <T> void addMessage(final ValidationContext<T> context,
-            final String propertyName, final Object propertyDisplayName, final NumberRange range) {
+    private RangeChecker compile(final NumberRange range) {
+        final long min = range.min();
+        final long max = range.max();
         final String messageId;
         if (StringUtil.hasValue(range.messageId())) {
             messageId = range.messageId();
         } else {
-            if (range.min() > Long.MIN_VALUE && range.max() < Long.MAX_VALUE) {
+            if (min > Long.MIN_VALUE && max < Long.MAX_VALUE) {
                 messageId = maxAndMinMessageId;
-            } else if (range.min() > Long.MIN_VALUE) {
+            } else if (min > Long.MIN_VALUE) {
                 messageId = minMessageId;
             } else {
                 messageId = maxMessageId;
             }
         }
-        ValidationResultMessageUtil.addResultMessage(context, propertyName, messageId, propertyDisplayName, range.min(), range.max());
+        return new RangeChecker(
+                new Range(min != Long.MIN_VALUE ? min : null, max != Long.MAX_VALUE ? max : null),
+                messageId, min, max);
     }
 
     /**{@inheritDoc}*/
@@ -1,22 +1,44 @@
 package nablarch.core.validation.validator;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 import nablarch.core.util.StringUtil;
 
 /**
  * 範囲を表すクラス。
+ * <p/>
+ * 整数型({@link Integer}、{@link Long}、{@link Short}、{@link Byte})の値は、
+ * 生成時に求めた{@code long}の範囲と比較するため、{@link BigDecimal}を生成せずに判定する。
  *
  * @author siosio
  */
 class Range {
 
+    /** longの最小値 */
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    /** longの最大値 */
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
     /** 範囲の最小値 */
     private final BigDecimal min;
 
     /** 範囲の最大値 */
     private final BigDecimal max;
 
+    /** 範囲に含まれる最小の{@code long}値 */
+    private final long minLong;
+
+    /** 範囲に含まれる最大の{@code long}値 */
+    private final long maxLong;
+
+    /** 最小値の文字列表現 */
+    private final String minString;
+
+    /** 最大値の文字列表現 */
+    private final String maxString;
+
     /**
      * 最小値と最大値からRangeを生成する。
      *
@@ -24,8 +46,7 @@ class Range {
      * @param max 最大値(未指定の場合は空文字列またはnull)
      */
     Range(final String min, final String max) {
-        this.min = toBigDecimal(min);
-        this.max = toBigDecimal(max);
+        this(toBigDecimal(min), toBigDecimal(max));
     }
 
     /**
@@ -35,8 +56,32 @@ class Range {
      * @param max 最大値(未指定の場合はnull)
      */
     Range(final Long min, final Long max) {
-        this.min = min != null ? BigDecimal.valueOf(min) : null;
-        this.max = max != null ? BigDecimal.valueOf(max) : null; 
+        this(min != null ? BigDecimal.valueOf(min) : null, max != null ? BigDecimal.valueOf(max) : null);
+    }
+
+    /**
+     * 最小値と最大値からRangeを生成する。
+     *
+     * @param min 最小値(未指定の場合はnull)
+     * @param max 最大値(未指定の場合はnull)
+     */
+    private Range(final BigDecimal min, final BigDecimal max) {
+        this.min = min;
+        this.max = max;
+        minString = min != null ? min.toPlainString() : null;
+        maxString = max != null ? max.toPlainString() : null;
+
+        final BigDecimal minInteger = min != null ? min.setScale(0, RoundingMode.CEILING) : null;
+        final BigDecimal maxInteger = max != null ? max.setScale(0, RoundingMode.FLOOR) : null;
+        if ((minInteger != null && minInteger.compareTo(LONG_MAX) > 0)
+                || (maxInteger != null && maxInteger.compareTo(LONG_MIN) < 0)) {
+            // long値を含まない範囲
+            minLong = 1;
+            maxLong = 0;
+        } else {
+            minLong = minInteger != null && minInteger.compareTo(LONG_MIN) > 0 ? minInteger.longValue() : Long.MIN_VALUE;
+            maxLong = maxInteger != null && maxInteger.compareTo(LONG_MAX) < 0 ? maxInteger.longValue() : Long.MAX_VALUE;
+        }
     }
 
     /**
@@ -63,6 +108,10 @@ class Range {
      * @return Rangeの範囲内の場合は {@code true}
      */
     boolean includes(final Number value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            final long longValue = value.longValue();
+            return minLong <= longValue && longValue <= maxLong;
+        }
         final BigDecimal decimal = value instanceof BigDecimal ? BigDecimal.class.cast(value) : new BigDecimal(value.toString());
         return isLessThanOrEqualToMax(decimal) && isGreaterThanOrEqualToMin(decimal);
     }
@@ -91,7 +140,7 @@ class Range {
      * @return 最小値(未指定の場合はnull)
      */
     String getMinString() {
-        return min != null ? min.toPlainString() : null;
+        return minString;
     }
 
     /**
@@ -100,6 +149,6 @@ class Range {
      * @return 最大値(未指定の場合はnull)
      */
     String getMaxString() {
-        return max != null ? max.toPlainString() : null;
+        return maxString;
     }
 }
@@ -0,0 +1,138 @@
+package nablarch.core.validation.validator;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Proxy;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import nablarch.core.validation.ValidationContext;
+import nablarch.core.validation.ValidationResultMessageUtil;
+
+/**
+ * 範囲チェックのアノテーションから生成した、範囲チェックを行うクラス。
+ * <p/>
+ * アノテーションの最小値と最大値を解析した{@link Range}と、範囲外の場合に使用するメッセージIDと
+ * メッセージのオプションを保持する。範囲内の値のチェックではオブジェクトを生成しない。
+ * <p/>
+ * 本クラスはスレッドセーフである。
+ *
+ * @author TIS
+ */
+final class RangeChecker {
+
+    /** 範囲 */
+    private final Range range;
+
+    /** 範囲外の場合に使用するメッセージID */
+    private final String messageId;
+
+    /** メッセージのオプション(最小値) */
+    private final Object min;
+
+    /** メッセージのオプション(最大値) */
+    private final Object max;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param range 範囲
+     * @param messageId 範囲外の場合に使用するメッセージID
+     * @param min メッセージのオプション(最小値)
+     * @param max メッセージのオプション(最大値)
+     */
+    RangeChecker(final Range range, final String messageId, final Object min, final Object max) {
+        this.range = range;
+        this.messageId = messageId;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * 値が範囲内であるかをチェックし、範囲外の場合はメッセージを追加する。
+     *
+     * @param <T> バリデーション結果で取得できる型
+     * @param context ValidationContext
+     * @param propertyName プロパティ名
+     * @param propertyDisplayName プロパティの表示名オブジェクト
+     * @param value チェック対象の値
+     * @return 範囲内の場合は{@code true}
+     */
+    <T> boolean check(final ValidationContext<T> context, final String propertyName,
+            final Object propertyDisplayName, final Number value) {
+        if (!range.includes(value)) {
+            ValidationResultMessageUtil.addResultMessage(context, propertyName, messageId, propertyDisplayName, min, max);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * アノテーション毎に{@link RangeChecker}を保持するキャッシュ。
+     * <p/>
+     * アノテーションのインスタンスをキーとする。アノテーションの{@code hashCode}や{@code equals}は
+     * 全ての属性を参照するため使用しない。
+     * 参照時はロックを取得せず、追加時はコピーした{@link IdentityHashMap}で置き換える。
+     * <p/>
+     * 保持するのは、リフレクションで取得したアノテーションのみとする。
+     * {@link nablarch.core.validation.DirectCallableValidator}の呼び出し時に生成されるアノテーションは
+     * 都度生成されるため保持しない。
+     */
+    abstract static class Cache<A extends Annotation> {
+
+        /** 保持する{@link RangeChecker}の上限 */
+        private static final int MAX_SIZE = 4096;
+
+        /** アノテーションのインスタンスをキーとする{@link RangeChecker}(追加時に置き換え、変更はしない) */
+        private volatile Map<A, RangeChecker> checkers = new IdentityHashMap<A, RangeChecker>();
+
+        /**
+         * アノテーションに対応する{@link RangeChecker}を取得する。
+         *
+         * @param annotation アノテーション
+         * @return {@link RangeChecker}
+         */
+        RangeChecker get(final A annotation) {
+            RangeChecker checker = checkers.get(annotation);
+            if (checker != null) {
+                return checker;
+            }
+            checker = create(annotation);
+            if (Proxy.isProxyClass(annotation.getClass())) {
+                put(annotation, checker);
+            }
+            return checker;
+        }
+
+        /**
+         * {@link RangeChecker}を追加する。
+         *
+         * @param annotation アノテーション
+         * @param checker {@link RangeChecker}
+         */
+        private synchronized void put(final A annotation, final RangeChecker checker) {
+            final Map<A, RangeChecker> current = checkers;
+            if (current.size() < MAX_SIZE && !current.containsKey(annotation)) {
+                final Map<A, RangeChecker> copy = new IdentityHashMap<A, RangeChecker>(current);
+                copy.put(annotation, checker);
+                checkers = copy;
+            }
+        }
+
+        /**
+         * 保持している{@link RangeChecker}を破棄する。
+         * <p/>
+         * デフォルトのメッセージIDが変更された場合に呼び出す。
+         */
+        synchronized void clear() {
+            checkers = new IdentityHashMap<A, RangeChecker>();
+        }
+
+        /**
+         * アノテーションから{@link RangeChecker}を生成する。
+         *
+         * @param annotation アノテーション
+         * @return {@link RangeChecker}
+         */
+        abstract RangeChecker create(A annotation);
+    }
+}
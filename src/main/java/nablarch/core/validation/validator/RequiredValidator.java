@@ -3,9 +3,12 @@ package nablarch.core.validation.validator;
 import java.lang.annotation.Annotation;
 import java.util.Map;
 
+import nablarch.core.validation.CompilableValidator;
+import nablarch.core.validation.CompiledValidator;
 import nablarch.core.validation.DirectCallableValidator;
 import nablarch.core.validation.ValidationContext;
 import nablarch.core.validation.ValidationResultMessageUtil;
+import nablarch.core.validation.ValidatorCompiler;
 
 /**
  * 必須入力をチェックするクラス。
@@ -38,7 +41,7 @@ import nablarch.core.validation.ValidationResultMessageUtil;
  * @author Koichi Asano
  *
  */
-public class RequiredValidator implements DirectCallableValidator {
+public class RequiredValidator implements DirectCallableValidator, CompilableValidator {
 
     /**
      * デフォルトのエラーメッセージのメッセージID。
@@ -67,26 +70,27 @@ public class RequiredValidator implements DirectCallableValidator {
     public <T> boolean validate(ValidationContext<T> context,
             String propertyName, Object propertyDisplayName,
             Annotation annotation, Object value) {
+        if (isEmpty(value)) {
+            addMessage(context, propertyName, propertyDisplayName, annotation);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 値が入力されていないかを判定する。
+     *
+     * @param value バリデーション対象の値
+     * @return 値が{@code null}、空文字列、要素数0の配列の場合は{@code true}
+     */
+    private static boolean isEmpty(Object value) {
         if (value instanceof String) {
-            String str = (String) value;
-            if (str.length() == 0) {
-                addMessage(context, propertyName, propertyDisplayName, annotation);
-                return false;
-            }
+            return ((String) value).length() == 0;
         } else if (value instanceof String[]) {
-            String[] array = (String[]) value;
-
-            if (array.length == 0) {
-                addMessage(context, propertyName, propertyDisplayName, annotation);
-                return false;
-            }
+            return ((String[]) value).length == 0;
         } else {
-            if (value == null) {
-                addMessage(context, propertyName, propertyDisplayName, annotation);
-                return false;
-            }
+            return value == null;
         }
-        return true;
     }
 
     /**
@@ -100,14 +104,67 @@ public class RequiredValidator implements DirectCallableValidator {
      */
     private <T> void addMessage(ValidationContext<T> context,
             String propertyName, Object propertyDisplayName, Annotation annotation) {
+        ValidationResultMessageUtil.addResultMessage(context, propertyName, selectMessageId(annotation),
+                propertyDisplayName);
+    }
+
+    /**
+     * エラーメッセージのメッセージIDを選択する。
+     *
+     * @param annotation アノテーション
+     * @return メッセージID
+     */
+    private String selectMessageId(Annotation annotation) {
         Required required = (Required) annotation;
-        String selectedMessageId;
         if (required.messageId().length() > 0) {
-            selectedMessageId = required.messageId();
-        } else {
-            selectedMessageId = messageId;
+            return required.messageId();
+        }
+        return messageId;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * アノテーションを保持した{@link CompiledValidator}を生成する。
+     * エラー時に使用するメッセージIDは、設定の変更に追従するためエラーの都度本クラスの設定から選択する。
+     * {@link #validate}をオーバライドしたサブクラスの場合は、
+     * {@link ValidatorCompiler#adapt(nablarch.core.validation.Validator, Annotation)}で生成する。
+     */
+    public CompiledValidator compile(Annotation annotation) {
+        if (getClass() != RequiredValidator.class) {
+            return ValidatorCompiler.adapt(this, annotation);
+        }
+        return new CompiledRequired(annotation);
+    }
+
+    /**
+     * 必須入力をチェックする{@link CompiledValidator}。
+     */
+    private final class CompiledRequired implements CompiledValidator {
+
+        /** Requiredアノテーション */
+        private final Annotation annotation;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param annotation Requiredアノテーション
+         */
+        private CompiledRequired(Annotation annotation) {
+            this.annotation = annotation;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public <T> boolean validate(ValidationContext<T> context, String propertyName,
+                Object propertyDisplayName, Object value) {
+            if (isEmpty(value)) {
+                addMessage(context, propertyName, propertyDisplayName, annotation);
+                return false;
+            }
+            return true;
         }
-        ValidationResultMessageUtil.addResultMessage(context, propertyName, selectedMessageId, propertyDisplayName);
     }
 
     /**
@@ -4,6 +4,7 @@ import java.lang.annotation.Annotation;
 import java.util.Map;
 
 import nablarch.core.util.annotation.Published;
+import nablarch.core.validation.CompiledValidator;
 import nablarch.core.validation.ValidationContext;
 import nablarch.core.validation.DirectCallableValidator;
 
@@ -46,12 +47,25 @@ implements DirectCallableValidator {
             }
             return true;
         } else {
-            throw new IllegalArgumentException("unsupported property type was specified."
-                    + " property name = " + propertyName + ","
-                    + " property message id  = " + propertyDisplayName + ","
-                    + " property type = " + value.getClass().getName());
+            throw createUnsupportedTypeException(propertyName, propertyDisplayName, value);
         }
     }
+
+    /**
+     * サポートされていないプロパティの型を表す例外を生成する。
+     *
+     * @param propertyName プロパティ名
+     * @param propertyDisplayName プロパティの表示名オブジェクト
+     * @param value バリデーション対象の値
+     * @return 例外
+     */
+    private static IllegalArgumentException createUnsupportedTypeException(String propertyName,
+            Object propertyDisplayName, Object value) {
+        return new IllegalArgumentException("unsupported property type was specified."
+                + " property name = " + propertyName + ","
+                + " property message id  = " + propertyDisplayName + ","
+                + " property type = " + value.getClass().getName());
+    }
     
     /**
      * {@inheritDoc}
@@ -88,4 +102,55 @@ implements DirectCallableValidator {
     public abstract <T> boolean validateSingleValue(ValidationContext<T> context, String propertyName,
             Object propertyDisplayObject, A annotation, String value);
 
+    /**
+     * 文字列のバリデーションを行う{@link CompiledValidator}の作成を助けるサポートクラス。
+     * <p/>
+     * {@link StringValidatorSupport#validate(ValidationContext, String, Object, Annotation, Object)}と同様に、
+     * 値が{@code null}の場合はバリデーションに通ったものとし、文字列の配列の場合は要素毎にバリデーションを行う。
+     */
+    @Published(tag = "architect")
+    protected abstract static class CompiledStringValidator implements CompiledValidator {
+
+        /**
+         * コンストラクタ。
+         */
+        protected CompiledStringValidator() {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public final <T> boolean validate(ValidationContext<T> context, String propertyName,
+                Object propertyDisplayName, Object value) {
+            if (value == null) {
+                return true;
+            } else if (value instanceof String) {
+                return validateSingleValue(context, propertyName, propertyDisplayName, (String) value);
+            } else if (value instanceof String[]) {
+                for (String strValue : (String[]) value) {
+                    if (!validateSingleValue(context, propertyName, propertyDisplayName, strValue)) {
+                        return false;
+                    }
+                }
+                return true;
+            } else {
+                throw createUnsupportedTypeException(propertyName, propertyDisplayName, value);
+            }
+        }
+
+        /**
+         * 1つの入力値に対するバリデーションを行う。
+         *
+         * @param <T> バリデーション結果で取得できる型
+         * @param context バリデーションコンテキスト
+         * @param propertyName プロパティ名
+         * @param propertyDisplayObject プロパティの表示名オブジェクト
+         * @param value バリデーション対象の値
+         *
+         * @return バリデーションに通った場合true
+         */
+        protected abstract <T> boolean validateSingleValue(ValidationContext<T> context, String propertyName,
+                Object propertyDisplayObject, String value);
+    }
+
 }
@@ -4,6 +4,11 @@ import java.lang.annotation.Annotation;
 import java.util.Map;
 
 import nablarch.core.util.StringUtil;
+import nablarch.core.validation.CompilableValidator;
+import nablarch.core.validation.CompiledValidator;
+import nablarch.core.validation.ValidationContext;
+import nablarch.core.validation.ValidationResultMessageUtil;
+import nablarch.core.validation.ValidatorCompiler;
 import nablarch.core.validation.validator.CharacterLimitationValidator;
 
 /**
@@ -58,7 +63,7 @@ import nablarch.core.validation.validator.CharacterLimitationValidator;
  *
  * @author T.Kawasaki
  */
-public class SystemCharValidator extends CharacterLimitationValidator<SystemChar> {
+public class SystemCharValidator extends CharacterLimitationValidator<SystemChar> implements CompilableValidator {
 
     /**
      * サロゲートペアを許容するかどうか。
@@ -123,6 +128,97 @@ public class SystemCharValidator extends CharacterLimitationValidator<SystemChar
         return SystemChar.class;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * アノテーションの属性値を保持した{@link CompiledValidator}を生成する。
+     * 本クラスに設定したデフォルトの許容文字集合定義、サロゲートペアを許容するか、メッセージIDは、
+     * 設定の変更に追従するためバリデーションの都度本クラスから取得する。
+     * アノテーションで許容文字集合定義の名称が指定されている場合、許容文字集合定義はバリデーションの都度リポジトリから取得する。
+     * {@link #isValid}等をオーバライドしたサブクラスの場合や、
+     * デフォルトの許容文字集合定義を使用するがデフォルトの許容文字集合定義が設定されていない場合は、
+     * {@link ValidatorCompiler#adapt(nablarch.core.validation.Validator, Annotation)}で生成する。
+     * </p>
+     */
+    public CompiledValidator compile(Annotation annotation) {
+        if (getClass() != SystemCharValidator.class) {
+            return ValidatorCompiler.adapt(this, annotation);
+        }
+        SystemChar systemChar = (SystemChar) annotation;
+        String charsetDefName = systemChar.charsetDef();
+        if (StringUtil.isNullOrEmpty(charsetDefName)) {
+            charsetDefName = null;
+            if (defaultCharsetDef == null) {
+                return ValidatorCompiler.adapt(this, annotation);
+            }
+        }
+        String messageId = systemChar.messageId();
+        if (StringUtil.isNullOrEmpty(messageId)) {
+            messageId = null;
+        }
+        return new CompiledSystemChar(charsetDefName, systemChar.allowLineSeparator(), messageId);
+    }
+
+    /**
+     * システム許容文字のみからなる文字列であるかをチェックする{@link CompiledValidator}。
+     */
+    private final class CompiledSystemChar extends CompiledStringValidator {
+
+        /** アノテーションで指定された許容文字集合定義の名称。指定されていない場合は{@code null} */
+        private final String charsetDefName;
+
+        /** 改行コードを許容するか */
+        private final boolean allowLineSeparator;
+
+        /** アノテーションで指定されたメッセージID。指定されていない場合は{@code null} */
+        private final String annotationMessageId;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param charsetDefName アノテーションで指定された許容文字集合定義の名称
+         * @param allowLineSeparator 改行コードを許容するか
+         * @param annotationMessageId アノテーションで指定されたメッセージID
+         */
+        private CompiledSystemChar(String charsetDefName, boolean allowLineSeparator, String annotationMessageId) {
+            this.charsetDefName = charsetDefName;
+            this.allowLineSeparator = allowLineSeparator;
+            this.annotationMessageId = annotationMessageId;
+        }
+
+        @Override
+        protected <T> boolean validateSingleValue(ValidationContext<T> context, String propertyName,
+                Object propertyDisplayObject, String value) {
+            if (value == null) {
+                return true;
+            }
+            // リポジトリの再読み込みに追従するため、名称で指定された許容文字集合定義は都度取得する。
+            CharsetDef charsetDef = charsetDefName == null
+                    ? defaultCharsetDef
+                    : CharsetDefValidationUtil.lookUp(charsetDefName);
+            if (!CharsetDefValidationUtil.isValid(charsetDef, value, allowLineSeparator, allowSurrogatePair)) {
+                ValidationResultMessageUtil.addResultMessage(
+                        context, propertyName, getMessageId(charsetDef), propertyDisplayObject);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * エラー時に使用するメッセージIDを取得する。
+         *
+         * @param charsetDef 許容文字集合定義
+         * @return メッセージID
+         */
+        private String getMessageId(CharsetDef charsetDef) {
+            if (annotationMessageId != null) {
+                return annotationMessageId;
+            }
+            String messageId = charsetDef.getMessageId();
+            return StringUtil.isNullOrEmpty(messageId) ? SystemCharValidator.this.getMessageId() : messageId;
+        }
+    }
+
     /**
      * サロゲートペアを許容するかどうかを設定する。
      * <p>
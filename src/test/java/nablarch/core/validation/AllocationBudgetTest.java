@@ -0,0 +1,427 @@
+package nablarch.core.validation;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import nablarch.core.ThreadContext;
+import nablarch.core.cache.BasicStaticDataCache;
+import nablarch.core.message.MockStringResourceHolder;
+import nablarch.core.repository.ObjectLoader;
+import nablarch.core.repository.SystemRepository;
+import nablarch.core.validation.convertor.BigDecimalConvertor;
+import nablarch.core.validation.convertor.Digits;
+import nablarch.core.validation.convertor.LongConvertor;
+import nablarch.core.validation.convertor.StringConvertor;
+import nablarch.core.validation.validator.Length;
+import nablarch.core.validation.validator.LengthValidator;
+import nablarch.core.validation.validator.NumberRange;
+import nablarch.core.validation.validator.NumberRangeValidator;
+import nablarch.core.validation.validator.Required;
+import nablarch.core.validation.validator.RequiredValidator;
+import nablarch.core.validation.validator.unicode.CharsetDefValidationUtil;
+import nablarch.core.validation.validator.unicode.RangedCharsetDef;
+import nablarch.core.validation.validator.unicode.SystemChar;
+import nablarch.core.validation.validator.unicode.SystemCharValidator;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * バリデーションの主要な処理の、1回あたりのメモリ割り当て量が上限を超えないことを確認するテスト。
+ * <p/>
+ * 割り当て量はJDKのバージョンにより異なるため、上限はJDKの仕様バージョン毎に
+ * {@code allocation-budget-<java.specification.version>.properties}に定義する。
+ * 割り当て量を削減した場合は上限を見直し、増加させる変更を行う場合は理由を明確にした上で上限を変更すること。
+ * <p/>
+ * 計測に時間がかかるため、通常のビルドでは実行しない。
+ * システムプロパティ{@code nablarch.validation.allocationBudget}に{@code true}を指定した場合のみ実行する。
+ * リリース前およびCIでは、本プロパティを設定するプロファイルを指定して実行する({@code mvn test -Pallocation-budget})。
+ * JDK 17で実行する場合は、JDK 8またはJDK 11でコンパイルし、{@code -Djvm}でテストを実行するJDKを指定する。
+ * <p/>
+ * 割り当て量はスレッド毎のメモリ割り当て量({@code com.sun.management.ThreadMXBean})で計測する。
+ * 実行を指定した場合に、計測できないJVMや上限が定義されていないバージョンのJDKで実行したときはテストを失敗とする。
+ */
+public class AllocationBudgetTest {
+
+    /** テストを実行するかどうかを指定するシステムプロパティ名。 */
+    private static final String ENABLED_PROPERTY = "nablarch.validation.allocationBudget";
+
+    /** 計測前に実行する回数。JITコンパイル後の割り当て量を計測するために実行する。 */
+    private static final int WARMUP_ITERATIONS = 20000;
+
+    /** 1回の計測で実行する回数。 */
+    private static final int MEASURE_ITERATIONS = 2000;
+
+    /** 計測する回数。最も少ない割り当て量を計測結果とする。 */
+    private static final int MEASURE_ROUNDS = 5;
+
+    private static final String[][] MESSAGES = {
+            {"MSG00001", "ja", "{0}の値が不正です。"},
+            {"MSG00011", "ja", "{0}は必須項目です。"},
+            {"MSG00021", "ja", "{0}は{1}文字以内で入力してください。"},
+            {"MSG00022", "ja", "{0}は{2}文字以上{1}文字以内で入力してください。"},
+            {"MSG00023", "ja", "{0}は{1}文字で入力してください。"},
+            {"MSG00031", "ja", "{0}は整数部{1}桁以内で入力してください。"},
+            {"MSG00032", "ja", "{0}は小数部{2}桁以内で入力してください。"},
+            {"MSG00051", "ja", "{0}は{2}以下で入力してください。"},
+            {"MSG00052", "ja", "{0}は{1}以上{2}以下で入力してください。"},
+            {"MSG00053", "ja", "{0}は{1}以上で入力してください。"},
+            {"MSG00061", "ja", "{0}に使用できない文字が含まれています。"},
+            {"MSG00071", "ja", "{0}の件数が不正です。"},
+    };
+
+    private Properties budgets;
+
+    private ValidationManager manager;
+
+    private RangedCharsetDef asciiCharsetDef;
+
+    @Before
+    public void setUp() throws IOException {
+        Assume.assumeTrue(Boolean.getBoolean(ENABLED_PROPERTY));
+        if (!AllocationMeter.isSupported()) {
+            fail("thread allocation measurement is not supported on this JVM. vm = " + System.getProperty("java.vm.name"));
+        }
+        String budgetFile = "allocation-budget-" + System.getProperty("java.specification.version") + ".properties";
+        InputStream in = AllocationBudgetTest.class.getResourceAsStream(budgetFile);
+        if (in == null) {
+            fail("allocation budget is not defined for this JDK. add " + budgetFile + " with budgets measured on this JDK.");
+        }
+
+        budgets = new Properties();
+        try {
+            budgets.load(in);
+        } finally {
+            in.close();
+        }
+
+        final MockStringResourceHolder holder = new MockStringResourceHolder();
+        holder.setMessages(MESSAGES);
+        asciiCharsetDef = new RangedCharsetDef();
+        asciiCharsetDef.setStartCodePoint("U+0020");
+        asciiCharsetDef.setEndCodePoint("U+007E");
+        asciiCharsetDef.setMessageId("MSG00061");
+        manager = createValidationManager(holder, asciiCharsetDef);
+        SystemRepository.clear();
+        SystemRepository.load(new ObjectLoader() {
+            public Map<String, Object> load() {
+                Map<String, Object> objects = new HashMap<String, Object>();
+                objects.put("stringResourceHolder", holder);
+                objects.put("validationManager", manager);
+                return objects;
+            }
+        });
+        ThreadContext.setLanguage(Locale.JAPANESE);
+    }
+
+    @After
+    public void tearDown() {
+        SystemRepository.clear();
+        ThreadContext.clear();
+    }
+
+    /**
+     * ネストや配列を持たないフォームのバリデーションの割り当て量が上限を超えないこと。
+     */
+    @Test
+    public void testValidateAndConvertFlatForm() {
+        final Map<String, String[]> valid = flatParams("user", "00000001", "山田太郎", "30", "1,234.5");
+        assertBudget("validateAndConvert.flat.valid", new Runnable() {
+            public void run() {
+                assertTrue(manager.validateAndConvert("user", UserForm.class, valid, null).isValid());
+            }
+        });
+
+        final Map<String, String[]> invalid = flatParams("user", "1", "", "200", "abc");
+        assertBudget("validateAndConvert.flat.invalid", new Runnable() {
+            public void run() {
+                assertTrue(!manager.validateAndConvert("user", UserForm.class, invalid, null).isValid());
+            }
+        });
+    }
+
+    /**
+     * 子フォームとフォームの配列を持つフォームのバリデーションの割り当て量が上限を超えないこと。
+     */
+    @Test
+    public void testValidateAndConvertNestedForm() {
+        final Map<String, String[]> params = new HashMap<String, String[]>();
+        params.put("order.orderNo", new String[]{"ORD0000001"});
+        params.putAll(flatParams("order.customer", "00000001", "山田太郎", "30", "1,234.5"));
+        for (int i = 0; i < 10; i++) {
+            params.putAll(flatParams("order.users[" + i + "]", "0000000" + i, "name" + i, String.valueOf(20 + i), "1"));
+        }
+        assertBudget("validateAndConvert.nested.valid", new Runnable() {
+            public void run() {
+                assertTrue(manager.validateAndConvert("order", OrderForm.class, params, null).isValid());
+            }
+        });
+    }
+
+    /**
+     * 許容文字のバリデーションの割り当て量が上限を超えないこと。
+     */
+    @Test
+    public void testCharsetDefValidation() {
+        final String value = "The quick brown fox jumps over the lazy dog 0123456789";
+        assertBudget("CharsetDefValidationUtil.isValid", new Runnable() {
+            public void run() {
+                assertTrue(CharsetDefValidationUtil.isValid(asciiCharsetDef, value));
+            }
+        });
+    }
+
+    /**
+     * 数値の範囲チェックの割り当て量が上限を超えないこと。
+     */
+    @Test
+    public void testNumberRangeValidation() throws Exception {
+        final NumberRangeValidator validator = new NumberRangeValidator();
+        final NumberRange range = UserForm.class.getMethod("setAge", Long.class).getAnnotation(NumberRange.class);
+        final ValidationContext<UserForm> context = new ValidationContext<UserForm>(
+                "", UserForm.class, null, new HashMap<String, Object>(), null);
+        final Long value = 120L;
+        assertBudget("NumberRangeValidator.validate", new Runnable() {
+            public void run() {
+                assertTrue(validator.validate(context, "age", "age", range, value));
+            }
+        });
+    }
+
+    /**
+     * 数値の変換の割り当て量が上限を超えないこと。
+     */
+    @Test
+    public void testNumberConversion() throws Exception {
+        final BigDecimalConvertor convertor = new BigDecimalConvertor();
+        final Digits digits = UserForm.class.getMethod("setAmount", BigDecimal.class).getAnnotation(Digits.class);
+        final ValidationContext<UserForm> context = new ValidationContext<UserForm>(
+                "", UserForm.class, null, new HashMap<String, Object>(), null);
+        final String[] value = {"1,234.5"};
+        assertBudget("NumberConvertorSupport.convert", new Runnable() {
+            public void run() {
+                assertTrue(convertor.convert(context, "amount", value, digits) != null);
+            }
+        });
+    }
+
+    /**
+     * 処理1回あたりの割り当て量が上限を超えないことを確認する。
+     *
+     * @param scenario 上限のキー
+     * @param operation 計測する処理
+     */
+    private void assertBudget(String scenario, Runnable operation) {
+        String budget = budgets.getProperty(scenario);
+        if (budget == null) {
+            fail("allocation budget was not defined. scenario = [" + scenario + "]");
+        }
+        long actual = AllocationMeter.measure(operation);
+        if (actual > Long.parseLong(budget)) {
+            fail("allocation budget exceeded. scenario = [" + scenario + "]"
+                    + ", budget = [" + budget + " bytes/op], actual = [" + actual + " bytes/op]");
+        }
+    }
+
+    private static Map<String, String[]> flatParams(String prefix, String id, String name, String age, String amount) {
+        Map<String, String[]> params = new HashMap<String, String[]>();
+        params.put(prefix + ".id", new String[]{id});
+        params.put(prefix + ".name", new String[]{name});
+        params.put(prefix + ".age", new String[]{age});
+        params.put(prefix + ".amount", new String[]{amount});
+        return params;
+    }
+
+    private static ValidationManager createValidationManager(MockStringResourceHolder holder,
+            RangedCharsetDef charsetDef) {
+        List<Convertor> convertors = new ArrayList<Convertor>();
+        StringConvertor stringConvertor = new StringConvertor();
+        stringConvertor.setConversionFailedMessageId("MSG00001");
+        convertors.add(stringConvertor);
+        LongConvertor longConvertor = new LongConvertor();
+        longConvertor.setInvalidDigitsIntegerMessageId("MSG00031");
+        longConvertor.setMultiInputMessageId("MSG00001");
+        convertors.add(longConvertor);
+        BigDecimalConvertor bigDecimalConvertor = new BigDecimalConvertor();
+        bigDecimalConvertor.setInvalidDigitsIntegerMessageId("MSG00031");
+        bigDecimalConvertor.setInvalidDigitsFractionMessageId("MSG00032");
+        bigDecimalConvertor.setMultiInputMessageId("MSG00001");
+        convertors.add(bigDecimalConvertor);
+
+        List<Validator> validators = new ArrayList<Validator>();
+        RequiredValidator requiredValidator = new RequiredValidator();
+        requiredValidator.setMessageId("MSG00011");
+        validators.add(requiredValidator);
+        LengthValidator lengthValidator = new LengthValidator();
+        lengthValidator.setMaxMessageId("MSG00021");
+        lengthValidator.setMaxAndMinMessageId("MSG00022");
+        lengthValidator.setFixLengthMessageId("MSG00023");
+        validators.add(lengthValidator);
+        NumberRangeValidator numberRangeValidator = new NumberRangeValidator();
+        numberRangeValidator.setMaxMessageId("MSG00051");
+        numberRangeValidator.setMaxAndMinMessageId("MSG00052");
+        numberRangeValidator.setMinMessageId("MSG00053");
+        validators.add(numberRangeValidator);
+        SystemCharValidator systemCharValidator = new SystemCharValidator();
+        systemCharValidator.setDefaultCharsetDef(charsetDef);
+        validators.add(systemCharValidator);
+
+        BasicStaticDataCache<FormValidationDefinition> formDefinitionCache
+                = new BasicStaticDataCache<FormValidationDefinition>();
+        formDefinitionCache.setLoader(new FormValidationDefinitionLoader());
+        formDefinitionCache.initialize();
+
+        ValidationManager validationManager = new ValidationManager();
+        validationManager.setConvertors(convertors);
+        validationManager.setValidators(validators);
+        validationManager.setFormDefinitionCache(formDefinitionCache);
+        validationManager.setMessageResource(holder);
+        validationManager.setInvalidSizeKeyMessageId("MSG00071");
+        validationManager.initialize();
+        return validationManager;
+    }
+
+    /**
+     * スレッド毎のメモリ割り当て量を計測するクラス。
+     */
+    private static final class AllocationMeter {
+
+        private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+        private static com.sun.management.ThreadMXBean getThreadMXBean() {
+            try {
+                java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+                if (bean instanceof com.sun.management.ThreadMXBean) {
+                    com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+                    if (sunBean.isThreadAllocatedMemorySupported()) {
+                        sunBean.setThreadAllocatedMemoryEnabled(true);
+                        return sunBean;
+                    }
+                }
+            } catch (LinkageError e) {
+                // com.sun.management.ThreadMXBeanを使用できないJVM
+            }
+            return null;
+        }
+
+        static boolean isSupported() {
+            return THREAD_MX_BEAN != null;
+        }
+
+        /**
+         * 処理1回あたりの割り当て量を計測する。
+         *
+         * @param operation 計測する処理
+         * @return 処理1回あたりの割り当て量(バイト)
+         */
+        static long measure(Runnable operation) {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                operation.run();
+            }
+            long threadId = Thread.currentThread().getId();
+            long overhead = allocatedBytes(threadId) - allocatedBytes(threadId);
+            long min = Long.MAX_VALUE;
+            for (int round = 0; round < MEASURE_ROUNDS; round++) {
+                long start = allocatedBytes(threadId);
+                for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                    operation.run();
+                }
+                long allocated = allocatedBytes(threadId) - start + overhead;
+                min = Math.min(min, allocated / MEASURE_ITERATIONS);
+            }
+            return min;
+        }
+
+        private static long allocatedBytes(long threadId) {
+            return THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        }
+    }
+
+    public static class UserForm {
+
+        private String id;
+
+        private String name;
+
+        private Long age;
+
+        private BigDecimal amount;
+
+        public UserForm(Map<String, Object> params) {
+            id = (String) params.get("id");
+            name = (String) params.get("name");
+            age = (Long) params.get("age");
+            amount = (BigDecimal) params.get("amount");
+        }
+
+        @Required
+        @Length(min = 8, max = 8)
+        @SystemChar
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        @Required
+        @Length(max = 20)
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @Required
+        @Digits(integer = 3)
+        @NumberRange(min = 0, max = 150)
+        public void setAge(Long age) {
+            this.age = age;
+        }
+
+        @Digits(integer = 7, fraction = 2)
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+    }
+
+    public static class OrderForm {
+
+        private String orderNo;
+
+        private UserForm customer;
+
+        private UserForm[] users;
+
+        public OrderForm(Map<String, Object> params) {
+            orderNo = (String) params.get("orderNo");
+            customer = (UserForm) params.get("customer");
+            users = (UserForm[]) params.get("users");
+        }
+
+        @Required
+        @Length(max = 10)
+        @SystemChar
+        public void setOrderNo(String orderNo) {
+            this.orderNo = orderNo;
+        }
+
+        @ValidationTarget
+        public void setCustomer(UserForm customer) {
+            this.customer = customer;
+        }
+
+        @ValidationTarget(size = 10)
+        public void setUsers(UserForm[] users) {
+            this.users = users;
+        }
+    }
+}
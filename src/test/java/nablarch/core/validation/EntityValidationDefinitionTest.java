@@ -8,6 +8,7 @@ import static org.junit.Assert.fail;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 
 import nablarch.core.validation.ValidationUtilTest.User;
 import nablarch.core.validation.convertor.RegexFormat;
@@ -69,6 +70,44 @@ public class EntityValidationDefinitionTest {
         assertThat(update.contains(TestEntity.class.getMethod("validateFor1", ValidationContext.class)), is(true));
     }
 
+    @Test
+    public void testGetAllValidateForMethods() throws Throwable {
+        FormValidationDefinition def = new FormValidationDefinition(TestEntity.class);
+
+        Map<String, List<Method>> methods = def.getValidateForMethods();
+        assertThat(methods.size(), is(2));
+        assertThat(methods.get("insert"), is(def.getValidateForMethods("insert")));
+        assertThat(methods.get("update"), is(def.getValidateForMethods("update")));
+        for (Method method : methods.get("insert")) {
+            assertThat(method.isAccessible(), is(true));
+        }
+
+        try {
+            methods.get("insert").add(null);
+            fail("例外が発生するはず");
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            methods.put("delete", null);
+            fail("例外が発生するはず");
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    @Test
+    public void testPropertyOrdinal() throws Throwable {
+        FormValidationDefinition def = new FormValidationDefinition(TestEntity.class);
+
+        assertThat(def.getPropertyCount(), is(def.getPropertyValidationDefinitions().size()));
+        int ordinal = 0;
+        for (String propertyName : def.getPropertyValidationDefinitions().keySet()) {
+            assertThat(def.getPropertyOrdinal(propertyName), is(ordinal));
+            assertThat(def.getPropertyName(ordinal), is(propertyName));
+            ordinal++;
+        }
+        assertThat(def.getPropertyOrdinal("notExists"), is(-1));
+    }
+
     @Test
     public void testConstructorNotStaticValidateForMethod() throws Throwable {
         try {
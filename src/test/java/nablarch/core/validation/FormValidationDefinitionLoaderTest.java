@@ -0,0 +1,221 @@
+package nablarch.core.validation;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import nablarch.core.validation.domain.sample.Domain;
+import nablarch.core.validation.domain.sample.SampleForm;
+import nablarch.core.validation.domain.sample.TestForm;
+import nablarch.core.validation.loader.InvalidValidateForForm;
+import nablarch.core.validation.loader.ValidForm;
+import nablarch.core.validation.loader.scan.ScannedForm;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link FormValidationDefinitionLoader}のテスト。
+ */
+public class FormValidationDefinitionLoaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testLoadAllWithoutTargets() {
+        FormValidationDefinitionLoader sut = new FormValidationDefinitionLoader();
+        assertThat(sut.loadAll(), is(nullValue()));
+    }
+
+    @Test
+    public void testLoadAllWithClassNames() {
+        FormValidationDefinitionLoader sut = new FormValidationDefinitionLoader();
+        sut.setFormClassNames(Arrays.asList(LoaderTestForm.class.getName(), SampleForm.class.getName()));
+        sut.setParallelism(2);
+
+        List<FormValidationDefinition> definitions = sut.loadAll();
+        assertThat(definitions.size(), is(2));
+        assertTrue(definitions.get(0).getFormClass() == LoaderTestForm.class);
+        assertTrue(definitions.get(1).getFormClass() == SampleForm.class);
+        assertTrue(sut.getId(definitions.get(0)) == LoaderTestForm.class);
+    }
+
+    @Test
+    public void testLoadAllWithPackageNames() {
+        FormValidationDefinitionLoader sut = new FormValidationDefinitionLoader();
+        sut.setPackageNames(Arrays.asList(SampleForm.class.getPackage().getName()));
+
+        List<Class<?>> formClasses = new ArrayList<Class<?>>();
+        for (FormValidationDefinition definition : sut.loadAll()) {
+            formClasses.add(definition.getFormClass());
+        }
+        assertThat(formClasses.contains(SampleForm.class), is(true));
+        // インタフェースやアノテーションはフォームとみなさない
+        assertThat(formClasses.contains(TestForm.class), is(false));
+        assertThat(formClasses.contains(Domain.class), is(false));
+    }
+
+    @Test
+    public void testLoadAllWithFormIndex() throws Exception {
+        File root = folder.newFolder("index");
+        File index = new File(root, FormValidationDefinitionLoader.FORM_INDEX_RESOURCE);
+        index.getParentFile().mkdirs();
+        Writer writer = new OutputStreamWriter(new FileOutputStream(index), "UTF-8");
+        try {
+            writer.write("# form index\n");
+            writer.write(SampleForm.class.getName() + "\n");
+            writer.write(LoaderTestForm.class.getName() + "\n");
+        } finally {
+            writer.close();
+        }
+
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(new URLClassLoader(new URL[] {root.toURI().toURL()}, original));
+        try {
+            FormValidationDefinitionLoader sut = new FormValidationDefinitionLoader();
+            sut.setUseFormIndex(true);
+
+            List<FormValidationDefinition> definitions = sut.loadAll();
+            assertThat(definitions.size(), is(2));
+            assertTrue(definitions.get(0).getFormClass() == SampleForm.class);
+            assertTrue(definitions.get(1).getFormClass() == LoaderTestForm.class);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void testLoadAllWithSnapshot() throws Exception {
+        File snapshot = new File(folder.getRoot(), "forms.snapshot");
+
+        FormValidationDefinitionLoader first = new FormValidationDefinitionLoader();
+        first.setFormClassNames(Arrays.asList(LoaderTestForm.class.getName(), SampleForm.class.getName()));
+        first.setSnapshotFilePath(snapshot.getPath());
+        List<FormValidationDefinition> loaded = first.loadAll();
+        assertThat(loaded.size(), is(2));
+        assertThat(snapshot.isFile(), is(true));
+        long lastModified = snapshot.lastModified();
+
+        FormValidationDefinitionLoader second = new FormValidationDefinitionLoader();
+        second.setSnapshotFilePath(snapshot.getPath());
+        List<FormValidationDefinition> restored = second.loadAll();
+        assertThat(restored.size(), is(2));
+        assertTrue(restored.get(0).getFormClass() == LoaderTestForm.class);
+        assertTrue(restored.get(1).getFormClass() == SampleForm.class);
+        assertThat(restored.get(1).getPropertyValidationDefinitions().keySet(),
+                is(loaded.get(1).getPropertyValidationDefinitions().keySet()));
+        // 再ロードしたクラスがないため、スナップショットは出力されない
+        assertThat(snapshot.lastModified(), is(lastModified));
+    }
+
+    /**
+     * スナップショットの作成後にパッケージ配下に追加されたクラスがロードされ、スナップショットに追加されること。
+     */
+    @Test
+    public void testLoadAllWithSnapshotAndPackageNames() throws Exception {
+        File snapshot = new File(folder.getRoot(), "forms.snapshot");
+
+        FormValidationDefinitionLoader first = new FormValidationDefinitionLoader();
+        first.setFormClassNames(Arrays.asList(LoaderTestForm.class.getName()));
+        first.setSnapshotFilePath(snapshot.getPath());
+        assertThat(first.loadAll().size(), is(1));
+
+        FormValidationDefinitionLoader second = new FormValidationDefinitionLoader();
+        second.setPackageNames(Arrays.asList(ScannedForm.class.getPackage().getName()));
+        second.setSnapshotFilePath(snapshot.getPath());
+        List<FormValidationDefinition> loaded = second.loadAll();
+        assertThat(loaded.size(), is(2));
+        assertTrue(loaded.get(0).getFormClass() == LoaderTestForm.class);
+        assertTrue(loaded.get(1).getFormClass() == ScannedForm.class);
+
+        FormValidationDefinitionSnapshot.Result result = FormValidationDefinitionSnapshot.read(
+                snapshot, getClass().getClassLoader());
+        assertThat(result.getDefinitions().size(), is(2));
+        assertThat(result.getNonFormClasses().size(), is(1));
+        assertThat(result.getNonFormClasses().get(0).getSimpleName(), is("ScannedBean"));
+        long lastModified = snapshot.lastModified();
+
+        FormValidationDefinitionLoader third = new FormValidationDefinitionLoader();
+        third.setPackageNames(Arrays.asList(ScannedForm.class.getPackage().getName()));
+        third.setSnapshotFilePath(snapshot.getPath());
+        List<FormValidationDefinition> restored = third.loadAll();
+        assertThat(restored.size(), is(2));
+        assertTrue(restored.get(1).getFormClass() == ScannedForm.class);
+        // 全てのクラスがスナップショットに記録済みのため、スナップショットは出力されない
+        assertThat(snapshot.lastModified(), is(lastModified));
+    }
+
+    @Test
+    public void testLoadAllClassNotFound() {
+        FormValidationDefinitionLoader sut = new FormValidationDefinitionLoader();
+        sut.setFormClassNames(Arrays.asList("nablarch.core.validation.NotFoundForm"));
+        try {
+            sut.loadAll();
+            fail("例外が発生するはず");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("form class was not found. class name = nablarch.core.validation.NotFoundForm"));
+        }
+    }
+
+    /**
+     * パッケージ配下から検出したクラスのロードに失敗した場合は、そのクラスを除外して一括ロードを継続すること。
+     */
+    @Test
+    public void testLoadAllWithPackageNamesSkipsInvalidClass() {
+        FormValidationDefinitionLoader sut = new FormValidationDefinitionLoader();
+        sut.setPackageNames(Arrays.asList(ValidForm.class.getPackage().getName()));
+
+        List<Class<?>> formClasses = new ArrayList<Class<?>>();
+        for (FormValidationDefinition definition : sut.loadAll()) {
+            formClasses.add(definition.getFormClass());
+        }
+        assertThat(formClasses.contains(ValidForm.class), is(true));
+        assertThat(formClasses.contains(InvalidValidateForForm.class), is(false));
+    }
+
+    /**
+     * 明示的に指定されたクラスのロードに失敗した場合は、例外が発生すること。
+     */
+    @Test
+    public void testLoadAllWithInvalidClassName() {
+        FormValidationDefinitionLoader sut = new FormValidationDefinitionLoader();
+        sut.setFormClassNames(Arrays.asList(InvalidValidateForForm.class.getName()));
+        try {
+            sut.loadAll();
+            fail("例外が発生するはず");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("ValidateFor method was not static."));
+        }
+    }
+
+    @Test
+    public void testSetParallelismInvalid() {
+        try {
+            new FormValidationDefinitionLoader().setParallelism(0);
+            fail("例外が発生するはず");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("parallelism must be greater than 0."));
+        }
+    }
+
+    public static class LoaderTestForm {
+
+        @ValidateFor("test")
+        public static void validateForTest(ValidationContext<LoaderTestForm> context) {
+        }
+    }
+}
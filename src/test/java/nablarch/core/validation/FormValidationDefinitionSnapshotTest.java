@@ -0,0 +1,195 @@
+package nablarch.core.validation;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import nablarch.core.validation.domain.sample.SampleForm;
+import nablarch.core.validation.validator.Length;
+import nablarch.core.validation.validator.Required;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link FormValidationDefinitionSnapshot}のテスト。
+ */
+public class FormValidationDefinitionSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * スナップショットから復元した設定が、リフレクションでロードした設定と同じであること。
+     */
+    @Test
+    public void testWriteAndRead() throws Exception {
+        File file = new File(folder.getRoot(), "snapshot/forms.snapshot");
+        List<FormValidationDefinition> definitions = Arrays.asList(
+                new FormValidationDefinition(ChildForm.class),
+                new FormValidationDefinition(SampleForm.class));
+        FormValidationDefinitionSnapshot.write(file, definitions, Collections.<Class<?>>emptyList());
+
+        FormValidationDefinitionSnapshot.Result result = FormValidationDefinitionSnapshot.read(
+                file, getClass().getClassLoader());
+        assertThat(result.getStaleClassNames().isEmpty(), is(true));
+        assertThat(result.getMissingClassNames().isEmpty(), is(true));
+        assertThat(result.getDefinitions().size(), is(2));
+        for (int i = 0; i < definitions.size(); i++) {
+            assertSameDefinition(result.getDefinitions().get(i), definitions.get(i));
+        }
+
+        // オーバライドしたセッタのアノテーションが引き継がれていること
+        PropertyValidationDefinition name = result.getDefinitions().get(0).getPropertyValidationDefinition("name");
+        assertThat(name.getValidatorAnnotations().size(), is(2));
+        assertThat(name.getNameWithClass(), is("ChildForm.name"));
+    }
+
+    /**
+     * ハッシュ値が一致しないクラスは再ロードが必要なクラスとなること。
+     */
+    @Test
+    public void testReadStaleClass() throws Exception {
+        File file = folder.newFile("forms.snapshot");
+        FormValidationDefinitionSnapshot.write(file, Collections.singletonList(
+                new FormValidationDefinition(ChildForm.class)), Collections.<Class<?>>emptyList());
+
+        // ハッシュ値を書き換える(識別子、バージョン、フォーム数、クラス名の長さ、クラス名の後)
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.seek(16 + ChildForm.class.getName().getBytes("UTF-8").length);
+            long hash = raf.readLong();
+            raf.seek(16 + ChildForm.class.getName().getBytes("UTF-8").length);
+            raf.writeLong(hash + 1);
+        } finally {
+            raf.close();
+        }
+
+        FormValidationDefinitionSnapshot.Result result = FormValidationDefinitionSnapshot.read(
+                file, getClass().getClassLoader());
+        assertThat(result.getDefinitions().isEmpty(), is(true));
+        assertThat(result.getStaleClassNames(), is(Arrays.asList(ChildForm.class.getName())));
+    }
+
+    /**
+     * フォームでなかったクラスを読み書きできること。
+     */
+    @Test
+    public void testWriteAndReadNonFormClasses() throws Exception {
+        File file = folder.newFile("forms.snapshot");
+        FormValidationDefinitionSnapshot.write(file, Collections.singletonList(
+                new FormValidationDefinition(ChildForm.class)), Collections.<Class<?>>singletonList(ParentForm.class));
+
+        FormValidationDefinitionSnapshot.Result result = FormValidationDefinitionSnapshot.read(
+                file, getClass().getClassLoader());
+        assertThat(result.getDefinitions().size(), is(1));
+        assertThat(result.getNonFormClasses(), is(Collections.<Class<?>>singletonList(ParentForm.class)));
+    }
+
+    /**
+     * 形式が不正なスナップショットは読み込まないこと。
+     */
+    @Test
+    public void testReadInvalidFormat() throws Exception {
+        File file = folder.newFile("invalid.snapshot");
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        } finally {
+            out.close();
+        }
+        assertThat(FormValidationDefinitionSnapshot.read(file, getClass().getClassLoader()), is(nullValue()));
+    }
+
+    /**
+     * 長さや要素数が破損したスナップショットは読み込まないこと。
+     */
+    @Test
+    public void testReadCorruptLength() throws Exception {
+        File file = folder.newFile("forms.snapshot");
+        FormValidationDefinitionSnapshot.write(file, Collections.singletonList(
+                new FormValidationDefinition(ChildForm.class)), Collections.<Class<?>>emptyList());
+        int nameLength = ChildForm.class.getName().getBytes("UTF-8").length;
+
+        // クラス名の長さ(識別子、バージョン、フォーム数の後)
+        for (int length : new int[] {-1, Integer.MAX_VALUE}) {
+            writeInt(file, 12, length);
+            assertThat(FormValidationDefinitionSnapshot.read(file, getClass().getClassLoader()), is(nullValue()));
+        }
+        writeInt(file, 12, nameLength);
+        assertThat(FormValidationDefinitionSnapshot.read(file, getClass().getClassLoader()), is(notNullValue()));
+
+        // プロパティ数(クラス名、ハッシュ値の後)
+        for (int count : new int[] {-1, Integer.MAX_VALUE}) {
+            writeInt(file, 16 + nameLength + 8, count);
+            assertThat(FormValidationDefinitionSnapshot.read(file, getClass().getClassLoader()), is(nullValue()));
+        }
+    }
+
+    private static void writeInt(File file, long position, int value) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.seek(position);
+            raf.writeInt(value);
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test
+    public void testHash() {
+        long hash = FormValidationDefinitionSnapshot.hash(ChildForm.class);
+        assertThat(hash, is(FormValidationDefinitionSnapshot.hash(ChildForm.class)));
+        assertThat(hash, is(not(FormValidationDefinitionSnapshot.hash(ParentForm.class))));
+        assertThat(hash, is(not(FormValidationDefinitionSnapshot.UNKNOWN_HASH)));
+    }
+
+    private static void assertSameDefinition(FormValidationDefinition actual, FormValidationDefinition expected) {
+        assertTrue(actual.getFormClass() == expected.getFormClass());
+        Map<String, PropertyValidationDefinition> expectedProperties = expected.getPropertyValidationDefinitions();
+        assertThat(actual.getPropertyValidationDefinitions().keySet(), is(expectedProperties.keySet()));
+        for (PropertyValidationDefinition property : actual.getPropertyValidationDefinitions().values()) {
+            PropertyValidationDefinition expectedProperty = expectedProperties.get(property.getName());
+            assertThat(property.getSetter(), is(expectedProperty.getSetter()));
+            assertTrue(property.getType() == expectedProperty.getType());
+            assertThat(property.getNameWithClass(), is(expectedProperty.getNameWithClass()));
+            assertThat(property.getMessageId(), is(expectedProperty.getMessageId()));
+            assertThat(property.getDefaultDisplayName(), is(expectedProperty.getDefaultDisplayName()));
+            assertThat(property.getConvertorFormatAnnotation(), is(expectedProperty.getConvertorFormatAnnotation()));
+            assertThat(property.getValidatorAnnotations(), is(expectedProperty.getValidatorAnnotations()));
+        }
+        Map<String, List<Method>> expectedMethods = expected.getValidateForMethods();
+        assertThat(actual.getValidateForMethods(), is(expectedMethods));
+    }
+
+    public static class ParentForm {
+        @PropertyName("名前")
+        @Required
+        @Length(max = 10)
+        public void setName(String name) {
+        }
+
+        @ValidateFor("test")
+        public static void validateForTest(ValidationContext<ParentForm> context) {
+        }
+    }
+
+    public static class ChildForm extends ParentForm {
+        @Override
+        public void setName(String name) {
+        }
+
+        public void setAge(int age) {
+        }
+    }
+}
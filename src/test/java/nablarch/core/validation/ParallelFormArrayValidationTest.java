@@ -0,0 +1,141 @@
+package nablarch.core.validation;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import nablarch.core.ThreadContext;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link ParallelFormArrayValidation}のテスト。
+ */
+public class ParallelFormArrayValidationTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+        ThreadContext.clear();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+        ThreadContext.clear();
+    }
+
+    /**
+     * 全ての要素のバリデーション結果が、要素の添字の位置に格納されること。
+     */
+    @Test
+    public void testRun() {
+        final int size = ParallelFormArrayValidation.CHUNK_SIZE * 10 + 5;
+        final ValidationContext<?>[] contexts = new ValidationContext<?>[size];
+        for (int i = 0; i < size; i++) {
+            contexts[i] = new ValidationContext<Object>("", Object.class, null, null, null);
+        }
+        final Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+        final Thread caller = Thread.currentThread();
+        // スレッドプールのスレッドが全ての要素を処理してしまわないように、呼び出し元のスレッドが処理を開始するまで待機させる。
+        final CountDownLatch callerStarted = new CountDownLatch(1);
+        ThreadContext.setLanguage(Locale.JAPANESE);
+
+        ValidationContext<?>[] results = new ValidationContext<?>[size];
+        ParallelFormArrayValidation.run(executor, results, new ParallelFormArrayValidation.ElementValidation() {
+            public ValidationContext<?> validate(int index) {
+                threads.add(Thread.currentThread().getName());
+                if (Thread.currentThread() == caller) {
+                    callerStarted.countDown();
+                } else {
+                    await(callerStarted);
+                }
+                // ThreadContextの値が引き継がれること
+                assertThat(ThreadContext.getLanguage(), is(Locale.JAPANESE));
+                return contexts[index];
+            }
+        });
+        for (int i = 0; i < size; i++) {
+            assertSame(contexts[i], results[i]);
+        }
+        assertThat(threads.contains(Thread.currentThread().getName()), is(true));
+    }
+
+    /**
+     * ラッチが開放されるまで待機する。
+     *
+     * @param latch ラッチ
+     */
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("timed out waiting for the caller thread.");
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 要素のバリデーションで発生した例外が、呼び出し元のスレッドで送出されること。
+     */
+    @Test
+    public void testRunWithException() {
+        int size = ParallelFormArrayValidation.CHUNK_SIZE * 4;
+        try {
+            ParallelFormArrayValidation.run(executor, new ValidationContext<?>[size],
+                    new ParallelFormArrayValidation.ElementValidation() {
+                        public ValidationContext<?> validate(int index) {
+                            if (index == ParallelFormArrayValidation.CHUNK_SIZE * 2) {
+                                throw new IllegalStateException("error. index = " + index);
+                            }
+                            return null;
+                        }
+                    });
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("error. index = " + ParallelFormArrayValidation.CHUNK_SIZE * 2));
+        }
+    }
+
+    /**
+     * {@link Executor}が実行を拒否した場合、呼び出し元のスレッドで全ての要素のバリデーションが行われること。
+     */
+    @Test
+    public void testRunWithRejectedExecution() {
+        Executor rejected = new Executor() {
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        };
+        final Thread caller = Thread.currentThread();
+        int size = ParallelFormArrayValidation.CHUNK_SIZE * 3;
+        final ValidationContext<?> context = new ValidationContext<Object>("", Object.class, null, null, null);
+        ValidationContext<?>[] results = new ValidationContext<?>[size];
+        ParallelFormArrayValidation.run(rejected, results, new ParallelFormArrayValidation.ElementValidation() {
+            public ValidationContext<?> validate(int index) {
+                assertSame(caller, Thread.currentThread());
+                return context;
+            }
+        });
+        for (ValidationContext<?> result : results) {
+            assertSame(context, result);
+        }
+    }
+}
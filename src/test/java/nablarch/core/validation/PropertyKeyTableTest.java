@@ -0,0 +1,117 @@
+package nablarch.core.validation;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * {@link PropertyKeyTable}のテスト。
+ */
+public class PropertyKeyTableTest {
+
+    private final FormValidationDefinition parent = new FormValidationDefinition(ParentForm.class);
+
+    private final FormValidationDefinition child = new FormValidationDefinition(ChildForm.class);
+
+    /**
+     * プレフィクスを付与したパラメータのキーが取得できること。
+     */
+    @Test
+    public void testGetKey() {
+        PropertyKeyTable table = new PropertyKeyTable(parent, "form");
+        assertThat(table.getPath(), is("form"));
+        assertThat(table.getPrefix(), is("form."));
+        assertThat(table.getKey(parent.getPropertyOrdinal("name")), is("form.name"));
+        assertThat(table.getKey(parent.getPropertyOrdinal("child")), is("form.child"));
+
+        PropertyKeyTable noPrefix = new PropertyKeyTable(parent, "");
+        assertThat(noPrefix.getPrefix(), is(""));
+        assertThat(noPrefix.getKey(parent.getPropertyOrdinal("name")), is("name"));
+    }
+
+    /**
+     * 子フォームのパラメータのキーが保持され、再利用されること。
+     */
+    @Test
+    public void testGetChild() {
+        PropertyKeyTable table = new PropertyKeyTable(parent, "form");
+        int ordinal = parent.getPropertyOrdinal("child");
+
+        PropertyKeyTable childTable = table.getChild(ordinal, child);
+        assertThat(childTable.getPath(), is("form.child"));
+        assertThat(childTable.getKey(child.getPropertyOrdinal("code")), is("form.child.code"));
+        assertSame(childTable, table.getChild(ordinal, child));
+
+        // 設定が再読み込みされた場合は作り直すこと
+        FormValidationDefinition reloaded = new FormValidationDefinition(ChildForm.class);
+        PropertyKeyTable reloadedTable = table.getChild(ordinal, reloaded);
+        assertThat(reloadedTable, is(not(sameInstance(childTable))));
+        assertSame(reloaded, reloadedTable.getFormValidationDefinition());
+    }
+
+    /**
+     * フォームの配列の要素のパラメータのキーが保持され、再利用されること。
+     */
+    @Test
+    public void testGetElement() {
+        PropertyKeyTable table = new PropertyKeyTable(parent, "");
+        int ordinal = parent.getPropertyOrdinal("children");
+
+        PropertyKeyTable second = table.getElement(ordinal, 1, child);
+        PropertyKeyTable first = table.getElement(ordinal, 0, child);
+        PropertyKeyTable tenth = table.getElement(ordinal, 9, child);
+        assertThat(first.getPath(), is("children[0]"));
+        assertThat(second.getPrefix(), is("children[1]."));
+        assertThat(tenth.getKey(child.getPropertyOrdinal("code")), is("children[9].code"));
+        assertSame(first, table.getElement(ordinal, 0, child));
+        assertSame(second, table.getElement(ordinal, 1, child));
+        assertSame(tenth, table.getElement(ordinal, 9, child));
+
+        // 要素を保持する配列を拡張した後も、拡張前の要素が保持されていること
+        PropertyKeyTable last = table.getElement(ordinal, PropertyKeyTable.MAX_CACHED_ELEMENTS - 1, child);
+        assertSame(first, table.getElement(ordinal, 0, child));
+        assertSame(tenth, table.getElement(ordinal, 9, child));
+        assertSame(last, table.getElement(ordinal, PropertyKeyTable.MAX_CACHED_ELEMENTS - 1, child));
+
+        // 上限を超える要素は保持しないこと
+        int index = PropertyKeyTable.MAX_CACHED_ELEMENTS;
+        PropertyKeyTable over = table.getElement(ordinal, index, child);
+        assertThat(over.getPath(), is("children[" + index + "]"));
+        assertThat(table.getElement(ordinal, index, child), is(not(sameInstance(over))));
+    }
+
+    /**
+     * 実行計画からプレフィクス毎のパラメータのキーが取得できること。
+     */
+    @Test
+    public void testGetPropertyKeyTableFromPlan() {
+        FormValidationPlan plan = new FormValidationPlan(parent, new PropertyValidationPlan[0]);
+        PropertyKeyTable table = plan.getPropertyKeyTable("form");
+        assertThat(table.getPrefix(), is("form."));
+        assertSame(table, plan.getPropertyKeyTable("form"));
+        assertThat(plan.getPropertyKeyTable(null).getPrefix(), is(""));
+        assertSame(plan.getPropertyKeyTable(null), plan.getPropertyKeyTable(""));
+    }
+
+    public static class ParentForm {
+
+        public void setName(String name) {
+        }
+
+        @ValidationTarget
+        public void setChild(ChildForm child) {
+        }
+
+        @ValidationTarget(size = 2)
+        public void setChildren(ChildForm[] children) {
+        }
+    }
+
+    public static class ChildForm {
+
+        public void setCode(String code) {
+        }
+    }
+}
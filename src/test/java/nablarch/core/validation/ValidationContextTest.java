@@ -0,0 +1,244 @@
+package nablarch.core.validation;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import nablarch.core.message.Message;
+
+import org.junit.Test;
+
+/**
+ * {@link ValidationContext}のテスト。
+ */
+public class ValidationContextTest {
+
+    /**
+     * フォームの設定が設定された場合も、プロパティ名で値とバリデーション状態を取得できること。
+     */
+    @Test
+    public void testPropertyStateWithFormValidationDefinition() {
+        MockFormCreator formCreator = new MockFormCreator();
+        ValidationContext<TestForm> context = new ValidationContext<TestForm>(
+                "", TestForm.class, formCreator, Collections.<String, Object>emptyMap(), null);
+        context.setFormValidationDefinition(new FormValidationDefinition(TestForm.class));
+
+        context.setPropertyProcessed("name");
+        context.putConvertedValue("name", "test");
+        context.putConvertedValue("age", null);
+        context.setPropertyProcessed("other");
+        context.putConvertedValue("other", 1);
+
+        assertThat(context.isProcessed("name"), is(true));
+        assertThat(context.isProcessed("age"), is(false));
+        assertThat(context.isProcessed("other"), is(true));
+        assertThat(context.getConvertedValue("name"), is((Object) "test"));
+        assertThat(context.getConvertedValue("age"), is(nullValue()));
+        assertThat(context.getConvertedValue("other"), is((Object) 1));
+        assertThat(context.getConvertedValue("notExists"), is(nullValue()));
+
+        context.createDirtyObject();
+        Map<String, Object> expected = new HashMap<String, Object>();
+        expected.put("name", "test");
+        expected.put("age", null);
+        expected.put("other", 1);
+        assertThat(formCreator.values, is(expected));
+    }
+
+    /**
+     * フォームの設定が設定された場合も、バリデーションエラーのプロパティを判定できること。
+     */
+    @Test
+    public void testIsInvalidWithFormValidationDefinition() {
+        ValidationContext<TestForm> context = new ValidationContext<TestForm>(
+                "form.", TestForm.class, new MockFormCreator(), Collections.<String, Object>emptyMap(), null);
+        context.setFormValidationDefinition(new FormValidationDefinition(TestForm.class));
+
+        context.addMessages(Collections.<Message>singletonList(
+                new ValidationResultMessage("form.child.name", null, new Object[0])));
+
+        assertThat(context.isInvalid("child"), is(true));
+        assertThat(context.isInvalid("child.name"), is(true));
+        assertThat(context.isInvalid("name"), is(false));
+        assertThat(context.isInvalid("age"), is(false));
+    }
+
+    /**
+     * フォームの設定を後から設定した場合、保持していた値とバリデーション状態が引き継がれること。
+     */
+    @Test
+    public void testSetFormValidationDefinitionAfterConversion() {
+        MockFormCreator formCreator = new MockFormCreator();
+        ValidationContext<TestForm> context = new ValidationContext<TestForm>(
+                "", TestForm.class, formCreator, Collections.<String, Object>emptyMap(), null);
+        context.setPropertyProcessed("name");
+        context.putConvertedValue("name", "test");
+        context.putConvertedValue("other", 1);
+
+        context.setFormValidationDefinition(new FormValidationDefinition(TestForm.class));
+
+        assertThat(context.isProcessed("name"), is(true));
+        assertThat(context.getConvertedValue("name"), is((Object) "test"));
+        assertThat(context.getConvertedValue("other"), is((Object) 1));
+
+        context.setFormValidationDefinition(null);
+
+        assertThat(context.isProcessed("name"), is(true));
+        assertThat(context.getConvertedValue("name"), is((Object) "test"));
+        assertThat(context.getConvertedValue("other"), is((Object) 1));
+    }
+
+    /**
+     * リセットした場合、値とバリデーション状態が破棄されること。
+     */
+    @Test
+    public void testReset() {
+        ValidationContext<TestForm> context = new ValidationContext<TestForm>(
+                "", TestForm.class, new MockFormCreator(), Collections.<String, Object>emptyMap(), null);
+        context.setFormValidationDefinition(new FormValidationDefinition(TestForm.class));
+        context.setPropertyProcessed("name");
+        context.putConvertedValue("name", "test");
+        context.putConvertedValue("other", 1);
+
+        Map<String, Object> params = new HashMap<String, Object>();
+        context.reset(params);
+
+        assertThat(context.getParams(), is(sameInstance((Object) params)));
+        assertThat(context.isProcessed("name"), is(false));
+        assertThat(context.getConvertedValue("name"), is(nullValue()));
+        assertThat(context.getConvertedValue("other"), is(nullValue()));
+    }
+
+    /**
+     * {@link OrdinalFormCreator}を使用する場合、{@link FormCreator}に渡すMapがコンテキスト内で再利用されること。
+     */
+    @Test
+    public void testConvertedValuesReused() {
+        MockOrdinalFormCreator formCreator = new MockOrdinalFormCreator();
+        ValidationContext<TestForm> context = new ValidationContext<TestForm>(
+                "", TestForm.class, formCreator, Collections.<String, Object>emptyMap(), null);
+        context.setFormValidationDefinition(new FormValidationDefinition(TestForm.class));
+        // フォームのプロパティ以外の値がある場合はMapで生成する
+        context.putConvertedValue("other", "test");
+
+        context.createDirtyObject();
+        Map<String, Object> values = formCreator.values;
+        assertThat(values, is((Map<String, Object>) Collections.<String, Object>singletonMap("other", "test")));
+
+        // 変更がない場合は同じ内容のMapを再利用する
+        context.createDirtyObject();
+        assertThat(formCreator.values, is(sameInstance(values)));
+
+        // 変換後の値が変更された場合は内容を作り直す
+        context.putConvertedValue("age", 20);
+        context.createDirtyObject();
+        assertThat(formCreator.values, is(sameInstance(values)));
+        assertThat(values.size(), is(2));
+        assertThat(values.get("age"), is((Object) 20));
+
+        // リセット後も同じMapを再利用する
+        context.reset(Collections.<String, Object>emptyMap());
+        context.putConvertedValue("other", "reset");
+        context.createDirtyObject();
+        assertThat(formCreator.values, is(sameInstance(values)));
+        assertThat(values, is((Map<String, Object>) Collections.<String, Object>singletonMap("other", "reset")));
+    }
+
+    /**
+     * {@link OrdinalFormCreator}以外を使用する場合、{@link FormCreator}に渡したMapがリセット後に変更されないこと。
+     */
+    @Test
+    public void testConvertedValuesNotChangedByReset() {
+        MockFormCreator formCreator = new MockFormCreator();
+        ValidationContext<TestForm> context = new ValidationContext<TestForm>(
+                "", TestForm.class, formCreator, Collections.<String, Object>emptyMap(), null);
+        context.setFormValidationDefinition(new FormValidationDefinition(TestForm.class));
+        context.putConvertedValue("name", "test");
+        context.createDirtyObject();
+        Map<String, Object> values = formCreator.values;
+
+        context.reset(Collections.<String, Object>emptyMap());
+        context.putConvertedValue("name", "reset");
+        context.createDirtyObject();
+        assertThat(formCreator.values, is(not(sameInstance(values))));
+        assertThat(values, is((Map<String, Object>) Collections.<String, Object>singletonMap("name", "test")));
+
+        // フォームの設定がない場合も変更されないこと
+        ValidationContext<TestForm> withoutDefinition = new ValidationContext<TestForm>(
+                "", TestForm.class, formCreator, Collections.<String, Object>emptyMap(), null);
+        withoutDefinition.putConvertedValue("name", "test");
+        withoutDefinition.createDirtyObject();
+        values = formCreator.values;
+        withoutDefinition.reset(Collections.<String, Object>emptyMap());
+        assertThat(values, is((Map<String, Object>) Collections.<String, Object>singletonMap("name", "test")));
+    }
+
+    /**
+     * 接尾辞で終わるキーのパラメータの有無を判定できること。
+     * 子フォームのコンテキストは、同じパラメータのMapを使用する場合に親のコンテキストの判定結果を使用すること。
+     */
+    @Test
+    public void testHasParameterKeyEndingWith() {
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put("form.amount", new String[] {"1.000,5"});
+        ValidationContext<TestForm> context = new ValidationContext<TestForm>(
+                "form.", TestForm.class, new MockFormCreator(), params, null);
+        assertThat(context.hasParameterKeyEndingWith("_nablarch_formatSpec"), is(false));
+
+        // 同じMapの内容が変更された場合も、リセットすると再度判定される。
+        params.put("form.amount_nablarch_formatSpec", new String[] {"decimal{###,###.#|fr}"});
+        context.reset(params);
+        assertThat(context.hasParameterKeyEndingWith("_nablarch_formatSpec"), is(true));
+        assertThat(context.hasParameterKeyEndingWith("_other"), is(false));
+
+        ValidationContext<TestForm> child = new ValidationContext<TestForm>(
+                "form.child.", TestForm.class, new MockFormCreator(), params, null);
+        child.setParentContext(context);
+        assertThat(child.hasParameterKeyEndingWith("_nablarch_formatSpec"), is(true));
+
+        // パラメータのMapが異なる場合は親の判定結果を使用しない。
+        child.reset(Collections.<String, Object>emptyMap());
+        assertThat(child.hasParameterKeyEndingWith("_nablarch_formatSpec"), is(false));
+
+        // サブクラスでは常に存在する可能性があると判定する。
+        ValidationContext<TestForm> subclass = new ValidationContext<TestForm>(
+                "form.", TestForm.class, new MockFormCreator(), Collections.<String, Object>emptyMap(), null) {
+        };
+        assertThat(subclass.hasParameterKeyEndingWith("_nablarch_formatSpec"), is(true));
+    }
+
+    private static class MockFormCreator implements FormCreator {
+
+        Map<String, Object> values;
+
+        public <T> T create(Class<T> targetClass, Map<String, Object> propertyValues,
+                FormValidationDefinition formValidationDefinition) {
+            values = propertyValues;
+            return null;
+        }
+    }
+
+    private static class MockOrdinalFormCreator extends MockFormCreator implements OrdinalFormCreator {
+
+        public <T> T create(Class<T> targetClass, FormValidationDefinition formValidationDefinition,
+                Object[] propertyValues, BitSet assignedOrdinals) {
+            return null;
+        }
+    }
+
+    public static class TestForm {
+
+        public void setName(String name) {
+        }
+
+        public void setAge(Integer age) {
+        }
+
+        public void setChild(TestForm child) {
+        }
+    }
+}
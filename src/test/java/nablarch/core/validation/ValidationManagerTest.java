@@ -4,7 +4,9 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -12,10 +14,14 @@ import static org.junit.Assert.fail;
 import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import nablarch.core.ThreadContext;
 import nablarch.core.cache.BasicStaticDataCache;
@@ -23,6 +29,8 @@ import nablarch.core.message.Message;
 import nablarch.core.message.MessageNotFoundException;
 import nablarch.core.message.MockStringResourceHolder;
 import nablarch.core.validation.convertor.Digits;
+import nablarch.core.validation.creator.MapConstructorFormCreator;
+import nablarch.core.validation.metrics.ValidationMetricsCollector;
 import nablarch.core.validation.validator.DecimalRange;
 import nablarch.core.validation.validator.Length;
 import nablarch.core.validation.validator.NumberRange;
@@ -185,6 +193,386 @@ public class ValidationManagerTest {
         assertEquals(new BigDecimal("1.1"), dirtyUser.getRate());
     }
 
+    /**
+     * {@link ValidationManager#setMaxMessageCount(int)}のテスト。
+     * <br/>
+     * メッセージの件数が指定した件数に達した時点でバリデーションが打ち切られること。
+     */
+    @Test
+    public void testValidateAndConvertWithMaxMessageCount() {
+
+        Map<String, String[]> params = new HashMap<String, String[]>();
+        params.put("id", new String[]{"0000001"});
+        params.put("name", new String[]{"123456789"});
+        params.put("age", new String[]{"101"});
+        params.put("rate", new String[] {"1.1"});
+
+        ValidationContext<User> result = manager.validateAndConvert("", User.class, params, null);
+        assertThat(result.getMessages().size(), is(4));
+
+        manager.setMaxMessageCount(1);
+        result = manager.validateAndConvert("", User.class, params, null);
+        assertFalse(result.isValid());
+        assertThat(result.getMessages().size(), is(1));
+        assertTrue(result.isMessageLimitReached());
+
+        // 呼び出し毎に打ち切る件数を変更できること
+        ValidationContext<User> context = manager.createReusableValidationContext("", User.class, null);
+        context.setMaxMessageCount(3);
+        result = manager.validateAndConvert(context, params);
+        assertThat(result.getMessages().size(), is(3));
+
+        try {
+            context.setMaxMessageCount(-1);
+            fail("例外が発生するはず。");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("maxMessageCount must not be negative."));
+        }
+    }
+
+    /**
+     * {@link ValidationManager#setFormArrayFailFast(boolean)}のテスト。
+     * <br/>
+     * フォームの配列のバリデーションが、最初にバリデーションエラーとなった要素で打ち切られること。
+     */
+    @Test
+    public void testValidateAndConvertWithFormArrayFailFast() {
+
+        Map<String, String[]> params = new HashMap<String, String[]>();
+        params.put("users[1].id", new String[]{"00000001"});
+
+        ValidationContext<UserArrayForm> result = manager.validateAndConvert("", UserArrayForm.class, params, null);
+        assertFalse(result.isValid());
+        assertThat(result.getMessages().size(), is(8));
+
+        manager.setFormArrayFailFast(true);
+        result = manager.validateAndConvert("", UserArrayForm.class, params, null);
+        assertFalse(result.isValid());
+        assertThat(result.getMessages().size(), is(3));
+        for (Message message : result.getMessages()) {
+            assertThat(((ValidationResultMessage) message).getPropertyName(), startsWith("users[0]."));
+        }
+
+        // 再利用可能なコンテキストでも打ち切られること
+        ValidationContext<UserArrayForm> context = manager.createReusableValidationContext("", UserArrayForm.class, null);
+        result = manager.validateAndConvert(context, params);
+        assertThat(result.getMessages().size(), is(3));
+        context.setFormArrayFailFast(false);
+        result = manager.validateAndConvert(context, params);
+        assertThat(result.getMessages().size(), is(8));
+    }
+
+    /**
+     * {@link ValidationManager#setFormArrayExecutor(java.util.concurrent.Executor)}のテスト。
+     * <br/>
+     * フォームの配列を並列にバリデーションした場合も、並列に実行しない場合と同じ順序でメッセージが設定されること。
+     */
+    @Test
+    public void testValidateAndConvertWithFormArrayExecutor() throws Exception {
+
+        Map<String, String[]> params = new HashMap<String, String[]>();
+        params.put("users[1].id", new String[]{"00000001"});
+
+        List<String> expected = new ArrayList<String>();
+        for (Message message : manager.validateAndConvert("", UserArrayForm.class, params, null).getMessages()) {
+            expected.add(((ValidationResultMessage) message).getPropertyName());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            manager.setFormArrayExecutor(executor);
+            manager.setParallelFormArrayThreshold(1);
+
+            ValidationContext<UserArrayForm> result = manager.validateAndConvert("", UserArrayForm.class, params, null);
+            assertFalse(result.isValid());
+            List<String> actual = new ArrayList<String>();
+            for (Message message : result.getMessages()) {
+                actual.add(((ValidationResultMessage) message).getPropertyName());
+            }
+            assertThat(actual, is(expected));
+
+            // 再利用可能なコンテキストでも同じ結果となること
+            ValidationContext<UserArrayForm> context = manager.createReusableValidationContext("", UserArrayForm.class, null);
+            for (int i = 0; i < 2; i++) {
+                result = manager.validateAndConvert(context, params);
+                assertThat(result.getMessages().size(), is(expected.size()));
+            }
+
+            // 全ての要素が正しい場合は配列が設定されること
+            for (int i = 0; i < 3; i++) {
+                params.put("users[" + i + "].id", new String[]{"0000000" + i});
+                params.put("users[" + i + "].name", new String[]{"name" + i});
+                params.put("users[" + i + "].age", new String[]{"2" + i});
+            }
+            result = manager.validateAndConvert("", UserArrayForm.class, params, null);
+            assertTrue(result.isValid());
+            User[] users = result.createObject().getUsers();
+            assertThat(users.length, is(3));
+            for (int i = 0; i < 3; i++) {
+                assertThat(users[i].getId(), is("0000000" + i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link ValidationManager#setParallelFormArrayThreshold(int)}に負の値を指定した場合、例外が送出されること。
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetNegativeParallelFormArrayThreshold() {
+        manager.setParallelFormArrayThreshold(-1);
+    }
+
+    /**
+     * {@link ValidationManager#validateAndConvertAll(String, Class, java.util.Iterator, String, BulkValidationHandler)}のテスト。
+     * <br/>
+     * 並列にバリデーションした場合も、入力値の順に結果が通知され、バリデーション中の入力値の数が上限を超えないこと。
+     */
+    @Test
+    public void testValidateAndConvertAll() throws Exception {
+
+        final List<Map<String, String[]>> records = new ArrayList<Map<String, String[]>>();
+        for (int i = 0; i < 50; i++) {
+            Map<String, String[]> params = new HashMap<String, String[]>();
+            params.put("user.id", new String[]{String.valueOf(10000000 + i)});
+            params.put("user.name", new String[]{"name"});
+            // 7件毎にバリデーションエラーとする
+            params.put("user.age", new String[]{i % 7 == 0 ? "101" : String.valueOf(i)});
+            records.add(params);
+        }
+
+        final List<String> results = new ArrayList<String>();
+        BulkValidationHandler<User> handler = new BulkValidationHandler<User>() {
+            public void handleValid(long index, User form) {
+                results.add(index + ":" + form.getId());
+            }
+            public void handleInvalid(long index, List<Message> messages) {
+                results.add(index + ":" + ((ValidationResultMessage) messages.get(0)).getPropertyName());
+            }
+        };
+        manager.validateAndConvertAll("user", User.class, records.iterator(), null, handler);
+        List<String> expected = new ArrayList<String>(results);
+        assertThat(expected.size(), is(50));
+        assertThat(expected.get(0), is("0:user.age"));
+        assertThat(expected.get(1), is("1:10000001"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            manager.setBulkValidationExecutor(executor);
+            manager.setMaxBulkValidationInFlight(5);
+            results.clear();
+            final int[] read = new int[1];
+            final Iterator<Map<String, String[]>> delegate = records.iterator();
+            Iterator<Map<String, String[]>> counting = new Iterator<Map<String, String[]>>() {
+                public boolean hasNext() {
+                    return delegate.hasNext();
+                }
+                public Map<String, String[]> next() {
+                    read[0]++;
+                    assertTrue(read[0] - results.size() <= 5);
+                    return delegate.next();
+                }
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+            manager.validateAndConvertAll("user", User.class, counting, null, handler);
+            assertThat(results, is(expected));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link ValidationManager#validateAndConvertAll(String, Class, java.util.Iterator, String, BulkValidationHandler)}のテスト。
+     * <br/>
+     * 結果の通知で例外が発生した場合、以降の結果が通知されずに例外が送出されること。
+     */
+    @Test
+    public void testValidateAndConvertAllWithException() {
+
+        List<Map<String, String[]>> records = new ArrayList<Map<String, String[]>>();
+        for (int i = 0; i < 3; i++) {
+            records.add(new HashMap<String, String[]>());
+        }
+        final List<Long> handled = new ArrayList<Long>();
+        try {
+            manager.validateAndConvertAll("user", User.class, records.iterator(), null, new BulkValidationHandler<User>() {
+                public void handleValid(long index, User form) {
+                    fail();
+                }
+                public void handleInvalid(long index, List<Message> messages) {
+                    handled.add(index);
+                    throw new IllegalStateException("handler error.");
+                }
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("handler error."));
+        }
+        assertThat(handled.size(), is(1));
+    }
+
+    /**
+     * {@link ValidationManager#setMaxBulkValidationInFlight(int)}に1未満の値を指定した場合、例外が送出されること。
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetInvalidMaxBulkValidationInFlight() {
+        manager.setMaxBulkValidationInFlight(0);
+    }
+
+    /**
+     * {@link ValidationManager#setValidationListener(ValidationListener)}のテスト。
+     * <br/>
+     * プロパティの値の変換、バリデータの呼び出し、フォームの生成の所要時間が通知されること。
+     * また、設定した割合の呼び出しのみが通知されること。
+     */
+    @Test
+    public void testValidateAndConvertWithValidationListener() {
+
+        ValidationMetricsCollector collector = new ValidationMetricsCollector();
+        manager.setValidationListener(collector);
+
+        Map<String, String[]> params = new HashMap<String, String[]>();
+        params.put("id", new String[]{"00000001"});
+        params.put("name", new String[]{"name"});
+        params.put("age", new String[]{"101"});
+
+        ValidationContext<User> result = manager.validateAndConvert("", User.class, params, null);
+        assertFalse(result.isValid());
+        assertThat(collector.getDefinitionLoadStatistics().getCount(), is(1L));
+        assertThat(collector.getFormStatistics().get(User.class).getFailureCount(), is(1L));
+        assertThat(collector.getPropertyStatistics(User.class).get("id").getFailureCount(), is(0L));
+        assertThat(collector.getPropertyStatistics(User.class).get("age").getFailureCount(), is(1L));
+        assertThat(collector.getValidatorStatistics().get(NumberRange.class).getFailureCount(), is(1L));
+        assertTrue(collector.getValidatorStatistics().get(Required.class).getCount() >= 3);
+        assertTrue(collector.getConvertorStatistics().size() > 0);
+
+        params.put("age", new String[]{"20"});
+        manager.validateAndConvert("", User.class, params, null).createObject();
+        assertThat(collector.getFormCreationStatistics().get(User.class).getCount(), is(1L));
+
+        // 2回に1回のみ通知されること
+        collector.clear();
+        manager.setValidationListenerSamplingRate(2);
+        ValidationContext<User> context = manager.createReusableValidationContext("", User.class, null);
+        for (int i = 0; i < 4; i++) {
+            manager.validateAndConvert(context, params);
+        }
+        assertThat(collector.getFormStatistics().get(User.class).getCount(), is(2L));
+
+        // 子フォームとフォームの配列の要素も通知されること
+        collector.clear();
+        manager.setValidationListenerSamplingRate(1);
+        manager.validateAndConvert("", UserArrayForm.class, new HashMap<String, String[]>(), null);
+        assertThat(collector.getFormStatistics().get(UserArrayForm.class).getCount(), is(1L));
+        assertThat(collector.getFormStatistics().get(User.class).getCount(), is(3L));
+    }
+
+    /**
+     * {@link ValidationManager#setValidationListenerSamplingRate(int)}に1未満の値を指定した場合、例外が送出されること。
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetInvalidValidationListenerSamplingRate() {
+        manager.setValidationListenerSamplingRate(0);
+    }
+
+    /**
+     * {@link ValidationManager#setLazyMessageResolution(boolean)}のテスト。
+     * <br/>
+     * メッセージの取得を遅延した場合も、取得を遅延しない場合と同じメッセージが設定されていること。
+     */
+    @Test
+    public void testValidateAndConvertWithLazyMessageResolution() {
+
+        setUpEntityPropertyNameMode();
+        manager.setLazyMessageResolution(true);
+        Map<String, String[]> params = new HashMap<String, String[]>();
+
+        params.put("id", new String[]{"0000001"});
+        params.put("name", new String[]{"123456789"});
+        params.put("age", new String[]{"101"});
+
+        ValidationContext<User> result = manager.validateAndConvert("", User.class, params, null);
+        assertFalse(result.isValid());
+
+        Map<String, String> messageIds = new HashMap<String, String>();
+        for (Message message : result.getMessages()) {
+            ValidationResultMessage validationMessage = (ValidationResultMessage) message;
+            messageIds.put(validationMessage.getPropertyName(), validationMessage.getMessageId());
+            LazyStringResource resource = (LazyStringResource) validationMessage.getStringResource();
+            assertFalse("メッセージIDの取得ではメッセージを取得しないこと", resource.isResolved());
+        }
+        assertThat(messageIds.get("id"), is("MSG00023"));
+        assertThat(messageIds.get("name"), is("MSG00021"));
+        assertThat(messageIds.get("age"), is("MSG00052"));
+
+        ValidationResultMessageUtil.resolveMessages(result.getMessages());
+        for (Message message : result.getMessages()) {
+            LazyStringResource resource = (LazyStringResource) ((ValidationResultMessage) message).getStringResource();
+            assertTrue(resource.isResolved());
+        }
+
+        ThreadContext.setLanguage(Locale.JAPANESE);
+        ValidationContextMatcher.ValidationContextWrapper contextWrapper = new ValidationContextMatcher.ValidationContextWrapper(
+                result);
+        assertThat(contextWrapper,
+                ValidationContextMatcher.containsMessage(
+                        "MSG00023", "IDは8文字で入力してください。", "id"));
+        assertThat(contextWrapper,
+                ValidationContextMatcher.containsMessage(
+                        "MSG00021", "名前は8文字以下で入力してください。", "name"));
+        assertThat(contextWrapper,
+                ValidationContextMatcher.containsMessage(
+                        "MSG00052", "年齢は0以上100以下で入力してください。", "age"));
+    }
+
+    /**
+     * {@link ValidationManager#validateAndConvert(ValidationContext, Map)}のテスト。
+     * <br/>
+     * 再利用可能なコンテキストで繰り返しバリデーションできること。
+     * また、前回取得したメッセージのリストが変更されないこと。
+     */
+    @Test
+    public void testValidateAndConvertWithReusableContext() {
+
+        ValidationContext<User> context = manager.createReusableValidationContext("", User.class, null);
+
+        Map<String, String[]> invalidParams = new HashMap<String, String[]>();
+        invalidParams.put("id", new String[] {"0000001"});
+        invalidParams.put("name", new String[] {"123456789"});
+
+        ValidationContext<User> result = manager.validateAndConvert(context, invalidParams);
+        assertSame(context, result);
+        assertFalse(result.isValid());
+        List<Message> firstMessages = result.getMessages();
+        int firstMessageCount = firstMessages.size();
+        assertThat(firstMessageCount, is(3));
+
+        Map<String, String[]> validParams = new HashMap<String, String[]>();
+        validParams.put("id", new String[] {"00000001"});
+        validParams.put("name", new String[] {"テストユーザ"});
+        validParams.put("age", new String[] {"30"});
+
+        result = manager.validateAndConvert(context, validParams);
+        assertSame(context, result);
+        assertTrue(result.isValid());
+        assertThat(result.getMessages().isEmpty(), is(true));
+        assertThat(firstMessages.size(), is(firstMessageCount));
+
+        User user = result.createObject();
+        assertEquals("00000001", user.getId());
+        assertEquals("テストユーザ", user.getName());
+        assertEquals(new BigDecimal(30l), user.getAge());
+
+        // 再度NGとなる値を指定した場合は、前回の変換結果が残らないこと
+        result = manager.validateAndConvert(context, invalidParams);
+        assertFalse(result.isValid());
+        assertThat(result.getMessages().size(), is(firstMessageCount));
+        assertNull(result.createDirtyObject().getAge());
+    }
+
     /**
      * {@link ValidationManager#validateAndConvert(String, Class, Map, String)}のテスト。
      * <br/>
@@ -579,6 +967,151 @@ public class ValidationManagerTest {
         }
     }
 
+    /**
+     * {@link ValidationManager#createFormValidationPlan(FormValidationDefinition)}のテスト。
+     * <br/>
+     * サポートされていない型やバリデーションアノテーションを持つ場合でも、デフォルトでは実行計画が作成されること。
+     * failOnUnsupportedDefinitionを設定した場合は、実行計画の作成時に例外が発生すること。
+     */
+    @Test
+    public void testCreateFormValidationPlanWithUnsupportedDefinition() {
+        manager.setConvertors(new ArrayList<Convertor>());
+        manager.initialize();
+
+        FormValidationPlan plan = manager.createFormValidationPlan(new FormValidationDefinition(User.class));
+        assertTrue(plan.getPropertyValidationPlan("name").hasUnsupportedDefinition());
+
+        manager.setFailOnUnsupportedDefinition(true);
+        try {
+            manager.createFormValidationPlan(new FormValidationDefinition(User.class));
+            fail("例外が発生するはず");
+        } catch (UnsupportedOperationException e) {
+            assertThat(e.getMessage(), containsString(
+                    "Property type was not supported."));
+        }
+
+        setUp();
+        manager.setValidators(new ArrayList<Validator>());
+        manager.initialize();
+        try {
+            manager.createFormValidationPlan(new FormValidationDefinition(User.class));
+            fail("例外が発生するはず");
+        } catch (UnsupportedOperationException e) {
+            assertThat(e.getMessage(), containsString(
+                    "Validation annotation was not supported."));
+        }
+        manager.setFailOnUnsupportedDefinition(false);
+    }
+
+    /**
+     * {@link ValidationManager#setFormDefinitionLoader(FormValidationDefinitionLoader)}のテスト。
+     * <br/>
+     * 一括ロードしたフォームの実行計画が、初期化とロードの順序によらず起動時に作成されること。
+     */
+    @Test
+    public void testPrepareFormValidationPlansOnPreload() {
+        manager.setConvertors(new ArrayList<Convertor>());
+        manager.setFailOnUnsupportedDefinition(true);
+
+        // 初期化後に一括ロードする場合
+        FormValidationDefinitionLoader loader = new FormValidationDefinitionLoader();
+        loader.setFormClassNames(Arrays.asList(User.class.getName()));
+        manager.setFormDefinitionLoader(loader);
+        manager.initialize();
+        try {
+            loader.loadAll();
+            fail("例外が発生するはず");
+        } catch (UnsupportedOperationException e) {
+            assertThat(e.getMessage(), containsString("Property type was not supported."));
+        }
+
+        // 一括ロード後に初期化する場合
+        loader = new FormValidationDefinitionLoader();
+        loader.setFormClassNames(Arrays.asList(User.class.getName()));
+        loader.loadAll();
+        manager.setFormDefinitionLoader(loader);
+        try {
+            manager.initialize();
+            fail("例外が発生するはず");
+        } catch (UnsupportedOperationException e) {
+            assertThat(e.getMessage(), containsString("Property type was not supported."));
+        }
+
+        // failOnUnsupportedDefinitionがfalseの場合は警告のみ
+        manager.setFailOnUnsupportedDefinition(false);
+        manager.initialize();
+        loader.loadAll();
+
+        manager.setFormDefinitionLoader(null);
+    }
+
+    /**
+     * {@link ValidationManager#getFormValidationPlan(FormValidationDefinition)}のテスト。
+     * <br/>
+     * 同じ定義に対しては作成済みの実行計画が再利用され、定義の再読み込みや初期化を行った場合は再作成されること。
+     */
+    @Test
+    public void testGetFormValidationPlan() {
+        FormValidationDefinition definition = new FormValidationDefinition(User.class);
+        FormValidationPlan plan = manager.getFormValidationPlan(definition);
+
+        assertSame(plan, manager.getFormValidationPlan(definition));
+        assertSame(definition, plan.getFormValidationDefinition());
+        assertThat(plan.getPropertyValidationPlans().size(), is(definition.getPropertyValidationDefinitions().size()));
+
+        PropertyValidationPlan idPlan = plan.getPropertyValidationPlan("id");
+        assertThat(idPlan.getKind(), is(PropertyValidationPlan.Kind.PROPERTY));
+        assertThat(idPlan.getConvertor(), is(instanceOf(nablarch.core.validation.convertor.StringConvertor.class)));
+        assertThat(idPlan.getValidators().size(), is(2));
+        assertThat(idPlan.getDisplayNameType(), is(PropertyValidationPlan.DisplayNameType.FIXED));
+        assertThat(idPlan.getDisplayName(), is("id"));
+        assertFalse(idPlan.hasUnsupportedDefinition());
+
+        FormValidationDefinition reloaded = new FormValidationDefinition(User.class);
+        FormValidationPlan reloadedPlan = manager.getFormValidationPlan(reloaded);
+        assertNotSame(plan, reloadedPlan);
+        assertSame(reloaded, reloadedPlan.getFormValidationDefinition());
+
+        manager.initialize();
+        assertNotSame(reloadedPlan, manager.getFormValidationPlan(reloaded));
+
+        try {
+            plan.getPropertyValidationPlan("unknown");
+            fail("例外が発生するはず");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("Couldn't find property."));
+        }
+    }
+
+    /**
+     * フォームの生成時に、フォームに紐付けられたバリデーションの設定が{@link FormCreator}に渡されること。
+     */
+    @Test
+    public void testFormValidationDefinitionPassedToFormCreator() {
+        final List<FormValidationDefinition> passed = new ArrayList<FormValidationDefinition>();
+        manager.setFormCreator(new FormCreator() {
+            public <T> T create(Class<T> targetClass, Map<String, Object> propertyValues,
+                    FormValidationDefinition formValidationDefinition) {
+                passed.add(formValidationDefinition);
+                return new MapConstructorFormCreator().create(targetClass, propertyValues, formValidationDefinition);
+            }
+        });
+
+        Map<String, String[]> params = new HashMap<String, String[]>();
+        params.put("id", new String[] {"00000001"});
+        params.put("name", new String[] {"テストユーザ"});
+        params.put("age", new String[] {"30"});
+
+        ValidationContext<User> result = manager.validateAndConvert("", User.class, params, null);
+        result.createObject();
+        result.createDirtyObject();
+
+        assertThat(passed.size(), is(2));
+        assertSame(result.getFormValidationDefinition(), passed.get(0));
+        assertSame(result.getFormValidationDefinition(), passed.get(1));
+        assertSame(User.class, passed.get(0).getFormClass());
+    }
+
     /**
      * {@link ValidationManager#validateAndConvert(String, Class, Map, String)} ()}のテスト。
      * <br/>
@@ -1105,6 +1638,24 @@ public class ValidationManagerTest {
         }
     }
 
+    public static class UserArrayForm {
+
+        private User[] users;
+
+        public UserArrayForm(Map<String, Object> params) {
+            users = (User[]) params.get("users");
+        }
+
+        @ValidationTarget(size = 3)
+        public void setUsers(User[] users) {
+            this.users = users;
+        }
+
+        public User[] getUsers() {
+            return users;
+        }
+    }
+
     public static class StringArrayValueHolder {
 
         public StringArrayValueHolder(Map<String, Object> params) {
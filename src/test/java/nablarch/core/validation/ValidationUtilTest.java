@@ -162,6 +162,39 @@ public class ValidationUtilTest {
         assertEquals(Long.valueOf(100), user.getAge());
     }
 
+    /**
+     * {@link ValidationUtil#validateAndConvertRequests(Class, java.util.Iterator, String, BulkValidationHandler)}のテスト。
+     * <br/>
+     * 全てのリクエストのバリデーション結果が、リクエストの順に通知されること。
+     */
+    @Test
+    public void testValidateAndConvertRequests() {
+        List<Map<String, String[]>> records = new ArrayList<Map<String, String[]>>();
+        Map<String, String[]> valid = new HashMap<String, String[]>();
+        valid.put("name", new String[] {"テストユーザ"});
+        valid.put("age", new String[] {"100"});
+        records.add(valid);
+        records.add(new HashMap<String, String[]>());
+
+        final List<Object> results = new ArrayList<Object>();
+        ValidationUtil.validateAndConvertRequests(User.class, records.iterator(), "insert",
+                new BulkValidationHandler<User>() {
+                    public void handleValid(long index, User form) {
+                        results.add(index);
+                        results.add(form.getName());
+                    }
+                    public void handleInvalid(long index, List<Message> messages) {
+                        results.add(index);
+                        results.add(messages.size());
+                    }
+                });
+        assertThat(results.size(), is(4));
+        assertThat(results.get(0), is((Object) 0L));
+        assertThat(results.get(1), is((Object) "テストユーザ"));
+        assertThat(results.get(2), is((Object) 1L));
+        assertThat(results.get(3), is((Object) 2));
+    }
+
     /**
      * {@link ValidationUtil#validateAndConvert(String, Class, Map, String)}のテスト。
      * <br/>
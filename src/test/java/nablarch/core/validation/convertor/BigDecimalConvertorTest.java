@@ -10,9 +10,11 @@ import static org.junit.Assert.fail;
 
 import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import nablarch.core.ThreadContext;
 import nablarch.core.message.MockStringResourceHolder;
@@ -829,4 +831,95 @@ public class BigDecimalConvertorTest {
         assertNull(testee.convert(context, "param", "　　　10　　　", null));
     }
 
+    /**
+     * {@link BigDecimalConvertor#convert(ValidationContext, String, Object, Annotation)}のテスト。
+     * <p/>
+     * 有効桁数が多い値や指数表記の値も、従来通り変換されることの確認。
+     */
+    @Test
+    public void testConvertLongValue() {
+        ValidationContext<TestTarget> context = new ValidationContext<TestTarget>(
+                "", TestTarget.class, new ReflectionFormCreator(),
+                new HashMap<String, String[]>(), "");
+
+        BigDecimal actual = (BigDecimal) testee.convert(context, "param", "123,456,789,012,345,678,901.2345", null);
+        assertThat(actual, is(new BigDecimal("123456789012345678901.2345")));
+        assertThat(actual.scale(), is(4));
+        assertThat((BigDecimal) testee.convert(context, "param", "1.50", null), is(new BigDecimal("1.50")));
+        assertThat((BigDecimal) testee.convert(context, "param", "1e3", null), is(new BigDecimal("1E+3")));
+        assertNull(testee.convert(context, "param", "1.2.3", null));
+    }
+
+    /**
+     * {@link BigDecimalConvertor#convert(ValidationContext, String, Object, Annotation)}のテスト。
+     * <p/>
+     * 変換処理のメソッドをオーバライドした場合は、オーバライドしたメソッドで変換されることの確認。
+     */
+    @Test
+    public void testConvertWithOverriddenMethods() {
+        ValidationContext<TestTarget> context = new ValidationContext<TestTarget>(
+                "", TestTarget.class, new ReflectionFormCreator(),
+                new HashMap<String, String[]>(), "");
+
+        BigDecimalConvertor scaled = new BigDecimalConvertor() {
+            @Override
+            protected Number convertToPropertyType(String numberString) {
+                return new BigDecimal(numberString).setScale(3);
+            }
+        };
+        assertThat((BigDecimal) scaled.convert(context, "param", "1,234.5", null), is(new BigDecimal("1234.500")));
+
+        BigDecimalConvertor trimmed = new BigDecimalConvertor() {
+            @Override
+            protected String trim(String value) {
+                return value.replace("\u3000", "");
+            }
+        };
+        assertThat((BigDecimal) trimmed.convert(context, "param", "\u300010\u3000", null), is(new BigDecimal("10")));
+
+        BigDecimalConvertor underscore = new BigDecimalConvertor() {
+            @Override
+            protected String convertToNumber(String number, DecimalFormatSymbols symbols) {
+                return number.replace("_", "");
+            }
+        };
+        assertThat((BigDecimal) underscore.convert(context, "param", "1_000", null), is(new BigDecimal("1000")));
+    }
+
+    /**
+     * オーバライドした{@link BigDecimalConvertor#createPattern(Digits, DecimalFormatSymbols)}と
+     * {@link BigDecimalConvertor#convertToNumber(String, DecimalFormatSymbols)}で、
+     * 引数の{@link DecimalFormatSymbols}を変更できることの確認。
+     */
+    @Test
+    public void testOverriddenMethodsModifySymbols() {
+        ValidationContext<TestTarget> context = new ValidationContext<TestTarget>(
+                "", TestTarget.class, new ReflectionFormCreator(),
+                new HashMap<String, String[]>(), "");
+
+        BigDecimalConvertor customPattern = new BigDecimalConvertor() {
+            @Override
+            protected Pattern createPattern(Digits digits, DecimalFormatSymbols symbols) {
+                symbols.setDecimalSeparator('_');
+                return super.createPattern(digits, symbols);
+            }
+        };
+        customPattern.setInvalidDigitsFractionMessageId("MSG00002");
+        customPattern.setInvalidDigitsIntegerMessageId("MSG00003");
+        assertTrue(customPattern.isConvertible(context, "param", "PROP0001", new String[]{"10_01"}, digits));
+        assertFalse(customPattern.isConvertible(context, "param", "PROP0001", new String[]{"10.01"}, digits));
+
+        BigDecimalConvertor customNumber = new BigDecimalConvertor() {
+            @Override
+            protected String convertToNumber(String number, DecimalFormatSymbols symbols) {
+                symbols.setDecimalSeparator('_');
+                return super.convertToNumber(number, symbols);
+            }
+        };
+        assertThat((BigDecimal) customNumber.convert(context, "param", "10_01", null), is(new BigDecimal("10.01")));
+
+        // 共有するDecimalFormatSymbolsは変更されていないこと
+        assertTrue(testee.isConvertible(context, "param", "PROP0001", new String[]{"10.01"}, digits));
+        assertThat((BigDecimal) testee.convert(context, "param", "10.01", null), is(new BigDecimal("10.01")));
+    }
 }
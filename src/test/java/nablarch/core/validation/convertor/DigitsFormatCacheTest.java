@@ -0,0 +1,141 @@
+package nablarch.core.validation.convertor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.annotation.Annotation;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * {@link DigitsFormatCache}のテスト。
+ */
+public class DigitsFormatCacheTest {
+
+    /** 日本語の記号 */
+    private static final DecimalFormatSymbols JAPANESE = new DecimalFormatSymbols(Locale.JAPANESE);
+
+    /** ドイツ語の記号(区切り文字と小数点が日本語と逆) */
+    private static final DecimalFormatSymbols GERMAN = new DecimalFormatSymbols(Locale.GERMAN);
+
+    /**
+     * 桁数、区切り文字の許容有無、区切り文字、小数点が一致する場合に取得できること。
+     */
+    @Test
+    public void testStructuralKey() {
+        DigitsFormatCache cache = new DigitsFormatCache(16);
+        assertThat(cache.get(digits(5, 2, true, ""), JAPANESE), is(nullValue()));
+
+        DigitsFormatCache.Entry entry = entry(digits(5, 2, true, ""), JAPANESE);
+        assertThat(cache.put(entry), sameInstance(entry));
+
+        // メッセージIDやインスタンスが異なっても取得できる
+        assertThat(cache.get(digits(5, 2, true, "MSG00001"), new DecimalFormatSymbols(Locale.JAPANESE)),
+                sameInstance(entry));
+
+        assertThat(cache.get(digits(6, 2, true, ""), JAPANESE), is(nullValue()));
+        assertThat(cache.get(digits(5, 1, true, ""), JAPANESE), is(nullValue()));
+        assertThat(cache.get(digits(5, 2, false, ""), JAPANESE), is(nullValue()));
+        assertThat(cache.get(digits(5, 2, true, ""), GERMAN), is(nullValue()));
+
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(5L));
+    }
+
+    /**
+     * 同じキーのエントリが格納済みの場合は、格納済みのエントリが返されること。
+     */
+    @Test
+    public void testPutIfAbsent() {
+        DigitsFormatCache cache = new DigitsFormatCache(16);
+        DigitsFormatCache.Entry first = entry(digits(3, 0, false, ""), JAPANESE);
+        DigitsFormatCache.Entry second = entry(digits(3, 0, false, ""), JAPANESE);
+        assertThat(cache.put(first), sameInstance(first));
+        assertThat(cache.put(second), sameInstance(first));
+        assertThat(cache.size(), is(1));
+    }
+
+    /**
+     * 上限を超えてエントリを保持しないこと。
+     */
+    @Test
+    public void testBounded() {
+        DigitsFormatCache cache = new DigitsFormatCache(5);
+        for (int integer = 0; integer < 100; integer++) {
+            for (int fraction = 0; fraction < 10; fraction++) {
+                Digits digits = digits(integer, fraction, true, "");
+                DigitsFormatCache.Entry entry = entry(digits, JAPANESE);
+                assertThat(cache.put(entry), sameInstance(entry));
+                // 直前に格納したエントリは取得できる
+                assertThat(cache.get(digits, JAPANESE), sameInstance(entry));
+            }
+        }
+        // 上限は2の累乗に切り上げる
+        assertTrue(cache.size() <= 8);
+    }
+
+    /**
+     * 上限に1未満を指定した場合は例外が送出されること。
+     */
+    @Test
+    public void testInvalidMaxSize() {
+        try {
+            new DigitsFormatCache(0);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("maxSize must be greater than 0. maxSize = [0]"));
+        }
+    }
+
+    /**
+     * エントリを生成する。
+     *
+     * @param digits 桁数の指定
+     * @param symbols 記号
+     * @return エントリ
+     */
+    private static DigitsFormatCache.Entry entry(Digits digits, DecimalFormatSymbols symbols) {
+        return new DigitsFormatCache.Entry(digits, symbols, null, Pattern.compile(""));
+    }
+
+    /**
+     * {@link Digits}を生成する。
+     *
+     * @param integer 整数部の桁数
+     * @param fraction 小数部の桁数
+     * @param commaSeparated 区切り文字を許容するか否か
+     * @param messageId メッセージID
+     * @return {@link Digits}
+     */
+    private static Digits digits(final int integer, final int fraction, final boolean commaSeparated,
+            final String messageId) {
+        return new Digits() {
+            public int integer() {
+                return integer;
+            }
+
+            public int fraction() {
+                return fraction;
+            }
+
+            public boolean commaSeparated() {
+                return commaSeparated;
+            }
+
+            public String messageId() {
+                return messageId;
+            }
+
+            public Class<? extends Annotation> annotationType() {
+                return Digits.class;
+            }
+        };
+    }
+}
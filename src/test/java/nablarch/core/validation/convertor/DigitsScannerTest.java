@@ -0,0 +1,201 @@
+package nablarch.core.validation.convertor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.lang.annotation.Annotation;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * {@link DigitsScanner}のテスト。
+ * <p/>
+ * {@link IntegerConvertor#createPattern}及び{@link BigDecimalConvertor#createPattern}が作成する正規表現と
+ * 判定結果が一致することを確認する。
+ */
+public class DigitsScannerTest {
+
+    /** 数字をあらわす正規表現 */
+    private static final Pattern NUMBER = Pattern.compile("[0-9]");
+
+    /** テストに使用する言語 */
+    private static final Locale[] LOCALES = {Locale.JAPANESE, Locale.FRENCH, Locale.GERMAN};
+
+    /**
+     * 整数の書式の判定結果が正規表現と一致すること。
+     */
+    @Test
+    public void testSameAsIntegerPattern() {
+        IntegerConvertor convertor = new IntegerConvertor();
+        for (Locale locale : LOCALES) {
+            DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
+            for (int integer = 0; integer <= 9; integer++) {
+                for (boolean comma : new boolean[] {true, false}) {
+                    Digits digits = digits(integer, 0, comma);
+                    assertSame(convertor.createPattern(digits, symbols),
+                            DigitsScanner.create(integer, 0, comma, symbols, false), symbols);
+                }
+            }
+        }
+    }
+
+    /**
+     * 小数の書式の判定結果が正規表現と一致すること。
+     */
+    @Test
+    public void testSameAsBigDecimalPattern() {
+        BigDecimalConvertor convertor = new BigDecimalConvertor();
+        for (Locale locale : LOCALES) {
+            DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
+            for (int integer = 0; integer <= 8; integer++) {
+                for (int fraction = 0; fraction <= 3; fraction++) {
+                    for (boolean comma : new boolean[] {true, false}) {
+                        Digits digits = digits(integer, fraction, comma);
+                        assertSame(convertor.createPattern(digits, symbols),
+                                DigitsScanner.create(integer, fraction, comma, symbols, true), symbols);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 正規表現と同じ判定を保証できない記号の場合は生成されないこと。
+     */
+    @Test
+    public void testUnsupportedSymbols() {
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.JAPANESE);
+        symbols.setGroupingSeparator('-');
+        assertThat(DigitsScanner.create(6, 0, true, symbols, false), is(nullValue()));
+        // 区切り文字を使用しない場合は生成される
+        assertThat(DigitsScanner.create(6, 0, false, symbols, false), is(notNullValue()));
+        assertThat(DigitsScanner.create(3, 0, true, symbols, false), is(notNullValue()));
+
+        symbols = new DecimalFormatSymbols(Locale.JAPANESE);
+        symbols.setDecimalSeparator('*');
+        assertThat(DigitsScanner.create(6, 2, false, symbols, true), is(nullValue()));
+        assertThat(DigitsScanner.create(6, 0, false, symbols, true), is(notNullValue()));
+
+        symbols = new DecimalFormatSymbols(Locale.JAPANESE);
+        symbols.setGroupingSeparator('.');
+        assertThat(DigitsScanner.create(6, 2, true, symbols, true), is(nullValue()));
+
+        assertThat(DigitsScanner.create(-1, 0, false, symbols, true), is(nullValue()));
+    }
+
+    /**
+     * {@link IntegerConvertor#createPattern}をオーバライドした場合は正規表現でチェックすること。
+     */
+    @Test
+    public void testCustomPattern() {
+        IntegerConvertor convertor = new IntegerConvertor() {
+            @Override
+            protected Pattern createPattern(Digits digits, DecimalFormatSymbols symbols) {
+                return Pattern.compile("^1$");
+            }
+        };
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.JAPANESE);
+        assertThat(convertor.createScanner(digits(5, 0, true), symbols), is(nullValue()));
+        assertThat(new LongConvertor().createScanner(digits(5, 0, true), symbols), is(notNullValue()));
+        assertThat(new BigDecimalConvertor() {
+            @Override
+            protected Pattern createPattern(Digits digits, DecimalFormatSymbols symbols) {
+                return super.createPattern(digits, symbols);
+            }
+        }.createScanner(digits(5, 0, true), symbols), is(nullValue()));
+    }
+
+    /**
+     * 正規表現と判定結果が一致することを確認する。
+     *
+     * @param pattern 正規表現
+     * @param scanner テスト対象
+     * @param symbols 記号
+     */
+    private static void assertSame(Pattern pattern, DigitsScanner scanner, DecimalFormatSymbols symbols) {
+        for (String input : inputs(symbols)) {
+            boolean expected = pattern.matcher(input).matches()
+                    && (input.isEmpty() || NUMBER.matcher(input).find());
+            assertThat("pattern = " + pattern + ", input = [" + input + "]",
+                    scanner.isConvertible(input), is(expected));
+        }
+    }
+
+    /**
+     * 判定対象の文字列を生成する。
+     * <p/>
+     * 数字、区切り文字、小数点、符号、その他の文字からなる5文字以下の全ての文字列と、
+     * 数字の割合を高くしたランダムな16文字以下の文字列を生成する。
+     *
+     * @param symbols 記号
+     * @return 判定対象の文字列
+     */
+    private static List<String> inputs(DecimalFormatSymbols symbols) {
+        char[] alphabet = {'1', symbols.getGroupingSeparator(), symbols.getDecimalSeparator(), '-', '+', 'a'};
+        List<String> inputs = new ArrayList<String>();
+        inputs.add("");
+        List<String> previous = new ArrayList<String>(inputs);
+        for (int length = 1; length <= 5; length++) {
+            List<String> current = new ArrayList<String>();
+            for (String prefix : previous) {
+                for (char c : alphabet) {
+                    current.add(prefix + c);
+                }
+            }
+            inputs.addAll(current);
+            previous = current;
+        }
+
+        char[] weighted = {'0', '1', '2', '9', '0', '5', symbols.getGroupingSeparator(), symbols.getDecimalSeparator(), '-', '+'};
+        Random random = new Random(0);
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(17);
+            for (int j = 0; j < length; j++) {
+                sb.append(weighted[random.nextInt(weighted.length)]);
+            }
+            inputs.add(sb.toString());
+        }
+        return inputs;
+    }
+
+    /**
+     * {@link Digits}を生成する。
+     *
+     * @param integer 整数部の桁数
+     * @param fraction 小数部の桁数
+     * @param commaSeparated 区切り文字を許容するか否か
+     * @return {@link Digits}
+     */
+    private static Digits digits(final int integer, final int fraction, final boolean commaSeparated) {
+        return new Digits() {
+            public int integer() {
+                return integer;
+            }
+
+            public int fraction() {
+                return fraction;
+            }
+
+            public boolean commaSeparated() {
+                return commaSeparated;
+            }
+
+            public String messageId() {
+                return "";
+            }
+
+            public Class<? extends Annotation> annotationType() {
+                return Digits.class;
+            }
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package nablarch.core.validation.convertor;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import org.junit.Test;
+
+/**
+ * {@link ImmutableDecimalFormatSymbols}のテスト。
+ */
+public class ImmutableDecimalFormatSymbolsTest {
+
+    /**
+     * 言語に対応する値を保持すること。
+     */
+    @Test
+    public void testSymbols() {
+        DecimalFormatSymbols symbols = new ImmutableDecimalFormatSymbols(Locale.FRENCH);
+        DecimalFormatSymbols expected = new DecimalFormatSymbols(Locale.FRENCH);
+        assertThat(symbols.getDecimalSeparator(), is(expected.getDecimalSeparator()));
+        assertThat(symbols.getGroupingSeparator(), is(expected.getGroupingSeparator()));
+    }
+
+    /**
+     * 値を変更できないこと。
+     */
+    @Test
+    public void testImmutable() {
+        DecimalFormatSymbols symbols = new ImmutableDecimalFormatSymbols(Locale.JAPANESE);
+        try {
+            symbols.setGroupingSeparator('.');
+            fail();
+        } catch (UnsupportedOperationException e) {
+            assertThat(symbols.getGroupingSeparator(), is(','));
+        }
+        try {
+            symbols.setDecimalSeparator(',');
+            fail();
+        } catch (UnsupportedOperationException e) {
+            assertThat(symbols.getDecimalSeparator(), is('.'));
+        }
+    }
+
+    /**
+     * 複製は値を変更できること。
+     */
+    @Test
+    public void testClone() {
+        DecimalFormatSymbols copy = (DecimalFormatSymbols) new ImmutableDecimalFormatSymbols(Locale.GERMAN).clone();
+        assertThat(copy, is(not(instanceOf(ImmutableDecimalFormatSymbols.class))));
+        assertThat(copy.getDecimalSeparator(), is(','));
+        copy.setDecimalSeparator('.');
+        assertThat(copy.getDecimalSeparator(), is('.'));
+    }
+}
@@ -655,4 +655,90 @@ public class IntegerConvertorTest {
         // Stringを指定した場合に、全角スペースがトリムされないためBigDecimalへの変換に失敗し、nullが返却されることの確認
         assertNull(testee.convert(context, "param", "　　　10　　　", null));
     }
+
+    /**
+     * 変換可否チェックに使用する書式のキャッシュの統計情報が取得できること。
+     * <p/>
+     * 同じ桁数指定であれば、異なるアノテーションのインスタンスでもキャッシュから取得されること。
+     */
+    @Test
+    public void testFormatCacheStatistics() {
+        ValidationContext<TestTarget> context = new ValidationContext<TestTarget>(
+                "", TestTarget.class, new ReflectionFormCreator(),
+                new HashMap<String, String[]>(), "");
+        assertThat(testee.getFormatCacheHitCount(), is(0L));
+        assertThat(testee.getFormatCacheMissCount(), is(0L));
+
+        assertTrue(testee.isConvertible(context, "param", "表示", "1,234", digits));
+        assertThat(testee.getFormatCacheMissCount(), is(1L));
+
+        Digits sameDigits = new Digits() {
+            public Class<? extends Annotation> annotationType() {
+                return Digits.class;
+            }
+
+            public String messageId() {
+                return "MSG00002";
+            }
+
+            public int integer() {
+                return 5;
+            }
+
+            public int fraction() {
+                return 0;
+            }
+
+            public boolean commaSeparated() {
+                return true;
+            }
+        };
+        assertTrue(testee.isConvertible(context, "param", "表示", "12,345", sameDigits));
+        assertFalse(testee.isConvertible(context, "param", "表示", "123,456", digits));
+        assertThat(testee.getFormatCacheHitCount(), is(2L));
+        assertThat(testee.getFormatCacheMissCount(), is(1L));
+
+        assertTrue(testee.isConvertible(context, "param", "表示", "123,456,789", maxLengthDigits));
+        assertThat(testee.getFormatCacheMissCount(), is(2L));
+
+        // 上限を変更するとキャッシュと統計情報は破棄される
+        testee.setMaxFormatCacheSize(1);
+        assertThat(testee.getFormatCacheHitCount(), is(0L));
+        assertThat(testee.getFormatCacheMissCount(), is(0L));
+        assertTrue(testee.isConvertible(context, "param", "表示", "1,234", digits));
+        assertThat(testee.getFormatCacheMissCount(), is(1L));
+    }
+
+    /**
+     * {@link IntegerConvertor#convert(ValidationContext, String, Object, Annotation)}のテスト。
+     * <p/>
+     * 区切り文字の除去や範囲外の値の扱いが従来通りであることの確認。
+     */
+    @Test
+    public void testConvertBoundary() {
+        ValidationContext<TestTarget> context = new ValidationContext<TestTarget>(
+                "", TestTarget.class, new ReflectionFormCreator(),
+                new HashMap<String, String[]>(), "");
+
+        assertEquals(Integer.MAX_VALUE, testee.convert(context, "param", "2,147,483,647", null));
+        assertEquals(Integer.MIN_VALUE, testee.convert(context, "param", "-2147483648", null));
+        assertEquals(0, testee.convert(context, "param", "-0", null));
+        assertEquals(7, testee.convert(context, "param", new String[] {" +007 "}, null));
+        assertNull(testee.convert(context, "param", "2147483648", null));
+        assertNull(testee.convert(context, "param", "1.0", null));
+        assertNull(testee.convert(context, "param", "-", null));
+
+        LongConvertor longConvertor = new LongConvertor();
+        assertEquals(Long.MAX_VALUE, longConvertor.convert(context, "param", "9,223,372,036,854,775,807", null));
+        assertEquals(-123456789012L, longConvertor.convert(context, "param", "-123,456,789,012", null));
+        assertNull(longConvertor.convert(context, "param", "9223372036854775808", null));
+
+        IntegerConvertor overridden = new IntegerConvertor() {
+            @Override
+            protected Number convertToPropertyType(String numberString) {
+                return Integer.valueOf(numberString) * 2;
+            }
+        };
+        assertEquals(2468, overridden.convert(context, "param", "1,234", null));
+    }
 }
@@ -0,0 +1,164 @@
+package nablarch.core.validation.convertor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * {@link NumberParser}のテスト。
+ * <p/>
+ * {@link ConversionUtil#convertToNumber(String, DecimalFormatSymbols)}で変換した文字列を
+ * {@link Long#valueOf(String)}及び{@link BigDecimal#BigDecimal(String)}で変換した結果と一致することを確認する。
+ */
+public class NumberParserTest {
+
+    /** 区切り文字と小数点の組み合わせ */
+    private static final char[][] SEPARATORS = {
+            {',', '.'}, {'.', ','}, {' ', ','}, {',', ','}, {',', '-'}, {'1', '.'}, {',', '5'}};
+
+    /**
+     * 整数への変換結果が文字列を使用した変換と一致すること。
+     */
+    @Test
+    public void testParseLong() {
+        for (char[] separators : SEPARATORS) {
+            DecimalFormatSymbols symbols = symbols(separators[0], separators[1]);
+            for (String input : inputs(separators)) {
+                Long expected;
+                try {
+                    expected = Long.valueOf(ConversionUtil.convertToNumber(input, symbols));
+                } catch (NumberFormatException e) {
+                    expected = null;
+                }
+                long actual = NumberParser.parseLong(input, 0, input.length(), separators[0], separators[1]);
+                String message = "input = [" + input + "], separators = [" + new String(separators) + "]";
+                if (actual == NumberParser.NOT_PARSED) {
+                    // 変換しない場合は、文字列を使用した変換を行う
+                    assertThat(message, expected == null || requiresString(input, BigDecimal.valueOf(expected)), is(true));
+                } else {
+                    assertThat(message, actual, is(expected));
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link BigDecimal}への変換結果が文字列を使用した変換とスケールを含めて一致すること。
+     */
+    @Test
+    public void testParseBigDecimal() {
+        for (char[] separators : SEPARATORS) {
+            DecimalFormatSymbols symbols = symbols(separators[0], separators[1]);
+            for (String input : inputs(separators)) {
+                BigDecimal expected;
+                try {
+                    expected = new BigDecimal(ConversionUtil.convertToNumber(input, symbols));
+                } catch (NumberFormatException e) {
+                    expected = null;
+                }
+                BigDecimal actual = NumberParser.parseBigDecimal(input, 0, input.length(), separators[0], separators[1]);
+                String message = "input = [" + input + "], separators = [" + new String(separators) + "]";
+                if (actual == null) {
+                    assertThat(message, expected == null || requiresString(input, expected), is(true));
+                } else {
+                    assertThat(message, actual, is(expected));
+                    assertThat(message, actual.scale(), is(expected.scale()));
+                }
+            }
+        }
+    }
+
+    /**
+     * 指定された範囲のみ変換すること。
+     */
+    @Test
+    public void testRange() {
+        assertThat(NumberParser.parseLong(" -1,234 ", 1, 7, ',', '.'), is(-1234L));
+        assertThat(NumberParser.parseBigDecimal("x12.50x", 1, 6, ',', '.'), is(new BigDecimal("12.50")));
+    }
+
+    /**
+     * 有効桁数が上限を超える場合は変換しないこと。
+     */
+    @Test
+    public void testMaxDigits() {
+        assertThat(NumberParser.parseLong("999999999999999999", 0, 18, ',', '.'), is(999999999999999999L));
+        assertThat(NumberParser.parseLong("-000999999999999999999", 0, 22, ',', '.'), is(-999999999999999999L));
+        assertThat(NumberParser.parseLong("1000000000000000000", 0, 19, ',', '.'), is(NumberParser.NOT_PARSED));
+        assertThat(NumberParser.parseBigDecimal("0.000000000000000000000001", 0, 26, ',', '.'),
+                is(new BigDecimal("0.000000000000000000000001")));
+        assertThat(NumberParser.parseBigDecimal("1234567890.123456789", 0, 20, ',', '.'), is(nullValue()));
+    }
+
+    /**
+     * 文字列を使用した変換を必要とする入力であるかを判定する。
+     * <p/>
+     * 指数表記の入力と、有効桁数が上限を超える値が該当する。
+     *
+     * @param input 入力
+     * @param value 文字列を使用して変換した値
+     * @return 文字列を使用した変換を必要とする場合は{@code true}
+     */
+    private static boolean requiresString(String input, BigDecimal value) {
+        return input.indexOf('e') != -1
+                || value.unscaledValue().abs().compareTo(BigDecimal.TEN.pow(NumberParser.MAX_DIGITS).toBigInteger()) >= 0;
+    }
+
+    /**
+     * 判定対象の文字列を生成する。
+     *
+     * @param separators 区切り文字と小数点
+     * @return 判定対象の文字列
+     */
+    private static List<String> inputs(char[] separators) {
+        char[] alphabet = {'0', '7', separators[0], separators[1], '.', '-', '+', 'e'};
+        List<String> inputs = new ArrayList<String>();
+        inputs.add("");
+        List<String> previous = new ArrayList<String>(inputs);
+        for (int length = 1; length <= 5; length++) {
+            List<String> current = new ArrayList<String>();
+            for (String prefix : previous) {
+                for (char c : alphabet) {
+                    current.add(prefix + c);
+                }
+            }
+            inputs.addAll(current);
+            previous = current;
+        }
+
+        char[] weighted = {'0', '1', '2', '9', '0', '5', '3', '8', separators[0], separators[1], '.', '-'};
+        Random random = new Random(0);
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(25);
+            for (int j = 0; j < length; j++) {
+                sb.append(weighted[random.nextInt(weighted.length)]);
+            }
+            inputs.add(sb.toString());
+        }
+        return inputs;
+    }
+
+    /**
+     * 区切り文字と小数点を設定した{@link DecimalFormatSymbols}を生成する。
+     *
+     * @param groupingSeparator 区切り文字
+     * @param decimalSeparator 小数点
+     * @return {@link DecimalFormatSymbols}
+     */
+    private static DecimalFormatSymbols symbols(char groupingSeparator, char decimalSeparator) {
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.JAPANESE);
+        symbols.setGroupingSeparator(groupingSeparator);
+        symbols.setDecimalSeparator(decimalSeparator);
+        return symbols;
+    }
+}
@@ -0,0 +1,211 @@
+package nablarch.core.validation.creator;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.beans.ConstructorProperties;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import nablarch.core.validation.FormValidationDefinition;
+import nablarch.core.validation.ValidationContext;
+
+import org.junit.Test;
+
+/**
+ * {@link DirectPropertyFormCreator}のテスト。
+ */
+public class DirectPropertyFormCreatorTest {
+
+    private final DirectPropertyFormCreator sut = new DirectPropertyFormCreator();
+
+    @Test
+    public void testCreateWithSetterAndField() {
+        Map<String, Object> values = new HashMap<String, Object>();
+        values.put("name", "なまえ");
+        values.put("age", 20);
+        values.put("remarks", "備考");
+
+        SetterForm form = sut.create(SetterForm.class, values, new FormValidationDefinition(SetterForm.class));
+        assertThat(form.name, is("なまえ"));
+        assertThat(form.age, is(20));
+        assertThat(form.remarks, is("備考"));
+        assertThat(form.untouched, is("初期値"));
+
+        // 2回目以降はキャッシュした生成方法で生成される
+        values.put("name", "なまえ2");
+        SetterForm form2 = sut.create(SetterForm.class, values, null);
+        assertThat(form2.name, is("なまえ2"));
+        assertThat(form2, is(not(sameInstance(form))));
+    }
+
+    @Test
+    public void testCreateWithNullValue() {
+        Map<String, Object> values = new HashMap<String, Object>();
+        values.put("name", null);
+        values.put("age", null);
+
+        SetterForm form = sut.create(SetterForm.class, values, null);
+        assertThat(form.name, is(nullValue()));
+        assertThat(form.age, is(-1));
+        assertThat(form.remarks, is(nullValue()));
+    }
+
+    @Test
+    public void testCreateWithConstructorProperties() {
+        Map<String, Object> values = new HashMap<String, Object>();
+        values.put("name", "なまえ");
+
+        ImmutableForm form = sut.create(ImmutableForm.class, values, null);
+        assertThat(form.name, is("なまえ"));
+        assertThat(form.age, is(0));
+    }
+
+    @Test
+    public void testCreateNoDefaultConstructor() {
+        try {
+            sut.create(NoDefaultConstructorForm.class, new HashMap<String, Object>(), null);
+            fail("例外が発生するはず");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("Entity creation failed. "
+                    + "form class name = [" + NoDefaultConstructorForm.class.getName() + "] ."));
+            assertThat(e.getCause(), is(instanceOf(NoSuchMethodException.class)));
+        }
+    }
+
+    @Test
+    public void testCreateSetterThrowsException() {
+        Map<String, Object> values = new HashMap<String, Object>();
+        values.put("name", "なまえ");
+        try {
+            sut.create(ErrorForm.class, values, null);
+            fail("例外が発生するはず");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("Entity creation failed. "
+                    + "form class name = [" + ErrorForm.class.getName() + "] ."));
+            assertThat(e.getCause().getCause().getMessage(), is("error"));
+        }
+    }
+
+    @Test
+    public void testCreateWithOrdinals() {
+        FormValidationDefinition definition = new FormValidationDefinition(SetterForm.class);
+        Object[] values = new Object[definition.getPropertyCount()];
+        BitSet assigned = new BitSet();
+        values[definition.getPropertyOrdinal("name")] = "なまえ";
+        assigned.set(definition.getPropertyOrdinal("name"));
+        assigned.set(definition.getPropertyOrdinal("age"));
+
+        SetterForm form = sut.create(SetterForm.class, definition, values, assigned);
+        assertThat(form.name, is("なまえ"));
+        assertThat(form.age, is(-1));
+        assertThat(form.remarks, is(nullValue()));
+        assertThat(form.untouched, is("初期値"));
+
+        // 値が設定されていないプロパティは設定しない
+        values[definition.getPropertyOrdinal("age")] = 20;
+        assigned.clear(definition.getPropertyOrdinal("name"));
+        form = sut.create(SetterForm.class, definition, values, assigned);
+        assertThat(form.name, is(nullValue()));
+        assertThat(form.age, is(20));
+    }
+
+    @Test
+    public void testCreateWithOrdinalsAndConstructorProperties() {
+        FormValidationDefinition definition = new FormValidationDefinition(ImmutableForm.class);
+        Object[] values = new Object[definition.getPropertyCount()];
+        BitSet assigned = new BitSet();
+
+        ImmutableForm form = sut.create(ImmutableForm.class, definition, values, assigned);
+        assertThat(form.name, is(nullValue()));
+        assertThat(form.age, is(0));
+    }
+
+    /**
+     * 生成方法は、最初に渡された設定によらず同じセッタを使用すること。
+     */
+    @Test
+    public void testBindingDoesNotDependOnFirstDefinition() {
+        Map<String, Object> values = new HashMap<String, Object>();
+        values.put("name", "なまえ");
+        values.put("age", 20);
+
+        SetterForm form = sut.create(SetterForm.class, values, null);
+        SetterForm form2 = new DirectPropertyFormCreator().create(SetterForm.class, values,
+                new FormValidationDefinition(SetterForm.class));
+        assertThat(form.name, is(form2.name));
+        assertThat(form.age, is(form2.age));
+    }
+
+    /**
+     * {@link ValidationContext}からは、値のMapを作成せずにフォームを生成すること。
+     * フォームのプロパティ以外の値がある場合は、値のMapでフォームを生成すること。
+     */
+    @Test
+    public void testCreateFromValidationContext() {
+        final int[] mapCalls = new int[1];
+        DirectPropertyFormCreator creator = new DirectPropertyFormCreator() {
+            @Override
+            public <T> T create(Class<T> targetClass, Map<String, Object> propertyValues,
+                    FormValidationDefinition formValidationDefinition) {
+                mapCalls[0]++;
+                return super.create(targetClass, propertyValues, formValidationDefinition);
+            }
+        };
+        ValidationContext<SetterForm> context = new ValidationContext<SetterForm>(
+                "", SetterForm.class, creator, new HashMap<String, Object>(), "");
+        context.setFormValidationDefinition(new FormValidationDefinition(SetterForm.class));
+        context.putConvertedValue("name", "なまえ");
+        context.putConvertedValue("age", 20);
+
+        SetterForm form = context.createObject();
+        assertThat(form.name, is("なまえ"));
+        assertThat(form.age, is(20));
+        assertThat(mapCalls[0], is(0));
+
+        context.putConvertedValue("remarks", "備考");
+        form = context.createDirtyObject();
+        assertThat(form.name, is("なまえ"));
+        assertThat(form.remarks, is("備考"));
+        assertThat(mapCalls[0], is(1));
+    }
+
+    public static class SetterForm {
+        private String name;
+        private int age = -1;
+        private String remarks;
+        private String untouched = "初期値";
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    public static class ImmutableForm {
+        private final String name;
+        private final int age;
+
+        @ConstructorProperties({"name", "age"})
+        public ImmutableForm(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    public static class NoDefaultConstructorForm {
+        public NoDefaultConstructorForm(String name) {
+        }
+    }
+
+    public static class ErrorForm {
+        public void setName(String name) {
+            throw new IllegalStateException("error");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package nablarch.core.validation.creator;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * {@link MapConstructorFormCreator}のテスト。
+ */
+public class MapConstructorFormCreatorTest {
+
+    private final MapConstructorFormCreator sut = new MapConstructorFormCreator();
+
+    @Test
+    public void testCreate() {
+        Map<String, Object> values = new HashMap<String, Object>();
+        values.put("name", "なまえ");
+
+        TestForm form = sut.create(TestForm.class, values, null);
+        assertThat(form.name, is("なまえ"));
+
+        // 2回目以降はキャッシュしたコンストラクタで生成される
+        values.put("name", "なまえ2");
+        TestForm form2 = sut.create(TestForm.class, values, null);
+        assertThat(form2.name, is("なまえ2"));
+        assertThat(form2, is(not(sameInstance(form))));
+    }
+
+    @Test
+    public void testCreateNoMapConstructor() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                sut.create(NoMapConstructorForm.class, new HashMap<String, Object>(), null);
+                fail("例外が発生するはず");
+            } catch (IllegalArgumentException e) {
+                assertThat(e.getMessage(), is("Entity creation failed. "
+                        + "form class name = [" + NoMapConstructorForm.class.getName() + "] ."));
+                assertThat(e.getCause(), is(instanceOf(NoSuchMethodException.class)));
+            }
+        }
+    }
+
+    @Test
+    public void testCreateConstructorThrowsException() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                sut.create(ErrorForm.class, new HashMap<String, Object>(), null);
+                fail("例外が発生するはず");
+            } catch (IllegalArgumentException e) {
+                assertThat(e.getMessage(), is("Entity creation failed. "
+                        + "form class name = [" + ErrorForm.class.getName() + "] ."));
+                assertThat(e.getCause().getCause().getMessage(), is("error"));
+            }
+        }
+    }
+
+    public static class TestForm {
+        private String name;
+
+        public TestForm(Map<String, Object> values) {
+            name = (String) values.get("name");
+        }
+    }
+
+    public static class NoMapConstructorForm {
+        public NoMapConstructorForm() {
+        }
+    }
+
+    public static class ErrorForm {
+        public ErrorForm(Map<String, Object> values) {
+            throw new IllegalStateException("error");
+        }
+    }
+}
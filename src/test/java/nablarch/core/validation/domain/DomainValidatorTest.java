@@ -1,15 +1,18 @@
 package nablarch.core.validation.domain;
 
+import nablarch.core.validation.CompiledValidator;
 import nablarch.core.validation.ValidationContext;
 import nablarch.core.validation.Validator;
 import nablarch.core.validation.domain.sample.Domain;
 import nablarch.core.validation.domain.sample.DomainType;
 import nablarch.core.validation.domain.sample.SampleForm;
+import nablarch.core.validation.validator.NumberRange;
 import org.junit.Test;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -133,6 +136,101 @@ public class DomainValidatorTest {
         }
     }
 
+    /**
+     * 初期化なしにcompileが呼び出された場合、例外メッセージが出ること。
+     */
+    @Test
+    public void testCompileNotInitialized() {
+        try {
+            new DomainValidator().compile(SCORE);
+            fail("must be thrown IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("DomainValidator was not initialized."));
+        }
+    }
+
+    /**
+     * compileで生成したバリデータが、ドメイン定義のバリデーションアノテーションに対応するバリデータを呼び出すこと。
+     */
+    @Test
+    public void testCompile() {
+        RecordingValidator numberRange = new RecordingValidator();
+        DomainValidator validator = new DomainValidator();
+        validator.setValidators(Arrays.<Validator>asList(numberRange));
+        validator.setDomainValidationHelper(new DomainValidationHelper() {{
+            setDomainAnnotation(Domain.class.getName());
+        }});
+        validator.initialize();
+
+        CompiledValidator compiled = validator.compile(SCORE);
+        ValidationContext<SampleForm> context = new ValidationContext<SampleForm>("", SampleForm.class, null, null, "");
+        assertThat(compiled.validate(context, "testProp", "表示名", 1), is(true));
+        numberRange.result = false;
+        assertThat(compiled.validate(context, "testProp", "表示名", 2), is(false));
+
+        assertThat(numberRange.values, is(Arrays.<Object>asList(1, 2)));
+        assertThat(numberRange.annotations.size(), is(2));
+        assertThat(numberRange.annotations.get(0).annotationType() == NumberRange.class, is(true));
+    }
+
+    /**
+     * compileで生成したバリデータで、サポートしていないバリデーション用のアノテーションクラスが指定された場合、
+     * バリデーション時に例外メッセージが出ること。
+     */
+    @Test
+    public void testCompileUnsupportedValidationAnnotation() {
+
+        DomainValidator validator = new DomainValidator();
+        validator.setValidators(new ArrayList<Validator>());
+        validator.setDomainValidationHelper(new DomainValidationHelper() {{
+            setDomainAnnotation(Domain.class.getName());
+        }});
+        validator.initialize();
+
+        CompiledValidator compiled = validator.compile(SCORE);
+        ValidationContext<SampleForm> context = new ValidationContext<SampleForm>("", SampleForm.class, null, null, "");
+        try {
+            compiled.validate(context, "testProp", null, null);
+            fail("must be thrown UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            assertThat(e.getMessage(), is("Validation annotation was not supported. "
+                                        + "Validation annotation = nablarch.core.validation.validator.NumberRange"
+                                        + ", targetClass = nablarch.core.validation.domain.sample.SampleForm"
+                                        + ", propertyName = testProp"));
+        }
+    }
+
+    /** NumberRangeアノテーションが設定されたドメイン */
+    private static final Domain SCORE = new Domain() {
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return Domain.class;
+        }
+
+        @Override
+        public DomainType value() {
+            return DomainType.SCORE; // added NumberRange annotation
+        }
+    };
+
+    private static final class RecordingValidator implements Validator {
+        private final List<Annotation> annotations = new ArrayList<Annotation>();
+        private final List<Object> values = new ArrayList<Object>();
+        private boolean result = true;
+        @Override
+        public Class<? extends Annotation> getAnnotationClass() {
+            return NumberRange.class;
+        }
+        @Override
+        public <T> boolean validate(ValidationContext<T> context,
+                String propertyName, Object propertyDisplayName,
+                Annotation annotation, Object value) {
+            annotations.add(annotation);
+            values.add(value);
+            return result;
+        }
+    }
+
     private static final class NoAnnotationClassValidator implements Validator {
         @Override
         public Class<? extends Annotation> getAnnotationClass() {
@@ -0,0 +1,15 @@
+package nablarch.core.validation.loader;
+
+import nablarch.core.validation.ValidateFor;
+import nablarch.core.validation.ValidationContext;
+
+/**
+ * {@link nablarch.core.validation.FormValidationDefinitionLoader}のパッケージ走査のテストで使用する、
+ * 不正な{@link ValidateFor}メソッドを持つフォーム。
+ */
+public class InvalidValidateForForm {
+
+    @ValidateFor("test")
+    public void validate(ValidationContext<InvalidValidateForForm> context) {
+    }
+}
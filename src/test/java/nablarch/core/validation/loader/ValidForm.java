@@ -0,0 +1,13 @@
+package nablarch.core.validation.loader;
+
+import nablarch.core.validation.validator.Required;
+
+/**
+ * {@link nablarch.core.validation.FormValidationDefinitionLoader}のパッケージ走査のテストで使用するフォーム。
+ */
+public class ValidForm {
+
+    @Required
+    public void setName(String name) {
+    }
+}
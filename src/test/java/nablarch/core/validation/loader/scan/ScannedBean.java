@@ -0,0 +1,10 @@
+package nablarch.core.validation.loader.scan;
+
+/**
+ * {@link nablarch.core.validation.FormValidationDefinitionLoader}のスナップショットのテストで使用する、フォームでないクラス。
+ */
+public class ScannedBean {
+
+    public void setName(String name) {
+    }
+}
@@ -0,0 +1,13 @@
+package nablarch.core.validation.loader.scan;
+
+import nablarch.core.validation.validator.Required;
+
+/**
+ * {@link nablarch.core.validation.FormValidationDefinitionLoader}のスナップショットのテストで使用するフォーム。
+ */
+public class ScannedForm {
+
+    @Required
+    public void setName(String name) {
+    }
+}
@@ -0,0 +1,85 @@
+package nablarch.core.validation.metrics;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * {@link LatencyStatistics}のテスト。
+ */
+public class LatencyStatisticsTest {
+
+    /**
+     * 記録した所要時間の件数、合計、最大値が取得できること。
+     */
+    @Test
+    public void testRecord() {
+        LatencyStatistics statistics = new LatencyStatistics();
+        assertThat(statistics.getCount(), is(0L));
+        assertThat(statistics.getMeanNanos(), is(0L));
+        assertThat(statistics.getPercentileNanos(50), is(0L));
+
+        statistics.record(100, true);
+        statistics.record(300, false);
+        statistics.record(200, true);
+        assertThat(statistics.getCount(), is(3L));
+        assertThat(statistics.getFailureCount(), is(1L));
+        assertThat(statistics.getTotalNanos(), is(600L));
+        assertThat(statistics.getMeanNanos(), is(200L));
+        assertThat(statistics.getMaxNanos(), is(300L));
+    }
+
+    /**
+     * 所要時間が2の累乗毎の区間に集計されること。
+     */
+    @Test
+    public void testBucket() {
+        assertThat(LatencyStatistics.getBucket(-1), is(0));
+        assertThat(LatencyStatistics.getBucket(0), is(0));
+        assertThat(LatencyStatistics.getBucket(1), is(1));
+        assertThat(LatencyStatistics.getBucket(2), is(2));
+        assertThat(LatencyStatistics.getBucket(3), is(2));
+        assertThat(LatencyStatistics.getBucket(4), is(3));
+        assertThat(LatencyStatistics.getBucket(1023), is(10));
+        assertThat(LatencyStatistics.getBucket(1024), is(11));
+        assertThat(LatencyStatistics.getBucket(Long.MAX_VALUE), is(63));
+
+        assertThat(LatencyStatistics.getBucketUpperBound(0), is(0L));
+        assertThat(LatencyStatistics.getBucketUpperBound(10), is(1023L));
+        assertThat(LatencyStatistics.getBucketUpperBound(63), is(Long.MAX_VALUE));
+
+        LatencyStatistics statistics = new LatencyStatistics();
+        statistics.record(1000, true);
+        statistics.record(1023, true);
+        statistics.record(1024, true);
+        long[] counts = statistics.getBucketCounts();
+        assertThat(counts[10], is(2L));
+        assertThat(counts[11], is(1L));
+    }
+
+    /**
+     * パーセンタイル値の近似値が取得できること。
+     */
+    @Test
+    public void testPercentile() {
+        LatencyStatistics statistics = new LatencyStatistics();
+        for (int i = 0; i < 99; i++) {
+            statistics.record(100, true);
+        }
+        statistics.record(5000, true);
+        // 100は区間7(64以上128未満)に含まれる
+        assertThat(statistics.getPercentileNanos(50), is(127L));
+        assertThat(statistics.getPercentileNanos(99), is(127L));
+        // 最大値を超えないこと
+        assertThat(statistics.getPercentileNanos(100), is(5000L));
+    }
+
+    /**
+     * パーセンタイルが範囲外の場合、例外が送出されること。
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new LatencyStatistics().getPercentileNanos(0);
+    }
+}
@@ -0,0 +1,73 @@
+package nablarch.core.validation.metrics;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import nablarch.core.validation.convertor.StringConvertor;
+import nablarch.core.validation.validator.Required;
+
+import org.junit.Test;
+
+/**
+ * {@link ValidationMetricsCollector}のテスト。
+ */
+public class ValidationMetricsCollectorTest {
+
+    /**
+     * 通知された所要時間が、単位毎に集計されること。
+     */
+    @Test
+    public void testCollect() throws Exception {
+        ValidationMetricsCollector collector = new ValidationMetricsCollector();
+        Required required = Form.class.getMethod("setName", String.class).getAnnotation(Required.class);
+
+        collector.definitionLoaded(Form.class, 10);
+        collector.converted(Form.class, "name", new StringConvertor(), true, 20);
+        collector.validated(Form.class, "name", required, false, 30);
+        collector.validated(Form.class, "name", required, true, 40);
+        collector.propertyValidated(Form.class, "name", false, 50);
+        collector.formValidated(Form.class, "form", false, 60);
+        collector.formCreated(Form.class, 70);
+
+        assertThat(collector.getDefinitionLoadStatistics().getCount(), is(1L));
+        assertThat(collector.getConvertorStatistics().get(StringConvertor.class).getTotalNanos(), is(20L));
+        LatencyStatistics validator = collector.getValidatorStatistics().get(Required.class);
+        assertThat(validator.getCount(), is(2L));
+        assertThat(validator.getFailureCount(), is(1L));
+        assertThat(collector.getPropertyStatistics(Form.class).get("name").getTotalNanos(), is(50L));
+        assertThat(collector.getFormStatistics().get(Form.class).getFailureCount(), is(1L));
+        assertThat(collector.getFormCreationStatistics().get(Form.class).getTotalNanos(), is(70L));
+
+        collector.clear();
+        assertTrue(collector.getFormStatistics().isEmpty());
+        assertTrue(collector.getPropertyStatistics(Form.class).isEmpty());
+        assertThat(collector.getDefinitionLoadStatistics().getCount(), is(0L));
+    }
+
+    /**
+     * 閾値以上の所要時間のバリデーションが集計されること。
+     */
+    @Test
+    public void testSlowValidation() {
+        ValidationMetricsCollector collector = new ValidationMetricsCollector();
+        collector.setSlowThresholdMillis(1);
+        collector.formValidated(Form.class, "", true, 2000000);
+        assertThat(collector.getFormStatistics().get(Form.class).getMaxNanos(), is(2000000L));
+    }
+
+    /**
+     * 閾値に負の値を指定した場合、例外が送出されること。
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSlowThreshold() {
+        new ValidationMetricsCollector().setSlowThresholdMillis(-1);
+    }
+
+    public static class Form {
+
+        @Required
+        public void setName(String name) {
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package nablarch.core.validation.processor;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import nablarch.core.validation.FormValidationDefinitionLoader;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link FormIndexProcessor}のテスト。
+ */
+public class FormIndexProcessorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * フォームクラスのみがインデックスに出力されること。
+     */
+    @Test
+    public void testProcess() throws Exception {
+        File src = folder.newFolder("src");
+        File out = folder.newFolder("out");
+
+        File validateForForm = write(src, "test/ValidateForForm.java",
+                "package test;\n"
+                + "import nablarch.core.validation.*;\n"
+                + "public class ValidateForForm {\n"
+                + "    @ValidateFor(\"test\")\n"
+                + "    public static void validate(ValidationContext<ValidateForForm> context) {}\n"
+                + "    public static class Nested {\n"
+                + "        @nablarch.core.validation.validator.Required\n"
+                + "        public void setName(String name) {}\n"
+                + "    }\n"
+                + "}\n");
+        File propertyNameForm = write(src, "test/PropertyNameForm.java",
+                "package test;\n"
+                + "public class PropertyNameForm {\n"
+                + "    @nablarch.core.validation.PropertyName(\"名前\")\n"
+                + "    public void setName(String name) {}\n"
+                + "}\n");
+        File subForm = write(src, "test/SubForm.java",
+                "package test;\n"
+                + "public class SubForm extends PropertyNameForm {\n"
+                + "}\n");
+        File abstractForm = write(src, "test/AbstractForm.java",
+                "package test;\n"
+                + "public abstract class AbstractForm {\n"
+                + "    @nablarch.core.validation.PropertyName(\"名前\")\n"
+                + "    public void setName(String name) {}\n"
+                + "}\n");
+        File notForm = write(src, "test/NotForm.java",
+                "package test;\n"
+                + "public class NotForm {\n"
+                + "    @Deprecated\n"
+                + "    public void setName(String name) {}\n"
+                + "}\n");
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+        try {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(
+                    validateForForm, propertyNameForm, subForm, abstractForm, notForm);
+            List<String> options = Arrays.asList(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", out.getPath(),
+                    "-encoding", "UTF-8",
+                    "-proc:only");
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            task.setProcessors(Arrays.asList(new FormIndexProcessor()));
+            assertThat(task.call(), is(true));
+        } finally {
+            fileManager.close();
+        }
+
+        List<String> index = read(new File(out, FormValidationDefinitionLoader.FORM_INDEX_RESOURCE));
+        assertThat(index, is(Arrays.asList(
+                "test.PropertyNameForm",
+                "test.SubForm",
+                "test.ValidateForForm",
+                "test.ValidateForForm$Nested")));
+    }
+
+    /**
+     * 差分コンパイルの場合、今回コンパイルされなかったフォームクラスは前回のインデックスから引き継ぎ、
+     * 今回コンパイルされたクラスはフォームクラスかどうかを判定し直すこと。
+     */
+    @Test
+    public void testProcessIncremental() throws Exception {
+        File src = folder.newFolder("src");
+        File out = folder.newFolder("out");
+        String classpath = System.getProperty("java.class.path") + File.pathSeparator + out.getPath();
+
+        File changedForm = write(src, "test/ChangedForm.java",
+                "package test;\n"
+                + "public class ChangedForm {\n"
+                + "    @nablarch.core.validation.PropertyName(\"名前\")\n"
+                + "    public void setName(String name) {}\n"
+                + "    public static class Nested {\n"
+                + "        @nablarch.core.validation.PropertyName(\"名前\")\n"
+                + "        public void setName(String name) {}\n"
+                + "    }\n"
+                + "}\n");
+        File unchangedForm = write(src, "test/UnchangedForm.java",
+                "package test;\n"
+                + "public class UnchangedForm {\n"
+                + "    @nablarch.core.validation.PropertyName(\"名前\")\n"
+                + "    public void setName(String name) {}\n"
+                + "}\n");
+        compile(classpath, out, changedForm, unchangedForm);
+        assertThat(read(new File(out, FormValidationDefinitionLoader.FORM_INDEX_RESOURCE)), is(Arrays.asList(
+                "test.ChangedForm",
+                "test.ChangedForm$Nested",
+                "test.UnchangedForm")));
+
+        // フォームでなくなったクラスのみをコンパイルする
+        write(src, "test/ChangedForm.java",
+                "package test;\n"
+                + "public class ChangedForm {\n"
+                + "    public void setName(String name) {}\n"
+                + "    public static class Nested {\n"
+                + "        public void setName(String name) {}\n"
+                + "    }\n"
+                + "}\n");
+        compile(classpath, out, changedForm);
+        assertThat(read(new File(out, FormValidationDefinitionLoader.FORM_INDEX_RESOURCE)), is(Arrays.asList(
+                "test.UnchangedForm")));
+    }
+
+    private static void compile(String classpath, File out, File... sources) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+        try {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(sources);
+            List<String> options = Arrays.asList(
+                    "-classpath", classpath,
+                    "-d", out.getPath(),
+                    "-encoding", "UTF-8");
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            task.setProcessors(Arrays.asList(new FormIndexProcessor()));
+            assertThat(task.call(), is(true));
+        } finally {
+            fileManager.close();
+        }
+    }
+
+    private static File write(File dir, String path, String source) throws Exception {
+        File file = new File(dir, path);
+        file.getParentFile().mkdirs();
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            writer.write(source);
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+
+    private static List<String> read(File file) throws Exception {
+        List<String> lines = new ArrayList<String>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } finally {
+            reader.close();
+        }
+        return lines;
+    }
+}
@@ -17,6 +17,7 @@ import nablarch.core.message.MockStringResourceHolder;
 import nablarch.core.repository.SystemRepository;
 import nablarch.core.repository.di.DiContainer;
 import nablarch.core.repository.di.config.xml.XmlComponentDefinitionLoader;
+import nablarch.core.validation.CompiledValidator;
 import nablarch.core.validation.ValidationContext;
 import nablarch.core.validation.convertor.TestTarget;
 import nablarch.core.validation.creator.ReflectionFormCreator;
@@ -312,4 +313,90 @@ public class LengthValidatorTest {
         assertTrue("Just max", testee.validate(context, "param", "PROP0001", length, "123456789\uD867\uDE3D"));
         assertTrue("Just min", testee.validate(context, "param", "PROP0001", length, "1234\uD867\uDE3D"));
     }
+
+    /**
+     * compileで生成したバリデータが、validateと同じ結果とメッセージとなること。
+     */
+    @Test
+    public void testCompile() {
+        CompiledValidator compiled = testee.compile(length);
+
+        assertTrue(compiled.validate(context, "param", "PROP0001", "12345"));
+        assertTrue(compiled.validate(context, "param", "PROP0001", "1234567890"));
+        assertTrue(compiled.validate(context, "param", "PROP0001", "123456789\uD867\uDE3D"));
+        assertTrue("nullはOK", compiled.validate(context, "param", "PROP0001", null));
+        assertTrue("空文字列はOK", compiled.validate(context, "param", "PROP0001", ""));
+        assertTrue(compiled.validate(context, "param", "PROP0001", new String[] {"12345", "123456"}));
+        assertEquals(0, context.getMessages().size());
+
+        assertFalse(compiled.validate(context, "param", "PROP0001", new String[] {"12345", "1234"}));
+        assertFalse(compiled.validate(context, "param", "PROP0001", "12345678901"));
+        assertEquals(2, context.getMessages().size());
+        ThreadContext.setLanguage(Locale.JAPANESE);
+        assertEquals("PROP0001は5文字以上10文字以下で入力してください。", context.getMessages().get(0).formatMessage());
+        assertEquals("PROP0001は5文字以上10文字以下で入力してください。", context.getMessages().get(1).formatMessage());
+
+        try {
+            compiled.validate(context, "param", "PROP0001", 1);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("unsupported property type was specified."));
+        }
+    }
+
+    /**
+     * compileで生成したバリデータが、アノテーションのメッセージIDと固定長のメッセージIDを使用すること。
+     */
+    @Test
+    public void testCompileMessageId() {
+        ThreadContext.setLanguage(Locale.JAPANESE);
+        assertFalse(testee.compile(testee.createAnnotation(new HashMap<String, Object>() {{
+            put("max", 10);
+            put("messageId", "MSG00003");
+        }})).validate(context, "param", "PROP0001", "12345678901"));
+        assertEquals("テストメッセージ01。", context.getMessages().get(0).formatMessage());
+
+        assertFalse(testee.compile(testee.createAnnotation(new HashMap<String, Object>() {{
+            put("min", 3);
+            put("max", 3);
+        }})).validate(context, "param", "PROP0001", "12"));
+        assertEquals("PROP0001は3文字で入力してください。", context.getMessages().get(1).formatMessage());
+
+        assertFalse(testee.compile(testee.createAnnotation(new HashMap<String, Object>() {{
+            put("max", 10);
+        }})).validate(context, "param", "PROP0001", "12345678901"));
+        assertEquals("PROP0001は10文字以下で入力してください。", context.getMessages().get(2).formatMessage());
+    }
+
+    /**
+     * compileで生成したバリデータでバリデーションした後にデフォルトのメッセージIDを変更した場合は、
+     * 変更後のメッセージIDが使用されること。
+     */
+    @Test
+    public void testChangeMessageIdAfterValidation() {
+        CompiledValidator compiled = testee.compile(length);
+        assertFalse(compiled.validate(context, "param", "PROP0001", "12345678901"));
+
+        testee.setMaxAndMinMessageId("MSG00004");
+        assertFalse(compiled.validate(context, "param", "PROP0001", "12345678901"));
+
+        ThreadContext.setLanguage(Locale.JAPANESE);
+        assertEquals("PROP0001は5文字以上10文字以下で入力してください。", context.getMessages().get(0).formatMessage());
+        assertEquals("入力値が不正です。", context.getMessages().get(1).formatMessage());
+    }
+
+    /**
+     * サブクラスの場合は、validateSingleValueを呼び出すバリデータを生成すること。
+     */
+    @Test
+    public void testCompileSubclass() {
+        LengthValidator sub = new LengthValidator() {
+            @Override
+            public <T> boolean validateSingleValue(ValidationContext<T> context, String propertyName,
+                    Object propertyDisplayName, Length length, String value) {
+                return false;
+            }
+        };
+        assertFalse(sub.compile(length).validate(context, "param", "PROP0001", "12345"));
+    }
 }
@@ -382,4 +382,51 @@ public class NumberRangeValidatorTest {
     	assertEquals(NumberRange.class, testee.getAnnotationClass());
     }
 
+    /** リフレクションで取得するアノテーションを付与したプロパティを持つクラス */
+    private static class AnnotatedTarget {
+        @NumberRange(min = -5, max = 300)
+        private Long range;
+
+        @NumberRange(max = 300)
+        private Long max;
+    }
+
+    /**
+     * リフレクションで取得したアノテーションで、繰り返し範囲チェックできること。
+     * <p/>
+     * 整数型の値は型によらず範囲の境界で判定されること。
+     */
+    @Test
+    public void testValidateWithReflectedAnnotation() throws Exception {
+        final NumberRange reflected = AnnotatedTarget.class.getDeclaredField("range").getAnnotation(NumberRange.class);
+        for (int i = 0; i < 2; i++) {
+            assertTrue(testee.validate(context, "param", "PROP0001", reflected, 300L));
+            assertTrue(testee.validate(context, "param", "PROP0001", reflected, -5));
+            assertTrue(testee.validate(context, "param", "PROP0001", reflected, (short) 300));
+            assertTrue(testee.validate(context, "param", "PROP0001", reflected, (byte) -5));
+            assertTrue(testee.validate(context, "param", "PROP0001", reflected, new BigDecimal("299.99")));
+            assertFalse(testee.validate(context, "param", "PROP0001", reflected, (byte) -6));
+            assertFalse(testee.validate(context, "param", "PROP0001", reflected, new BigDecimal("300.01")));
+            assertFalse(testee.validate(context, "param", "PROP0001", reflected, Long.MAX_VALUE));
+        }
+        assertEquals(6, context.getMessages().size());
+        ThreadContext.setLanguage(Locale.JAPANESE);
+        assertEquals("PROP0001は-5以上300以下で入力してください。", context.getMessages().get(0).formatMessage());
+    }
+
+    /**
+     * デフォルトのメッセージIDを変更した場合は、変更後のメッセージIDが使用されること。
+     */
+    @Test
+    public void testChangeMessageIdAfterValidation() throws Exception {
+        final NumberRange reflected = AnnotatedTarget.class.getDeclaredField("max").getAnnotation(NumberRange.class);
+        assertFalse(testee.validate(context, "param", "PROP0001", reflected, 301));
+
+        testee.setMaxMessageId("MSG00004");
+        assertFalse(testee.validate(context, "param", "PROP0001", reflected, 301));
+
+        ThreadContext.setLanguage(Locale.JAPANESE);
+        assertEquals("PROP0001は300以下で入力してください。", context.getMessages().get(0).formatMessage());
+        assertEquals("テストメッセージ01", context.getMessages().get(1).formatMessage());
+    }
 }
@@ -0,0 +1,70 @@
+package nablarch.core.validation.validator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+
+/**
+ * {@link Range}のテスト。
+ * <p/>
+ * 整数型の値の判定結果が、{@link BigDecimal}に変換して判定した結果と一致することを確認する。
+ */
+public class RangeTest {
+
+    /** 判定する整数値 */
+    private static final long[] VALUES = {
+            Long.MIN_VALUE, Long.MIN_VALUE + 1, Integer.MIN_VALUE, -11, -10, -2, -1, 0, 1, 2, 10, 11,
+            Integer.MAX_VALUE, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+
+    /** 範囲の境界 */
+    private static final String[] BOUNDS = {
+            "", "-99999999999999999999.5", "-9223372036854775809", "-9223372036854775808", "-9223372036854775807.5",
+            "-10.5", "-10", "-1.0001", "-0.5", "0", "0.5", "1", "1.9", "10", "10.5",
+            "9223372036854775806.5", "9223372036854775807", "9223372036854775808", "99999999999999999999"};
+
+    /**
+     * 小数の範囲で、整数型の値が正しく判定されること。
+     */
+    @Test
+    public void testIncludesIntegralValue() {
+        for (String min : BOUNDS) {
+            for (String max : BOUNDS) {
+                Range range = new Range(min, max);
+                for (long value : VALUES) {
+                    String message = "min = [" + min + "], max = [" + max + "], value = [" + value + "]";
+                    boolean expected = range.includes(new BigDecimal(value));
+                    assertThat(message, range.includes(value), is(expected));
+                    if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                        assertThat(message, range.includes((int) value), is(expected));
+                    }
+                    if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                        assertThat(message, range.includes((short) value), is(expected));
+                    }
+                    if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                        assertThat(message, range.includes((byte) value), is(expected));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 整数の範囲で、整数型の値が正しく判定されること。
+     */
+    @Test
+    public void testIncludesWithLongRange() {
+        Range range = new Range(-5L, Long.MAX_VALUE);
+        assertThat(range.includes(-5), is(true));
+        assertThat(range.includes(-6L), is(false));
+        assertThat(range.includes(Long.MAX_VALUE), is(true));
+
+        range = new Range(null, 0L);
+        assertThat(range.includes(Long.MIN_VALUE), is(true));
+        assertThat(range.includes(1), is(false));
+        assertThat(range.getMinString() == null, is(true));
+        assertThat(range.getMaxString(), is("0"));
+    }
+}
@@ -5,6 +5,7 @@ import nablarch.core.message.MockStringResourceHolder;
 import nablarch.core.repository.SystemRepository;
 import nablarch.core.repository.di.DiContainer;
 import nablarch.core.repository.di.config.xml.XmlComponentDefinitionLoader;
+import nablarch.core.validation.CompiledValidator;
 import nablarch.core.validation.ValidationContext;
 import nablarch.core.validation.convertor.TestTarget;
 import nablarch.core.validation.creator.ReflectionFormCreator;
@@ -163,4 +164,53 @@ public class RequiredValidatorTest {
     public void testGetAnnotationClass() {
     	assertEquals(Required.class, testee.getAnnotationClass());
     }
+
+    /**
+     * compileで生成したバリデータが、validateと同じ結果とメッセージとなること。
+     */
+    @Test
+    public void testCompile() {
+        CompiledValidator compiled = testee.compile(required);
+
+        assertTrue(compiled.validate(context, "param", "PROP0001", "12345"));
+        assertTrue(compiled.validate(context, "param", "PROP0001", Integer.valueOf("12345")));
+        assertTrue(compiled.validate(context, "param", "PROP0001", new String[] {"12345"}));
+        assertEquals(0, context.getMessages().size());
+
+        assertFalse(compiled.validate(context, "param", "PROP0001", ""));
+        assertFalse(compiled.validate(context, "param", "PROP0001", new String[0]));
+        assertFalse(compiled.validate(context, "param", "PROP0001", null));
+        assertEquals(3, context.getMessages().size());
+        ThreadContext.setLanguage(Locale.JAPANESE);
+        assertEquals("PROP0001は必ず入力してください。", context.getMessages().get(0).formatMessage());
+
+        CompiledValidator withMessageId = testee.compile(new Required() {
+            public Class<? extends Annotation> annotationType() {
+                return Required.class;
+            }
+
+            public String messageId() {
+                return "MSG00002";
+            }
+        });
+        assertFalse(withMessageId.validate(context, "param", "PROP0001", null));
+        assertEquals("テストメッセージ01。", context.getMessages().get(3).formatMessage());
+    }
+
+    /**
+     * compileで生成したバリデータでバリデーションした後にデフォルトのメッセージIDを変更した場合は、
+     * 変更後のメッセージIDが使用されること。
+     */
+    @Test
+    public void testChangeMessageIdAfterValidation() {
+        CompiledValidator compiled = testee.compile(required);
+        assertFalse(compiled.validate(context, "param", "PROP0001", null));
+
+        testee.setMessageId("MSG00002");
+        assertFalse(compiled.validate(context, "param", "PROP0001", null));
+
+        ThreadContext.setLanguage(Locale.JAPANESE);
+        assertEquals("PROP0001は必ず入力してください。", context.getMessages().get(0).formatMessage());
+        assertEquals("テストメッセージ01。", context.getMessages().get(1).formatMessage());
+    }
 }
@@ -2,16 +2,23 @@ package nablarch.core.validation.validator.unicode;
 
 import nablarch.core.repository.SimpleLoader;
 import nablarch.core.repository.SystemRepository;
+import nablarch.core.validation.CompiledValidator;
+import nablarch.core.validation.ValidationContext;
+import nablarch.core.validation.convertor.TestTarget;
+import nablarch.core.validation.creator.ReflectionFormCreator;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 /**
  * {@link SystemCharValidator}のテストクラス。
@@ -218,6 +225,130 @@ public class SystemCharValidatorTest {
         assertThat(annotation.messageId(), is("b"));
     }
 
+    /**
+     * compileで生成したバリデータが、許容文字集合定義と改行コード、サロゲートペアの設定にしたがってバリデーションすること。
+     */
+    @Test
+    public void testCompile() {
+        register("kana_and_surrogates", kana, cjkExtensionB);
+        target.setAllowSurrogatePair(true);
+        MessageIdRecorder context = new MessageIdRecorder();
+
+        CompiledValidator compiled = target.compile(get("kana_and_surrogates", false));
+        assertThat(compiled.validate(context, "param", "PROP0001", "かな\uD867\uDE3D"), is(true));
+        assertThat(compiled.validate(context, "param", "PROP0001", null), is(true));
+        assertThat(compiled.validate(context, "param", "PROP0001", new String[] {"かな", "カナ"}), is(true));
+        assertThat(context.messageIds.size(), is(0));
+
+        assertThat(compiled.validate(context, "param", "PROP0001", "かな\n"), is(false));
+        assertThat(compiled.validate(context, "param", "PROP0001", new String[] {"かな", "a"}), is(false));
+        assertThat(context.messageIds, is(Arrays.asList("M001", "M001")));
+
+        CompiledValidator allowLineSeparator = target.compile(get("kana_and_surrogates", true));
+        assertThat(allowLineSeparator.validate(context, "param", "PROP0001", "かな\r\n"), is(true));
+    }
+
+    /**
+     * compileで生成したバリデータが、アノテーション、許容文字集合定義、バリデータの順にメッセージIDを選択すること。
+     */
+    @Test
+    public void testCompileMessageId() {
+        CompositeCharsetDef compo = new CompositeCharsetDef();
+        compo.setCharsetDefList(Arrays.<CharsetDef>asList(asciiWoCC));
+        register("ascii", compo);
+        target.setMessageId("DEFAULT");
+        MessageIdRecorder context = new MessageIdRecorder();
+
+        target.compile(get("ascii", false)).validate(context, "param", "PROP0001", "あ");
+        target.compile(target.createAnnotation(new HashMap<String, Object>() {{
+            put("charsetDef", "ascii");
+        }})).validate(context, "param", "PROP0001", "あ");
+        compo.setMessageId("CHARSET");
+        target.compile(target.createAnnotation(new HashMap<String, Object>() {{
+            put("charsetDef", "ascii");
+        }})).validate(context, "param", "PROP0001", "あ");
+        assertThat(context.messageIds, is(Arrays.asList("M001", "DEFAULT", "CHARSET")));
+    }
+
+    /**
+     * compileで、指定された名前の文字集合定義がシステムリポジトリに存在しない場合も生成できること。
+     * 生成したバリデータは、バリデーション時に文字集合定義をシステムリポジトリから取得すること。
+     */
+    @Test
+    public void testCompileCharsetDefNotRegisteredInSystemRepository() {
+        MessageIdRecorder context = new MessageIdRecorder();
+        CompiledValidator compiled = target.compile(get("registeredAfterCompile", false));
+        try {
+            compiled.validate(context, "param", "PROP0001", "かな");
+            fail("例外が発生するはず");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("registeredAfterCompile"));
+        }
+
+        register("registeredAfterCompile", kana);
+        assertThat(compiled.validate(context, "param", "PROP0001", "かな"), is(true));
+        assertThat(compiled.validate(context, "param", "PROP0001", "abc"), is(false));
+        assertThat(context.messageIds, is(Arrays.asList("M001")));
+    }
+
+    /**
+     * compileで、デフォルトの許容文字集合定義を使用すること。
+     */
+    @Test
+    public void testCompileUsingDefaultCharsetDef() {
+        target.setDefaultCharsetDef(asciiWoCC);
+        MessageIdRecorder context = new MessageIdRecorder();
+        CompiledValidator compiled = target.compile(get("", false));
+        assertThat(compiled.validate(context, "param", "PROP0001", "01ABC"), is(true));
+        assertThat(compiled.validate(context, "param", "PROP0001", "あ"), is(false));
+    }
+
+    /**
+     * compileで生成したバリデータでバリデーションした後に本クラスの設定を変更した場合は、
+     * 変更後の設定でバリデーションすること。
+     */
+    @Test
+    public void testChangeSettingsAfterValidation() {
+        target.setDefaultCharsetDef(asciiWoCC);
+        target.setMessageId("DEFAULT");
+        MessageIdRecorder context = new MessageIdRecorder();
+        CompiledValidator compiled = target.compile(target.createAnnotation(new HashMap<String, Object>()));
+        assertThat(compiled.validate(context, "param", "PROP0001", "あ"), is(false));
+
+        // デフォルトの許容文字集合定義とメッセージID
+        target.setDefaultCharsetDef(kana);
+        target.setMessageId("CHANGED");
+        assertThat(compiled.validate(context, "param", "PROP0001", "あ"), is(true));
+        assertThat(compiled.validate(context, "param", "PROP0001", "abc"), is(false));
+        assertThat(context.messageIds, is(Arrays.asList("DEFAULT", "CHANGED")));
+
+        // サロゲートペアを許容するか
+        register("kana_and_surrogates", kana, cjkExtensionB);
+        CompiledValidator surrogate = target.compile(get("kana_and_surrogates", false));
+        assertThat(surrogate.validate(context, "param", "PROP0001", "かな\uD867\uDE3D"), is(false));
+        target.setAllowSurrogatePair(true);
+        assertThat(surrogate.validate(context, "param", "PROP0001", "かな\uD867\uDE3D"), is(true));
+    }
+
+    /**
+     * 追加されたメッセージのメッセージIDを記録する{@link ValidationContext}。
+     */
+    private static class MessageIdRecorder extends ValidationContext<TestTarget> {
+
+        /** 追加されたメッセージのメッセージID */
+        private final List<String> messageIds = new ArrayList<String>();
+
+        /** コンストラクタ。 */
+        MessageIdRecorder() {
+            super("", TestTarget.class, new ReflectionFormCreator(), new HashMap<String, Object>(), "");
+        }
+
+        @Override
+        public void addResultMessage(String propertyName, String messageId, Object... params) {
+            messageIds.add(messageId);
+        }
+    }
+
     /**
      * 許容文字集合定義をシステムリポジトリに登録する。
      *